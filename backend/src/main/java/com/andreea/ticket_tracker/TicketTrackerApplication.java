@@ -4,9 +4,13 @@ import com.andreea.ticket_tracker.security.admin.AdminProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableConfigurationProperties(AdminProperties.class)
 @SpringBootApplication
+@EnableScheduling
+@EnableJpaAuditing(auditorAwareRef = "securityAuditorAware")
 public class TicketTrackerApplication {
 
 	public static void main(String[] args) {
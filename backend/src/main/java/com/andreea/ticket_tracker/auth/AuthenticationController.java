@@ -4,6 +4,7 @@ import com.andreea.ticket_tracker.dto.request.UserRequestDTO;
 import com.andreea.ticket_tracker.dto.response.ErrorDTO;
 import com.andreea.ticket_tracker.dto.response.SuccessDTO;
 import com.andreea.ticket_tracker.dto.response.UserResponseDTO;
+import com.andreea.ticket_tracker.storage.StoredPicture;
 import com.andreea.ticket_tracker.swagger.SwaggerHttpStatus;
 import com.andreea.ticket_tracker.swagger.SwaggerMessages;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,11 +14,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -167,7 +174,7 @@ public class AuthenticationController {
 
     /**
      * Endpoint to update the current user's profile picture.
-     * @param base64Image image in base64 format
+     * @param file the uploaded image
      * @return empty response
      */
     @Operation(summary = "Updates the profile picture of the currently authenticated user.")
@@ -182,13 +189,62 @@ public class AuthenticationController {
                     content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ErrorDTO.class))})
     })
-    @PutMapping("/users/profile-picture")
-    public ResponseEntity<Void> updateProfilePicture(@RequestBody String base64Image) {
+    @PutMapping(value = "/users/profile-picture", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Void> updateProfilePicture(@RequestParam("file") MultipartFile file) {
         String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
-        service.updateProfilePicture(currentUsername, base64Image);
+        service.updateProfilePicture(currentUsername, file);
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Endpoint to download a user's profile picture.
+     * Versioned URLs are cached by the client; other requests are revalidated with the ETag.
+     * @param id user ID
+     * @param version the picture version from the profile picture URL
+     * @param size the requested thumbnail edge length in pixels, or none for the original
+     * @param ifNoneMatch the ETag cached by the client
+     * @return the streamed picture, or 304 if the client copy is current
+     */
+    @Operation(summary = "Returns the profile picture of a user.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.RETURN_PROFILE_PICTURE,
+                    content = {@Content(mediaType = MediaType.IMAGE_PNG_VALUE)}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.NOT_MODIFIED, description = SwaggerMessages.PROFILE_PICTURE_NOT_MODIFIED),
+            @ApiResponse(responseCode = SwaggerHttpStatus.NOT_FOUND, description = SwaggerMessages.NOT_FOUND,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.INTERNAL_SERVER_ERROR, description = SwaggerMessages.INTERNAL_SERVER_ERROR,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))})
+    })
+    @GetMapping("/users/{id}/profile-picture")
+    public ResponseEntity<StreamingResponseBody> getProfilePicture(
+            @PathVariable Long id,
+            @RequestParam(value = "v", required = false) String version,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        StoredPicture picture = service.getProfilePicture(id, size);
+        String etag = "\"" + picture.etag() + "\"";
+        CacheControl cacheControl = picture.version() != null && picture.version().equals(version)
+                ? CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable()
+                : CacheControl.noCache().cachePrivate();
+
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.parseMediaType(picture.contentType()))
+                .contentLength(picture.size())
+                .body(picture::writeTo);
+    }
+
     /**
      * Endpoint to remove the current user's profile picture.
      * @return empty response
@@ -2,17 +2,32 @@ package com.andreea.ticket_tracker.auth;
 
 import com.andreea.ticket_tracker.dto.request.UserRequestDTO;
 import com.andreea.ticket_tracker.dto.response.UserResponseDTO;
+import com.andreea.ticket_tracker.exceptions.ProfilePictureNotFoundException;
 import com.andreea.ticket_tracker.exceptions.UserNotFoundException;
 import com.andreea.ticket_tracker.mapper.UserDTOMapper;
 import com.andreea.ticket_tracker.security.config.JwtProvider;
+import com.andreea.ticket_tracker.security.config.PrincipalCache;
+import com.andreea.ticket_tracker.security.config.ProjectMembershipIndex;
 import com.andreea.ticket_tracker.entity.User;
 import com.andreea.ticket_tracker.repository.UserRepository;
+import com.andreea.ticket_tracker.storage.ProfilePictureProcessor;
+import com.andreea.ticket_tracker.storage.ProfilePictureSize;
+import com.andreea.ticket_tracker.storage.ProfilePictureStore;
+import com.andreea.ticket_tracker.storage.StoredPicture;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -27,7 +42,10 @@ public class AuthenticationService {
     private final AuthenticationManager authenticationManager;
     private final UserDTOMapper userDTOMapper;
     private final UserRepository userRepository;
-
+    private final PrincipalCache principalCache;
+    private final ProfilePictureStore profilePictureStore;
+    private final ProfilePictureProcessor profilePictureProcessor;
+    private final ProjectMembershipIndex membershipIndex;
 
     /**
      * Registers a new user and generates a JWT token.
@@ -75,6 +93,7 @@ public class AuthenticationService {
      * Retrieves all registered users.
      * @return list of user DTOs
      */
+    @Transactional(readOnly = true)
     public List<UserResponseDTO> getAllUsers() {
         return userRepository.findAll()
                 .stream()
@@ -87,9 +106,12 @@ public class AuthenticationService {
      * @param id user ID
      */
     public void deleteUser(Long id) {
-        userRepository.findById(id).orElseThrow(UserNotFoundException::new);
+        var user = userRepository.findById(id).orElseThrow(UserNotFoundException::new);
 
         userRepository.deleteById(id);
+        principalCache.invalidate(user.getUsername());
+        membershipIndex.evictUser(user.getUsername());
+        profilePictureStore.delete(id);
     }
 
     /**
@@ -101,6 +123,7 @@ public class AuthenticationService {
     public UserResponseDTO updateUser(Long id, UserRequestDTO request) {
         var user = userRepository.findById(id)
                 .orElseThrow(UserNotFoundException::new);
+        String previousUsername = user.getUsername();
 
         user.setFirstname(request.getFirstname());
         user.setLastname(request.getLastname());
@@ -109,6 +132,10 @@ public class AuthenticationService {
         user.setRole(request.getRole());
 
         User updatedUser = userRepository.save(user);
+        principalCache.invalidate(previousUsername);
+        principalCache.invalidate(updatedUser.getUsername());
+        membershipIndex.evictUser(previousUsername);
+        membershipIndex.evictUser(updatedUser.getUsername());
 
         return userDTOMapper.toDTO(updatedUser);
     }
@@ -118,22 +145,66 @@ public class AuthenticationService {
      * @param username the username to search for
      * @return user details
      */
+    @Transactional(readOnly = true)
     public UserResponseDTO getUserByUsername(String username) {
         return userRepository.findByUsername(username)
-                .map(userDTOMapper::toDTO)
+                .map(user -> userDTOMapper.toDTO(user, ProfilePictureSize.LARGE))
                 .orElseThrow(UserNotFoundException::new);
     }
 
     /**
-     * Updates the profile picture for a user.
+     * Updates the profile picture for a user and queues its thumbnails.
      * @param username the user's username
-     * @param base64Image the image data in Base64 format
+     * @param file the uploaded image
      */
-    public void updateProfilePicture(String username, String base64Image) {
+    public void updateProfilePicture(String username, MultipartFile file) {
+        String contentType = profilePictureProcessor.validate(file);
+
         var user = userRepository.findByUsername(username)
                 .orElseThrow(UserNotFoundException::new);
-        user.setProfilePicture(base64Image);
+
+        try (InputStream content = file.getInputStream()) {
+            user.setProfilePictureEtag(profilePictureStore.save(user.getId(), content));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        user.setProfilePictureContentType(contentType);
         userRepository.save(user);
+        profilePictureProcessor.scheduleThumbnails(user.getId(), user.getProfilePictureEtag());
+    }
+
+    /**
+     * Finds the stored profile picture of a user.
+     * When a thumbnail is requested but not generated yet, the original is returned in its place.
+     * @param id user ID
+     * @param pixels the requested thumbnail edge length, or null for the original
+     * @return the picture to stream
+     */
+    @Transactional(readOnly = true)
+    public StoredPicture getProfilePicture(Long id, Integer pixels) {
+        var user = userRepository.findById(id)
+                .orElseThrow(UserNotFoundException::new);
+        String etag = user.getProfilePictureEtag();
+
+        if (etag == null) {
+            throw new ProfilePictureNotFoundException();
+        }
+
+        StoredPicture original = new StoredPicture(etag, etag, user.getProfilePictureContentType(), profilePictureStore.locate(id));
+        if (pixels == null) {
+            return original;
+        }
+
+        ProfilePictureSize size = ProfilePictureSize.fitting(pixels);
+        Path thumbnail = profilePictureStore.locate(id, etag, size);
+
+        if (Files.exists(thumbnail)) {
+            return new StoredPicture(etag + "-" + size.pixels(), etag, MediaType.IMAGE_PNG_VALUE, thumbnail);
+        }
+
+        profilePictureProcessor.scheduleThumbnails(id, etag);
+        return new StoredPicture(original.etag(), null, original.contentType(), original.path());
     }
 
     /**
@@ -144,7 +215,9 @@ public class AuthenticationService {
         var user = userRepository.findByUsername(username)
                 .orElseThrow(UserNotFoundException::new);
 
-        user.setProfilePicture(null);
+        profilePictureStore.delete(user.getId());
+        user.setProfilePictureEtag(null);
+        user.setProfilePictureContentType(null);
         userRepository.save(user);
     }
 }
@@ -2,9 +2,12 @@ package com.andreea.ticket_tracker.controllers;
 
 import com.andreea.ticket_tracker.dto.request.BoardRequestDTO;
 import com.andreea.ticket_tracker.dto.response.BoardResponseDTO;
+import com.andreea.ticket_tracker.dto.response.DeletionJobDTO;
 import com.andreea.ticket_tracker.dto.response.ErrorDTO;
+import com.andreea.ticket_tracker.dto.response.PageResponseDTO;
 import com.andreea.ticket_tracker.dto.response.SuccessDTO;
 import com.andreea.ticket_tracker.handler.ResponseHandler;
+import com.andreea.ticket_tracker.metrics.QueryBudget;
 import com.andreea.ticket_tracker.services.BoardService;
 import com.andreea.ticket_tracker.swagger.SwaggerHttpStatus;
 import com.andreea.ticket_tracker.swagger.SwaggerMessages;
@@ -19,6 +22,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -80,11 +84,37 @@ public class BoardController {
                             schema = @Schema(implementation = ErrorDTO.class))})
     }
     )
+    @QueryBudget(statements = 5)
     @GetMapping
     public List<BoardResponseDTO> getAllBoards(){
         return boardService.getAllBoards();
     }
 
+    /**
+     * Endpoint to retrieve one page of boards using a keyset cursor.
+     * @param cursor cursor returned with the previous page
+     * @param size maximum number of boards per page
+     * @return page of board DTOs with the next cursor
+     */
+    @Operation(summary = "Returns one page of boards, ordered by ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.RETURN_BOARDS_PAGE,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PageResponseDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.BAD_REQUEST, description = SwaggerMessages.BAD_REQUEST,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.INTERNAL_SERVER_ERROR, description = SwaggerMessages.INTERNAL_SERVER_ERROR,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))})
+    }
+    )
+    @QueryBudget(statements = 5)
+    @GetMapping(params = "size")
+    public PageResponseDTO<BoardResponseDTO> getBoardsPage(@RequestParam(required = false) String cursor, @RequestParam int size){
+        return boardService.getBoardsPage(cursor, size);
+    }
+
     /**
      * Endpoint to get a specific board by ID.
      * @param id board ID
@@ -108,6 +138,29 @@ public class BoardController {
         return boardService.getBoard(id);
     }
 
+    /**
+     * Endpoint to stream the ticket changes of a board as Server-Sent Events.
+     * @param id board ID
+     * @param lastEventId ID of the last event received, sent by the browser when reconnecting
+     * @return event stream
+     */
+    @Operation(summary = "Streams the ticket changes of a board.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.STREAM_BOARD_EVENTS,
+                    content = {@Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.BAD_REQUEST, description = SwaggerMessages.BAD_REQUEST,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.INTERNAL_SERVER_ERROR, description = SwaggerMessages.INTERNAL_SERVER_ERROR,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))})
+    }
+    )
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBoardEvents(@PathVariable Long id, @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId){
+        return boardService.subscribeToEvents(id, lastEventId);
+    }
+
     /**
      * Endpoint to update a board.
      * @param id board ID
@@ -136,13 +189,13 @@ public class BoardController {
     /**
      * Endpoint to delete a board.
      * @param id board ID
-     * @return success message
+     * @return the job removing the board's tickets
      */
     @Operation(summary = "Deletes the board.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.BOARD_SUCCESSFULLY_DELETED,
+            @ApiResponse(responseCode = SwaggerHttpStatus.ACCEPTED, description = SwaggerMessages.BOARD_SUCCESSFULLY_DELETED,
                     content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                            schema = @Schema(implementation = SuccessDTO.class))}),
+                            schema = @Schema(implementation = DeletionJobDTO.class))}),
             @ApiResponse(responseCode = SwaggerHttpStatus.BAD_REQUEST, description = SwaggerMessages.BAD_REQUEST,
                     content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ErrorDTO.class))}),
@@ -152,9 +205,9 @@ public class BoardController {
     }
     )
     @DeleteMapping("/{id}")
-    public ResponseEntity<SuccessDTO> deleteBoard(@PathVariable Long id){
-        boardService.deleteBoard(id);
-        return ResponseHandler.deleted("Board deleted successfully");
+    public ResponseEntity<DeletionJobDTO> deleteBoard(@PathVariable Long id){
+        DeletionJobDTO job = boardService.deleteBoard(id);
+        return ResponseHandler.deletionAccepted(job);
     }
 
     /**
@@ -175,6 +228,7 @@ public class BoardController {
                             schema = @Schema(implementation = ErrorDTO.class))})
     }
     )
+    @QueryBudget(statements = 5)
     @GetMapping("/by-project/{projectId}")
     public List<BoardResponseDTO> getBoardsByProjectId(@PathVariable Long projectId){
         return boardService.getBoardsByProjectId(projectId);
@@ -0,0 +1,54 @@
+package com.andreea.ticket_tracker.controllers;
+
+import com.andreea.ticket_tracker.dto.response.DeletionJobDTO;
+import com.andreea.ticket_tracker.dto.response.ErrorDTO;
+import com.andreea.ticket_tracker.services.DeletionJobService;
+import com.andreea.ticket_tracker.swagger.SwaggerHttpStatus;
+import com.andreea.ticket_tracker.swagger.SwaggerMessages;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for following the background deletion of projects and boards.
+ */
+@Tag(name = "Deletion Job API", description = "API for tracking project and board deletions")
+@RestController
+@RequestMapping("/api/v1/deletion-jobs")
+@CrossOrigin(origins = "${frontend.url}")
+public class DeletionJobController {
+
+    private final DeletionJobService deletionJobService;
+
+    public DeletionJobController(final DeletionJobService deletionJobService){
+        this.deletionJobService = deletionJobService;
+    }
+
+    /**
+     * Endpoint to get the progress of a deletion job.
+     * @param id job ID
+     * @return job status and progress
+     */
+    @Operation(summary = "Returns the progress of a deletion job.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.RETURN_DELETION_JOB,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = DeletionJobDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.NOT_FOUND, description = SwaggerMessages.NOT_FOUND,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.INTERNAL_SERVER_ERROR, description = SwaggerMessages.INTERNAL_SERVER_ERROR,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))})
+    }
+    )
+    @GetMapping("/{id}")
+    public DeletionJobDTO getDeletionJob(@PathVariable String id){
+        return deletionJobService.getJob(id);
+    }
+}
@@ -1,12 +1,17 @@
 package com.andreea.ticket_tracker.controllers;
 
 import com.andreea.ticket_tracker.dto.request.ProjectRequestDTO;
+import com.andreea.ticket_tracker.dto.request.TicketExportFormat;
+import com.andreea.ticket_tracker.dto.response.DeletionJobDTO;
 import com.andreea.ticket_tracker.dto.response.ErrorDTO;
+import com.andreea.ticket_tracker.dto.response.PageResponseDTO;
 import com.andreea.ticket_tracker.dto.response.ProjectResponseDTO;
 import com.andreea.ticket_tracker.dto.response.SuccessDTO;
 import com.andreea.ticket_tracker.dto.response.UserResponseDTO;
 import com.andreea.ticket_tracker.handler.ResponseHandler;
+import com.andreea.ticket_tracker.metrics.QueryBudget;
 import com.andreea.ticket_tracker.services.ProjectService;
+import com.andreea.ticket_tracker.services.TicketExportService;
 import com.andreea.ticket_tracker.swagger.SwaggerHttpStatus;
 import com.andreea.ticket_tracker.swagger.SwaggerMessages;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,10 +21,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -33,9 +41,11 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final TicketExportService ticketExportService;
 
-    public ProjectController(final ProjectService projectService){
+    public ProjectController(final ProjectService projectService, final TicketExportService ticketExportService){
         this.projectService = projectService;
+        this.ticketExportService = ticketExportService;
     }
 
     /**
@@ -74,11 +84,37 @@ public class ProjectController {
                     content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ProjectResponseDTO[].class))})
     })
+    @QueryBudget(statements = 5)
     @GetMapping
     public ResponseEntity<List<ProjectResponseDTO>> getAllProjects() {
         return ResponseEntity.ok(projectService.getAllProjects());
     }
 
+    /**
+     * Endpoint to retrieve one page of projects for the current user using a keyset cursor.
+     * @param cursor cursor returned with the previous page
+     * @param size maximum number of projects per page
+     * @return page of project DTOs with the next cursor
+     */
+    @Operation(summary = "Returns one page of projects based on user role, ordered by ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.RETURN_PROJECTS_PAGE,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PageResponseDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.BAD_REQUEST, description = SwaggerMessages.BAD_REQUEST,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.INTERNAL_SERVER_ERROR, description = SwaggerMessages.INTERNAL_SERVER_ERROR,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))})
+    }
+    )
+    @QueryBudget(statements = 5)
+    @GetMapping(params = "size")
+    public ResponseEntity<PageResponseDTO<ProjectResponseDTO>> getProjectsPage(@RequestParam(required = false) String cursor, @RequestParam int size) {
+        return ResponseEntity.ok(projectService.getProjectsPage(cursor, size));
+    }
+
     /**
      * Endpoint to get a specific project by ID.
      * @param id project ID
@@ -130,13 +166,13 @@ public class ProjectController {
     /**
      * Endpoint to delete a project.
      * @param id project ID
-     * @return success message
+     * @return the job removing the project's boards and tickets
      */
     @Operation(summary = "Deletes the project.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.PROJECT_SUCCESSFULLY_DELETED,
+            @ApiResponse(responseCode = SwaggerHttpStatus.ACCEPTED, description = SwaggerMessages.PROJECT_SUCCESSFULLY_DELETED,
                     content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                            schema = @Schema(implementation = SuccessDTO.class))}),
+                            schema = @Schema(implementation = DeletionJobDTO.class))}),
             @ApiResponse(responseCode = SwaggerHttpStatus.BAD_REQUEST, description = SwaggerMessages.BAD_REQUEST,
                     content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ErrorDTO.class))}),
@@ -146,9 +182,9 @@ public class ProjectController {
     }
     )
     @DeleteMapping("/{id}")
-    public ResponseEntity<SuccessDTO> deleteProject(@PathVariable Long id){
-        projectService.deleteProject(id);
-        return ResponseHandler.deleted("Project deleted successfully");
+    public ResponseEntity<DeletionJobDTO> deleteProject(@PathVariable Long id){
+        DeletionJobDTO job = projectService.deleteProject(id);
+        return ResponseHandler.deletionAccepted(job);
     }
 
     /**
@@ -194,12 +230,51 @@ public class ProjectController {
     }
     )
     @Operation(summary = "Returns all members of a specific project.")
+    @QueryBudget(statements = 5)
     @GetMapping("/{projectId}/members")
     public ResponseEntity<List<UserResponseDTO>> getProjectMembers(@PathVariable Long projectId) {
         List<UserResponseDTO> members = projectService.getProjectMembers(projectId);
         return ResponseEntity.ok(members);
     }
 
+    /**
+     * Endpoint to export every ticket of a project.
+     * The response is streamed while the tickets are read, so it has no length and is never held in memory.
+     * @param id project ID
+     * @param format output format, NDJSON by default
+     * @return the streamed tickets as an attachment
+     */
+    @Operation(summary = "Exports all tickets of a project as NDJSON or CSV.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.EXPORT_PROJECT_TICKETS,
+                    content = {@Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE),
+                            @Content(mediaType = "text/csv")}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.BAD_REQUEST, description = SwaggerMessages.BAD_REQUEST,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.NOT_FOUND, description = SwaggerMessages.NOT_FOUND,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.INTERNAL_SERVER_ERROR, description = SwaggerMessages.INTERNAL_SERVER_ERROR,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))})
+    }
+    )
+    @GetMapping("/{id}/tickets/export")
+    public ResponseEntity<StreamingResponseBody> exportTickets(@PathVariable Long id,
+                                                               @RequestParam(defaultValue = "NDJSON") TicketExportFormat format) {
+        ticketExportService.validateExport(id);
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("project-" + id + "-tickets." + format.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(out -> ticketExportService.exportTickets(id, format, out));
+    }
+
     /**
      * Endpoint to remove a user from a project.
      * @param projectId project ID
@@ -1,10 +1,16 @@
 package com.andreea.ticket_tracker.controllers;
 
+import com.andreea.ticket_tracker.dto.request.TicketBulkRequestDTO;
+import com.andreea.ticket_tracker.dto.request.TicketMoveRequestDTO;
 import com.andreea.ticket_tracker.dto.request.TicketRequestDTO;
 import com.andreea.ticket_tracker.dto.response.ErrorDTO;
+import com.andreea.ticket_tracker.dto.response.PageResponseDTO;
 import com.andreea.ticket_tracker.dto.response.SuccessDTO;
+import com.andreea.ticket_tracker.dto.response.TicketDeltaDTO;
 import com.andreea.ticket_tracker.dto.response.TicketResponseDTO;
+import com.andreea.ticket_tracker.dto.response.TicketSuggestionDTO;
 import com.andreea.ticket_tracker.handler.ResponseHandler;
+import com.andreea.ticket_tracker.metrics.QueryBudget;
 import com.andreea.ticket_tracker.services.TicketService;
 import com.andreea.ticket_tracker.swagger.SwaggerHttpStatus;
 import com.andreea.ticket_tracker.swagger.SwaggerMessages;
@@ -15,6 +21,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -63,6 +71,53 @@ public class TicketController {
                 .body(createdTicket);
     }
 
+    /**
+     * Endpoint to move a ticket between two others, possibly on another board.
+     * @param id ticket ID
+     * @param dto target board, neighbours and status
+     * @return moved ticket details
+     */
+    @Operation(summary = "Moves a ticket.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.TICKET_SUCCESSFULLY_MOVED,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = TicketResponseDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.BAD_REQUEST, description = SwaggerMessages.BAD_REQUEST,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.INTERNAL_SERVER_ERROR, description = SwaggerMessages.INTERNAL_SERVER_ERROR,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))})
+    }
+    )
+    @PostMapping("/{id}/move")
+    public TicketResponseDTO moveTicket(@PathVariable Long id, @Valid @RequestBody TicketMoveRequestDTO dto){
+        return ticketService.moveTicket(id, dto);
+    }
+
+    /**
+     * Endpoint to create, update and move many tickets in one transaction.
+     * @param dto the operations to apply
+     * @return the resulting tickets, in the order of the operations
+     */
+    @Operation(summary = "Applies a batch of ticket operations.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.TICKETS_BULK_APPLIED,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = TicketResponseDTO[].class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.BAD_REQUEST, description = SwaggerMessages.BAD_REQUEST,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.INTERNAL_SERVER_ERROR, description = SwaggerMessages.INTERNAL_SERVER_ERROR,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))})
+    }
+    )
+    @PostMapping("/bulk")
+    public List<TicketResponseDTO> applyBulk(@Valid @RequestBody TicketBulkRequestDTO dto){
+        return ticketService.applyBulk(dto);
+    }
+
     /**
      * Endpoint to retrieve all tickets.
      * @return list of tickets DTOs
@@ -80,11 +135,37 @@ public class TicketController {
                             schema = @Schema(implementation = ErrorDTO.class))})
     }
     )
+    @QueryBudget(statements = 5)
     @GetMapping
     public List<TicketResponseDTO> getAllTickets(){
         return ticketService.getAllTickets();
     }
 
+    /**
+     * Endpoint to retrieve one page of tickets using a keyset cursor.
+     * @param cursor cursor returned with the previous page
+     * @param size maximum number of tickets per page
+     * @return page of ticket DTOs with the next cursor
+     */
+    @Operation(summary = "Returns one page of tickets, ordered by ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.RETURN_TICKETS_PAGE,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PageResponseDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.BAD_REQUEST, description = SwaggerMessages.BAD_REQUEST,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.INTERNAL_SERVER_ERROR, description = SwaggerMessages.INTERNAL_SERVER_ERROR,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))})
+    }
+    )
+    @QueryBudget(statements = 5)
+    @GetMapping(params = "size")
+    public PageResponseDTO<TicketResponseDTO> getTicketsPage(@RequestParam(required = false) String cursor, @RequestParam int size){
+        return ticketService.getTicketsPage(cursor, size);
+    }
+
     /**
      * Endpoint to get a specific ticket by ID.
      * @param id ticket ID
@@ -159,14 +240,17 @@ public class TicketController {
 
     /**
      * Endpoint to list all tickets of a board.
+     * The response carries the version of the list as ETag, so an unchanged list is revalidated without reading it.
      * @param boardId board ID
-     * @return list of tickets
+     * @param ifNoneMatch the ETag cached by the client
+     * @return list of tickets, or 304 if the client copy is current
      */
     @Operation(summary = "Returns all the tickets for a specific Board ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.RETURN_TICKETS,
                     content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = TicketResponseDTO[].class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.NOT_MODIFIED, description = SwaggerMessages.TICKETS_NOT_MODIFIED),
             @ApiResponse(responseCode = SwaggerHttpStatus.BAD_REQUEST, description = SwaggerMessages.BAD_REQUEST,
                     content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ErrorDTO.class))}),
@@ -175,9 +259,77 @@ public class TicketController {
                             schema = @Schema(implementation = ErrorDTO.class))})
     }
     )
+    @QueryBudget(statements = 5)
     @GetMapping("/by-board/{boardId}")
-    public List<TicketResponseDTO> getTicketsByBoardId(@PathVariable Long boardId){
-        return ticketService.getTicketsByBoardId(boardId);
+    public ResponseEntity<List<TicketResponseDTO>> getTicketsByBoardId(@PathVariable Long boardId,
+                                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+        String etag = ticketService.getTicketsETag(boardId);
+        if (etag == null) {
+            return ResponseEntity.ok(ticketService.getTicketsByBoardId(boardId));
+        }
+
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(ticketService.getTicketsByBoardId(boardId));
+    }
+
+    /**
+     * Endpoint to retrieve the changes to the tickets of a board since a version the client already has.
+     * @param boardId board ID
+     * @param since the version returned with the previous delta, or 0 for the full list
+     * @return changed tickets, removed ticket IDs and the new version
+     */
+    @Operation(summary = "Returns the tickets of a specific Board ID changed or removed since a version.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.RETURN_TICKETS_DELTA,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = TicketDeltaDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.BAD_REQUEST, description = SwaggerMessages.BAD_REQUEST,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.INTERNAL_SERVER_ERROR, description = SwaggerMessages.INTERNAL_SERVER_ERROR,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))})
+    }
+    )
+    @GetMapping(value = "/by-board/{boardId}", params = "since")
+    public TicketDeltaDTO getTicketsChangedSince(@PathVariable Long boardId, @RequestParam long since){
+        return ticketService.getTicketsChangedSince(boardId, since);
+    }
+
+    /**
+     * Endpoint to retrieve one page of the tickets of a board using a keyset cursor.
+     * @param boardId board ID
+     * @param cursor cursor returned with the previous page
+     * @param size maximum number of tickets per page
+     * @return page of tickets ordered by position, with the next cursor
+     */
+    @Operation(summary = "Returns one page of tickets for a specific Board ID, ordered by position.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.RETURN_TICKETS_PAGE,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PageResponseDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.BAD_REQUEST, description = SwaggerMessages.BAD_REQUEST,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.INTERNAL_SERVER_ERROR, description = SwaggerMessages.INTERNAL_SERVER_ERROR,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))})
+    }
+    )
+    @QueryBudget(statements = 5)
+    @GetMapping(value = "/by-board/{boardId}", params = "size")
+    public PageResponseDTO<TicketResponseDTO> getTicketsPageByBoardId(@PathVariable Long boardId, @RequestParam(required = false) String cursor, @RequestParam int size){
+        return ticketService.getTicketsPageByBoardId(boardId, cursor, size);
     }
 
     /**
@@ -202,4 +354,28 @@ public class TicketController {
     public List<TicketResponseDTO> searchTickets(@RequestParam String query) {
         return ticketService.searchTickets(query);
     }
+
+    /**
+     * Endpoint to suggest tickets while the user types.
+     * @param prefix the typed text
+     * @param limit maximum number of suggestions
+     * @return list of suggested tickets
+     */
+    @Operation(summary = "Suggests tickets whose title matches the typed prefix.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = SwaggerHttpStatus.OK, description = SwaggerMessages.SUGGEST_TICKETS,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = TicketSuggestionDTO[].class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.BAD_REQUEST, description = SwaggerMessages.BAD_REQUEST,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))}),
+            @ApiResponse(responseCode = SwaggerHttpStatus.INTERNAL_SERVER_ERROR, description = SwaggerMessages.INTERNAL_SERVER_ERROR,
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorDTO.class))})
+    }
+    )
+    @GetMapping("/suggest")
+    public List<TicketSuggestionDTO> suggestTickets(@RequestParam String prefix, @RequestParam(defaultValue = "10") int limit) {
+        return ticketService.suggestTickets(prefix, limit);
+    }
 }
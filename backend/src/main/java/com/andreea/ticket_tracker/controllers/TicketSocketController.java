@@ -0,0 +1,120 @@
+package com.andreea.ticket_tracker.controllers;
+
+import com.andreea.ticket_tracker.dto.request.TicketMoveRequestDTO;
+import com.andreea.ticket_tracker.dto.request.TicketRequestDTO;
+import com.andreea.ticket_tracker.dto.response.ErrorDTO;
+import com.andreea.ticket_tracker.dto.response.TicketCommandReplyDTO;
+import com.andreea.ticket_tracker.exceptions.BoardNotFoundException;
+import com.andreea.ticket_tracker.exceptions.InvalidTicketMoveException;
+import com.andreea.ticket_tracker.exceptions.TicketNotFoundException;
+import com.andreea.ticket_tracker.exceptions.UserNotFoundException;
+import com.andreea.ticket_tracker.exceptions.UserNotInProjectException;
+import com.andreea.ticket_tracker.services.TicketService;
+import com.andreea.ticket_tracker.websocket.WebSocketConfiguration;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.handler.annotation.support.MethodArgumentNotValidException;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.FieldError;
+
+import java.time.LocalDateTime;
+
+/**
+ * STOMP controller for ticket commands sent over the WebSocket connection.
+ * Each command is answered on the sender's reply queue; the resulting change reaches every
+ * subscriber of the board through its topic.
+ */
+@Controller
+public class TicketSocketController {
+
+    private static final String REQUEST_ID = "request-id";
+
+    private final TicketService ticketService;
+
+    public TicketSocketController(final TicketService ticketService){
+        this.ticketService = ticketService;
+    }
+
+    /**
+     * Moves a ticket between two others, possibly on another board.
+     * @param id the ID of the ticket
+     * @param dto the target board, neighbours and status
+     * @param requestId the request ID chosen by the client
+     * @return the reply with the moved ticket
+     */
+    @MessageMapping("/tickets/{id}/move")
+    @SendToUser(destinations = WebSocketConfiguration.REPLY_QUEUE, broadcast = false)
+    public TicketCommandReplyDTO moveTicket(@DestinationVariable Long id, @Valid @Payload TicketMoveRequestDTO dto,
+                                            @Header(name = REQUEST_ID, required = false) String requestId){
+        return new TicketCommandReplyDTO(requestId, ticketService.moveTicket(id, dto), null);
+    }
+
+    /**
+     * Updates the details of a ticket.
+     * @param id the ID of the ticket
+     * @param dto the updated ticket
+     * @param requestId the request ID chosen by the client
+     * @return the reply with the updated ticket
+     */
+    @MessageMapping("/tickets/{id}/update")
+    @SendToUser(destinations = WebSocketConfiguration.REPLY_QUEUE, broadcast = false)
+    public TicketCommandReplyDTO updateTicket(@DestinationVariable Long id, @Valid @Payload TicketRequestDTO dto,
+                                              @Header(name = REQUEST_ID, required = false) String requestId){
+        return new TicketCommandReplyDTO(requestId, ticketService.updateTicket(id, dto), null);
+    }
+
+    /**
+     * Replies to commands for missing tickets, boards or users.
+     */
+    @MessageExceptionHandler({TicketNotFoundException.class, BoardNotFoundException.class, UserNotFoundException.class})
+    @SendToUser(destinations = WebSocketConfiguration.REPLY_QUEUE, broadcast = false)
+    public TicketCommandReplyDTO handleNotFound(RuntimeException ex, @Header(name = REQUEST_ID, required = false) String requestId){
+        return failure(requestId, HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    /**
+     * Replies to commands that break a ticket rule.
+     */
+    @MessageExceptionHandler({InvalidTicketMoveException.class, UserNotInProjectException.class})
+    @SendToUser(destinations = WebSocketConfiguration.REPLY_QUEUE, broadcast = false)
+    public TicketCommandReplyDTO handleBadRequest(RuntimeException ex, @Header(name = REQUEST_ID, required = false) String requestId){
+        return failure(requestId, HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    /**
+     * Replies to commands with an invalid payload, using the key of the first invalid field.
+     */
+    @MessageExceptionHandler(MethodArgumentNotValidException.class)
+    @SendToUser(destinations = WebSocketConfiguration.REPLY_QUEUE, broadcast = false)
+    public TicketCommandReplyDTO handleValidation(MethodArgumentNotValidException ex, @Header(name = REQUEST_ID, required = false) String requestId){
+        FieldError fieldError = ex.getBindingResult() != null ? ex.getBindingResult().getFieldError() : null;
+        String message = fieldError != null ? fieldError.getDefaultMessage() : ex.getMessage();
+        return failure(requestId, HttpStatus.BAD_REQUEST, message);
+    }
+
+    /**
+     * Replies to commands on projects the user is not a member of.
+     */
+    @MessageExceptionHandler(AccessDeniedException.class)
+    @SendToUser(destinations = WebSocketConfiguration.REPLY_QUEUE, broadcast = false)
+    public TicketCommandReplyDTO handleAccessDenied(AccessDeniedException ex, @Header(name = REQUEST_ID, required = false) String requestId){
+        return failure(requestId, HttpStatus.FORBIDDEN, ex.getMessage());
+    }
+
+    private TicketCommandReplyDTO failure(String requestId, HttpStatus status, String message){
+        ErrorDTO error = new ErrorDTO();
+
+        error.setMessage(message);
+        error.setStatus(status.value());
+        error.setTimestamp(LocalDateTime.now());
+
+        return new TicketCommandReplyDTO(requestId, null, error);
+    }
+}
@@ -0,0 +1,37 @@
+package com.andreea.ticket_tracker.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data transfer object for one operation of a bulk ticket request.
+ */
+@Getter
+@Setter
+public class TicketBulkOperationDTO {
+
+    /**
+     * The kind of operation.
+     */
+    @NotNull(message = "operation_type_required")
+    private TicketBulkOperationType type;
+
+    /**
+     * ID of the ticket to update or move; not used when creating.
+     */
+    private Long id;
+
+    /**
+     * The ticket data for a create or update operation.
+     */
+    @Valid
+    private TicketRequestDTO ticket;
+
+    /**
+     * The target of a move operation.
+     */
+    @Valid
+    private TicketMoveRequestDTO move;
+}
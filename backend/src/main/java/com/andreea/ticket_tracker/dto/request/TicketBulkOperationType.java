@@ -0,0 +1,10 @@
+package com.andreea.ticket_tracker.dto.request;
+
+/**
+ * Kinds of operations accepted by the bulk ticket endpoint.
+ */
+public enum TicketBulkOperationType {
+    CREATE,
+    UPDATE,
+    MOVE
+}
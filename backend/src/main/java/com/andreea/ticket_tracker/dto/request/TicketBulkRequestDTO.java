@@ -0,0 +1,30 @@
+package com.andreea.ticket_tracker.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Data transfer object for a batch of ticket operations applied together.
+ */
+@Getter
+@Setter
+public class TicketBulkRequestDTO {
+
+    /**
+     * Maximum number of operations accepted in one request.
+     */
+    public static final int MAX_OPERATIONS = 500;
+
+    /**
+     * The operations, applied in order.
+     */
+    @Valid
+    @NotEmpty(message = "operations_required")
+    @Size(max = MAX_OPERATIONS, message = "operations_too_many")
+    private List<TicketBulkOperationDTO> operations;
+}
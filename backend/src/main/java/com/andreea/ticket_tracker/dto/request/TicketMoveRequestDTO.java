@@ -0,0 +1,34 @@
+package com.andreea.ticket_tracker.dto.request;
+
+import com.andreea.ticket_tracker.entity.TicketStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data transfer object for moving a ticket between two others, possibly on another board.
+ * Without neighbours the ticket goes to the end of the target board.
+ */
+@Getter
+@Setter
+public class TicketMoveRequestDTO {
+
+    /**
+     * Target board of the ticket, or null to keep the current board.
+     */
+    private Long boardId;
+
+    /**
+     * ID of the ticket the moved ticket is placed after, or null.
+     */
+    private Long afterId;
+
+    /**
+     * ID of the ticket the moved ticket is placed before, or null.
+     */
+    private Long beforeId;
+
+    /**
+     * Target status of the ticket, or null to keep the current status.
+     */
+    private TicketStatus status;
+}
@@ -50,9 +50,4 @@ public class UserRequestDTO {
      */
     @NotNull(message = "role_required")
     private Role role;
-
-    /**
-     * Profile picture of the user.
-     */
-    private String profilePicture;
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.andreea.ticket_tracker.dto.response;
+
+import com.andreea.ticket_tracker.jobs.DeletionJobStatus;
+import com.andreea.ticket_tracker.jobs.DeletionJobType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Data transfer object describing the progress of a background deletion job.
+ */
+@Getter
+@Setter
+public class DeletionJobDTO {
+
+    private String id;
+
+    /**
+     * Whether the job deletes a project or a board.
+     */
+    private DeletionJobType type;
+
+    /**
+     * The ID of the deleted project or board.
+     */
+    private Long targetId;
+
+    private DeletionJobStatus status;
+
+    /**
+     * The number of tickets the job deletes, known once it has started.
+     */
+    private long totalTickets;
+
+    private long deletedTickets;
+
+    private int deletedBoards;
+
+    private Instant createdAt;
+
+    private Instant finishedAt;
+
+    /**
+     * The reason the job failed, if it did.
+     */
+    private String error;
+}
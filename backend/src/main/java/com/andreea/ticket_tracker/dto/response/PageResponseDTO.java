@@ -0,0 +1,34 @@
+package com.andreea.ticket_tracker.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Data transfer object for a cursor-paginated list response.
+ * @param <T> the type of the returned items
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponseDTO<T> {
+
+    /**
+     * The items of the current page.
+     */
+    private List<T> items;
+
+    /**
+     * Opaque cursor to request the next page, or null on the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Whether more items are available after this page.
+     */
+    private boolean hasMore;
+}
@@ -0,0 +1,31 @@
+package com.andreea.ticket_tracker.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data transfer object for the reply to a ticket command sent over the WebSocket connection.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketCommandReplyDTO {
+
+    /**
+     * The request-id header of the command, so the client can match the reply.
+     */
+    private String requestId;
+
+    /**
+     * The ticket after the command, or null when it failed.
+     */
+    private TicketResponseDTO ticket;
+
+    /**
+     * Why the command failed, or null when it succeeded.
+     */
+    private ErrorDTO error;
+}
@@ -0,0 +1,38 @@
+package com.andreea.ticket_tracker.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Data transfer object for the changes to a board's ticket list since a version the client already has.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketDeltaDTO {
+
+    /**
+     * The version the changes bring the client to, to send as {@code since} next time.
+     */
+    private long version;
+
+    /**
+     * True when the tickets are the whole list and the client copy must be replaced.
+     */
+    private boolean full;
+
+    /**
+     * The tickets created or changed since the version, in board order.
+     */
+    private List<TicketResponseDTO> tickets;
+
+    /**
+     * The IDs of the tickets deleted or moved off the board since the version.
+     */
+    private List<Long> deletedIds;
+}
@@ -0,0 +1,38 @@
+package com.andreea.ticket_tracker.dto.response;
+
+import com.andreea.ticket_tracker.events.TicketEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data transfer object for a ticket change pushed to board subscribers.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketEventDTO {
+
+    /**
+     * ID of the event, sent back by the client to resume after a reconnect.
+     */
+    private long id;
+
+    /**
+     * The kind of change.
+     */
+    private TicketEventType type;
+
+    /**
+     * ID of the changed ticket.
+     */
+    private Long ticketId;
+
+    /**
+     * The ticket after the change, or null when it was deleted.
+     * A ticket whose board differs from the subscribed board has left it.
+     */
+    private TicketResponseDTO ticket;
+}
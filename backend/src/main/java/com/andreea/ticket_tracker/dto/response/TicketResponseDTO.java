@@ -36,6 +36,11 @@ public class TicketResponseDTO {
     @Min(value = 0, message = "position_min_error")
     private Integer position;
 
+    /**
+     * Rank of the ticket within its board; tickets are listed in ascending rank.
+     */
+    private Long rank;
+
     /**
      * Parent board of the ticket.
      */
@@ -0,0 +1,34 @@
+package com.andreea.ticket_tracker.dto.response;
+
+import com.andreea.ticket_tracker.entity.TicketStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data transfer object for search-as-you-type ticket suggestions.
+ */
+@Getter
+@Setter
+public class TicketSuggestionDTO {
+    private Long id;
+
+    /**
+     * The name of the ticket.
+     */
+    private String title;
+
+    /**
+     * Current status of the ticket.
+     */
+    private TicketStatus status;
+
+    /**
+     * Parent board of the ticket.
+     */
+    private Long boardId;
+
+    /**
+     * ID of the project this ticket belongs to.
+     */
+    private Long projectId;
+}
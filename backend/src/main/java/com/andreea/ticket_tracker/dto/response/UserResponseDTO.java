@@ -54,7 +54,7 @@ public class UserResponseDTO {
     private Role role;
 
     /**
-     * Profile picture of the user.
+     * URL of the user's profile picture, or null if the user has none.
      */
-    private String profilePicture;
+    private String profilePictureUrl;
 }
\ No newline at end of file
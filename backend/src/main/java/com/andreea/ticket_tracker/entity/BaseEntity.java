@@ -1,48 +1,79 @@
 package com.andreea.ticket_tracker.entity;
 
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.SequenceGenerator;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.annotation.CreatedBy;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedBy;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
 
 /**
  * Base class for entities.
+ * The audit columns are filled by Spring Data auditing on every save.
  */
 @Getter
 @Setter
 @MappedSuperclass
+@EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
+    /**
+     * Name of the sequence shared by all entities, emulated with a table on databases without sequences.
+     */
+    public static final String ID_SEQUENCE = "entity_id_seq";
+
+    /**
+     * Number of IDs reserved per sequence call, which lets inserts be batched instead of sent one by one.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
      * Timestamp for when the record was created.
      */
+    @CreatedDate
     private Instant createdAt;
 
     /**
      * Timestamp for the last update.
      */
+    @LastModifiedDate
     private Instant updatedAt;
 
     /**
      * Username of the person who created the record.
      */
+    @CreatedBy
     private String createdBy;
 
     /**
      * Username of the person who last updated the record.
      */
+    @LastModifiedBy
     private String updatedBy;
 
     /**
      * Timestamp for soft delete functionality.
      */
     private Instant deleted;
+
+    /**
+     * Soft deletes the record; it is hidden from every query and hard deleted later by the purger.
+     */
+    public void markDeleted() {
+        deleted = Instant.now();
+    }
 }
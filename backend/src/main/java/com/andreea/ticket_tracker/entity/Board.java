@@ -6,18 +6,32 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.util.List;
 
 /**
  * Board entity for the Kanban board.
+ * Boards that are soft deleted, or whose project is, are hidden from every query until they are purged.
+ * Boards are kept in the second-level cache and evicted on either kind of soft delete.
  */
 @Getter
 @Setter
 @Entity
+@SQLRestriction("deleted IS NULL AND EXISTS (SELECT 1 FROM projects p WHERE p.id = project_id AND p.deleted IS NULL)")
+@NamedEntityGraph(name = Board.PROJECT_GRAPH, attributeNodes = @NamedAttributeNode("project"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "boards")
 @Table(name="boards")
 public class Board extends BaseEntity {
 
+    /**
+     * Entity graph loading the parent project needed by the response DTO.
+     */
+    public static final String PROJECT_GRAPH = "Board.project";
+
     /**
      * The name of the board.
      * It is required and must be between 1 and 64 characters long.
@@ -0,0 +1,79 @@
+package com.andreea.ticket_tracker.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.Instant;
+
+/**
+ * Email notification waiting in the outbox to be sent by the background worker.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_email_outbox_recipient_status", columnList = "recipient, status")
+})
+public class EmailNotification extends BaseEntity {
+
+    /**
+     * Maximum length of the stored failure message; longer messages are cut to fit.
+     */
+    public static final int LAST_ERROR_LENGTH = 255;
+
+    /**
+     * The email address of the recipient.
+     */
+    @NotBlank(message = "recipient_required")
+    private String recipient;
+
+    /**
+     * The subject of the email.
+     */
+    private String subject;
+
+    /**
+     * The content of the email.
+     */
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    /**
+     * Current delivery state.
+     */
+    @Enumerated(EnumType.STRING)
+    private EmailStatus status;
+
+    /**
+     * Number of notifications merged into this email.
+     */
+    private int notificationCount;
+
+    /**
+     * Number of failed delivery attempts.
+     */
+    private int attempts;
+
+    /**
+     * Earliest time of the next delivery attempt, or the end of the claim while the email is being sent.
+     */
+    private Instant nextAttemptAt;
+
+    /**
+     * Message of the last delivery failure.
+     */
+    @Column(length = LAST_ERROR_LENGTH)
+    private String lastError;
+
+    /**
+     * Optimistic lock version, so a worker never overwrites text merged into the email after it was read.
+     */
+    @Version
+    @ColumnDefault("0")
+    private long version;
+}
@@ -0,0 +1,11 @@
+package com.andreea.ticket_tracker.entity;
+
+/**
+ * Delivery state of a queued email notification.
+ */
+public enum EmailStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -3,19 +3,33 @@ package com.andreea.ticket_tracker.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 /**
  * Project entity for the Kanban board.
+ * Soft deleted projects are hidden from every query until they are purged.
+ * Projects and their members are kept in the second-level cache, which a soft delete must evict
+ * because cache hits bypass the restriction.
  */
 @Getter
 @Setter
 @Entity
+@SQLRestriction("deleted IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 @Table(name="projects")
 public class Project extends BaseEntity{
 
@@ -43,11 +57,20 @@ public class Project extends BaseEntity{
      * Members assigned to this project.
      */
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-members")
     @JoinTable(name = "project_members",
                joinColumns = @JoinColumn(name = "project_id"),
                inverseJoinColumns = @JoinColumn(name = "user_id"))
     private Set<User> users = new HashSet<>();
 
+    /**
+     * Membership changes waiting to be published when the project is saved.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final List<ProjectMembershipChanged> membershipChanges = new ArrayList<>();
+
     /**
      * Adds a user to the project.
      * @param user the user to add
@@ -55,6 +78,7 @@ public class Project extends BaseEntity{
     public void addUser(User user) {
         this.users.add(user);
         user.getProjects().add(this);
+        membershipChanges.add(new ProjectMembershipChanged(this, user));
     }
 
     /**
@@ -64,5 +88,23 @@ public class Project extends BaseEntity{
     public void removeUser(User user) {
         this.users.remove(user);
         user.getProjects().remove(this);
+        membershipChanges.add(new ProjectMembershipChanged(this, user));
+    }
+
+    /**
+     * Returns the membership changes for Spring Data to publish on save.
+     * @return the pending membership changes
+     */
+    @DomainEvents
+    Collection<ProjectMembershipChanged> membershipChanges() {
+        return List.copyOf(membershipChanges);
+    }
+
+    /**
+     * Forgets the membership changes once they have been published.
+     */
+    @AfterDomainEventPublication
+    void clearMembershipChanges() {
+        membershipChanges.clear();
     }
 }
@@ -0,0 +1,10 @@
+package com.andreea.ticket_tracker.entity;
+
+/**
+ * Domain event published when a user joins or leaves a project.
+ * The entities are carried rather than their IDs because a new project has no ID until it is saved.
+ * @param project the project whose members changed
+ * @param user the user who joined or left
+ */
+public record ProjectMembershipChanged(Project project, User user) {
+}
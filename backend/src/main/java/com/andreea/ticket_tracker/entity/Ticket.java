@@ -1,5 +1,6 @@
 package com.andreea.ticket_tracker.entity;
 
+import com.andreea.ticket_tracker.search.TicketIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -7,16 +8,35 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
 
 /**
  * Ticket entity for the Kanban board.
+ * Tickets that are soft deleted, or whose board or project is, are hidden from every query until they are purged.
  */
 @Getter
 @Setter
 @Entity
-@Table(name = "tickets")
+@SQLRestriction("deleted IS NULL AND EXISTS (SELECT 1 FROM boards b JOIN projects p ON p.id = b.project_id "
+        + "WHERE b.id = board_id AND b.deleted IS NULL AND p.deleted IS NULL)")
+@EntityListeners(TicketIndexListener.class)
+@NamedEntityGraph(name = Ticket.DETAILS_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "board", subgraph = "board"),
+                @NamedAttributeNode("assignedUser")
+        },
+        subgraphs = @NamedSubgraph(name = "board", attributeNodes = @NamedAttributeNode("project")))
+@Table(name = "tickets", indexes = {
+        @Index(name = "idx_tickets_board_rank", columnList = "board_id, board_rank, id"),
+        @Index(name = "idx_tickets_board_updated", columnList = "board_id, updated_at")
+})
 public class Ticket extends BaseEntity{
 
+    /**
+     * Entity graph loading the board, project and assignee needed by the response DTO.
+     */
+    public static final String DETAILS_GRAPH = "Ticket.details";
+
     /**
      * The name of the ticket.
      * It is required and must be between 3 and 50 characters long.
@@ -39,6 +59,13 @@ public class Ticket extends BaseEntity{
     @Min(value = 0, message = "position_min_error")
     private Integer position;
 
+    /**
+     * Sort key of the ticket within its board.
+     * Ranks are spread out so a ticket can be moved between two others by changing only its own rank.
+     */
+    @Column(name = "board_rank")
+    private Long rank;
+
     /**
      * Current status of the ticket.
      */
@@ -7,12 +7,15 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import lombok.Builder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
 /**
  * User entity for the Kanban board.
+ * Kept in the second-level cache, since most requests load the current user and the project members.
  */
 @Getter
 @Setter
@@ -20,6 +23,8 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Table(name="users")
 public class User {
 
@@ -75,9 +80,14 @@ public class User {
         private Set<Project> projects = new HashSet<>();
 
         /**
-         * Profile picture stored as a Base64 string or URL.
+         * ETag of the stored profile picture, or null if the user has none.
          */
-        @Lob
-        @Column(name = "profile_picture", columnDefinition = "LONGTEXT")
-        private String profilePicture;
+        @Column(name = "profile_picture_etag", length = 32)
+        private String profilePictureEtag;
+
+        /**
+         * Media type of the stored profile picture.
+         */
+        @Column(name = "profile_picture_content_type", length = 100)
+        private String profilePictureContentType;
 }
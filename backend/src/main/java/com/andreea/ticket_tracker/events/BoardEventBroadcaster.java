@@ -0,0 +1,366 @@
+package com.andreea.ticket_tracker.events;
+
+import com.andreea.ticket_tracker.dto.response.TicketEventDTO;
+import com.andreea.ticket_tracker.dto.response.TicketResponseDTO;
+import com.andreea.ticket_tracker.threading.WorkerThreads;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process fan-out of ticket changes to the Server-Sent Event streams of each board.
+ * Publishing only appends to bounded per-subscriber queues, which a small pool of dispatchers drains,
+ * so a slow client never blocks a request thread. A subscriber whose queue fills up is disconnected
+ * and resumes from its last event ID, replayed from a bounded history kept per board.
+ */
+@Component
+@Slf4j
+public class BoardEventBroadcaster {
+
+    static final String READY_EVENT = "ready";
+    static final String TICKET_EVENT = "ticket";
+    static final String RESET_EVENT = "reset";
+
+    private static final Message HEARTBEAT = new Message(null, null, null);
+    private static final long IDLE_CHANNEL_MILLIS = 5 * 60 * 1000;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final ExecutorService dispatchers;
+
+    private final int bufferSize;
+    private final int replaySize;
+    private final long timeoutMillis;
+
+    public BoardEventBroadcaster(WorkerThreads workerThreads,
+                                 @Value("${app.events.sse.buffer-size:256}") int bufferSize,
+                                 @Value("${app.events.sse.replay-size:256}") int replaySize,
+                                 @Value("${app.events.sse.timeout-ms:1800000}") long timeoutMillis,
+                                 @Value("${app.events.sse.dispatchers:2}") int dispatchers) {
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.timeoutMillis = timeoutMillis;
+        this.dispatchers = workerThreads.newPool("sse-dispatcher", dispatchers);
+    }
+
+    /**
+     * Opens an event stream for a board.
+     * @param boardId the ID of the board
+     * @param lastEventId the ID of the last event the client received, or null for a new stream
+     * @return the event stream
+     */
+    public SseEmitter subscribe(Long boardId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        subscribe(boardId, lastEventId, emitter);
+        return emitter;
+    }
+
+    /**
+     * Registers an event stream for a board. A new stream starts with a ready event carrying the current event ID;
+     * a resumed one starts with the events the client missed, or with a reset event telling it to reload the board
+     * when those events are no longer kept.
+     * @param boardId the ID of the board
+     * @param lastEventId the ID of the last event the client received, or null for a new stream
+     * @param emitter the stream to write to
+     */
+    void subscribe(Long boardId, Long lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(boardId, emitter, bufferSize);
+
+        while (!register(subscriber, lastEventId)) {
+            log.debug("Channel of board {} was dropped while subscribing, retrying", boardId);
+        }
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        schedule(subscriber);
+    }
+
+    /**
+     * Adds a subscriber to its board's channel, unless the heartbeat dropped that channel in the meantime.
+     * @return true if the subscriber was added
+     */
+    private boolean register(Subscriber subscriber, Long lastEventId) {
+        Channel channel = channels.computeIfAbsent(subscriber.boardId, id -> new Channel(sequence.get()));
+
+        synchronized (channel) {
+            if (channels.get(subscriber.boardId) != channel) {
+                return false;
+            }
+
+            if (lastEventId != null) {
+                replay(channel, subscriber, lastEventId);
+            } else {
+                subscriber.queue.offer(new Message(READY_EVENT, sequence.get(), READY_EVENT));
+            }
+            channel.subscribers.add(subscriber);
+            channel.idleSince = 0;
+            return true;
+        }
+    }
+
+    /**
+     * Pushes a ticket change to the subscribers of its board once the write commits.
+     * @param change the ticket change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChanged change) {
+        publish(change.boardId(), change.type(), change.ticketId(), change.ticket());
+    }
+
+    /**
+     * Pushes a ticket change to the subscribers of a board; a renumbering of the board resets them instead.
+     * Boards without a stream opened since startup keep no history and cost nothing.
+     * @param boardId the ID of the board
+     * @param type the kind of change
+     * @param ticketId the ID of the changed ticket
+     * @param ticket the ticket after the change, or null when it was deleted
+     */
+    public void publish(Long boardId, TicketEventType type, Long ticketId, TicketResponseDTO ticket) {
+        Channel channel = channels.get(boardId);
+        if (channel == null) {
+            return;
+        }
+
+        synchronized (channel) {
+            if (type == TicketEventType.RERANKED) {
+                reset(channel);
+                return;
+            }
+
+            TicketEventDTO event = new TicketEventDTO(sequence.incrementAndGet(), type, ticketId, ticket);
+
+            channel.history.add(event);
+            if (channel.history.size() > replaySize) {
+                channel.evictedUpTo = channel.history.remove().getId();
+            }
+
+            Message message = new Message(TICKET_EVENT, event.getId(), event);
+            channel.subscribers.forEach(subscriber -> deliver(subscriber, message));
+        }
+    }
+
+    /**
+     * Closes every stream of a deleted board.
+     * @param boardId the ID of the board
+     */
+    public void closeBoard(Long boardId) {
+        Channel channel = channels.remove(boardId);
+        if (channel != null) {
+            channel.subscribers.forEach(this::disconnect);
+        }
+    }
+
+    /**
+     * Periodically writes a comment to every stream, so dead connections are noticed and idle proxies keep them open,
+     * and forgets the history of boards nobody has watched for a while.
+     */
+    @Scheduled(fixedDelayString = "${app.events.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+
+        channels.forEach((boardId, channel) -> {
+            synchronized (channel) {
+                channel.subscribers.forEach(subscriber -> deliver(subscriber, HEARTBEAT));
+
+                if (channel.subscribers.isEmpty() && channel.idleSince > 0 && now - channel.idleSince > IDLE_CHANNEL_MILLIS) {
+                    channels.remove(boardId, channel);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the number of open streams of a board.
+     * @param boardId the ID of the board
+     * @return the number of subscribers
+     */
+    public int subscriberCount(Long boardId) {
+        Channel channel = channels.get(boardId);
+        return channel != null ? channel.subscribers.size() : 0;
+    }
+
+    /**
+     * Stops the dispatchers and closes every stream.
+     */
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.subscribers.forEach(this::disconnect));
+        channels.clear();
+        dispatchers.shutdown();
+    }
+
+    /**
+     * Queues the events a resuming client missed, or a reset event if some of them are no longer kept.
+     * An event ID ahead of the current one was issued before a restart, so the client is reset as well.
+     * Must be called while holding the channel lock.
+     */
+    private void replay(Channel channel, Subscriber subscriber, long lastEventId) {
+        List<TicketEventDTO> missed = channel.history.stream()
+                .filter(event -> event.getId() > lastEventId)
+                .toList();
+
+        if (lastEventId < channel.evictedUpTo || lastEventId > sequence.get() || missed.size() > bufferSize) {
+            subscriber.queue.offer(new Message(RESET_EVENT, sequence.get(), RESET_EVENT));
+            return;
+        }
+
+        missed.forEach(event -> subscriber.queue.offer(new Message(TICKET_EVENT, event.getId(), event)));
+    }
+
+    /**
+     * Tells every subscriber of a board to reload it, and treats every earlier event as no longer kept,
+     * so clients resuming from before the reset are reset as well.
+     * Must be called while holding the channel lock.
+     */
+    private void reset(Channel channel) {
+        long id = sequence.incrementAndGet();
+
+        channel.history.clear();
+        channel.evictedUpTo = id;
+
+        Message message = new Message(RESET_EVENT, id, RESET_EVENT);
+        channel.subscribers.forEach(subscriber -> deliver(subscriber, message));
+    }
+
+    /**
+     * Queues a message for a subscriber without blocking, disconnecting it when its buffer is full.
+     */
+    private void deliver(Subscriber subscriber, Message message) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+
+        if (subscriber.queue.offer(message)) {
+            schedule(subscriber);
+        } else {
+            log.debug("Disconnecting slow subscriber of board {}", subscriber.boardId);
+            disconnect(subscriber);
+        }
+    }
+
+    /**
+     * Starts draining a subscriber's queue unless a dispatcher is already doing so.
+     */
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            dispatchers.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Writes every queued message of a subscriber to its stream.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            Message message;
+            while (!subscriber.closed.get() && (message = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(message.toEvent());
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping closed subscriber of board {}: {}", subscriber.boardId, e.getMessage());
+            disconnect(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        if (!subscriber.closed.get()) {
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * Ends a subscriber's stream; the client reconnects with its last event ID.
+     */
+    private void disconnect(Subscriber subscriber) {
+        if (subscriber.closed.compareAndSet(false, true)) {
+            remove(subscriber);
+            subscriber.queue.clear();
+            try {
+                subscriber.emitter.complete();
+            } catch (IllegalStateException e) {
+                log.debug("Stream of board {} already completed", subscriber.boardId);
+            }
+        }
+    }
+
+    /**
+     * Forgets a subscriber whose stream has ended.
+     */
+    private void remove(Subscriber subscriber) {
+        subscriber.closed.set(true);
+
+        Channel channel = channels.get(subscriber.boardId);
+        if (channel != null && channel.subscribers.remove(subscriber) && channel.subscribers.isEmpty()) {
+            channel.idleSince = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Subscribers and recent history of one board.
+     */
+    private static final class Channel {
+
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final Queue<TicketEventDTO> history = new ArrayDeque<>();
+        private long evictedUpTo;
+        private volatile long idleSince;
+
+        private Channel(long createdAt) {
+            this.evictedUpTo = createdAt;
+        }
+    }
+
+    /**
+     * One open stream with its bounded queue of unsent messages.
+     */
+    private static final class Subscriber {
+
+        private final Long boardId;
+        private final SseEmitter emitter;
+        private final Queue<Message> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long boardId, SseEmitter emitter, int bufferSize) {
+            this.boardId = boardId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize + 1);
+        }
+    }
+
+    /**
+     * A queued message; a message without a name is a heartbeat comment.
+     */
+    private record Message(String name, Long id, Object data) {
+
+        private SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+
+            return SseEmitter.event()
+                    .id(String.valueOf(id))
+                    .name(name)
+                    .data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
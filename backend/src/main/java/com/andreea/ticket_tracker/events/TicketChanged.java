@@ -0,0 +1,13 @@
+package com.andreea.ticket_tracker.events;
+
+import com.andreea.ticket_tracker.dto.response.TicketResponseDTO;
+
+/**
+ * Application event published for every ticket write and board renumbering, delivered to board subscribers once the write commits.
+ * @param type the kind of change
+ * @param boardId the ID of the board whose subscribers are notified
+ * @param ticketId the ID of the changed ticket, or null when the whole board was renumbered
+ * @param ticket the ticket after the change, or null when it was deleted
+ */
+public record TicketChanged(TicketEventType type, Long boardId, Long ticketId, TicketResponseDTO ticket) {
+}
@@ -0,0 +1,16 @@
+package com.andreea.ticket_tracker.events;
+
+/**
+ * Kinds of ticket changes pushed to board subscribers.
+ */
+public enum TicketEventType {
+    CREATED,
+    UPDATED,
+    MOVED,
+    DELETED,
+
+    /**
+     * Every ticket of the board was given a new rank; the event carries no ticket and clients reload the board.
+     */
+    RERANKED
+}
@@ -0,0 +1,14 @@
+package com.andreea.ticket_tracker.exceptions;
+
+/**
+ * Exception thrown when a deletion job is unknown, expired, or was started by another user.
+ */
+public class DeletionJobNotFoundException extends RuntimeException{
+
+    /**
+     * Initializes the exception with the "deletion_job_not_found" error key.
+     */
+    public DeletionJobNotFoundException(){
+        super("deletion_job_not_found");
+    }
+}
@@ -0,0 +1,14 @@
+package com.andreea.ticket_tracker.exceptions;
+
+/**
+ * Exception thrown when a bulk ticket operation is missing the data its type requires.
+ */
+public class InvalidBulkOperationException extends RuntimeException {
+
+    /**
+     * Initializes the exception with the "bulk_operation_invalid" error key.
+     */
+    public InvalidBulkOperationException(){
+        super("bulk_operation_invalid");
+    }
+}
@@ -0,0 +1,14 @@
+package com.andreea.ticket_tracker.exceptions;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * Initializes the exception with the "cursor_invalid" error key.
+     */
+    public InvalidCursorException(){
+        super("cursor_invalid");
+    }
+}
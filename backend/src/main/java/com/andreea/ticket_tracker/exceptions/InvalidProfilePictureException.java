@@ -0,0 +1,14 @@
+package com.andreea.ticket_tracker.exceptions;
+
+/**
+ * Exception thrown when an uploaded profile picture is not an image.
+ */
+public class InvalidProfilePictureException extends RuntimeException {
+
+    /**
+     * Initializes the exception with the "profile_picture_invalid" error key.
+     */
+    public InvalidProfilePictureException(){
+        super("profile_picture_invalid");
+    }
+}
@@ -0,0 +1,14 @@
+package com.andreea.ticket_tracker.exceptions;
+
+/**
+ * Exception thrown when the neighbours given for a ticket move are not on the target board or are out of order.
+ */
+public class InvalidTicketMoveException extends RuntimeException {
+
+    /**
+     * Initializes the exception with the "ticket_move_invalid" error key.
+     */
+    public InvalidTicketMoveException(){
+        super("ticket_move_invalid");
+    }
+}
@@ -0,0 +1,14 @@
+package com.andreea.ticket_tracker.exceptions;
+
+/**
+ * Exception thrown when a user has no profile picture.
+ */
+public class ProfilePictureNotFoundException extends RuntimeException {
+
+    /**
+     * Initializes the exception with the "profile_picture_not_found" error key.
+     */
+    public ProfilePictureNotFoundException(){
+        super("profile_picture_not_found");
+    }
+}
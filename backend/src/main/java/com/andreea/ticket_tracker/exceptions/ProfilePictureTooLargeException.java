@@ -0,0 +1,14 @@
+package com.andreea.ticket_tracker.exceptions;
+
+/**
+ * Exception thrown when an uploaded profile picture exceeds the size or resolution limits.
+ */
+public class ProfilePictureTooLargeException extends RuntimeException {
+
+    /**
+     * Initializes the exception with the "profile_picture_too_large" error key.
+     */
+    public ProfilePictureTooLargeException(){
+        super("profile_picture_too_large");
+    }
+}
@@ -0,0 +1,15 @@
+package com.andreea.ticket_tracker.exceptions;
+
+/**
+ * Exception thrown when a request runs more SQL statements than its budget while budgets are enforced.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    /**
+     * Initializes the exception with a description of the offending request.
+     * @param message the request, its statement count and its budget
+     */
+    public QueryBudgetExceededException(String message){
+        super(message);
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -49,6 +50,20 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles cases where a deletion job is missing.
+     */
+    @ExceptionHandler(DeletionJobNotFoundException.class)
+    public ResponseEntity<ErrorDTO> handleDeletionJobNotFound(DeletionJobNotFoundException ex){
+        ErrorDTO error = new ErrorDTO();
+
+        error.setMessage(ex.getMessage());
+        error.setStatus(HttpStatus.NOT_FOUND.value());
+        error.setTimestamp(LocalDateTime.now());
+
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+    }
+
     /**
      * Handles cases where a ticket is missing.
      */
@@ -124,4 +139,88 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
+
+    /**
+     * Handles bulk ticket operations that are missing required data.
+     */
+    @ExceptionHandler(InvalidBulkOperationException.class)
+    public ResponseEntity<ErrorDTO> handleInvalidBulkOperation(InvalidBulkOperationException ex){
+        ErrorDTO error = new ErrorDTO();
+
+        error.setMessage(ex.getMessage());
+        error.setStatus(HttpStatus.BAD_REQUEST.value());
+        error.setTimestamp(LocalDateTime.now());
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles ticket moves with invalid neighbours.
+     */
+    @ExceptionHandler(InvalidTicketMoveException.class)
+    public ResponseEntity<ErrorDTO> handleInvalidTicketMove(InvalidTicketMoveException ex){
+        ErrorDTO error = new ErrorDTO();
+
+        error.setMessage(ex.getMessage());
+        error.setStatus(HttpStatus.BAD_REQUEST.value());
+        error.setTimestamp(LocalDateTime.now());
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles pagination cursors that cannot be decoded.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorDTO> handleInvalidCursor(InvalidCursorException ex){
+        ErrorDTO error = new ErrorDTO();
+
+        error.setMessage(ex.getMessage());
+        error.setStatus(HttpStatus.BAD_REQUEST.value());
+        error.setTimestamp(LocalDateTime.now());
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles requests for a profile picture that does not exist.
+     */
+    @ExceptionHandler(ProfilePictureNotFoundException.class)
+    public ResponseEntity<ErrorDTO> handleProfilePictureNotFound(ProfilePictureNotFoundException ex){
+        ErrorDTO error = new ErrorDTO();
+
+        error.setMessage(ex.getMessage());
+        error.setStatus(HttpStatus.NOT_FOUND.value());
+        error.setTimestamp(LocalDateTime.now());
+
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handles uploaded profile pictures that are not images.
+     */
+    @ExceptionHandler(InvalidProfilePictureException.class)
+    public ResponseEntity<ErrorDTO> handleInvalidProfilePicture(InvalidProfilePictureException ex){
+        ErrorDTO error = new ErrorDTO();
+
+        error.setMessage(ex.getMessage());
+        error.setStatus(HttpStatus.BAD_REQUEST.value());
+        error.setTimestamp(LocalDateTime.now());
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles profile pictures over the configured size or resolution limits.
+     */
+    @ExceptionHandler({ProfilePictureTooLargeException.class, MaxUploadSizeExceededException.class})
+    public ResponseEntity<ErrorDTO> handleProfilePictureTooLarge(Exception ex){
+        ErrorDTO error = new ErrorDTO();
+
+        error.setMessage(new ProfilePictureTooLargeException().getMessage());
+        error.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        error.setTimestamp(LocalDateTime.now());
+
+        return new ResponseEntity<>(error, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
 }
\ No newline at end of file
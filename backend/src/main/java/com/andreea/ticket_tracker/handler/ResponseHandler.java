@@ -1,9 +1,12 @@
 package com.andreea.ticket_tracker.handler;
 
+import com.andreea.ticket_tracker.dto.response.DeletionJobDTO;
 import com.andreea.ticket_tracker.dto.response.SuccessDTO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.net.URI;
+
 /**
  * Utility class for creating standardized HTTP responses for success messages.
  */
@@ -44,6 +47,19 @@ public class ResponseHandler {
         return new ResponseEntity<>(SuccessDTO.returnNewDTO(HttpStatus.OK.value(),message),HttpStatus.OK);
     }
 
+    /**
+     * Returns a 202 Accepted response for deletions finished by a background job,
+     * pointing to the job's status endpoint.
+     *
+     * @param job the queued deletion job
+     * @return ResponseEntity containing the job and HTTP 202 status
+     */
+    public static ResponseEntity<DeletionJobDTO> deletionAccepted(DeletionJobDTO job){
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/deletion-jobs/" + job.getId()))
+                .body(job);
+    }
+
     /**
      * Returns a general 200 OK success response.
      *
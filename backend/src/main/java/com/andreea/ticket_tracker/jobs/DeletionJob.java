@@ -0,0 +1,69 @@
+package com.andreea.ticket_tracker.jobs;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * In-memory state of a background job that hard deletes a soft deleted project or board.
+ * Updated only by the worker running the job and read by status requests from other threads.
+ */
+@Getter
+public class DeletionJob {
+
+    private final String id;
+    private final DeletionJobType type;
+    private final Long targetId;
+    private final String requestedBy;
+    private final Instant createdAt = Instant.now();
+
+    private volatile DeletionJobStatus status = DeletionJobStatus.QUEUED;
+    private volatile long totalTickets;
+    private volatile long deletedTickets;
+    private volatile int deletedBoards;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    public DeletionJob(String id, DeletionJobType type, Long targetId, String requestedBy) {
+        this.id = id;
+        this.type = type;
+        this.targetId = targetId;
+        this.requestedBy = requestedBy;
+    }
+
+    /**
+     * Marks the job as started.
+     * @param totalTickets the number of tickets the job will delete
+     */
+    public void start(long totalTickets) {
+        this.totalTickets = totalTickets;
+        this.status = DeletionJobStatus.RUNNING;
+    }
+
+    public void ticketsDeleted(int count) {
+        deletedTickets += count;
+    }
+
+    public void boardsDeleted(int count) {
+        deletedBoards += count;
+    }
+
+    public void complete() {
+        finishedAt = Instant.now();
+        status = DeletionJobStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        finishedAt = Instant.now();
+        status = DeletionJobStatus.FAILED;
+    }
+
+    /**
+     * Checks whether the job has stopped, successfully or not.
+     * @return true if the job is completed or failed
+     */
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+}
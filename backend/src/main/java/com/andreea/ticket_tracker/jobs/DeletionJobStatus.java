@@ -0,0 +1,11 @@
+package com.andreea.ticket_tracker.jobs;
+
+/**
+ * Progress state of a deletion job.
+ */
+public enum DeletionJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
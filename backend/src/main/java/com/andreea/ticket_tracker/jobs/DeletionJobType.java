@@ -0,0 +1,9 @@
+package com.andreea.ticket_tracker.jobs;
+
+/**
+ * Kind of entity a deletion job removes.
+ */
+public enum DeletionJobType {
+    PROJECT,
+    BOARD
+}
@@ -25,11 +25,22 @@ public class BoardDTOMapper {
     }
 
     /**
-     * Converts a Board entity to a BoardResponseDTO.
+     * Converts a Board entity to a BoardResponseDTO, counting the tickets from its collection.
+     * Services should prefer {@link #toDTO(Board, long)} to avoid loading the tickets.
      * @param board the entity to convert
      * @return the populated response DTO
      */
     public static BoardResponseDTO toDTO(Board board){
+        return toDTO(board, board.getTickets() != null ? board.getTickets().size() : 0);
+    }
+
+    /**
+     * Converts a Board entity to a BoardResponseDTO using a precomputed ticket count.
+     * @param board the entity to convert
+     * @param ticketCount the number of tickets on the board
+     * @return the populated response DTO
+     */
+    public static BoardResponseDTO toDTO(Board board, long ticketCount){
         BoardResponseDTO dto = new BoardResponseDTO();
 
         dto.setId(board.getId());
@@ -41,7 +52,7 @@ public class BoardDTOMapper {
             dto.setProjectName(board.getProject().getName());
         }
 
-        dto.setTicketCount(board.getTickets() != null ? board.getTickets().size() : 0);
+        dto.setTicketCount((int) ticketCount);
 
         return dto;
     }
@@ -0,0 +1,30 @@
+package com.andreea.ticket_tracker.mapper;
+
+import com.andreea.ticket_tracker.dto.response.DeletionJobDTO;
+import com.andreea.ticket_tracker.jobs.DeletionJob;
+
+/**
+ * Mapper utility to convert deletion jobs to DTOs.
+ */
+public class DeletionJobDTOMapper {
+
+    /**
+     * Converts a DeletionJob to a DeletionJobDTO, taking a snapshot of its progress.
+     * @param job the job to convert
+     * @return the populated response DTO
+     */
+    public static DeletionJobDTO toDTO(DeletionJob job){
+        DeletionJobDTO dto = new DeletionJobDTO();
+        dto.setId(job.getId());
+        dto.setType(job.getType());
+        dto.setTargetId(job.getTargetId());
+        dto.setStatus(job.getStatus());
+        dto.setTotalTickets(job.getTotalTickets());
+        dto.setDeletedTickets(job.getDeletedTickets());
+        dto.setDeletedBoards(job.getDeletedBoards());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        dto.setError(job.getError());
+        return dto;
+    }
+}
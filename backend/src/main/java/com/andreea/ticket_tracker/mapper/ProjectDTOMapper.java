@@ -22,18 +22,29 @@ public class ProjectDTOMapper {
     }
 
     /**
-     * Converts a Project entity to a ProjectResponseDTO.
+     * Converts a Project entity to a ProjectResponseDTO, counting the boards from its collection.
+     * Services should prefer {@link #toDTO(Project, long)} to avoid loading the boards.
      * @param project the entity to convert
      * @return the populated response DTO
      */
     public static ProjectResponseDTO toDTO(Project project){
+        return toDTO(project, project.getBoards() != null ? project.getBoards().size() : 0);
+    }
+
+    /**
+     * Converts a Project entity to a ProjectResponseDTO using a precomputed board count.
+     * @param project the entity to convert
+     * @param boardCount the number of boards in the project
+     * @return the populated response DTO
+     */
+    public static ProjectResponseDTO toDTO(Project project, long boardCount){
         ProjectResponseDTO dto = new ProjectResponseDTO();
 
         dto.setId(project.getId());
         dto.setName(project.getName());
         dto.setDescription(project.getDescription());
 
-        dto.setBoardCount(project.getBoards() != null ? project.getBoards().size() : 0);
+        dto.setBoardCount((int) boardCount);
 
         return dto;
     }
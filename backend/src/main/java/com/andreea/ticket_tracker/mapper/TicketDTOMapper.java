@@ -2,8 +2,11 @@ package com.andreea.ticket_tracker.mapper;
 
 import com.andreea.ticket_tracker.dto.request.TicketRequestDTO;
 import com.andreea.ticket_tracker.dto.response.TicketResponseDTO;
+import com.andreea.ticket_tracker.dto.response.TicketSuggestionDTO;
 import com.andreea.ticket_tracker.entity.Board;
 import com.andreea.ticket_tracker.entity.Ticket;
+import com.andreea.ticket_tracker.repository.projection.TicketView;
+import com.andreea.ticket_tracker.search.TicketSuggestion;
 
 /**
  * Mapper utility to convert between Ticket entities and DTOs.
@@ -40,6 +43,7 @@ public class TicketDTOMapper {
         dto.setDescription(ticket.getDescription());
         dto.setStatus(ticket.getStatus());
         dto.setPosition(ticket.getPosition());
+        dto.setRank(ticket.getRank());
         dto.setStoryPoints(ticket.getStoryPoints());
 
         if(ticket.getBoard() != null){
@@ -57,4 +61,43 @@ public class TicketDTOMapper {
         }
         return dto;
     }
+
+    /**
+     * Converts a ticket projection to a TicketResponseDTO.
+     * @param view the projection to convert
+     * @return the populated response DTO
+     */
+    public static TicketResponseDTO toDTO(TicketView view){
+        TicketResponseDTO dto = new TicketResponseDTO();
+
+        dto.setId(view.getId());
+        dto.setTitle(view.getTitle());
+        dto.setDescription(view.getDescription());
+        dto.setStatus(view.getStatus());
+        dto.setPosition(view.getPosition());
+        dto.setRank(view.getRank());
+        dto.setStoryPoints(view.getStoryPoints());
+        dto.setBoardId(view.getBoardId());
+        dto.setBoardName(view.getBoardName());
+        dto.setProjectId(view.getProjectId());
+        dto.setAssignedUserId(view.getAssignedUserId());
+        dto.setAssignedUsername(view.getAssignedUsername());
+        return dto;
+    }
+
+    /**
+     * Converts an indexed ticket suggestion to a TicketSuggestionDTO.
+     * @param suggestion the suggestion to convert
+     * @return the populated suggestion DTO
+     */
+    public static TicketSuggestionDTO toSuggestionDTO(TicketSuggestion suggestion){
+        TicketSuggestionDTO dto = new TicketSuggestionDTO();
+
+        dto.setId(suggestion.id());
+        dto.setTitle(suggestion.title());
+        dto.setStatus(suggestion.status());
+        dto.setBoardId(suggestion.boardId());
+        dto.setProjectId(suggestion.projectId());
+        return dto;
+    }
 }
@@ -2,6 +2,7 @@ package com.andreea.ticket_tracker.mapper;
 
 import com.andreea.ticket_tracker.dto.response.UserResponseDTO;
 import com.andreea.ticket_tracker.entity.User;
+import com.andreea.ticket_tracker.storage.ProfilePictureSize;
 import org.springframework.stereotype.Component;
 
 /**
@@ -10,12 +11,24 @@ import org.springframework.stereotype.Component;
 @Component
 public class UserDTOMapper {
 
+    private static final String PROFILE_PICTURE_URL = "/api/v1/auth/users/%d/profile-picture?v=%s&size=%d";
+
     /**
-     * Converts a User entity to a UserResponseDTO.
+     * Converts a User entity to a UserResponseDTO with a list-sized profile picture.
      * @param user the entity to convert
      * @return the populated response DTO, or null if the input is null
      */
     public UserResponseDTO toDTO(User user) {
+        return toDTO(user, ProfilePictureSize.MEDIUM);
+    }
+
+    /**
+     * Converts a User entity to a UserResponseDTO.
+     * @param user the entity to convert
+     * @param pictureSize the thumbnail size the profile picture URL points to
+     * @return the populated response DTO, or null if the input is null
+     */
+    public UserResponseDTO toDTO(User user, ProfilePictureSize pictureSize) {
         if (user == null) return null;
 
         return UserResponseDTO.builder()
@@ -25,7 +38,19 @@ public class UserDTOMapper {
                 .username(user.getUsername())
                 .email(user.getEmail())
                 .role(user.getRole())
-                .profilePicture(user.getProfilePicture())
+                .profilePictureUrl(profilePictureUrl(user, pictureSize))
                 .build();
     }
+
+    /**
+     * Builds the versioned download URL of a user's profile picture.
+     * @param user the owner of the picture
+     * @param pictureSize the thumbnail size
+     * @return the picture URL, or null if the user has no picture
+     */
+    private String profilePictureUrl(User user, ProfilePictureSize pictureSize) {
+        if (user.getProfilePictureEtag() == null) return null;
+
+        return PROFILE_PICTURE_URL.formatted(user.getId(), user.getProfilePictureEtag(), pictureSize.pixels());
+    }
 }
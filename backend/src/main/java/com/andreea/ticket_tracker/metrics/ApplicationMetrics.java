@@ -0,0 +1,63 @@
+package com.andreea.ticket_tracker.metrics;
+
+import com.andreea.ticket_tracker.entity.EmailStatus;
+import com.andreea.ticket_tracker.repository.EmailNotificationRepository;
+import com.andreea.ticket_tracker.search.TicketSuggestionCache;
+import com.andreea.ticket_tracker.security.config.PrincipalCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the hit ratio and size of the in-memory caches and the depth of the email outbox.
+ * The second-level cache and statement statistics of Hibernate are bound by Spring Boot.
+ */
+@Component
+public class ApplicationMetrics implements MeterBinder {
+
+    private final PrincipalCache principalCache;
+    private final TicketSuggestionCache ticketSuggestionCache;
+    private final EmailNotificationRepository emailNotificationRepository;
+
+    public ApplicationMetrics(PrincipalCache principalCache, TicketSuggestionCache ticketSuggestionCache, EmailNotificationRepository emailNotificationRepository) {
+        this.principalCache = principalCache;
+        this.ticketSuggestionCache = ticketSuggestionCache;
+        this.emailNotificationRepository = emailNotificationRepository;
+    }
+
+    /**
+     * Registers the cache and outbox meters.
+     * @param registry the registry to add them to
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCache(registry, "principals", principalCache, PrincipalCache::hitCount, PrincipalCache::missCount, PrincipalCache::size);
+        bindCache(registry, "ticket-suggestions", ticketSuggestionCache, TicketSuggestionCache::hitCount, TicketSuggestionCache::missCount, TicketSuggestionCache::size);
+
+        for (EmailStatus status : new EmailStatus[]{EmailStatus.PENDING, EmailStatus.FAILED}) {
+            Gauge.builder("app.email.outbox", emailNotificationRepository, repository -> repository.countByStatus(status))
+                    .description("Emails in the outbox by status")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+    }
+
+    private static <C> void bindCache(MeterRegistry registry, String name, C cache, ToDoubleFunction<C> hits, ToDoubleFunction<C> misses, ToDoubleFunction<C> size) {
+        FunctionCounter.builder("app.cache.requests", cache, hits)
+                .description("Cache lookups by result")
+                .tags("cache", name, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("app.cache.requests", cache, misses)
+                .description("Cache lookups by result")
+                .tags("cache", name, "result", "miss")
+                .register(registry);
+        Gauge.builder("app.cache.size", cache, size)
+                .description("Entries held by the cache")
+                .tag("cache", name)
+                .register(registry);
+    }
+}
@@ -0,0 +1,37 @@
+package com.andreea.ticket_tracker.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Hooks the application's SQL tracking into the data source.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    /**
+     * Wraps the data source in a proxy that reports every statement to the request tracker.
+     * @param sqlRequestTracker the tracker, resolved lazily so it is not created early
+     * @return the post processor wrapping the data source
+     */
+    @Bean
+    public static BeanPostProcessor sqlTrackingDataSourcePostProcessor(ObjectProvider<SqlRequestTracker> sqlRequestTracker) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(sqlRequestTracker.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
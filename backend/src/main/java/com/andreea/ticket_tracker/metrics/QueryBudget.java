@@ -0,0 +1,20 @@
+package com.andreea.ticket_tracker.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how many SQL statements one request to an endpoint may run, replacing the default budget.
+ * Requests over budget are logged, and fail when budgets are enforced.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * The maximum number of statements, including loading the principal.
+     */
+    int statements();
+}
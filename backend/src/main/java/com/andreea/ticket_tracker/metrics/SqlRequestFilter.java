@@ -0,0 +1,184 @@
+package com.andreea.ticket_tracker.metrics;
+
+import com.andreea.ticket_tracker.exceptions.QueryBudgetExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Tracks the SQL statements of each request and reports them three ways:
+ * as a {@code Server-Timing} header, as metrics per method and URI pattern, and as a warning for requests over budget.
+ * The statement budget is the default one unless the handler declares its own with {@link QueryBudget}.
+ * When budgets are enforced, as in tests, a request over its statement budget fails instead. The check runs
+ * just before the response is committed, so the failure still becomes an error response; a body large enough
+ * to be committed by the container's own buffer can no longer be failed, and is logged as an error instead.
+ * Runs ahead of the security chain so loading the principal is counted too.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+@Slf4j
+public class SqlRequestFilter extends OncePerRequestFilter {
+
+    /**
+     * Name of the distribution summary of statements per request.
+     */
+    public static final String STATEMENTS_METRIC = "app.http.sql.statements";
+
+    /**
+     * Name of the timer of statement time per request.
+     */
+    public static final String TIME_METRIC = "app.http.sql.time";
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final SqlRequestTracker sqlRequestTracker;
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final long timeBudgetMillis;
+    private final boolean enforce;
+
+    public SqlRequestFilter(SqlRequestTracker sqlRequestTracker,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.sql.request-budget.statements:50}") int statementBudget,
+                            @Value("${app.sql.request-budget.time-ms:500}") long timeBudgetMillis,
+                            @Value("${app.sql.request-budget.enforce:false}") boolean enforce) {
+        this.sqlRequestTracker = sqlRequestTracker;
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.enforce = enforce;
+    }
+
+    /**
+     * Tracks the statements run while the rest of the chain handles the request.
+     * @param request the incoming HTTP request
+     * @param response the HTTP response
+     * @param filterChain the chain of other filters to be executed
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlRequestStats stats = sqlRequestTracker.start();
+        BudgetedResponse budgetedResponse = new BudgetedResponse(request, response, stats);
+
+        try {
+            filterChain.doFilter(request, budgetedResponse);
+        } finally {
+            sqlRequestTracker.stop();
+            record(request, stats);
+        }
+        budgetedResponse.beforeCommit();
+
+        int budget = budgetOf(request);
+        if (stats.getStatements() > budget || stats.getMillis() > timeBudgetMillis) {
+            log.warn("{} {} ran {} SQL statements in {} ms, over its budget of {} statements or {} ms; slowest: {}",
+                    request.getMethod(), request.getRequestURI(), stats.getStatements(), String.format(Locale.ROOT, "%.1f", stats.getMillis()),
+                    budget, timeBudgetMillis, stats.getSlowest());
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("SQL statements run by one request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder(TIME_METRIC)
+                .description("Time one request spent running SQL statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(Duration.ofNanos((long) (stats.getMillis() * 1_000_000)));
+    }
+
+    /**
+     * Fails a request over its statement budget while the response can still be replaced by an error,
+     * or logs it when the container has already committed the response.
+     */
+    private void enforceBudget(HttpServletRequest request, boolean committed, SqlRequestStats stats) {
+        int budget = budgetOf(request);
+        if (!enforce || stats.getStatements() <= budget) {
+            return;
+        }
+
+        String message = request.getMethod() + " " + request.getRequestURI() + " ran " + stats.getStatements()
+                + " SQL statements, over its budget of " + budget + "; slowest: " + stats.getSlowest();
+        if (committed) {
+            log.error("{} (response already committed)", message);
+            return;
+        }
+        throw new QueryBudgetExceededException(message);
+    }
+
+    /**
+     * Returns the statement budget declared by the handler of a request, or the default one.
+     */
+    private int budgetOf(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            QueryBudget budget = handler.getMethodAnnotation(QueryBudget.class);
+            if (budget == null) {
+                budget = handler.getBeanType().getAnnotation(QueryBudget.class);
+            }
+            if (budget != null) {
+                return budget.statements();
+            }
+        }
+        return statementBudget;
+    }
+
+    /**
+     * Enforces the budget and adds the {@code Server-Timing} header just before the response is committed,
+     * or once the chain is done if nothing committed it.
+     */
+    private final class BudgetedResponse extends OnCommittedResponseWrapper {
+
+        private final HttpServletRequest request;
+        private final SqlRequestStats stats;
+        private boolean checked;
+
+        private BudgetedResponse(HttpServletRequest request, HttpServletResponse response, SqlRequestStats stats) {
+            super(response);
+            this.request = request;
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            beforeCommit();
+        }
+
+        private void beforeCommit() {
+            if (checked) {
+                return;
+            }
+            checked = true;
+
+            boolean committed = isCommitted();
+            enforceBudget(request, committed, stats);
+            if (!committed) {
+                addHeader(SERVER_TIMING_HEADER, String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d statements\"",
+                        stats.getMillis(), stats.getStatements()));
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.andreea.ticket_tracker.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * SQL statements run while handling one request: how many, how long they took in total, and the slowest few.
+ */
+public class SqlRequestStats {
+
+    private final int slowestKept;
+    private final List<Statement> slowest = new ArrayList<>();
+    private int statements;
+    private long nanos;
+    private long runningSince;
+
+    SqlRequestStats(int slowestKept) {
+        this.slowestKept = slowestKept;
+    }
+
+    void started() {
+        runningSince = System.nanoTime();
+    }
+
+    void finished(String sql) {
+        long elapsed = System.nanoTime() - runningSince;
+        statements++;
+        nanos += elapsed;
+
+        if (slowest.size() < slowestKept || elapsed > slowest.get(slowest.size() - 1).nanos()) {
+            if (slowest.size() == slowestKept) {
+                slowest.remove(slowest.size() - 1);
+            }
+            slowest.add(new Statement(sql, elapsed));
+            slowest.sort(Comparator.comparingLong(Statement::nanos).reversed());
+        }
+    }
+
+    /**
+     * Returns the number of statements run.
+     * @return the statement count
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * Returns the time spent running statements.
+     * @return the total time in milliseconds
+     */
+    public double getMillis() {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Returns the slowest statements, slowest first.
+     * @return the slowest statements
+     */
+    public List<Statement> getSlowest() {
+        return slowest;
+    }
+
+    /**
+     * One statement and how long it ran.
+     * @param sql the SQL text
+     * @param nanos the run time in nanoseconds
+     */
+    public record Statement(String sql, long nanos) {
+
+        @Override
+        public String toString() {
+            return String.format("%.1f ms: %s", nanos / 1_000_000.0, sql);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.andreea.ticket_tracker.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Records the SQL statements run on the current thread while tracking is active.
+ * Listens to the proxied data source, so every statement is seen, whichever API issued it.
+ */
+@Component
+public class SqlRequestTracker implements QueryExecutionListener {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final int slowestKept;
+
+    public SqlRequestTracker(@Value("${app.sql.slowest-kept:3}") int slowestKept) {
+        this.slowestKept = slowestKept;
+    }
+
+    /**
+     * Starts tracking the statements of the current thread.
+     * @return the statistics that will be filled in
+     */
+    public SqlRequestStats start() {
+        SqlRequestStats stats = new SqlRequestStats(slowestKept);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stops tracking on the current thread.
+     */
+    public void stop() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.started();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.finished(queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.andreea.ticket_tracker.pagination;
+
+import com.andreea.ticket_tracker.exceptions.InvalidCursorException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset pagination cursor pointing after the last returned row.
+ * The rank is only used for lists ordered by rank and then by id.
+ * @param rank the rank of the last returned row, or null
+ * @param id the ID of the last returned row
+ */
+public record KeysetCursor(Long rank, long id) {
+
+    /**
+     * Largest page size a client may request.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Cursor pointing before the first row.
+     */
+    public static final KeysetCursor START = new KeysetCursor(Long.MIN_VALUE, 0L);
+
+    /**
+     * Decodes a cursor received from the client.
+     * @param cursor the opaque cursor, may be null or blank for the first page
+     * @return the decoded cursor
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+
+            if (separator < 0) {
+                return new KeysetCursor(null, Long.parseLong(raw));
+            }
+
+            return new KeysetCursor(Long.parseLong(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    /**
+     * Encodes the cursor as an opaque URL-safe string.
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = rank != null ? rank + ":" + id : String.valueOf(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the rank to seek after, starting before the first rank if missing.
+     * @return the rank of the last returned row
+     */
+    public long rankOrStart() {
+        return rank != null ? rank : START.rank();
+    }
+
+    /**
+     * Builds the limit used to fetch one row more than the page size,
+     * which tells whether another page exists.
+     * @param size the requested page size
+     * @return the pageable limiting the query
+     */
+    public static Pageable limit(int size) {
+        return PageRequest.ofSize(clamp(size) + 1);
+    }
+
+    /**
+     * Restricts the page size to the allowed range.
+     * @param size the requested page size
+     * @return the page size to use
+     */
+    public static int clamp(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
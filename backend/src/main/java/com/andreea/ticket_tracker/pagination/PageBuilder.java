@@ -0,0 +1,37 @@
+package com.andreea.ticket_tracker.pagination;
+
+import com.andreea.ticket_tracker.dto.response.PageResponseDTO;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utility class that turns an over-fetched keyset query result into a page response.
+ */
+public class PageBuilder {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PageBuilder(){}
+
+    /**
+     * Builds a page from rows fetched with {@link KeysetCursor#limit(int)}.
+     * @param rows the fetched rows, at most one more than the page size
+     * @param size the requested page size
+     * @param mapper converts a row to its response DTO
+     * @param cursorOf builds the cursor pointing after a row
+     * @param <E> the entity type
+     * @param <T> the response DTO type
+     * @return the page response
+     */
+    public static <E, T> PageResponseDTO<T> build(List<E> rows, int size, Function<E, T> mapper, Function<E, KeysetCursor> cursorOf) {
+        int pageSize = KeysetCursor.clamp(size);
+        boolean hasMore = rows.size() > pageSize;
+        List<E> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = hasMore ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+
+        return new PageResponseDTO<>(page.stream().map(mapper).toList(), nextCursor, hasMore);
+    }
+}
@@ -1,21 +1,64 @@
 package com.andreea.ticket_tracker.repository;
 
 import com.andreea.ticket_tracker.entity.Board;
+import com.andreea.ticket_tracker.repository.projection.EntityCount;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Board entity operations.
  */
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
+    /**
+     * Finds all boards together with their parent project.
+     * @return a list of all boards
+     */
+    @Override
+    @EntityGraph(Board.PROJECT_GRAPH)
+    List<Board> findAll();
+
+    /**
+     * Finds the boards with the given IDs together with their parent project.
+     * @param ids the IDs of the boards
+     * @return the boards found
+     */
+    @Override
+    @EntityGraph(Board.PROJECT_GRAPH)
+    List<Board> findAllById(Iterable<Long> ids);
+
+    /**
+     * Locks a board until the end of the current transaction, serialising the rank changes of its tickets.
+     * @param boardId the ID of the board
+     * @return the locked board, or empty if it does not exist
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Board b WHERE b.id = :boardId")
+    Optional<Board> lockById(Long boardId);
+
     /**
      * Finds all boards belonging to a specific project.
      * @param projectId the ID of the parent project
      * @return a list of boards associated with the project
      */
+    @EntityGraph(Board.PROJECT_GRAPH)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "boards-by-project")
+    })
     List<Board> findByProjectId(Long projectId);
 
     /**
@@ -23,6 +66,7 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
      * @param username the username of the member
      * @return a list of boards accessible to the user
      */
+    @EntityGraph(Board.PROJECT_GRAPH)
     @Query("SELECT b FROM Board b JOIN b.project p JOIN p.users u WHERE u.username = :username")
     List<Board> findAllByUser(String username);
 
@@ -32,7 +76,87 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
      * @param username the username of the member
      * @return a list of boards in the project that the user can access
      */
+    @EntityGraph(Board.PROJECT_GRAPH)
     @Query("SELECT b FROM Board b JOIN b.project p JOIN p.users u " +
             "WHERE p.id = :projectId AND u.username = :username")
     List<Board> findAllByProjectAndUser(Long projectId, String username);
+
+    /**
+     * Finds the next page of all boards, ordered by ID.
+     * @param afterId the ID of the last board of the previous page
+     * @param pageable the page size limit
+     * @return the boards following the given ID
+     */
+    @EntityGraph(Board.PROJECT_GRAPH)
+    @Query("SELECT b FROM Board b WHERE b.id > :afterId ORDER BY b.id")
+    List<Board> findPageAfter(Long afterId, Pageable pageable);
+
+    /**
+     * Finds the next page of boards accessible to a user, ordered by ID.
+     * @param username the username of the member
+     * @param afterId the ID of the last board of the previous page
+     * @param pageable the page size limit
+     * @return the boards following the given ID
+     */
+    @EntityGraph(Board.PROJECT_GRAPH)
+    @Query("SELECT b FROM Board b JOIN b.project p JOIN p.users u " +
+            "WHERE u.username = :username AND b.id > :afterId ORDER BY b.id")
+    List<Board> findPageByUserAfter(String username, Long afterId, Pageable pageable);
+
+    /**
+     * Counts the boards of each of the given projects.
+     * Projects without boards are not returned.
+     * @param projectIds the IDs of the projects
+     * @return the board count per project ID
+     */
+    @Query("SELECT b.project.id AS id, COUNT(b) AS total FROM Board b " +
+            "WHERE b.project.id IN :projectIds GROUP BY b.project.id")
+    List<EntityCount> countByProjectIds(Collection<Long> projectIds);
+
+    /**
+     * Counts the boards of a project.
+     * @param projectId the ID of the project
+     * @return the number of boards in the project
+     */
+    long countByProjectId(Long projectId);
+
+    /**
+     * Finds the ID of the project a board belongs to, without loading the board.
+     * @param boardId the ID of the board
+     * @return the ID of the project, or empty if there is no such board
+     */
+    @Query("SELECT b.project.id FROM Board b WHERE b.id = :boardId")
+    Optional<Long> findProjectIdById(Long boardId);
+
+    /**
+     * Finds boards without tickets that were soft deleted, or whose project was, before a point in time.
+     * Native, because soft deleted rows are hidden from entity queries.
+     * @param cutoff the latest deletion time to purge
+     * @param page the batch size
+     * @return the IDs of the boards to purge
+     */
+    @Query(value = "SELECT b.id FROM boards b " +
+            "JOIN projects p ON p.id = b.project_id " +
+            "WHERE (b.deleted < :cutoff OR p.deleted < :cutoff) " +
+            "AND NOT EXISTS (SELECT 1 FROM tickets t WHERE t.board_id = b.id) " +
+            "ORDER BY b.id", nativeQuery = true)
+    List<Long> findPurgeableIds(Instant cutoff, Pageable page);
+
+    /**
+     * Finds the IDs of the boards of a project, including soft deleted ones.
+     * @param projectId the ID of the project
+     * @return the board IDs
+     */
+    @Query(value = "SELECT b.id FROM boards b WHERE b.project_id = :projectId ORDER BY b.id", nativeQuery = true)
+    List<Long> findAllIdsByProjectId(Long projectId);
+
+    /**
+     * Hard deletes boards.
+     * @param ids the IDs of the boards
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "boards"))
+    @Query(value = "DELETE FROM boards WHERE id IN (:ids)", nativeQuery = true)
+    int purgeAllById(Collection<Long> ids);
 }
@@ -0,0 +1,56 @@
+package com.andreea.ticket_tracker.repository;
+
+import com.andreea.ticket_tracker.entity.EmailNotification;
+import com.andreea.ticket_tracker.entity.EmailStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.LockOptions;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for EmailNotification outbox operations.
+ */
+public interface EmailNotificationRepository extends JpaRepository<EmailNotification, Long> {
+
+    /**
+     * Finds and locks the notifications whose next attempt is due, oldest first, including those whose claim
+     * by a worker has expired. Rows locked by another worker are skipped rather than waited for.
+     * @param now the current time
+     * @param pageable the batch size limit
+     * @return the notifications ready to be sent
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "" + LockOptions.SKIP_LOCKED))
+    @Query("SELECT e FROM EmailNotification e " +
+            "WHERE e.status IN (com.andreea.ticket_tracker.entity.EmailStatus.PENDING, com.andreea.ticket_tracker.entity.EmailStatus.SENDING) " +
+            "AND e.nextAttemptAt <= :now " +
+            "ORDER BY e.id")
+    List<EmailNotification> findDue(Instant now, Pageable pageable);
+
+    /**
+     * Finds and locks the newest unsent notification of a recipient created after a given time.
+     * The lock waits for a worker claiming the row, which then no longer matches.
+     * @param recipient the email address of the recipient
+     * @param status the delivery state to match
+     * @param createdAfter the start of the coalescing window
+     * @return the notification to merge into, if any
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<EmailNotification> findFirstByRecipientAndStatusAndAttemptsAndCreatedAtAfterOrderByIdDesc(String recipient, EmailStatus status, int attempts, Instant createdAfter);
+
+    /**
+     * Counts the notifications in a given delivery state.
+     * @param status the delivery state
+     * @return the number of notifications
+     */
+    long countByStatus(EmailStatus status);
+}
@@ -0,0 +1,73 @@
+package com.andreea.ticket_tracker.repository;
+
+import com.andreea.ticket_tracker.entity.Board;
+import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+/**
+ * Evicts single entries from the second-level cache after writes Hibernate cannot see or cannot apply to it.
+ * Soft deletes are plain updates, so the cache would keep serving rows the {@code @SQLRestriction} now hides,
+ * and JDBC updates bypass Hibernate entirely. Entries are evicted once the current transaction commits,
+ * after Hibernate has written its own copy, or immediately outside a transaction.
+ */
+@Component
+public class EntityCacheEvictor {
+
+    private static final String PROJECT_MEMBERS = Project.class.getName() + ".users";
+
+    private final Cache cache;
+
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * Evicts a soft deleted project, its members and the boards it hides.
+     * @param projectId the ID of the project
+     * @param boardIds the IDs of the project's boards
+     */
+    public void evictProject(Long projectId, Collection<Long> boardIds) {
+        afterCommit(() -> {
+            cache.evictEntityData(Project.class, projectId);
+            cache.evictCollectionData(PROJECT_MEMBERS, projectId);
+            boardIds.forEach(boardId -> cache.evictEntityData(Board.class, boardId));
+        });
+    }
+
+    /**
+     * Evicts a soft deleted board.
+     * @param boardId the ID of the board
+     */
+    public void evictBoard(Long boardId) {
+        afterCommit(() -> cache.evictEntityData(Board.class, boardId));
+    }
+
+    /**
+     * Evicts a user updated outside Hibernate.
+     * @param userId the ID of the user
+     */
+    public void evictUser(Long userId) {
+        afterCommit(() -> cache.evictEntityData(User.class, userId));
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
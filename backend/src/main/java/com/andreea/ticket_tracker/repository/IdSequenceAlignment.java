@@ -0,0 +1,82 @@
+package com.andreea.ticket_tracker.repository;
+
+import com.andreea.ticket_tracker.entity.BaseEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Moves the shared ID sequence past the IDs already present in the entity tables.
+ * Rows created while the tables used auto-increment columns would otherwise collide with the first generated IDs.
+ * Only the table-backed sequence used on MySQL is aligned; it is raised, never lowered, so running instances keep their reserved IDs.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceAlignment {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Raises the next sequence value above the highest existing ID once the schema is up to date,
+     * before any request can insert a row.
+     */
+    @PostConstruct
+    public void align() {
+        Long nextValue;
+        try {
+            nextValue = jdbcTemplate.queryForObject("SELECT next_val FROM " + BaseEntity.ID_SEQUENCE, Long.class);
+        } catch (DataAccessException e) {
+            log.debug("ID sequence is not table-backed, nothing to align: {}", e.getMessage());
+            return;
+        }
+
+        long maxId = entityTables().stream().mapToLong(this::maxId).max().orElse(0);
+        long target = maxId + BaseEntity.ID_ALLOCATION_SIZE + 1;
+
+        if (nextValue == null || nextValue < target) {
+            jdbcTemplate.update("UPDATE " + BaseEntity.ID_SEQUENCE + " SET next_val = ? WHERE next_val < ?", target, target);
+            log.info("Moved ID sequence from {} to {}", nextValue, target);
+        }
+    }
+
+    /**
+     * Lists the tables of the mapped entities that take their IDs from the shared sequence.
+     * @return the table names
+     */
+    private List<String> entityTables() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .streamEntityDescriptors()
+                .filter(descriptor -> BaseEntity.class.isAssignableFrom(descriptor.getMappedClass()))
+                .filter(AbstractEntityPersister.class::isInstance)
+                .map(descriptor -> ((AbstractEntityPersister) descriptor).getTableName())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Reads the highest ID of a table.
+     * @param table the table name
+     * @return the highest ID, or 0 if the table is empty or missing
+     */
+    private long maxId(String table) {
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            return maxId != null ? maxId : 0;
+        } catch (DataAccessException e) {
+            return 0;
+        }
+    }
+}
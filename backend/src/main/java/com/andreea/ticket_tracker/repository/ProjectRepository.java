@@ -1,9 +1,16 @@
 package com.andreea.ticket_tracker.repository;
 
 import com.andreea.ticket_tracker.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,6 +23,105 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      * @param username the username of the member
      * @return a list of projects associated with the user
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "projects-by-member")
+    })
     @Query("SELECT p FROM Project p JOIN p.users u WHERE u.username = :username")
     List<Project> findAllByMember(String username);
+
+    /**
+     * Finds the IDs of all projects where a user is a member.
+     * @param username the username of the member
+     * @return the IDs of the user's projects
+     */
+    @Query("SELECT p.id FROM Project p JOIN p.users u WHERE u.username = :username")
+    List<Long> findIdsByMember(String username);
+
+    /**
+     * Finds the IDs of all projects where a user is a member.
+     * @param userId the ID of the member
+     * @return the IDs of the user's projects
+     */
+    @Query("SELECT p.id FROM Project p JOIN p.users u WHERE u.id = :userId")
+    List<Long> findIdsByMemberId(Long userId);
+
+    /**
+     * Finds the IDs of all members of a project.
+     * @param projectId the ID of the project
+     * @return the IDs of the project's members
+     */
+    @Query("SELECT u.id FROM Project p JOIN p.users u WHERE p.id = :projectId")
+    List<Long> findMemberIds(Long projectId);
+
+    /**
+     * Checks if a user is a member of a project.
+     * @param projectId the ID of the project
+     * @param username the username of the user
+     * @return true if the user is a member of the project
+     */
+    @Query("SELECT COUNT(p) > 0 FROM Project p JOIN p.users u WHERE p.id = :projectId AND u.username = :username")
+    boolean existsByProjectIdAndUsername(Long projectId, String username);
+
+    /**
+     * Checks if a user is a member of a project.
+     * @param projectId the ID of the project
+     * @param userId the ID of the user
+     * @return true if the user is a member of the project
+     */
+    @Query("SELECT COUNT(p) > 0 FROM Project p JOIN p.users u WHERE p.id = :projectId AND u.id = :userId")
+    boolean existsByProjectIdAndUserId(Long projectId, Long userId);
+
+    /**
+     * Finds the next page of all projects, ordered by ID.
+     * @param afterId the ID of the last project of the previous page
+     * @param pageable the page size limit
+     * @return the projects following the given ID
+     */
+    @Query("SELECT p FROM Project p WHERE p.id > :afterId ORDER BY p.id")
+    List<Project> findPageAfter(Long afterId, Pageable pageable);
+
+    /**
+     * Finds the next page of projects where a user is a member, ordered by ID.
+     * @param username the username of the member
+     * @param afterId the ID of the last project of the previous page
+     * @param pageable the page size limit
+     * @return the projects following the given ID
+     */
+    @Query("SELECT p FROM Project p JOIN p.users u " +
+            "WHERE u.username = :username AND p.id > :afterId ORDER BY p.id")
+    List<Project> findPageByMemberAfter(String username, Long afterId, Pageable pageable);
+
+    /**
+     * Finds projects without boards that were soft deleted before a point in time.
+     * Native, because soft deleted rows are hidden from entity queries.
+     * @param cutoff the latest deletion time to purge
+     * @param page the batch size
+     * @return the IDs of the projects to purge
+     */
+    @Query(value = "SELECT p.id FROM projects p " +
+            "WHERE p.deleted < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM boards b WHERE b.project_id = p.id) " +
+            "ORDER BY p.id", nativeQuery = true)
+    List<Long> findPurgeableIds(Instant cutoff, Pageable page);
+
+    /**
+     * Removes every member of the given projects.
+     * @param ids the IDs of the projects
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_members"))
+    @Query(value = "DELETE FROM project_members WHERE project_id IN (:ids)", nativeQuery = true)
+    int purgeMembersByProjectIds(Collection<Long> ids);
+
+    /**
+     * Hard deletes projects; their members must be removed first.
+     * @param ids the IDs of the projects
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects"))
+    @Query(value = "DELETE FROM projects WHERE id IN (:ids)", nativeQuery = true)
+    int purgeAllById(Collection<Long> ids);
 }
@@ -1,10 +1,24 @@
 package com.andreea.ticket_tracker.repository;
 
 import com.andreea.ticket_tracker.entity.Ticket;
+import com.andreea.ticket_tracker.repository.projection.EntityCount;
+import com.andreea.ticket_tracker.repository.projection.TicketView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Ticket entity operations.
@@ -12,56 +26,267 @@ import java.util.List;
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
     /**
-     * Finds all tickets belonging to a specific board.
+     * Select clause of the {@link TicketView} queries, joining the board and the optional assignee.
+     */
+    String VIEW = "SELECT t.id AS id, t.title AS title, t.description AS description, t.status AS status, " +
+            "t.position AS position, t.rank AS rank, t.storyPoints AS storyPoints, " +
+            "b.id AS boardId, b.name AS boardName, b.project.id AS projectId, " +
+            "a.id AS assignedUserId, a.username AS assignedUsername " +
+            "FROM Ticket t " +
+            "JOIN t.board b " +
+            "LEFT JOIN t.assignedUser a ";
+
+    /**
+     * Finds all tickets.
+     * @return a list of all tickets
+     */
+    @Query(VIEW)
+    List<TicketView> findAllViews();
+
+    /**
+     * Finds all tickets belonging to a specific board, in board order.
      * @param boardId the ID of the parent board
      * @return a list of tickets associated with the board
      */
-    List<Ticket> findByBoardId(Long boardId);
+    @Query(VIEW + "WHERE b.id = :boardId ORDER BY t.rank, t.id")
+    List<TicketView> findByBoardId(Long boardId);
 
     /**
      * Finds all tickets across all projects where a user is a member.
      * @param username the username of the member
      * @return a list of tickets accessible to the user
      */
-    @Query("SELECT t FROM Ticket t " +
-            "JOIN t.board b " +
+    @Query(VIEW +
             "JOIN b.project p " +
             "JOIN p.users u " +
             "WHERE u.username = :username")
-    List<Ticket> findAllByUser(String username);
+    List<TicketView> findAllByUser(String username);
 
     /**
-     * Finds all tickets within a specific board, verifying the user's project membership.
+     * Finds all tickets within a specific board in board order, verifying the user's project membership.
      * @param boardId the ID of the board
      * @param username the username of the member
      * @return a list of tickets in the board that the user is allowed to see
      */
-    @Query("SELECT t FROM Ticket t " +
-            "JOIN t.board b " +
+    @Query(VIEW +
             "JOIN b.project p " +
             "JOIN p.users u " +
-            "WHERE b.id = :boardId AND u.username = :username")
-    List<Ticket> findAllByBoardAndUser(Long boardId, String username);
+            "WHERE b.id = :boardId AND u.username = :username " +
+            "ORDER BY t.rank, t.id")
+    List<TicketView> findAllByBoardAndUser(Long boardId, String username);
+
+    /**
+     * Finds the tickets of a board created or changed after a point in time, in board order.
+     * @param boardId the ID of the board
+     * @param after the point in time
+     * @return the changed tickets
+     */
+    @Query(VIEW + "WHERE b.id = :boardId AND t.updatedAt > :after ORDER BY t.rank, t.id")
+    List<TicketView> findChangedSince(Long boardId, Instant after);
 
     /**
-     * Finds tickets that contain the given text in their title, ignoring case.
-     * @param title the search keyword
-     * @return a list of tickets matching the keyword
+     * Finds tickets by their IDs, with the details needed by the response DTO.
+     * @param ids the ticket IDs
+     * @return the tickets found, in no particular order
      */
-    List<Ticket> findByTitleContainingIgnoreCase(String title);
+    @Override
+    @EntityGraph(Ticket.DETAILS_GRAPH)
+    List<Ticket> findAllById(Iterable<Long> ids);
 
     /**
-     * Secure search that finds tickets by title only in projects the user actually belongs to.
-     * @param query the text to look for in titles
-     * @param username the user performing the search
-     * @return a list of tickets the user is allowed to see
+     * Finds tickets by their IDs.
+     * @param ids the ticket IDs
+     * @return the tickets found, in no particular order
      */
-    @Query("SELECT DISTINCT t FROM Ticket t " +
-            "JOIN t.board b " +
+    @Query(VIEW + "WHERE t.id IN :ids")
+    List<TicketView> findViewsById(Collection<Long> ids);
+
+    /**
+     * Finds the next batch of all tickets, ordered by ID, as entities for indexing.
+     * @param afterId the ID of the last ticket of the previous batch
+     * @param pageable the batch size limit
+     * @return the tickets following the given ID
+     */
+    @EntityGraph(Ticket.DETAILS_GRAPH)
+    @Query("SELECT t FROM Ticket t WHERE t.id > :afterId ORDER BY t.id")
+    List<Ticket> findPageAfter(Long afterId, Pageable pageable);
+
+    /**
+     * Finds all tickets of a board as entities for indexing.
+     * @param boardId the ID of the board
+     * @return the tickets of the board, with their board and project
+     */
+    @EntityGraph(Ticket.DETAILS_GRAPH)
+    @Query("SELECT t FROM Ticket t WHERE t.board.id = :boardId ORDER BY t.id")
+    List<Ticket> findForIndexByBoardId(Long boardId);
+
+    /**
+     * Finds the next page of all tickets, ordered by ID.
+     * @param afterId the ID of the last ticket of the previous page
+     * @param pageable the page size limit
+     * @return the tickets following the given ID
+     */
+    @Query(VIEW + "WHERE t.id > :afterId ORDER BY t.id")
+    List<TicketView> findViewPageAfter(Long afterId, Pageable pageable);
+
+    /**
+     * Finds the next page of tickets accessible to a user, ordered by ID.
+     * @param username the username of the member
+     * @param afterId the ID of the last ticket of the previous page
+     * @param pageable the page size limit
+     * @return the tickets following the given ID
+     */
+    @Query(VIEW +
+            "JOIN b.project p " +
+            "JOIN p.users u " +
+            "WHERE u.username = :username AND t.id > :afterId " +
+            "ORDER BY t.id")
+    List<TicketView> findPageByUserAfter(String username, Long afterId, Pageable pageable);
+
+    /**
+     * Finds the next page of tickets of a board, ordered by rank and ID.
+     * @param boardId the ID of the board
+     * @param rank the rank of the last ticket of the previous page
+     * @param afterId the ID of the last ticket of the previous page
+     * @param pageable the page size limit
+     * @return the tickets following the given rank and ID
+     */
+    @Query(VIEW +
+            "WHERE b.id = :boardId " +
+            "AND (t.rank > :rank OR (t.rank = :rank AND t.id > :afterId)) " +
+            "ORDER BY t.rank, t.id")
+    List<TicketView> findPageByBoardAfter(Long boardId, Long rank, Long afterId, Pageable pageable);
+
+    /**
+     * Finds the next page of tickets of a board, verifying the user's project membership.
+     * @param boardId the ID of the board
+     * @param username the username of the member
+     * @param rank the rank of the last ticket of the previous page
+     * @param afterId the ID of the last ticket of the previous page
+     * @param pageable the page size limit
+     * @return the tickets following the given rank and ID
+     */
+    @Query(VIEW +
             "JOIN b.project p " +
             "JOIN p.users u " +
-            "WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :query, '%')) " +
-            "AND u.username = :username")
-    List<Ticket> searchByTitleAndUser(String query, String username);
+            "WHERE b.id = :boardId AND u.username = :username " +
+            "AND (t.rank > :rank OR (t.rank = :rank AND t.id > :afterId)) " +
+            "ORDER BY t.rank, t.id")
+    List<TicketView> findPageByBoardAndUserAfter(Long boardId, String username, Long rank, Long afterId, Pageable pageable);
 
+    /**
+     * Streams every ticket of a project, board by board in board order, over a forward-only cursor.
+     * Must be consumed inside a transaction and closed afterwards.
+     * @param projectId the ID of the project
+     * @return the tickets of the project
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(VIEW + "WHERE b.project.id = :projectId ORDER BY b.id, t.rank, t.id")
+    Stream<TicketView> streamByProjectId(Long projectId);
+
+    /**
+     * Finds the highest rank of a board.
+     * @param boardId the ID of the board
+     * @return the highest rank, or empty if the board has no ranked tickets
+     */
+    @Query("SELECT MAX(t.rank) FROM Ticket t WHERE t.board.id = :boardId")
+    Optional<Long> findMaxRank(Long boardId);
+
+    /**
+     * Finds the lowest rank of a board greater than the given one, ignoring one ticket.
+     * @param boardId the ID of the board
+     * @param rank the rank to look past
+     * @param ticketId the ID of the ticket to ignore
+     * @return the next rank, or empty if there is none
+     */
+    @Query("SELECT MIN(t.rank) FROM Ticket t WHERE t.board.id = :boardId AND t.rank > :rank AND t.id <> :ticketId")
+    Optional<Long> findNextRank(Long boardId, Long rank, Long ticketId);
+
+    /**
+     * Finds the highest rank of a board lower than the given one, ignoring one ticket.
+     * @param boardId the ID of the board
+     * @param rank the rank to look before
+     * @param ticketId the ID of the ticket to ignore
+     * @return the previous rank, or empty if there is none
+     */
+    @Query("SELECT MAX(t.rank) FROM Ticket t WHERE t.board.id = :boardId AND t.rank < :rank AND t.id <> :ticketId")
+    Optional<Long> findPreviousRank(Long boardId, Long rank, Long ticketId);
+
+    /**
+     * Finds and locks all tickets of a board in their current order, with unranked tickets last by position.
+     * @param boardId the ID of the board
+     * @return the tickets of the board
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Ticket t WHERE t.board.id = :boardId ORDER BY t.rank NULLS LAST, t.position, t.id")
+    List<Ticket> findForRanking(Long boardId);
+
+    /**
+     * Finds the boards holding tickets that have no rank yet.
+     * @return the IDs of the boards
+     */
+    @Query("SELECT DISTINCT t.board.id FROM Ticket t WHERE t.rank IS NULL")
+    List<Long> findBoardIdsWithUnrankedTickets();
+
+    /**
+     * Counts the tickets of each of the given boards.
+     * Boards without tickets are not returned.
+     * @param boardIds the IDs of the boards
+     * @return the ticket count per board ID
+     */
+    @Query("SELECT t.board.id AS id, COUNT(t) AS total FROM Ticket t " +
+            "WHERE t.board.id IN :boardIds GROUP BY t.board.id")
+    List<EntityCount> countByBoardIds(Collection<Long> boardIds);
+
+    /**
+     * Counts the tickets of a board.
+     * @param boardId the ID of the board
+     * @return the number of tickets on the board
+     */
+    long countByBoardId(Long boardId);
+
+    /**
+     * Finds tickets that were soft deleted, or whose board or project was, before a point in time.
+     * Native, because soft deleted rows are hidden from entity queries.
+     * @param cutoff the latest deletion time to purge
+     * @param page the batch size
+     * @return the IDs of the tickets to purge
+     */
+    @Query(value = "SELECT t.id FROM tickets t " +
+            "JOIN boards b ON b.id = t.board_id " +
+            "JOIN projects p ON p.id = b.project_id " +
+            "WHERE t.deleted < :cutoff OR b.deleted < :cutoff OR p.deleted < :cutoff " +
+            "ORDER BY t.id", nativeQuery = true)
+    List<Long> findPurgeableIds(Instant cutoff, Pageable page);
+
+    /**
+     * Finds the IDs of the tickets of some boards, including soft deleted ones.
+     * Native, because soft deleted rows are hidden from entity queries.
+     * @param boardIds the IDs of the boards
+     * @param page the chunk size
+     * @return the ticket IDs
+     */
+    @Query(value = "SELECT t.id FROM tickets t WHERE t.board_id IN (:boardIds) ORDER BY t.id", nativeQuery = true)
+    List<Long> findAllIdsByBoardIds(Collection<Long> boardIds, Pageable page);
+
+    /**
+     * Counts the tickets of some boards, including soft deleted ones.
+     * @param boardIds the IDs of the boards
+     * @return the number of tickets
+     */
+    @Query(value = "SELECT COUNT(*) FROM tickets t WHERE t.board_id IN (:boardIds)", nativeQuery = true)
+    long countAllByBoardIds(Collection<Long> boardIds);
+
+    /**
+     * Hard deletes tickets.
+     * @param ids the IDs of the tickets
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tickets"))
+    @Query(value = "DELETE FROM tickets WHERE id IN (:ids)", nativeQuery = true)
+    int purgeAllById(Collection<Long> ids);
 }
@@ -25,6 +25,14 @@ public interface UserRepository extends JpaRepository<User, Long>{
      */
     boolean existsByUsername(String username);
 
+    /**
+     * Finds the ID of a user by username.
+     * @param username the username of the user
+     * @return an Optional containing the user ID if found
+     */
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(String username);
+
     /**
      * Finds all users belonging to a specific project.
      * @param projectId the ID of the parent project
@@ -0,0 +1,42 @@
+package com.andreea.ticket_tracker.repository.projection;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Projection holding the number of child rows grouped by a parent ID.
+ */
+public interface EntityCount {
+
+    /**
+     * Maximum number of parent IDs bound to one count query, so unpaged lists never produce an unbounded IN list.
+     */
+    int MAX_IDS_PER_QUERY = 1000;
+
+    /**
+     * The ID of the parent entity.
+     */
+    Long getId();
+
+    /**
+     * The number of child rows of the parent entity.
+     */
+    Long getTotal();
+
+    /**
+     * Runs a count query over the given parent IDs in chunks of at most {@link #MAX_IDS_PER_QUERY} and merges the results.
+     * @param ids the parent IDs
+     * @param query the grouped count query for one chunk of IDs
+     * @return the child row count per parent ID, missing for parents without children
+     */
+    static Map<Long, Long> countInChunks(List<Long> ids, Function<List<Long>, List<EntityCount>> query) {
+        Map<Long, Long> totals = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+            query.apply(ids.subList(from, Math.min(from + MAX_IDS_PER_QUERY, ids.size())))
+                    .forEach(count -> totals.put(count.getId(), count.getTotal()));
+        }
+        return totals;
+    }
+}
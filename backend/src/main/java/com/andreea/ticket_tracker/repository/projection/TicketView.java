@@ -0,0 +1,46 @@
+package com.andreea.ticket_tracker.repository.projection;
+
+import com.andreea.ticket_tracker.entity.TicketStatus;
+
+/**
+ * Projection holding exactly the ticket columns returned by the API,
+ * read with its board name, project ID and assignee in one query and without managing the ticket.
+ */
+public interface TicketView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    TicketStatus getStatus();
+
+    Integer getPosition();
+
+    Long getRank();
+
+    Integer getStoryPoints();
+
+    Long getBoardId();
+
+    /**
+     * The name of the board the ticket belongs to.
+     */
+    String getBoardName();
+
+    /**
+     * The ID of the project the board belongs to.
+     */
+    Long getProjectId();
+
+    /**
+     * The ID of the assigned user, or null if the ticket is unassigned.
+     */
+    Long getAssignedUserId();
+
+    /**
+     * The username of the assigned user, or null if the ticket is unassigned.
+     */
+    String getAssignedUsername();
+}
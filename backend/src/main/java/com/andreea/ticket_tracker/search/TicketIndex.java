@@ -0,0 +1,43 @@
+package com.andreea.ticket_tracker.search;
+
+import com.andreea.ticket_tracker.entity.Ticket;
+
+import java.util.List;
+
+/**
+ * An in-memory view of the tickets that is loaded by {@link TicketIndexLoader}
+ * and kept current by {@link TicketIndexListener}.
+ */
+public interface TicketIndex {
+
+    /**
+     * Adds a ticket to the index, replacing any previous version of it.
+     * @param ticket the saved ticket
+     */
+    void index(Ticket ticket);
+
+    /**
+     * Adds a batch of tickets, replacing any previous version of them,
+     * while the index is being loaded or when their board moves to another project.
+     * @param tickets the tickets to add
+     */
+    void indexAll(List<Ticket> tickets);
+
+    /**
+     * Removes a ticket from the index.
+     * @param ticketId the ID of the deleted ticket
+     */
+    void remove(Long ticketId);
+
+    /**
+     * Removes every ticket of a board.
+     * @param boardId the ID of the deleted board
+     */
+    void removeBoard(Long boardId);
+
+    /**
+     * Removes every ticket of a project.
+     * @param projectId the ID of the deleted project
+     */
+    void removeProject(Long projectId);
+}
@@ -0,0 +1,94 @@
+package com.andreea.ticket_tracker.search;
+
+import com.andreea.ticket_tracker.entity.Ticket;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JPA listener that keeps the ticket indexes in step with every ticket write,
+ * including soft deleted tickets and the tickets hidden with a soft deleted board or project.
+ * Changes are applied once the surrounding transaction commits, so rolled back writes never reach an index.
+ */
+@Component
+public class TicketIndexListener {
+
+    private final ObjectProvider<TicketIndex> ticketIndexes;
+
+    public TicketIndexListener(ObjectProvider<TicketIndex> ticketIndexes) {
+        this.ticketIndexes = ticketIndexes;
+    }
+
+    /**
+     * Indexes a created or updated ticket, or removes it once it is soft deleted.
+     * @param ticket the saved ticket
+     */
+    @PostPersist
+    @PostUpdate
+    public void onSave(Ticket ticket) {
+        if (ticket.getDeleted() != null) {
+            onRemove(ticket);
+        } else {
+            afterCommit(index -> index.index(ticket));
+        }
+    }
+
+    /**
+     * Removes a deleted ticket from the indexes.
+     * @param ticket the deleted ticket
+     */
+    @PostRemove
+    public void onRemove(Ticket ticket) {
+        Long ticketId = ticket.getId();
+
+        afterCommit(index -> index.remove(ticketId));
+    }
+
+    /**
+     * Indexes the tickets of a board moved to another project again, so they are only found within the new project.
+     * @param tickets the tickets of the board, loaded with their board and project
+     */
+    public void onMoveBoard(List<Ticket> tickets) {
+        afterCommit(index -> index.indexAll(tickets));
+    }
+
+    /**
+     * Removes the tickets of a soft deleted board from the indexes.
+     * @param boardId the ID of the board
+     */
+    public void onRemoveBoard(Long boardId) {
+        afterCommit(index -> index.removeBoard(boardId));
+    }
+
+    /**
+     * Removes the tickets of a soft deleted project from the indexes.
+     * @param projectId the ID of the project
+     */
+    public void onRemoveProject(Long projectId) {
+        afterCommit(index -> index.removeProject(projectId));
+    }
+
+    /**
+     * Applies a change to every index after the current transaction commits, or immediately outside a transaction.
+     * @param change the index change
+     */
+    private void afterCommit(Consumer<TicketIndex> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ticketIndexes.orderedStream().forEach(change);
+                }
+            });
+        } else {
+            ticketIndexes.orderedStream().forEach(change);
+        }
+    }
+}
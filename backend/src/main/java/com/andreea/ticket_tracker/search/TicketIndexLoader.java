@@ -0,0 +1,51 @@
+package com.andreea.ticket_tracker.search;
+
+import com.andreea.ticket_tracker.entity.Ticket;
+import com.andreea.ticket_tracker.repository.TicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Loads every ticket into the ticket indexes once the application has started,
+ * reading the tickets table a single time for all of them.
+ */
+@Component
+@Slf4j
+public class TicketIndexLoader {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final TicketRepository ticketRepository;
+    private final List<TicketIndex> indexes;
+
+    public TicketIndexLoader(TicketRepository ticketRepository, List<TicketIndex> indexes) {
+        this.ticketRepository = ticketRepository;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Pages through the tickets by ID and hands each batch to every index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long afterId = 0;
+        int loaded = 0;
+
+        List<Ticket> batch;
+        while (!(batch = ticketRepository.findPageAfter(afterId, PageRequest.ofSize(BATCH_SIZE))).isEmpty()) {
+            for (TicketIndex index : indexes) {
+                index.indexAll(batch);
+            }
+
+            afterId = batch.get(batch.size() - 1).getId();
+            loaded += batch.size();
+        }
+
+        log.info("Loaded {} tickets into {} ticket indexes", loaded, indexes.size());
+    }
+}
@@ -0,0 +1,259 @@
+package com.andreea.ticket_tracker.search;
+
+import com.andreea.ticket_tracker.entity.Ticket;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-process full-text index over ticket titles and descriptions.
+ * The index is loaded from the database on startup by {@link TicketIndexLoader} and kept current by {@link TicketIndexListener}.
+ * Queries match whole terms, prefixes and close misspellings, ranked by relevance, and are
+ * restricted to the caller's projects inside the index.
+ */
+@Component
+@Slf4j
+public class TicketSearchIndex implements TicketIndex {
+
+    static final String ID = "id";
+    static final String BOARD = "boardId";
+    static final String PROJECT = "projectId";
+    static final String TITLE = "title";
+    static final String DESCRIPTION = "description";
+
+    private static final int FUZZY_MIN_LENGTH = 4;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final int maxResults;
+
+    public TicketSearchIndex(@Value("${app.search.index.dir:}") String indexDir,
+                             @Value("${app.search.max-results:50}") int maxResults) throws IOException {
+        this.maxResults = maxResults;
+        this.directory = indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    /**
+     * Adds or replaces a ticket in the index and makes it visible to searches.
+     * @param ticket the saved ticket
+     */
+    @Override
+    public void index(Ticket ticket) {
+        apply(() -> writer.updateDocument(new Term(ID, ticket.getId().toString()), toDocument(ticket)));
+    }
+
+    /**
+     * Adds a batch of tickets, refreshing the searcher once for the whole batch.
+     * @param tickets the tickets to add
+     */
+    @Override
+    public void indexAll(List<Ticket> tickets) {
+        apply(() -> {
+            for (Ticket ticket : tickets) {
+                writer.updateDocument(new Term(ID, ticket.getId().toString()), toDocument(ticket));
+            }
+        });
+    }
+
+    /**
+     * Removes a ticket from the index.
+     * @param ticketId the ID of the deleted ticket
+     */
+    @Override
+    public void remove(Long ticketId) {
+        apply(() -> writer.deleteDocuments(new Term(ID, ticketId.toString())));
+    }
+
+    /**
+     * Removes every ticket of a board with a single term delete.
+     * @param boardId the ID of the deleted board
+     */
+    @Override
+    public void removeBoard(Long boardId) {
+        apply(() -> writer.deleteDocuments(new Term(BOARD, boardId.toString())));
+    }
+
+    /**
+     * Removes every ticket of a project with a single term delete.
+     * @param projectId the ID of the deleted project
+     */
+    @Override
+    public void removeProject(Long projectId) {
+        apply(() -> writer.deleteDocuments(new Term(PROJECT, projectId.toString())));
+    }
+
+    /**
+     * Finds the tickets best matching a free-text query.
+     * Every query term must match the title or description exactly, as a prefix, or within a small edit distance.
+     * @param text the search text
+     * @param projectIds the projects to search in, or null to search all projects
+     * @return the IDs of the matching tickets, most relevant first
+     */
+    public List<Long> search(String text, Collection<Long> projectIds) {
+        List<String> terms = analyze(text);
+
+        if (terms.isEmpty() || (projectIds != null && projectIds.isEmpty())) {
+            return List.of();
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        terms.forEach(term -> query.add(termQuery(term), BooleanClause.Occur.MUST));
+
+        if (projectIds != null) {
+            List<BytesRef> projects = projectIds.stream().map(id -> new BytesRef(id.toString())).toList();
+            query.add(new TermInSetQuery(PROJECT, projects), BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+
+            try {
+                TopDocs hits = searcher.search(query.build(), maxResults);
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(hits.scoreDocs.length);
+
+                for (ScoreDoc hit : hits.scoreDocs) {
+                    ids.add(Long.valueOf(storedFields.document(hit.doc, Set.of(ID)).get(ID)));
+                }
+
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes the index on shutdown, committing it when it is kept on disk.
+     * @throws IOException if the index cannot be closed
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * Builds the query for one search term, favouring exact title matches over prefixes, typos and descriptions.
+     * @param term the analyzed term
+     * @return the query matching the term
+     */
+    private Query termQuery(String term) {
+        BooleanQuery.Builder alternatives = new BooleanQuery.Builder();
+
+        alternatives.add(new BoostQuery(new TermQuery(new Term(TITLE, term)), 4f), BooleanClause.Occur.SHOULD);
+        alternatives.add(new BoostQuery(new PrefixQuery(new Term(TITLE, term)), 2f), BooleanClause.Occur.SHOULD);
+        alternatives.add(new TermQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD);
+        alternatives.add(new BoostQuery(new PrefixQuery(new Term(DESCRIPTION, term)), 0.5f), BooleanClause.Occur.SHOULD);
+
+        if (term.length() >= FUZZY_MIN_LENGTH) {
+            int maxEdits = term.length() >= 8 ? 2 : 1;
+            alternatives.add(new FuzzyQuery(new Term(TITLE, term), maxEdits, 1), BooleanClause.Occur.SHOULD);
+        }
+
+        return alternatives.build();
+    }
+
+    /**
+     * Splits search text into the same lower-cased terms the index holds.
+     * @param text the search text
+     * @return the analyzed terms
+     */
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) return terms;
+
+        try (TokenStream tokens = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+
+            while (tokens.incrementToken()) {
+                terms.add(term.toString());
+            }
+
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return terms;
+    }
+
+    /**
+     * Converts a ticket to its index document.
+     * @param ticket the ticket to index
+     * @return the document holding the searchable fields
+     */
+    private Document toDocument(Ticket ticket) {
+        Document document = new Document();
+
+        document.add(new StringField(ID, ticket.getId().toString(), Field.Store.YES));
+        document.add(new TextField(TITLE, ticket.getTitle(), Field.Store.NO));
+
+        if (ticket.getDescription() != null) {
+            document.add(new TextField(DESCRIPTION, ticket.getDescription(), Field.Store.NO));
+        }
+        if (ticket.getBoard() != null) {
+            document.add(new StringField(BOARD, ticket.getBoard().getId().toString(), Field.Store.NO));
+        }
+        if (ticket.getBoard() != null && ticket.getBoard().getProject() != null) {
+            document.add(new StringField(PROJECT, ticket.getBoard().getProject().getId().toString(), Field.Store.NO));
+        }
+
+        return document;
+    }
+
+    /**
+     * Applies an index change and refreshes the searcher.
+     * @param change the index change
+     */
+    private void apply(IndexChange change) {
+        try {
+            change.run();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            log.error("Could not update the ticket search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * A write against the index writer.
+     */
+    @FunctionalInterface
+    private interface IndexChange {
+        void run() throws IOException;
+    }
+}
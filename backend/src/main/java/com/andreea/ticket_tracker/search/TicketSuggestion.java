@@ -0,0 +1,29 @@
+package com.andreea.ticket_tracker.search;
+
+import com.andreea.ticket_tracker.entity.Ticket;
+import com.andreea.ticket_tracker.entity.TicketStatus;
+
+/**
+ * The part of a ticket held by {@link TicketSuggestionIndex} and returned as a suggestion.
+ * @param id the ticket ID
+ * @param boardId the ID of the parent board
+ * @param projectId the ID of the project the board belongs to
+ * @param title the ticket title
+ * @param status the ticket status
+ */
+public record TicketSuggestion(Long id, Long boardId, Long projectId, String title, TicketStatus status) {
+
+    /**
+     * Takes the suggestion fields from a ticket.
+     * @param ticket the ticket
+     * @return the suggestion, or null if the ticket is not attached to a project
+     */
+    public static TicketSuggestion of(Ticket ticket) {
+        if (ticket.getBoard() == null || ticket.getBoard().getProject() == null || ticket.getTitle() == null) {
+            return null;
+        }
+
+        return new TicketSuggestion(ticket.getId(), ticket.getBoard().getId(), ticket.getBoard().getProject().getId(),
+                ticket.getTitle(), ticket.getStatus());
+    }
+}
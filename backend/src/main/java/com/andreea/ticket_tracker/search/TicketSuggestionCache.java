@@ -0,0 +1,118 @@
+package com.andreea.ticket_tracker.search;
+
+import com.andreea.ticket_tracker.entity.ProjectMembershipChanged;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, time-limited cache of the suggestions returned to each user for each typed prefix.
+ * Entries are tied to the version of the {@link TicketSuggestionIndex} they were computed from,
+ * so any ticket write makes them stale; membership changes clear the whole cache.
+ */
+@Component
+public class TicketSuggestionCache {
+
+    private final long ttlMillis;
+    private final Map<Key, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TicketSuggestionCache(@Value("${app.search.suggest.cache.ttl-seconds:30}") long ttlSeconds,
+                                 @Value("${app.search.suggest.cache.max-size:10000}") int maxSize) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached suggestions, computing them if missing, expired or computed from an older index version.
+     * @param username the user asking for suggestions
+     * @param prefix the normalized prefix
+     * @param limit the requested number of suggestions
+     * @param version the current index version
+     * @param loader the function used to compute the suggestions on a miss
+     * @return the suggestions
+     */
+    public List<TicketSuggestion> get(String username, String prefix, int limit, long version, Supplier<List<TicketSuggestion>> loader) {
+        Key key = new Key(username, prefix, limit);
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version == version && entry.expiresAt > now) {
+                hits.increment();
+                return entry.suggestions;
+            }
+        }
+
+        misses.increment();
+        List<TicketSuggestion> suggestions = loader.get();
+
+        synchronized (entries) {
+            entries.put(key, new Entry(suggestions, version, now + ttlMillis));
+        }
+
+        return suggestions;
+    }
+
+    /**
+     * Drops all cached suggestions once a membership change commits, since it changes which tickets a user may see.
+     * @param event the membership change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(ProjectMembershipChanged event) {
+        invalidateAll();
+    }
+
+    /**
+     * Removes all cached suggestions.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache since startup.
+     * @return the hit count
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to load the suggestions since startup.
+     * @return the miss count
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     * @return the cache size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Key(String username, String prefix, int limit) {
+    }
+
+    private record Entry(List<TicketSuggestion> suggestions, long version, long expiresAt) {
+    }
+}
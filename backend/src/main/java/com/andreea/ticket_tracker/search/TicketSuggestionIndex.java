@@ -0,0 +1,596 @@
+package com.andreea.ticket_tracker.search;
+
+import com.andreea.ticket_tracker.entity.Ticket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index over ticket titles used for search-as-you-type suggestions.
+ * Every project has its own trie holding each title from the start of every word, so typing "bug" finds
+ * both "Bug in login" and "Login bug"; one more trie over all projects serves unrestricted lookups.
+ * Each node keeps the best matches of its whole subtree, which makes a lookup cost the length of the prefix
+ * no matter how many tickets share it.
+ * Tries start as small buckets of titles that are only split into child nodes once they fill up.
+ * Writes are serialized; lookups run without locking against immutable node snapshots.
+ */
+@Component
+public class TicketSuggestionIndex implements TicketIndex {
+
+    /**
+     * Depth after which tries are no longer split; longer prefixes are matched against the titles directly.
+     */
+    static final int MAX_DEPTH = 16;
+
+    /**
+     * Number of titles a trie leaf holds before it is split by the next character.
+     */
+    static final int BUCKET_SIZE = 32;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Hit[] NO_HITS = new Hit[0];
+
+    /**
+     * Titles matching from their first word come first, then the most recently created tickets.
+     */
+    private static final Comparator<Hit> RANKING = (a, b) -> {
+        if ((a.offset() == 0) != (b.offset() == 0)) {
+            return a.offset() == 0 ? -1 : 1;
+        }
+        return Long.compare(b.ticket().id(), a.ticket().id());
+    };
+
+    private final int maxResults;
+    private final Map<Long, Node> projects = new ConcurrentHashMap<>();
+    private final Node allProjects = new Node();
+    private final Map<Long, TicketSuggestion> tickets = new HashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    public TicketSuggestionIndex(@Value("${app.search.suggest.max-results:10}") int maxResults) {
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Adds or replaces a ticket, skipping updates that do not change its suggestion.
+     * @param ticket the saved ticket
+     */
+    @Override
+    public synchronized void index(Ticket ticket) {
+        if (put(ticket)) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Adds a batch of tickets. A ticket already held under another project, as after its board moved,
+     * is taken out of the old project's trie and inserted into the new one.
+     * @param tickets the tickets to add
+     */
+    @Override
+    public synchronized void indexAll(List<Ticket> tickets) {
+        tickets.forEach(this::put);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Removes a ticket.
+     * @param ticketId the ID of the deleted ticket
+     */
+    @Override
+    public synchronized void remove(Long ticketId) {
+        TicketSuggestion previous = tickets.remove(ticketId);
+
+        if (previous != null) {
+            delete(previous);
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Removes every ticket of a board.
+     * @param boardId the ID of the deleted board
+     */
+    @Override
+    public synchronized void removeBoard(Long boardId) {
+        removeIf(ticket -> boardId.equals(ticket.boardId()));
+    }
+
+    /**
+     * Removes every ticket of a project.
+     * @param projectId the ID of the deleted project
+     */
+    @Override
+    public synchronized void removeProject(Long projectId) {
+        removeIf(ticket -> projectId.equals(ticket.projectId()));
+    }
+
+    /**
+     * Returns a counter that changes on every write, used to tell whether cached suggestions are stale.
+     * @return the current index version
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Finds the tickets whose title, or any word onwards of it, starts with the prefix.
+     * @param prefix the typed text
+     * @param projectIds the projects to search in, or null to search all projects
+     * @param limit the maximum number of suggestions, capped by the configured maximum
+     * @return the suggestions, whole-title matches first and newest first within each group
+     */
+    public List<TicketSuggestion> suggest(String prefix, Collection<Long> projectIds, int limit) {
+        String text = normalize(prefix);
+        int size = Math.min(Math.max(limit, 1), maxResults);
+
+        if (text.isEmpty() || (projectIds != null && projectIds.isEmpty())) {
+            return List.of();
+        }
+
+        Collection<Node> roots = projectIds == null
+                ? List.of(allProjects)
+                : projectIds.stream().map(projects::get).filter(Objects::nonNull).toList();
+
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(Comparator.comparing(Cursor::head, RANKING));
+        for (Node root : roots) {
+            Hit[] hits = lookup(root, text, size);
+            if (hits.length > 0) {
+                heads.add(new Cursor(hits, 0));
+            }
+        }
+
+        List<TicketSuggestion> suggestions = new ArrayList<>(size);
+        while (suggestions.size() < size && !heads.isEmpty()) {
+            Cursor cursor = heads.poll();
+            suggestions.add(cursor.head().ticket());
+
+            if (cursor.index() + 1 < cursor.hits().length) {
+                heads.add(new Cursor(cursor.hits(), cursor.index() + 1));
+            }
+        }
+
+        return suggestions;
+    }
+
+    /**
+     * Lower-cases text and reduces every run of punctuation and whitespace to a single space.
+     * @param text the text to normalize
+     * @return the normalized text, without leading or trailing spaces
+     */
+    public static String normalize(String text) {
+        if (text == null) return "";
+
+        return SEPARATORS.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    /**
+     * Removes the tickets matching a condition.
+     * @param condition the condition on the held suggestions
+     */
+    private void removeIf(Predicate<TicketSuggestion> condition) {
+        List<TicketSuggestion> removed = tickets.values().stream().filter(condition).toList();
+
+        for (TicketSuggestion ticket : removed) {
+            tickets.remove(ticket.id());
+            delete(ticket);
+        }
+        if (!removed.isEmpty()) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Stores the suggestion for a ticket and updates its trie when the suggestion changed.
+     * @param ticket the saved ticket
+     * @return true if the index changed
+     */
+    private boolean put(Ticket ticket) {
+        TicketSuggestion next = TicketSuggestion.of(ticket);
+        TicketSuggestion previous = next == null ? tickets.remove(ticket.getId()) : tickets.put(ticket.getId(), next);
+
+        if (Objects.equals(previous, next)) {
+            return false;
+        }
+        if (previous != null) {
+            delete(previous);
+        }
+        if (next != null) {
+            add(next);
+        }
+
+        return true;
+    }
+
+    /**
+     * Inserts a ticket into the trie of its project and the trie of all projects.
+     * @param ticket the suggestion to insert
+     */
+    private void add(TicketSuggestion ticket) {
+        List<Hit> hits = hits(ticket);
+
+        add(projects.computeIfAbsent(ticket.projectId(), id -> new Node()), hits);
+        add(allProjects, hits);
+    }
+
+    /**
+     * Inserts the hits of a ticket, splitting full leaves on the way down.
+     * @param root the trie
+     * @param hits one hit per word start of the ticket title
+     */
+    private void add(Node root, List<Hit> hits) {
+        for (Hit hit : hits) {
+            Node node = root;
+
+            for (int depth = 0; ; depth++) {
+                if (depth > 0) {
+                    node.offer(hit, maxResults);
+                }
+
+                if (!node.split) {
+                    if (node.postings.length < BUCKET_SIZE || depth == MAX_DEPTH) {
+                        node.postings = insert(node.postings, hit);
+                        break;
+                    }
+                    node.burst(depth, maxResults);
+                }
+
+                if (hit.length() == depth) {
+                    node.postings = insert(node.postings, hit);
+                    break;
+                }
+
+                node = node.childOrCreate(hit.charAt(depth));
+            }
+        }
+    }
+
+    /**
+     * Removes a ticket from the trie of its project and the trie of all projects.
+     * @param ticket the suggestion to remove
+     */
+    private void delete(TicketSuggestion ticket) {
+        List<Hit> hits = hits(ticket);
+        Node root = projects.get(ticket.projectId());
+
+        if (root != null && delete(root, ticket.id(), hits)) {
+            projects.remove(ticket.projectId());
+        }
+        delete(allProjects, ticket.id(), hits);
+    }
+
+    /**
+     * Removes the hits of a ticket and recomputes the best matches of the nodes that held it, deepest first.
+     * @param root the trie
+     * @param ticketId the ID of the ticket
+     * @param hits one hit per word start of the ticket title
+     * @return true if the trie is left empty
+     */
+    private boolean delete(Node root, Long ticketId, List<Hit> hits) {
+        List<Node[]> paths = new ArrayList<>();
+
+        for (Hit hit : hits) {
+            Node[] path = new Node[MAX_DEPTH + 1];
+            Node node = root;
+            int depth = 0;
+
+            while (node.split && hit.length() > depth) {
+                path[depth] = node;
+                node = node.child(hit.charAt(depth++));
+            }
+
+            path[depth] = node;
+            node.postings = Arrays.stream(node.postings)
+                    .filter(posting -> !posting.ticket().id().equals(ticketId))
+                    .toArray(Hit[]::new);
+            paths.add(path);
+        }
+
+        for (int depth = MAX_DEPTH; depth > 0; depth--) {
+            for (int i = 0; i < paths.size(); i++) {
+                Node node = paths.get(i)[depth];
+                if (node == null) continue;
+
+                if (node.contains(ticketId)) {
+                    node.recompute(maxResults);
+                }
+                if (node.isEmpty()) {
+                    paths.get(i)[depth - 1].removeChild(hits.get(i).charAt(depth - 1));
+                }
+            }
+        }
+
+        return root.isEmpty();
+    }
+
+    /**
+     * Finds the best matches for a prefix in one project trie.
+     * @param root the project trie
+     * @param text the normalized prefix
+     * @param size the maximum number of matches
+     * @return the matches, best first
+     */
+    private Hit[] lookup(Node root, String text, int size) {
+        Node node = root;
+
+        for (int depth = 0; ; depth++) {
+            if (depth == text.length()) {
+                return node.top;
+            }
+            if (!node.split) {
+                return matches(node.postings, text, size);
+            }
+
+            node = node.child(text.charAt(depth));
+            if (node == null) {
+                return NO_HITS;
+            }
+        }
+    }
+
+    /**
+     * Builds one hit per word start of a ticket title.
+     * @param ticket the suggestion
+     * @return the hits, the whole title first
+     */
+    private static List<Hit> hits(TicketSuggestion ticket) {
+        String text = normalize(ticket.title());
+        List<Hit> hits = new ArrayList<>();
+
+        if (text.isEmpty()) {
+            return hits;
+        }
+
+        hits.add(new Hit(ticket, text, 0));
+        for (int i = text.indexOf(' '); i >= 0; i = text.indexOf(' ', i + 1)) {
+            hits.add(new Hit(ticket, text, i + 1));
+        }
+
+        return hits;
+    }
+
+    /**
+     * Ranks hits and keeps the best one of each ticket.
+     * @param hits the candidate hits
+     * @param size the maximum number of hits to keep
+     * @return the best hits, best first
+     */
+    private static Hit[] best(Collection<Hit> hits, int size) {
+        List<Hit> ranked = new ArrayList<>(hits);
+        ranked.sort(RANKING);
+
+        Set<Long> seen = new HashSet<>();
+        List<Hit> best = new ArrayList<>(Math.min(size, ranked.size()));
+
+        for (Hit hit : ranked) {
+            if (best.size() == size) break;
+            if (seen.add(hit.ticket().id())) {
+                best.add(hit);
+            }
+        }
+
+        return best.toArray(NO_HITS);
+    }
+
+    /**
+     * Picks the best hits starting with a prefix from hits that are already ranked.
+     * @param hits the ranked hits
+     * @param text the normalized prefix
+     * @param size the maximum number of hits to keep
+     * @return the matching hits, best first
+     */
+    private static Hit[] matches(Hit[] hits, String text, int size) {
+        List<Hit> matches = new ArrayList<>(size);
+
+        for (Hit hit : hits) {
+            if (matches.size() == size) break;
+            if (hit.startsWith(text) && matches.stream().noneMatch(match -> match.ticket().id().equals(hit.ticket().id()))) {
+                matches.add(hit);
+            }
+        }
+
+        return matches.toArray(NO_HITS);
+    }
+
+    /**
+     * Copies ranked hits with one more hit inserted at its rank.
+     * @param hits the ranked hits
+     * @param hit the hit to insert
+     * @return the new ranked hits
+     */
+    private static Hit[] insert(Hit[] hits, Hit hit) {
+        int index = Arrays.binarySearch(hits, hit, RANKING);
+        int at = index < 0 ? -index - 1 : index;
+
+        Hit[] inserted = new Hit[hits.length + 1];
+        System.arraycopy(hits, 0, inserted, 0, at);
+        inserted[at] = hit;
+        System.arraycopy(hits, at, inserted, at + 1, hits.length - at);
+        return inserted;
+    }
+
+    /**
+     * A ticket title read from the start of one of its words.
+     * @param ticket the suggestion
+     * @param text the normalized title
+     * @param offset the index of the word start
+     */
+    private record Hit(TicketSuggestion ticket, String text, int offset) {
+
+        int length() {
+            return text.length() - offset;
+        }
+
+        char charAt(int index) {
+            return text.charAt(offset + index);
+        }
+
+        boolean startsWith(String prefix) {
+            return text.startsWith(prefix, offset);
+        }
+    }
+
+    /**
+     * A position in the ranked matches of one project, used to merge the projects best first.
+     * @param hits the ranked matches
+     * @param index the position of the next match
+     */
+    private record Cursor(Hit[] hits, int index) {
+
+        Hit head() {
+            return hits[index];
+        }
+    }
+
+    /**
+     * The children of a node, sorted by their character.
+     */
+    private record Edges(char[] labels, Node[] nodes) {
+
+        static final Edges NONE = new Edges(new char[0], new Node[0]);
+    }
+
+    /**
+     * A trie node. A leaf holds every hit of its subtree; a split node only the hits ending at it.
+     * Both keep their hits ranked, so a leaf lookup stops at the first matches it finds.
+     * Fields are replaced rather than modified so lookups always see complete arrays.
+     */
+    private static final class Node {
+
+        private volatile Edges edges = Edges.NONE;
+        private volatile Hit[] postings = NO_HITS;
+        private volatile Hit[] top = NO_HITS;
+        private volatile boolean split;
+
+        Node child(char label) {
+            Edges current = edges;
+            int index = Arrays.binarySearch(current.labels(), label);
+            return index < 0 ? null : current.nodes()[index];
+        }
+
+        Node childOrCreate(char label) {
+            Edges current = edges;
+            int index = Arrays.binarySearch(current.labels(), label);
+            if (index >= 0) {
+                return current.nodes()[index];
+            }
+
+            int at = -index - 1;
+            int count = current.labels().length;
+            char[] labels = new char[count + 1];
+            Node[] nodes = new Node[count + 1];
+            Node child = new Node();
+
+            System.arraycopy(current.labels(), 0, labels, 0, at);
+            System.arraycopy(current.nodes(), 0, nodes, 0, at);
+            labels[at] = label;
+            nodes[at] = child;
+            System.arraycopy(current.labels(), at, labels, at + 1, count - at);
+            System.arraycopy(current.nodes(), at, nodes, at + 1, count - at);
+
+            edges = new Edges(labels, nodes);
+            return child;
+        }
+
+        void removeChild(char label) {
+            Edges current = edges;
+            int index = Arrays.binarySearch(current.labels(), label);
+            if (index < 0) return;
+
+            int count = current.labels().length;
+            char[] labels = new char[count - 1];
+            Node[] nodes = new Node[count - 1];
+
+            System.arraycopy(current.labels(), 0, labels, 0, index);
+            System.arraycopy(current.nodes(), 0, nodes, 0, index);
+            System.arraycopy(current.labels(), index + 1, labels, index, count - index - 1);
+            System.arraycopy(current.nodes(), index + 1, nodes, index, count - index - 1);
+
+            edges = new Edges(labels, nodes);
+        }
+
+        /**
+         * Moves the hits continuing past this node into children keyed by their next character.
+         * @param depth the depth of this node
+         * @param size the number of best matches each node keeps
+         */
+        void burst(int depth, int size) {
+            List<Hit> ending = new ArrayList<>();
+
+            for (Hit hit : postings) {
+                if (hit.length() == depth) {
+                    ending.add(hit);
+                } else {
+                    Node child = childOrCreate(hit.charAt(depth));
+                    child.postings = insert(child.postings, hit);
+                }
+            }
+
+            for (Node child : edges.nodes()) {
+                child.top = best(Arrays.asList(child.postings), size);
+            }
+
+            split = true;
+            postings = ending.toArray(NO_HITS);
+        }
+
+        /**
+         * Adds a hit to the best matches if it ranks high enough.
+         * @param hit the new hit
+         * @param size the number of best matches to keep
+         */
+        void offer(Hit hit, int size) {
+            Hit[] current = top;
+
+            for (Hit existing : current) {
+                if (existing.ticket().id().equals(hit.ticket().id()) && RANKING.compare(existing, hit) <= 0) {
+                    return;
+                }
+            }
+
+            List<Hit> candidates = new ArrayList<>(Arrays.asList(current));
+            candidates.add(hit);
+            top = best(candidates, size);
+        }
+
+        /**
+         * Rebuilds the best matches from this node's own hits and its children's best matches.
+         * @param size the number of best matches to keep
+         */
+        void recompute(int size) {
+            List<Hit> candidates = new ArrayList<>(Arrays.asList(postings));
+
+            for (Node child : edges.nodes()) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+
+            top = best(candidates, size);
+        }
+
+        boolean contains(Long ticketId) {
+            for (Hit hit : top) {
+                if (hit.ticket().id().equals(ticketId)) return true;
+            }
+            return false;
+        }
+
+        boolean isEmpty() {
+            return postings.length == 0 && edges.labels().length == 0;
+        }
+    }
+}
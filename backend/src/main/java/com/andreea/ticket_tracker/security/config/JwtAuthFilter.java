@@ -1,5 +1,8 @@
 package com.andreea.ticket_tracker.security.config;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,9 +28,17 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final CustomUserDetailsService customUserDetailsService;
 
-    public JwtAuthFilter(JwtProvider tokenGenerator, CustomUserDetailsService customUserDetailsService) {
+    private final PrincipalCache principalCache;
+
+    private final Timer authenticationTimer;
+
+    public JwtAuthFilter(JwtProvider tokenGenerator, CustomUserDetailsService customUserDetailsService, PrincipalCache principalCache, MeterRegistry meterRegistry) {
         this.tokenGenerator = tokenGenerator;
         this.customUserDetailsService = customUserDetailsService;
+        this.principalCache = principalCache;
+        this.authenticationTimer = Timer.builder("app.security.jwt.authentication")
+                .description("Time to validate a token and resolve its principal")
+                .register(meterRegistry);
     }
 
     /**
@@ -40,10 +51,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = this.getJWTFromRequest(request);
 
-        if (StringUtils.hasText(token) && tokenGenerator.validateToken(token)) {
-            String username = tokenGenerator.getUsernameFromJWT(token);
-
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+        if (StringUtils.hasText(token)) {
+            UserDetails userDetails = authenticationTimer.record(() -> authenticate(token));
             UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
             authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -54,6 +63,20 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Validates a token and resolves the principal it was issued to.
+     * @param token the JWT token
+     * @return the principal details
+     */
+    private UserDetails authenticate(String token) {
+        Claims claims = tokenGenerator.validateAndGetClaims(token);
+        String username = claims.getSubject();
+
+        return principalCache.isClaimsMode()
+                ? principalCache.fromClaims(username, claims.get("roles", String.class))
+                : principalCache.get(username, customUserDetailsService::loadUserByUsername);
+    }
+
     /**
      * Extracts the JWT token from the Authorization header.
      * @param request the HTTP request
@@ -2,6 +2,8 @@ package com.andreea.ticket_tracker.security.config;
 
 import com.andreea.ticket_tracker.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -24,8 +26,18 @@ import static io.jsonwebtoken.SignatureAlgorithm.HS512;
 @Slf4j
 public class JwtProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final Key signingKey;
+
+    private final JwtParser jwtParser;
+
+    /**
+     * Decodes the secret key once and builds the reusable HMAC-512 key and parser.
+     * @param secretKey the Base64 encoded secret
+     */
+    public JwtProvider(@Value("${jwt.secret}") String secretKey) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
 
     /**
      * Generates a token for a newly registered user.
@@ -67,23 +79,30 @@ public class JwtProvider {
                 .claim("roles", role)
                 .setIssuedAt(currentDate)
                 .setExpiration(expiringDate)
-                .signWith(getSigningKey(), HS512)
+                .signWith(signingKey, HS512)
                 .compact();
     }
 
+    /**
+     * Parses and verifies a JWT once, returning its claims.
+     * @param token the JWT string
+     * @return the verified claims of the token
+     */
+    public Claims validateAndGetClaims(final String token) {
+        try {
+            return jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AuthenticationCredentialsNotFoundException("JWT Token is not valid, it could be because it's expired or incorrect.");
+        }
+    }
+
     /**
      * Extracts the username from a given JWT.
      * @param token the JWT string
      * @return the username contained in the token
      */
     public String getUsernameFromJWT(final String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+        return validateAndGetClaims(token).getSubject();
     }
 
     /**
@@ -92,21 +111,8 @@ public class JwtProvider {
      * @return true if valid
      */
     public boolean validateToken(final String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
-            log.info("JWT is valid.");
-            return true;
-        } catch (Exception e) {
-            throw new AuthenticationCredentialsNotFoundException("JWT Token is not valid, it could be because it's expired or incorrect.");
-        }
-    }
-
-    /**
-     * Decodes the secret key and prepares it for HMAC-512 signing.
-     * @return the signing key
-     */
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        validateAndGetClaims(token);
+        log.debug("JWT is valid.");
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,160 @@
+package com.andreea.ticket_tracker.security.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, time-limited cache of authenticated principals keyed by username.
+ * Keeps the JWT filter from reading the users table on every request.
+ * Principals are loaded outside the lock; an invalidation during a load cancels it, so a principal read
+ * before a change is never cached after it.
+ */
+@Component
+public class PrincipalCache {
+
+    /**
+     * Principals are loaded from the database and cached.
+     */
+    public static final String MODE_DATABASE = "database";
+
+    /**
+     * Principals are built from the JWT claims without any database access.
+     */
+    public static final String MODE_CLAIMS = "claims";
+
+    private final String mode;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+    private final Map<String, Object> loading = new HashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PrincipalCache(@Value("${app.security.principal-cache.mode:database}") String mode,
+                          @Value("${app.security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                          @Value("${app.security.principal-cache.max-size:10000}") int maxSize) {
+        this.mode = mode;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Checks if principals should be built from the token claims.
+     * @return true if the claims mode is active
+     */
+    public boolean isClaimsMode() {
+        return MODE_CLAIMS.equalsIgnoreCase(mode);
+    }
+
+    /**
+     * Returns the cached principal, loading it if missing or expired.
+     * @param username the username of the principal
+     * @param loader the function used to load the principal on a miss
+     * @return the principal details
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        long now = System.currentTimeMillis();
+        Object load = new Object();
+
+        synchronized (entries) {
+            Entry entry = entries.get(username);
+            if (entry != null && entry.expiresAt > now) {
+                hits.increment();
+                return entry.userDetails;
+            }
+            loading.put(username, load);
+        }
+
+        misses.increment();
+        UserDetails userDetails = null;
+
+        try {
+            userDetails = loader.apply(username);
+        } finally {
+            synchronized (entries) {
+                if (loading.remove(username, load) && userDetails != null) {
+                    entries.put(username, new Entry(userDetails, now + ttlMillis));
+                }
+            }
+        }
+
+        return userDetails;
+    }
+
+    /**
+     * Builds a principal straight from the username and role claims.
+     * @param username the token subject
+     * @param role the role claim
+     * @return the principal details
+     */
+    public UserDetails fromClaims(String username, String role) {
+        return new org.springframework.security.core.userdetails.User(username, "", Collections.singleton(new SimpleGrantedAuthority(role)));
+    }
+
+    /**
+     * Removes a principal so the next request reloads it, and keeps any load already running from caching it.
+     * @param username the username of the principal
+     */
+    public void invalidate(String username) {
+        if (username == null) {
+            return;
+        }
+
+        synchronized (entries) {
+            entries.remove(username);
+            loading.remove(username);
+        }
+    }
+
+    /**
+     * Removes all cached principals.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            loading.clear();
+        }
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache since startup.
+     * @return the hit count
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to load the principal since startup.
+     * @return the miss count
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of cached principals.
+     * @return the cache size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry(UserDetails userDetails, long expiresAt) {
+    }
+}
@@ -0,0 +1,202 @@
+package com.andreea.ticket_tracker.security.config;
+
+import com.andreea.ticket_tracker.entity.ProjectMembershipChanged;
+import com.andreea.ticket_tracker.repository.ProjectRepository;
+import com.andreea.ticket_tracker.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * In-memory index of project memberships, holding the member IDs of each project and the project IDs of each user
+ * as sorted primitive arrays. Entries are loaded on first use and dropped once a membership change commits,
+ * so access checks only reach the database the first time a project or user is seen.
+ * The caches are bounded and entries expire after a while, which also limits how long another instance
+ * keeps granting a membership removed elsewhere. When disabled, every check falls back to a single existence query.
+ */
+@Component
+public class ProjectMembershipIndex {
+
+    private static final long[] NONE = new long[0];
+
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final boolean enabled;
+
+    private final Cache<Long, long[]> membersByProject;
+    private final Cache<Long, long[]> projectsByUser;
+    private final Cache<String, Long> userIds;
+
+    public ProjectMembershipIndex(ProjectRepository projectRepository,
+                                  UserRepository userRepository,
+                                  @Value("${app.security.membership-index.enabled:true}") boolean enabled,
+                                  @Value("${app.security.membership-index.ttl-seconds:60}") long ttlSeconds,
+                                  @Value("${app.security.membership-index.max-size:10000}") long maxSize) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.membersByProject = newCache(ttlSeconds, maxSize);
+        this.projectsByUser = newCache(ttlSeconds, maxSize);
+        this.userIds = newCache(ttlSeconds, maxSize);
+    }
+
+    /**
+     * Checks if a user is a member of a project.
+     * @param projectId the ID of the project
+     * @param username the username of the user
+     * @return true if the user is a member of the project
+     */
+    public boolean isMember(Long projectId, String username) {
+        if (projectId == null || username == null) {
+            return false;
+        }
+        if (!enabled) {
+            return projectRepository.existsByProjectIdAndUsername(projectId, username);
+        }
+
+        Long userId = userId(username);
+        return userId != null && isMember(projectId, userId);
+    }
+
+    /**
+     * Checks if a user is a member of a project.
+     * @param projectId the ID of the project
+     * @param userId the ID of the user
+     * @return true if the user is a member of the project
+     */
+    public boolean isMember(Long projectId, Long userId) {
+        if (projectId == null || userId == null) {
+            return false;
+        }
+        if (!enabled) {
+            return projectRepository.existsByProjectIdAndUserId(projectId, userId);
+        }
+
+        long[] members = membersByProject.get(projectId, id -> sorted(projectRepository.findMemberIds(id)));
+        return Arrays.binarySearch(members, userId) >= 0;
+    }
+
+    /**
+     * Returns the IDs of the projects a user is a member of.
+     * @param username the username of the user
+     * @return the IDs of the user's projects
+     */
+    public List<Long> projectIdsOf(String username) {
+        if (!enabled) {
+            return projectRepository.findIdsByMember(username);
+        }
+
+        Long userId = userId(username);
+        if (userId == null) {
+            return List.of();
+        }
+
+        long[] projectIds = projectsByUser.get(userId, id -> sorted(projectRepository.findIdsByMemberId(id)));
+        return Arrays.stream(projectIds).boxed().toList();
+    }
+
+    /**
+     * Drops the cached members of a project and the cached projects of a user once a membership change commits.
+     * @param event the membership change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(ProjectMembershipChanged event) {
+        if (event.project().getId() != null) {
+            membersByProject.invalidate(event.project().getId());
+        }
+        if (event.user().getId() != null) {
+            projectsByUser.invalidate(event.user().getId());
+        }
+    }
+
+    /**
+     * Forgets a deleted project once the current transaction commits.
+     * @param projectId the ID of the project
+     */
+    public void evictProject(Long projectId) {
+        afterCommit(() -> {
+            membersByProject.invalidate(projectId);
+            projectsByUser.invalidateAll();
+        });
+    }
+
+    /**
+     * Forgets a deleted or renamed user once the current transaction commits.
+     * @param username the username of the user
+     */
+    public void evictUser(String username) {
+        if (username == null) {
+            return;
+        }
+
+        afterCommit(() -> {
+            Long userId = userIds.asMap().remove(username);
+            if (userId != null) {
+                projectsByUser.invalidate(userId);
+            }
+        });
+    }
+
+    /**
+     * Resolves a username to a user ID, remembering only users that exist.
+     * @param username the username of the user
+     * @return the user ID, or null if there is no such user
+     */
+    private Long userId(String username) {
+        Long userId = userIds.getIfPresent(username);
+        if (userId != null) {
+            return userId;
+        }
+
+        userId = userRepository.findIdByUsername(username).orElse(null);
+        if (userId != null) {
+            userIds.put(username, userId);
+        }
+
+        return userId;
+    }
+
+    /**
+     * Runs an eviction after the current transaction commits, so a concurrent read cannot cache the old state again,
+     * or immediately outside a transaction.
+     * @param eviction the eviction to run
+     */
+    private static void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    private static <K, V> Cache<K, V> newCache(long ttlSeconds, long maxSize) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    private static long[] sorted(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return NONE;
+        }
+
+        long[] sorted = ids.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
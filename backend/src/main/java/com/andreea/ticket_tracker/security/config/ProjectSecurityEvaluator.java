@@ -1,17 +1,28 @@
 package com.andreea.ticket_tracker.security.config;
 
 import com.andreea.ticket_tracker.entity.Project;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.util.List;
+
 /**
  * Evaluates user permissions for project-related actions.
+ * Membership is answered by the {@link ProjectMembershipIndex}, without loading the project members.
  */
 @Component
+@Timed("app.security.membership")
 public class ProjectSecurityEvaluator {
 
+    private final ProjectMembershipIndex membershipIndex;
+
+    public ProjectSecurityEvaluator(ProjectMembershipIndex membershipIndex) {
+        this.membershipIndex = membershipIndex;
+    }
+
     /**
      * Checks if the current user is an admin or a member of the given project.
      * @param project the project to validate access
@@ -23,20 +34,44 @@ public class ProjectSecurityEvaluator {
             throw new AccessDeniedException("User is not authenticated");
         }
 
-        String currentUsername = auth.getName();
-
         boolean isAdmin = auth.getAuthorities().stream()
                 .anyMatch(a -> a.getAuthority().equals("ADMIN") ||
                         a.getAuthority().equals("ROLE_ADMIN"));
 
-        boolean isMember = project.getUsers().stream()
-                .anyMatch(u -> u.getUsername().equals(currentUsername));
-
-        if (!isAdmin && !isMember) {
+        if (!isAdmin && !membershipIndex.isMember(project.getId(), auth.getName())) {
             throw new AccessDeniedException("You do not have permission to access this project.");
         }
     }
 
+    /**
+     * Checks if the current user is an admin or a member of a project, without loading the project.
+     * @param projectId the ID of the project
+     * @return true if the user may access the project
+     */
+    public boolean canAccess(Long projectId) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && (isUserAdmin() || membershipIndex.isMember(projectId, auth.getName()));
+    }
+
+    /**
+     * Checks if a user is a member of the given project.
+     * @param project the project to check
+     * @param userId the ID of the user
+     * @return true if the user is a member of the project
+     */
+    public boolean isMember(Project project, Long userId) {
+        return membershipIndex.isMember(project.getId(), userId);
+    }
+
+    /**
+     * Returns the IDs of the projects a user is a member of.
+     * @param username the username of the user
+     * @return the IDs of the user's projects
+     */
+    public List<Long> getMemberProjectIds(String username) {
+        return membershipIndex.projectIdsOf(username);
+    }
+
     /**
      * Checks if the currently authenticated user has Admin role.
      * @return true if user is admin
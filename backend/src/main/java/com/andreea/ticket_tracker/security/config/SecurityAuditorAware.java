@@ -0,0 +1,32 @@
+package com.andreea.ticket_tracker.security.config;
+
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Supplies the username recorded in the createdBy and updatedBy columns.
+ * Writes made outside a request, such as scheduled jobs, leave the columns unchanged.
+ */
+@Component
+public class SecurityAuditorAware implements AuditorAware<String> {
+
+    /**
+     * Returns the username of the authenticated user.
+     * @return the username, or empty for anonymous and background writes
+     */
+    @Override
+    public Optional<String> getCurrentAuditor() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+
+        return Optional.of(auth.getName());
+    }
+}
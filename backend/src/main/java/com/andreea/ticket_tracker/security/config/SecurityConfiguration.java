@@ -1,6 +1,10 @@
 package com.andreea.ticket_tracker.security.config;
 
 import com.andreea.ticket_tracker.entity.Role;
+import com.andreea.ticket_tracker.threading.WorkerThreads;
+import com.andreea.ticket_tracker.websocket.WebSocketConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,6 +31,8 @@ public class SecurityConfiguration {
 
     private final JwtProvider tokenGenerator;
     private final CustomUserDetailsService customUserDetailsService;
+    private final PrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
 
     private static final String[] SWAGGER_WHITELIST = {
             "/v2/api-docs",
@@ -46,6 +52,8 @@ public class SecurityConfiguration {
     private static final String PROJECTS_ALL_ENDPOINTS = "/api/v1/projects/**";
     private static final String TICKETS_ALL_ENDPOINTS = "/api/v1/tickets/**";
     private static final String USERS_MANAGEMENT_ENDPOINT = "/api/v1/auth/users/**";
+    private static final String HEALTH_ENDPOINT = "/actuator/health";
+    private static final String ACTUATOR_ALL_ENDPOINTS = "/actuator/**";
 
     /**
      * Configures HTTP security access control for endpoints.
@@ -62,6 +70,7 @@ public class SecurityConfiguration {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(authorize -> authorize
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.POST, PROJECTS_ALL_ENDPOINTS).hasAnyAuthority(Role.ADMIN.name())
                         .requestMatchers(HttpMethod.GET, PROJECTS_ALL_ENDPOINTS).hasAnyAuthority(Role.USER.name(),Role.ADMIN.name(),Role.MANAGER.name())
                         .requestMatchers(HttpMethod.PUT, PROJECTS_ALL_ENDPOINTS).hasAnyAuthority(Role.ADMIN.name())
@@ -79,6 +88,7 @@ public class SecurityConfiguration {
 
                         .requestMatchers(HttpMethod.PUT, "/api/v1/auth/users/profile-picture").hasAnyAuthority(Role.USER.name(), Role.ADMIN.name(), Role.MANAGER.name())
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/auth/users/profile-picture").hasAnyAuthority(Role.USER.name(), Role.ADMIN.name(), Role.MANAGER.name())
+                        .requestMatchers(HttpMethod.GET, "/api/v1/auth/users/*/profile-picture").hasAnyAuthority(Role.USER.name(), Role.ADMIN.name(), Role.MANAGER.name())
 
                         .requestMatchers(HttpMethod.POST, REGISTER_ENDPOINT).hasAnyAuthority(Role.ADMIN.name())
                         .requestMatchers(HttpMethod.GET, USERS_MANAGEMENT_ENDPOINT).hasAuthority(Role.ADMIN.name())
@@ -86,6 +96,9 @@ public class SecurityConfiguration {
                         .requestMatchers(HttpMethod.DELETE, USERS_MANAGEMENT_ENDPOINT).hasAuthority(Role.ADMIN.name())
                         .requestMatchers(HttpMethod.POST, AUTHENTICATE_ENDPOINT).permitAll()
                         .requestMatchers(SWAGGER_WHITELIST).permitAll()
+                        .requestMatchers(HttpMethod.GET, HEALTH_ENDPOINT).permitAll()
+                        .requestMatchers(HttpMethod.GET, ACTUATOR_ALL_ENDPOINTS).hasAuthority(Role.ADMIN.name())
+                        .requestMatchers(WebSocketConfiguration.ENDPOINT).permitAll()
                         .anyRequest().authenticated()
                 );
 
@@ -106,10 +119,15 @@ public class SecurityConfiguration {
 
     /**
      * Defines the password hashing algorithm.
+     * In virtual thread mode, at most half the cores hash passwords at once, so logins cannot take over every carrier thread.
+     * @param workerThreads tells whether virtual thread mode is active
      * @return the password encoder instance
      */
     @Bean
-    PasswordEncoder passwordEncoder() {
+    PasswordEncoder passwordEncoder(WorkerThreads workerThreads) {
+        if (workerThreads.isVirtual()) {
+            return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        }
         return new BCryptPasswordEncoder();
     }
 
@@ -119,6 +137,6 @@ public class SecurityConfiguration {
      */
     @Bean
     public JwtAuthFilter jwtAuthenticationFilter() {
-        return new JwtAuthFilter(tokenGenerator, customUserDetailsService);
+        return new JwtAuthFilter(tokenGenerator, customUserDetailsService, principalCache, meterRegistry);
     }
 }
@@ -2,35 +2,61 @@ package com.andreea.ticket_tracker.services;
 
 import com.andreea.ticket_tracker.dto.request.BoardRequestDTO;
 import com.andreea.ticket_tracker.dto.response.BoardResponseDTO;
+import com.andreea.ticket_tracker.dto.response.DeletionJobDTO;
+import com.andreea.ticket_tracker.dto.response.PageResponseDTO;
 import com.andreea.ticket_tracker.entity.Board;
 import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.events.BoardEventBroadcaster;
 import com.andreea.ticket_tracker.exceptions.BoardNotFoundException;
 import com.andreea.ticket_tracker.exceptions.ProjectNotFoundException;
 import com.andreea.ticket_tracker.mapper.BoardDTOMapper;
+import com.andreea.ticket_tracker.pagination.KeysetCursor;
+import com.andreea.ticket_tracker.pagination.PageBuilder;
 import com.andreea.ticket_tracker.repository.BoardRepository;
+import com.andreea.ticket_tracker.repository.EntityCacheEvictor;
 import com.andreea.ticket_tracker.repository.ProjectRepository;
+import com.andreea.ticket_tracker.repository.TicketRepository;
+import com.andreea.ticket_tracker.repository.projection.EntityCount;
+import com.andreea.ticket_tracker.search.TicketIndexListener;
 import com.andreea.ticket_tracker.security.config.ProjectSecurityEvaluator;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service class that handles all business logic for Boards.
  */
 @Service
+@Timed("app.service")
 public class BoardService {
 
     private final BoardRepository boardRepository;
     private final ProjectRepository projectRepository;
     private final ProjectSecurityEvaluator projectSecurity;
+    private final TicketRepository ticketRepository;
+    private final BoardEventBroadcaster boardEventBroadcaster;
+    private final BoardVersions boardVersions;
+    private final TicketIndexListener ticketIndexListener;
+    private final DeletionJobService deletionJobService;
+    private final EntityCacheEvictor entityCacheEvictor;
 
     @Autowired
-    public BoardService(BoardRepository boardRepository, ProjectRepository projectRepository, ProjectSecurityEvaluator projectSecurity) {
+    public BoardService(BoardRepository boardRepository, ProjectRepository projectRepository, ProjectSecurityEvaluator projectSecurity, TicketRepository ticketRepository, BoardEventBroadcaster boardEventBroadcaster, BoardVersions boardVersions, TicketIndexListener ticketIndexListener, DeletionJobService deletionJobService, EntityCacheEvictor entityCacheEvictor) {
         this.boardRepository = boardRepository;
         this.projectRepository = projectRepository;
         this.projectSecurity = projectSecurity;
+        this.ticketRepository = ticketRepository;
+        this.boardEventBroadcaster = boardEventBroadcaster;
+        this.boardVersions = boardVersions;
+        this.ticketIndexListener = ticketIndexListener;
+        this.deletionJobService = deletionJobService;
+        this.entityCacheEvictor = entityCacheEvictor;
     }
 
     /**
@@ -46,13 +72,14 @@ public class BoardService {
       Board board = BoardDTOMapper.toEntity(dto, project);
 
       Board savedBoard = boardRepository.save(board);
-      return BoardDTOMapper.toDTO(savedBoard);
+      return BoardDTOMapper.toDTO(savedBoard, 0);
     }
 
     /**
      * Retrieves all boards visible to the current user.
      * @return a list of boards
      */
+    @Transactional(readOnly = true)
     public List<BoardResponseDTO> getAllBoards() {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
 
@@ -60,7 +87,26 @@ public class BoardService {
                 ? boardRepository.findAll()
                 : boardRepository.findAllByUser(username);
 
-        return boards.stream().map(BoardDTOMapper::toDTO).toList();
+        return toDTOs(boards);
+    }
+
+    /**
+     * Retrieves one page of the boards visible to the current user, ordered by ID.
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the maximum number of boards to return
+     * @return the page of boards and the cursor of the next page
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDTO<BoardResponseDTO> getBoardsPage(String cursor, int size) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        List<Board> boards = projectSecurity.isUserAdmin()
+                ? boardRepository.findPageAfter(after.id(), KeysetCursor.limit(size))
+                : boardRepository.findPageByUserAfter(username, after.id(), KeysetCursor.limit(size));
+
+        Map<Long, Long> ticketCounts = countTickets(boards);
+        return PageBuilder.build(boards, size, b -> BoardDTOMapper.toDTO(b, ticketCounts.getOrDefault(b.getId(), 0L)), b -> new KeysetCursor(null, b.getId()));
     }
 
     /**
@@ -68,17 +114,18 @@ public class BoardService {
      * @param id the ID of the board
      * @return the board details as a DTO
      */
+    @Transactional(readOnly = true)
     public BoardResponseDTO getBoard(Long id){
         Board board = boardRepository.findById(id)
                 .orElseThrow(BoardNotFoundException::new);
 
         projectSecurity.validateUserAccess(board.getProject());
 
-        return BoardDTOMapper.toDTO(board);
+        return BoardDTOMapper.toDTO(board, ticketRepository.countByBoardId(id));
     }
 
     /**
-     * Updates board details.
+     * Updates board details. When the board moves to another project, its tickets are indexed again under the new project.
      * @param id the ID of the board to update
      * @param dto the new board data
      * @return the updated board details
@@ -88,6 +135,7 @@ public class BoardService {
                 .orElseThrow(BoardNotFoundException::new);
 
         projectSecurity.validateUserAccess(board.getProject());
+        Long previousProjectId = board.getProject().getId();
 
         board.setName(dto.getName());
         board.setDescription(dto.getDescription());
@@ -99,19 +147,44 @@ public class BoardService {
         }
 
         Board savedBoard = boardRepository.save(board);
-        return BoardDTOMapper.toDTO(savedBoard);
+        boardVersions.evictProject(id);
+        if (!savedBoard.getProject().getId().equals(previousProjectId)) {
+            ticketIndexListener.onMoveBoard(ticketRepository.findForIndexByBoardId(id));
+        }
+        return BoardDTOMapper.toDTO(savedBoard, ticketRepository.countByBoardId(id));
     }
 
     /**
-     * Deletes a board from the database.
+     * Soft deletes a board, which hides its tickets as well, and queues a job that hard deletes both in the background.
      * @param id the ID of the board to remove
+     * @return the queued deletion job
      */
-    public void deleteBoard(Long id){
+    public DeletionJobDTO deleteBoard(Long id){
         Board board = boardRepository.findById(id)
                 .orElseThrow(BoardNotFoundException::new);
 
         projectSecurity.validateUserAccess(board.getProject());
-        boardRepository.deleteById(id);
+        board.markDeleted();
+        boardRepository.save(board);
+        entityCacheEvictor.evictBoard(id);
+        ticketIndexListener.onRemoveBoard(id);
+        boardEventBroadcaster.closeBoard(id);
+        boardVersions.evict(id);
+        return deletionJobService.submitBoard(id);
+    }
+
+    /**
+     * Opens a stream of the ticket changes of a board.
+     * @param id the ID of the board
+     * @param lastEventId the ID of the last event received before a reconnect, or null
+     * @return the event stream
+     */
+    public SseEmitter subscribeToEvents(Long id, Long lastEventId){
+        Board board = boardRepository.findById(id)
+                .orElseThrow(BoardNotFoundException::new);
+
+        projectSecurity.validateUserAccess(board.getProject());
+        return boardEventBroadcaster.subscribe(id, lastEventId);
     }
 
     /**
@@ -119,6 +192,7 @@ public class BoardService {
      * @param projectId the ID of the project
      * @return a list of boards associated with the project
      */
+    @Transactional(readOnly = true)
     public List<BoardResponseDTO> getBoardsByProjectId(Long projectId) {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
 
@@ -128,6 +202,32 @@ public class BoardService {
                 ? boardRepository.findByProjectId(projectId)
                 : boardRepository.findAllByProjectAndUser(projectId, username);
 
-        return boards.stream().map(BoardDTOMapper::toDTO).toList();
+        return toDTOs(boards);
+    }
+
+    /**
+     * Converts boards to DTOs, counting their tickets with a single aggregate query.
+     * @param boards the boards to convert
+     * @return the board DTOs
+     */
+    private List<BoardResponseDTO> toDTOs(List<Board> boards) {
+        Map<Long, Long> ticketCounts = countTickets(boards);
+
+        return boards.stream()
+                .map(b -> BoardDTOMapper.toDTO(b, ticketCounts.getOrDefault(b.getId(), 0L)))
+                .toList();
+    }
+
+    /**
+     * Counts the tickets of the given boards, in chunks of IDs.
+     * @param boards the boards to count tickets for
+     * @return the ticket count per board ID
+     */
+    private Map<Long, Long> countTickets(List<Board> boards) {
+        if (boards.isEmpty()) {
+            return Map.of();
+        }
+
+        return EntityCount.countInChunks(boards.stream().map(Board::getId).toList(), ticketRepository::countByBoardIds);
     }
 }
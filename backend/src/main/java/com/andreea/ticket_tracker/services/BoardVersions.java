@@ -0,0 +1,202 @@
+package com.andreea.ticket_tracker.services;
+
+import com.andreea.ticket_tracker.events.TicketChanged;
+import com.andreea.ticket_tracker.events.TicketEventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Tracks a version of the ticket list of each board, bumped after every committed ticket write.
+ * Versions are epoch milliseconds from a clock that never repeats a value, so they compare with
+ * {@code updatedAt} and stay unique across restarts; a board not written since startup has the startup version.
+ * Also remembers the tickets that recently left each board, so clients can sync only what changed,
+ * and the project of each board, so unchanged lists can be validated without reading the database.
+ */
+@Component
+public class BoardVersions {
+
+    private final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+    private final long startedAt = clock.get();
+    private final Map<Long, State> boards = new ConcurrentHashMap<>();
+    private final int maxRemovals;
+    private final long overlapMillis;
+
+    public BoardVersions(@Value("${app.tickets.sync.max-removals:1000}") int maxRemovals,
+                         @Value("${app.tickets.sync.overlap-ms:10000}") long overlapMillis) {
+        this.maxRemovals = maxRemovals;
+        this.overlapMillis = overlapMillis;
+    }
+
+    /**
+     * Returns the current version of the ticket list of a board.
+     * @param boardId the ID of the board
+     * @return the version
+     */
+    public long version(Long boardId) {
+        State state = boards.get(boardId);
+        return state != null ? state.version : startedAt;
+    }
+
+    /**
+     * Builds the strong entity tag of a version of a board's ticket list.
+     * @param boardId the ID of the board
+     * @param version the version
+     * @return the quoted entity tag
+     */
+    public static String etag(Long boardId, long version) {
+        return "\"" + boardId + "-" + version + "\"";
+    }
+
+    /**
+     * Moves a board to a new version.
+     * @param boardId the ID of the board
+     * @return the new version
+     */
+    public long bump(Long boardId) {
+        State state = state(boardId);
+        synchronized (state) {
+            state.version = tick();
+            return state.version;
+        }
+    }
+
+    /**
+     * Bumps the version of every board a committed ticket change touched,
+     * and remembers tickets that were deleted from a board or moved off it.
+     * @param change the ticket change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChanged change) {
+        boolean removed = change.type() == TicketEventType.DELETED
+                || (change.ticket() != null && !change.boardId().equals(change.ticket().getBoardId()));
+
+        State state = state(change.boardId());
+        synchronized (state) {
+            state.version = tick();
+            if (removed) {
+                state.removals.add(new Removal(change.ticketId(), state.version));
+                if (state.removals.size() > maxRemovals) {
+                    state.horizon = state.removals.remove().version();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the update time after which tickets may have changed since a version.
+     * Tickets are stamped when written but versions are taken at commit, so a write still running when
+     * the client read the board can carry an earlier stamp; the window goes back far enough to include it.
+     * @param since the version the client last saw
+     * @return the earliest update time to look for
+     */
+    public Instant changedAfter(long since) {
+        return Instant.ofEpochMilli(since - overlapMillis);
+    }
+
+    /**
+     * Returns the IDs of the tickets that left a board after a version.
+     * @param boardId the ID of the board
+     * @param since the version the client last saw
+     * @return the removed ticket IDs, or empty if removals that old are no longer kept
+     */
+    public Optional<List<Long>> removedSince(Long boardId, long since) {
+        State state = boards.get(boardId);
+        if (state == null) {
+            return since >= startedAt ? Optional.of(List.of()) : Optional.empty();
+        }
+
+        synchronized (state) {
+            if (since < state.horizon || since > state.version) {
+                return Optional.empty();
+            }
+            return Optional.of(state.removals.stream()
+                    .filter(removal -> removal.version() > since)
+                    .map(Removal::ticketId)
+                    .toList());
+        }
+    }
+
+    /**
+     * Returns the ID of the project a board belongs to, loading it on first use.
+     * @param boardId the ID of the board
+     * @param loader the function used to load the project ID on a miss
+     * @return the ID of the project
+     */
+    public Long projectId(Long boardId, Supplier<Long> loader) {
+        State state = state(boardId);
+        Long projectId = state.projectId;
+        if (projectId == null) {
+            projectId = loader.get();
+            state.projectId = projectId;
+        }
+        return projectId;
+    }
+
+    /**
+     * Forgets the project of a board whose project changed.
+     * @param boardId the ID of the board
+     */
+    public void evictProject(Long boardId) {
+        State state = boards.get(boardId);
+        if (state != null) {
+            state.projectId = null;
+        }
+    }
+
+    /**
+     * Forgets a deleted board.
+     * @param boardId the ID of the board
+     */
+    public void evict(Long boardId) {
+        boards.remove(boardId);
+    }
+
+    /**
+     * Forgets every board of a deleted project.
+     * @param projectId the ID of the project
+     */
+    public void evictBoardsOfProject(Long projectId) {
+        boards.values().removeIf(state -> projectId.equals(state.projectId));
+    }
+
+    private State state(Long boardId) {
+        return boards.computeIfAbsent(boardId, id -> new State(startedAt));
+    }
+
+    /**
+     * Returns the current time in milliseconds, or one more than the last value if the clock has not moved.
+     */
+    private long tick() {
+        return clock.updateAndGet(last -> Math.max(last + 1, System.currentTimeMillis()));
+    }
+
+    /**
+     * Version, project and recent removals of one board.
+     */
+    private static final class State {
+
+        private volatile long version;
+        private volatile Long projectId;
+        private final Queue<Removal> removals = new ArrayDeque<>();
+        private long horizon;
+
+        private State(long startedAt) {
+            this.version = startedAt;
+            this.horizon = startedAt;
+        }
+    }
+
+    private record Removal(Long ticketId, long version) {
+    }
+}
@@ -0,0 +1,207 @@
+package com.andreea.ticket_tracker.services;
+
+import com.andreea.ticket_tracker.dto.response.DeletionJobDTO;
+import com.andreea.ticket_tracker.exceptions.DeletionJobNotFoundException;
+import com.andreea.ticket_tracker.jobs.DeletionJob;
+import com.andreea.ticket_tracker.jobs.DeletionJobType;
+import com.andreea.ticket_tracker.mapper.DeletionJobDTOMapper;
+import com.andreea.ticket_tracker.repository.BoardRepository;
+import com.andreea.ticket_tracker.repository.ProjectRepository;
+import com.andreea.ticket_tracker.repository.TicketRepository;
+import com.andreea.ticket_tracker.security.config.ProjectSecurityEvaluator;
+import com.andreea.ticket_tracker.threading.WorkerThreads;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Runs the hard deletion of soft deleted projects and boards in the background.
+ * A board's tickets are removed in chunks, each committed on its own, then the boards themselves
+ * and finally the project with its memberships, so a large project never holds locks in one transaction.
+ * Job state is kept in memory for a while after it finishes so clients can poll it;
+ * rows of a job lost on restart are still hidden, and the purger removes them later.
+ */
+@Service
+@Slf4j
+public class DeletionJobService {
+
+    private final TicketRepository ticketRepository;
+    private final BoardRepository boardRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectSecurityEvaluator projectSecurity;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workers;
+    private final Map<String, DeletionJob> jobs = new ConcurrentHashMap<>();
+
+    private final int chunkSize;
+    private final long retentionSeconds;
+
+    public DeletionJobService(TicketRepository ticketRepository,
+                              BoardRepository boardRepository,
+                              ProjectRepository projectRepository,
+                              ProjectSecurityEvaluator projectSecurity,
+                              PlatformTransactionManager transactionManager,
+                              WorkerThreads workerThreads,
+                              @Value("${app.deletion.workers:1}") int workers,
+                              @Value("${app.deletion.chunk-size:500}") int chunkSize,
+                              @Value("${app.deletion.retention-seconds:3600}") long retentionSeconds) {
+        this.ticketRepository = ticketRepository;
+        this.boardRepository = boardRepository;
+        this.projectRepository = projectRepository;
+        this.projectSecurity = projectSecurity;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = workerThreads.newPool("deletion-job", workers);
+        this.chunkSize = chunkSize;
+        this.retentionSeconds = retentionSeconds;
+    }
+
+    /**
+     * Queues the hard deletion of a soft deleted project, its boards and their tickets.
+     * The job starts once the current transaction commits, or immediately outside a transaction.
+     * @param projectId the ID of the project
+     * @return the queued job
+     */
+    public DeletionJobDTO submitProject(Long projectId) {
+        return submit(DeletionJobType.PROJECT, projectId);
+    }
+
+    /**
+     * Queues the hard deletion of a soft deleted board and its tickets.
+     * The job starts once the current transaction commits, or immediately outside a transaction.
+     * @param boardId the ID of the board
+     * @return the queued job
+     */
+    public DeletionJobDTO submitBoard(Long boardId) {
+        return submit(DeletionJobType.BOARD, boardId);
+    }
+
+    /**
+     * Retrieves the progress of a deletion job started by the current user, or by anyone for admins.
+     * @param id the ID of the job
+     * @return the job
+     */
+    public DeletionJobDTO getJob(String id) {
+        DeletionJob job = jobs.get(id);
+
+        if (job == null || !(projectSecurity.isUserAdmin() || Objects.equals(job.getRequestedBy(), currentUsername()))) {
+            throw new DeletionJobNotFoundException();
+        }
+
+        return DeletionJobDTOMapper.toDTO(job);
+    }
+
+    /**
+     * Stops the worker pool on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private DeletionJobDTO submit(DeletionJobType type, Long targetId) {
+        pruneFinished();
+
+        DeletionJob job = new DeletionJob(UUID.randomUUID().toString(), type, targetId, currentUsername());
+        jobs.put(job.getId(), job);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    workers.execute(() -> run(job));
+                }
+            });
+        } else {
+            workers.execute(() -> run(job));
+        }
+
+        return DeletionJobDTOMapper.toDTO(job);
+    }
+
+    /**
+     * Deletes the tickets board by board, then the boards, then the project.
+     * @param job the job to run
+     */
+    private void run(DeletionJob job) {
+        try {
+            List<Long> boardIds = job.getType() == DeletionJobType.PROJECT
+                    ? boardRepository.findAllIdsByProjectId(job.getTargetId())
+                    : List.of(job.getTargetId());
+
+            job.start(boardIds.isEmpty() ? 0 : ticketRepository.countAllByBoardIds(boardIds));
+
+            for (int from = 0; from < boardIds.size(); from += chunkSize) {
+                List<Long> boards = boardIds.subList(from, Math.min(from + chunkSize, boardIds.size()));
+
+                deleteTickets(job, boards);
+                transactionTemplate.executeWithoutResult(status -> boardRepository.purgeAllById(boards));
+                job.boardsDeleted(boards.size());
+            }
+
+            if (job.getType() == DeletionJobType.PROJECT) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    projectRepository.purgeMembersByProjectIds(List.of(job.getTargetId()));
+                    projectRepository.purgeAllById(List.of(job.getTargetId()));
+                });
+            }
+
+            job.complete();
+            log.info("Deletion job {} removed {} {} with {} boards and {} tickets",
+                    job.getId(), job.getType(), job.getTargetId(), job.getDeletedBoards(), job.getDeletedTickets());
+        } catch (RuntimeException e) {
+            log.error("Deletion job {} of {} {} failed", job.getId(), job.getType(), job.getTargetId(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the tickets of some boards one chunk per transaction until a chunk comes back short.
+     * @param job the running job
+     * @param boardIds the IDs of the boards
+     */
+    private void deleteTickets(DeletionJob job, List<Long> boardIds) {
+        Pageable chunk = PageRequest.ofSize(chunkSize);
+        List<Long> ids;
+
+        do {
+            ids = transactionTemplate.execute(status -> {
+                List<Long> batch = ticketRepository.findAllIdsByBoardIds(boardIds, chunk);
+                if (!batch.isEmpty()) {
+                    ticketRepository.purgeAllById(batch);
+                }
+                return batch;
+            });
+            job.ticketsDeleted(ids.size());
+        } while (ids.size() == chunkSize);
+    }
+
+    /**
+     * Forgets jobs that finished longer ago than the retention period.
+     */
+    private void pruneFinished() {
+        Instant cutoff = Instant.now().minusSeconds(retentionSeconds);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    private static String currentUsername() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null ? auth.getName() : null;
+    }
+}
@@ -0,0 +1,262 @@
+package com.andreea.ticket_tracker.services;
+
+import com.andreea.ticket_tracker.entity.EmailNotification;
+import com.andreea.ticket_tracker.entity.EmailStatus;
+import com.andreea.ticket_tracker.repository.EmailNotificationRepository;
+import com.andreea.ticket_tracker.threading.WorkerThreads;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Background worker that drains the email outbox.
+ * Due notifications are first claimed in a short transaction, so no other worker or instance picks them up
+ * and no more notifications are merged into them, then split across a bounded pool of senders, each sending
+ * its share over one SMTP connection. Failed sends are retried with exponential backoff, and claims left
+ * behind by a stopped worker expire after the claim timeout.
+ */
+@Component
+@Slf4j
+public class EmailOutboxWorker {
+
+    private final EmailNotificationRepository emailNotificationRepository;
+    private final EmailService emailService;
+    private final ExecutorService senders;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int workers;
+    private final int maxAttempts;
+    private final long backoffSeconds;
+    private final long claimTimeoutSeconds;
+
+    public EmailOutboxWorker(EmailNotificationRepository emailNotificationRepository,
+                             EmailService emailService,
+                             WorkerThreads workerThreads,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.mail.outbox.enabled:true}") boolean enabled,
+                             @Value("${app.mail.outbox.batch-size:50}") int batchSize,
+                             @Value("${app.mail.outbox.workers:2}") int workers,
+                             @Value("${app.mail.outbox.max-attempts:5}") int maxAttempts,
+                             @Value("${app.mail.outbox.backoff-seconds:30}") long backoffSeconds,
+                             @Value("${app.mail.outbox.claim-timeout-seconds:300}") long claimTimeoutSeconds) {
+        this.emailNotificationRepository = emailNotificationRepository;
+        this.emailService = emailService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.maxAttempts = maxAttempts;
+        this.backoffSeconds = backoffSeconds;
+        this.claimTimeoutSeconds = claimTimeoutSeconds;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.senders = workerThreads.newPool("email-sender", workers);
+    }
+
+    /**
+     * Periodically drains the outbox when the worker is enabled.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:5000}")
+    public void scheduledDrain() {
+        if (enabled) {
+            drain();
+        }
+    }
+
+    /**
+     * Sends one batch of due notifications and records the outcome of each.
+     * @return the number of notifications that were sent
+     */
+    public int drain() {
+        return drain(Instant.now());
+    }
+
+    /**
+     * Sends one batch of the notifications due at a given time and records the outcome of each.
+     * @param now the time of the attempt
+     * @return the number of notifications that were sent
+     */
+    int drain(Instant now) {
+        List<EmailNotification> due = claim(now);
+
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        List<List<EmailNotification>> chunks = split(due);
+        List<Future<Map<EmailNotification, Exception>>> results = new ArrayList<>();
+
+        for (List<EmailNotification> chunk : chunks) {
+            Callable<Map<EmailNotification, Exception>> task = () -> emailService.sendBatch(chunk);
+            results.add(senders.submit(task));
+        }
+
+        int sent = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            Map<EmailNotification, Exception> failures = await(results.get(i), chunks.get(i));
+
+            for (EmailNotification notification : chunks.get(i)) {
+                Exception failure = failures.get(notification);
+
+                if (failure == null) {
+                    notification.setStatus(EmailStatus.SENT);
+                    sent++;
+                } else {
+                    scheduleRetry(notification, failure, now);
+                }
+            }
+        }
+
+        saveOutcome(due);
+        log.debug("Email outbox drained: {} sent, {} failed", sent, due.size() - sent);
+
+        return sent;
+    }
+
+    /**
+     * Marks a batch of due notifications as being sent, committing before anything is sent.
+     * @param now the time of the attempt
+     * @return the claimed notifications
+     */
+    private List<EmailNotification> claim(Instant now) {
+        return transactionTemplate.execute(status -> {
+            List<EmailNotification> due = emailNotificationRepository.findDue(now, PageRequest.ofSize(batchSize));
+
+            for (EmailNotification notification : due) {
+                notification.setStatus(EmailStatus.SENDING);
+                notification.setNextAttemptAt(now.plusSeconds(claimTimeoutSeconds));
+            }
+
+            emailNotificationRepository.saveAll(due);
+            return due;
+        });
+    }
+
+    /**
+     * Saves the outcome of a batch. If the batch cannot be saved as a whole, each notification is saved on its own,
+     * so one bad row does not lose the status of emails already delivered and get them sent again.
+     * @param due the notifications of the batch
+     */
+    private void saveOutcome(List<EmailNotification> due) {
+        try {
+            emailNotificationRepository.saveAll(due);
+            return;
+        } catch (DataAccessException e) {
+            log.warn("Could not save the email outbox batch, saving its notifications one by one: {}", e.getMessage());
+        }
+
+        for (EmailNotification notification : due) {
+            try {
+                emailNotificationRepository.save(notification);
+            } catch (OptimisticLockingFailureException e) {
+                log.warn("Email to {} was claimed again before its outcome was saved: {}", notification.getRecipient(), e.getMessage());
+            } catch (DataAccessException e) {
+                log.error("Could not save the outcome of the email to {}: {}", notification.getRecipient(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stops the sender pool on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdown();
+    }
+
+    /**
+     * Records a failed attempt and schedules the next one, or gives up after the maximum attempts.
+     * @param notification the notification that failed
+     * @param failure the cause of the failure
+     * @param now the time of the attempt
+     */
+    private void scheduleRetry(EmailNotification notification, Exception failure, Instant now) {
+        int attempts = notification.getAttempts() + 1;
+
+        notification.setAttempts(attempts);
+        notification.setLastError(truncate(failure.getMessage()));
+
+        if (attempts >= maxAttempts) {
+            notification.setStatus(EmailStatus.FAILED);
+            log.error("Giving up on email to {} after {} attempts: {}", notification.getRecipient(), attempts, failure.getMessage());
+        } else {
+            notification.setStatus(EmailStatus.PENDING);
+            notification.setNextAttemptAt(now.plusSeconds(backoffSeconds << (attempts - 1)));
+            log.warn("Error sending email to {}, retrying: {}", notification.getRecipient(), failure.getMessage());
+        }
+    }
+
+    /**
+     * Cuts a failure message to the length of its column.
+     * @param message the message, may be null
+     * @return the message, at most {@link EmailNotification#LAST_ERROR_LENGTH} characters long
+     */
+    private static String truncate(String message) {
+        if (message == null || message.length() <= EmailNotification.LAST_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, EmailNotification.LAST_ERROR_LENGTH);
+    }
+
+    /**
+     * Splits the batch evenly across the sender pool.
+     * @param due the notifications to send
+     * @return one chunk per sender
+     */
+    private List<List<EmailNotification>> split(List<EmailNotification> due) {
+        int chunkSize = (due.size() + workers - 1) / workers;
+        List<List<EmailNotification>> chunks = new ArrayList<>();
+
+        for (int start = 0; start < due.size(); start += chunkSize) {
+            chunks.add(due.subList(start, Math.min(start + chunkSize, due.size())));
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Waits for a sender to finish, treating an unexpected error as a failure of its whole chunk.
+     * @param result the pending send result
+     * @param chunk the notifications handled by the sender
+     * @return the failed notifications of the chunk
+     */
+    private Map<EmailNotification, Exception> await(Future<Map<EmailNotification, Exception>> result, List<EmailNotification> chunk) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failAll(chunk, e);
+        } catch (ExecutionException e) {
+            return failAll(chunk, e);
+        }
+    }
+
+    /**
+     * Marks every notification of a chunk as failed.
+     * @param chunk the notifications handled by the sender
+     * @param e the cause of the failure
+     * @return the failed notifications of the chunk
+     */
+    private Map<EmailNotification, Exception> failAll(List<EmailNotification> chunk, Exception e) {
+        Map<EmailNotification, Exception> failures = new IdentityHashMap<>();
+        chunk.forEach(n -> failures.put(n, e));
+        return failures;
+    }
+}
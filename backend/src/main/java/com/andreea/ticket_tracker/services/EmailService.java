@@ -1,22 +1,41 @@
 package com.andreea.ticket_tracker.services;
 
+import com.andreea.ticket_tracker.entity.EmailNotification;
+import com.andreea.ticket_tracker.entity.EmailStatus;
+import com.andreea.ticket_tracker.repository.EmailNotificationRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Service class that handles email notifications.
  */
 @Service
+@Timed("app.service")
 public class EmailService {
     @Autowired
     private JavaMailSender mailSender;
 
+    @Autowired
+    private EmailNotificationRepository emailNotificationRepository;
+
     @Value("${spring.mail.username}")
     private String senderEmail;
 
+    @Value("${app.mail.outbox.coalesce-window-seconds:60}")
+    private long coalesceWindowSeconds;
+
     /**
      * Sends a email notification.
      * @param toEmail recipient address
@@ -24,6 +43,79 @@ public class EmailService {
      * @param body email content
      */
     public void sendSimpleEmail(String toEmail, String subject, String body) {
+        mailSender.send(toMessage(toEmail, subject, body));
+    }
+
+    /**
+     * Queues an email notification in the outbox so it is sent outside the request.
+     * A new email is held back for the coalescing window, and notifications for the same recipient
+     * queued meanwhile are merged into it.
+     * @param toEmail recipient address
+     * @param subject email subject
+     * @param body email content
+     */
+    @Transactional
+    public void enqueue(String toEmail, String subject, String body) {
+        Instant now = Instant.now();
+
+        EmailNotification notification = emailNotificationRepository
+                .findFirstByRecipientAndStatusAndAttemptsAndCreatedAtAfterOrderByIdDesc(toEmail, EmailStatus.PENDING, 0, now.minusSeconds(coalesceWindowSeconds))
+                .orElse(null);
+
+        if (notification != null) {
+            notification.setNotificationCount(notification.getNotificationCount() + 1);
+            notification.setSubject("You have " + notification.getNotificationCount() + " new notifications");
+            notification.setBody(notification.getBody() + "\n---\n\n" + subject + "\n\n" + body);
+        } else {
+            notification = new EmailNotification();
+            notification.setRecipient(toEmail);
+            notification.setSubject(subject);
+            notification.setBody(body);
+            notification.setStatus(EmailStatus.PENDING);
+            notification.setNotificationCount(1);
+            notification.setCreatedAt(now);
+            notification.setNextAttemptAt(now.plusSeconds(coalesceWindowSeconds));
+        }
+
+        emailNotificationRepository.save(notification);
+    }
+
+    /**
+     * Sends several queued notifications over a single SMTP connection.
+     * @param notifications the notifications to send
+     * @return the notifications that could not be sent, with the cause of each failure
+     */
+    public Map<EmailNotification, Exception> sendBatch(List<EmailNotification> notifications) {
+        Map<EmailNotification, Exception> failures = new IdentityHashMap<>();
+        Map<SimpleMailMessage, EmailNotification> byMessage = new IdentityHashMap<>();
+
+        for (EmailNotification notification : notifications) {
+            byMessage.put(toMessage(notification.getRecipient(), notification.getSubject(), notification.getBody()), notification);
+        }
+
+        try {
+            mailSender.send(byMessage.keySet().toArray(SimpleMailMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                notifications.forEach(n -> failures.put(n, e));
+            } else {
+                e.getFailedMessages().forEach((message, cause) -> failures.put(byMessage.get(message), cause));
+            }
+        } catch (MailException e) {
+            notifications.forEach(n -> failures.put(n, e));
+        }
+
+        return failures;
+    }
+
+    /**
+     * Builds a plain text message from the configured sender.
+     * @param toEmail recipient address
+     * @param subject email subject
+     * @param body email content
+     * @return the message to send
+     */
+    private SimpleMailMessage toMessage(String toEmail, String subject, String body) {
         SimpleMailMessage message = new SimpleMailMessage();
 
         message.setFrom(senderEmail);
@@ -31,6 +123,6 @@ public class EmailService {
         message.setSubject(subject);
         message.setText(body);
 
-        mailSender.send(message);
+        return message;
     }
 }
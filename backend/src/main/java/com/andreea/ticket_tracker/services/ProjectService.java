@@ -1,6 +1,8 @@
 package com.andreea.ticket_tracker.services;
 
 import com.andreea.ticket_tracker.dto.request.ProjectRequestDTO;
+import com.andreea.ticket_tracker.dto.response.DeletionJobDTO;
+import com.andreea.ticket_tracker.dto.response.PageResponseDTO;
 import com.andreea.ticket_tracker.dto.response.ProjectResponseDTO;
 import com.andreea.ticket_tracker.dto.response.UserResponseDTO;
 import com.andreea.ticket_tracker.entity.Project;
@@ -9,20 +11,31 @@ import com.andreea.ticket_tracker.exceptions.ProjectNotFoundException;
 import com.andreea.ticket_tracker.exceptions.UserNotFoundException;
 import com.andreea.ticket_tracker.mapper.UserDTOMapper;
 import com.andreea.ticket_tracker.mapper.ProjectDTOMapper;
+import com.andreea.ticket_tracker.pagination.KeysetCursor;
+import com.andreea.ticket_tracker.pagination.PageBuilder;
+import com.andreea.ticket_tracker.repository.BoardRepository;
+import com.andreea.ticket_tracker.repository.EntityCacheEvictor;
 import com.andreea.ticket_tracker.repository.ProjectRepository;
 import com.andreea.ticket_tracker.repository.UserRepository;
+import com.andreea.ticket_tracker.repository.projection.EntityCount;
+import com.andreea.ticket_tracker.search.TicketIndexListener;
+import com.andreea.ticket_tracker.security.config.ProjectMembershipIndex;
 import com.andreea.ticket_tracker.security.config.ProjectSecurityEvaluator;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service class that handles all business logic for Projects.
  */
 @Service
+@Timed("app.service")
 @Slf4j
 public class ProjectService {
 
@@ -31,15 +44,26 @@ public class ProjectService {
     private final UserDTOMapper userDTOMapper;
     private final ProjectSecurityEvaluator projectSecurity;
     private final EmailService emailService;
-
+    private final BoardRepository boardRepository;
+    private final ProjectMembershipIndex membershipIndex;
+    private final BoardVersions boardVersions;
+    private final TicketIndexListener ticketIndexListener;
+    private final DeletionJobService deletionJobService;
+    private final EntityCacheEvictor entityCacheEvictor;
 
     @Autowired
-    public ProjectService(ProjectRepository projectRepository, UserRepository userRepository, UserDTOMapper userDTOMapper, ProjectSecurityEvaluator projectSecurity, EmailService emailService) {
+    public ProjectService(ProjectRepository projectRepository, UserRepository userRepository, UserDTOMapper userDTOMapper, ProjectSecurityEvaluator projectSecurity, EmailService emailService, BoardRepository boardRepository, ProjectMembershipIndex membershipIndex, BoardVersions boardVersions, TicketIndexListener ticketIndexListener, DeletionJobService deletionJobService, EntityCacheEvictor entityCacheEvictor) {
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
         this.userDTOMapper = userDTOMapper;
         this.projectSecurity = projectSecurity;
         this.emailService = emailService;
+        this.boardRepository = boardRepository;
+        this.membershipIndex = membershipIndex;
+        this.boardVersions = boardVersions;
+        this.ticketIndexListener = ticketIndexListener;
+        this.deletionJobService = deletionJobService;
+        this.entityCacheEvictor = entityCacheEvictor;
     }
 
     /**
@@ -50,7 +74,7 @@ public class ProjectService {
     public ProjectResponseDTO createProject(ProjectRequestDTO dto){
         Project project = ProjectDTOMapper.toEntity(dto);
         Project savedProject = projectRepository.save(project);
-        return ProjectDTOMapper.toDTO(savedProject);
+        return ProjectDTOMapper.toDTO(savedProject, 0);
     }
 
     /**
@@ -58,6 +82,7 @@ public class ProjectService {
      * Admins see everything, while regular users see only projects they belong to.
      * @return a list of projects accessible to the user
      */
+    @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getAllProjects(){
         String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
 
@@ -65,23 +90,45 @@ public class ProjectService {
                 ? projectRepository.findAll()
                 : projectRepository.findAllByMember(currentUsername);
 
+        Map<Long, Long> boardCounts = countBoards(projects);
+
         return projects.stream()
-                .map(ProjectDTOMapper::toDTO)
+                .map(p -> ProjectDTOMapper.toDTO(p, boardCounts.getOrDefault(p.getId(), 0L)))
                 .toList();
     }
 
+    /**
+     * Retrieves one page of the projects visible to the current user, ordered by ID.
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the maximum number of projects to return
+     * @return the page of projects and the cursor of the next page
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDTO<ProjectResponseDTO> getProjectsPage(String cursor, int size){
+        String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        List<Project> projects = projectSecurity.isUserAdmin()
+                ? projectRepository.findPageAfter(after.id(), KeysetCursor.limit(size))
+                : projectRepository.findPageByMemberAfter(currentUsername, after.id(), KeysetCursor.limit(size));
+
+        Map<Long, Long> boardCounts = countBoards(projects);
+        return PageBuilder.build(projects, size, p -> ProjectDTOMapper.toDTO(p, boardCounts.getOrDefault(p.getId(), 0L)), p -> new KeysetCursor(null, p.getId()));
+    }
+
     /**
      * Finds a specific project by ID, verifying if the user has permission to see it.
      * @param id the ID of the project
      * @return the project details as a DTO
      */
+    @Transactional(readOnly = true)
     public ProjectResponseDTO getProject(Long id){
         Project project = projectRepository.findById(id)
                 .orElseThrow(ProjectNotFoundException::new);
 
         projectSecurity.validateUserAccess(project);
 
-        return ProjectDTOMapper.toDTO(project);
+        return ProjectDTOMapper.toDTO(project, boardRepository.countByProjectId(id));
     }
 
     /**
@@ -99,19 +146,27 @@ public class ProjectService {
         project.setDescription(dto.getDescription());
 
         Project savedProject = projectRepository.save(project);
-        return ProjectDTOMapper.toDTO(savedProject);
+        return ProjectDTOMapper.toDTO(savedProject, boardRepository.countByProjectId(id));
     }
 
     /**
-     * Deletes a project from the database.
+     * Soft deletes a project with a single update, which hides its boards and tickets as well,
+     * and queues a job that hard deletes all of them in the background.
      * @param id the ID of the project to remove
+     * @return the queued deletion job
      */
-    public void deleteProject(Long id){
+    public DeletionJobDTO deleteProject(Long id){
         Project project = projectRepository.findById(id)
                 .orElseThrow(ProjectNotFoundException::new);
 
         projectSecurity.validateUserAccess(project);
-        projectRepository.deleteById(id);
+        project.markDeleted();
+        projectRepository.save(project);
+        entityCacheEvictor.evictProject(id, boardRepository.findAllIdsByProjectId(id));
+        ticketIndexListener.onRemoveProject(id);
+        membershipIndex.evictProject(id);
+        boardVersions.evictBoardsOfProject(id);
+        return deletionJobService.submitProject(id);
     }
 
     /**
@@ -137,9 +192,9 @@ public class ProjectService {
                 "Enter the Kanban Board app to see the details and tasks.\n\n";
 
         try {
-            emailService.sendSimpleEmail(user.getEmail(), subject, body);
+            emailService.enqueue(user.getEmail(), subject, body);
         } catch (Exception e) {
-            log.error("Error sending email to {}: {}", user.getEmail(), e.getMessage());
+            log.error("Error queueing email to {}: {}", user.getEmail(), e.getMessage());
         }
     }
 
@@ -148,6 +203,7 @@ public class ProjectService {
      * @param projectId the ID of the project
      * @return a list of user belonging to the project
      */
+    @Transactional(readOnly = true)
     public List<UserResponseDTO> getProjectMembers(Long projectId){
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(ProjectNotFoundException::new);
@@ -177,4 +233,17 @@ public class ProjectService {
         project.removeUser(user);
         projectRepository.save(project);
     }
+
+    /**
+     * Counts the boards of the given projects with one aggregate query per chunk of IDs.
+     * @param projects the projects to count boards for
+     * @return the board count per project ID
+     */
+    private Map<Long, Long> countBoards(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return Map.of();
+        }
+
+        return EntityCount.countInChunks(projects.stream().map(Project::getId).toList(), boardRepository::countByProjectIds);
+    }
 }
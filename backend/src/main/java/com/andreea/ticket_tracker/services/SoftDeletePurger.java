@@ -0,0 +1,110 @@
+package com.andreea.ticket_tracker.services;
+
+import com.andreea.ticket_tracker.repository.BoardRepository;
+import com.andreea.ticket_tracker.repository.ProjectRepository;
+import com.andreea.ticket_tracker.repository.TicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Background job that hard deletes soft deleted projects, boards and tickets once they are past the retention period.
+ * Rows are removed children first, in small batches each committed on its own, so no single transaction
+ * holds locks on a whole project. Deleted projects and boards are normally removed straight away by their
+ * deletion job, so the retention period applies to deleted tickets, and to projects and boards whose job was lost.
+ */
+@Component
+@Slf4j
+public class SoftDeletePurger {
+
+    private final TicketRepository ticketRepository;
+    private final BoardRepository boardRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final long retentionSeconds;
+    private final int batchSize;
+
+    public SoftDeletePurger(TicketRepository ticketRepository,
+                            BoardRepository boardRepository,
+                            ProjectRepository projectRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.purge.enabled:true}") boolean enabled,
+                            @Value("${app.purge.retention-seconds:86400}") long retentionSeconds,
+                            @Value("${app.purge.batch-size:500}") int batchSize) {
+        this.ticketRepository = ticketRepository;
+        this.boardRepository = boardRepository;
+        this.projectRepository = projectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retentionSeconds = retentionSeconds;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Periodically purges the rows deleted before the retention period when the job is enabled.
+     */
+    @Scheduled(fixedDelayString = "${app.purge.interval-ms:60000}")
+    public void scheduledPurge() {
+        if (enabled) {
+            purge(Instant.now().minusSeconds(retentionSeconds));
+        }
+    }
+
+    /**
+     * Hard deletes every row soft deleted before a point in time, along with the rows it hid.
+     * @param cutoff the latest deletion time to purge
+     * @return the number of purged rows
+     */
+    public int purge(Instant cutoff) {
+        Pageable batch = PageRequest.ofSize(batchSize);
+
+        int tickets = purgeInBatches(() -> ticketRepository.findPurgeableIds(cutoff, batch), ticketRepository::purgeAllById);
+        int boards = purgeInBatches(() -> boardRepository.findPurgeableIds(cutoff, batch), boardRepository::purgeAllById);
+        int projects = purgeInBatches(() -> projectRepository.findPurgeableIds(cutoff, batch), ids -> {
+            projectRepository.purgeMembersByProjectIds(ids);
+            projectRepository.purgeAllById(ids);
+        });
+
+        if (tickets + boards + projects > 0) {
+            log.info("Purged {} projects, {} boards and {} tickets", projects, boards, tickets);
+        }
+
+        return tickets + boards + projects;
+    }
+
+    /**
+     * Deletes batches of rows until a batch comes back short.
+     * @param next finds the IDs of the next batch
+     * @param delete deletes a batch
+     * @return the number of deleted rows
+     */
+    private int purgeInBatches(Supplier<List<Long>> next, Consumer<List<Long>> delete) {
+        int purged = 0;
+        List<Long> ids;
+
+        do {
+            ids = transactionTemplate.execute(status -> {
+                List<Long> batch = next.get();
+                if (!batch.isEmpty()) {
+                    delete.accept(batch);
+                }
+                return batch;
+            });
+            purged += ids.size();
+        } while (ids.size() == batchSize);
+
+        return purged;
+    }
+}
@@ -0,0 +1,139 @@
+package com.andreea.ticket_tracker.services;
+
+import com.andreea.ticket_tracker.dto.request.TicketExportFormat;
+import com.andreea.ticket_tracker.dto.response.TicketResponseDTO;
+import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.exceptions.ProjectNotFoundException;
+import com.andreea.ticket_tracker.mapper.TicketDTOMapper;
+import com.andreea.ticket_tracker.repository.ProjectRepository;
+import com.andreea.ticket_tracker.repository.TicketRepository;
+import com.andreea.ticket_tracker.repository.projection.TicketView;
+import com.andreea.ticket_tracker.security.config.ProjectSecurityEvaluator;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exports every ticket of a project as NDJSON or CSV.
+ * Tickets are read from a forward-only cursor as projections and written out one by one,
+ * so neither the persistence context nor the response grows with the size of the project.
+ */
+@Service
+public class TicketExportService {
+
+    private static final String[] CSV_HEADER = {
+            "id", "title", "description", "status", "position", "rank", "storyPoints",
+            "boardId", "boardName", "projectId", "assignedUserId", "assignedUsername"
+    };
+
+    private final TicketRepository ticketRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectSecurityEvaluator projectSecurity;
+    private final ObjectWriter jsonWriter;
+
+    public TicketExportService(TicketRepository ticketRepository, ProjectRepository projectRepository, ProjectSecurityEvaluator projectSecurity, ObjectMapper objectMapper) {
+        this.ticketRepository = ticketRepository;
+        this.projectRepository = projectRepository;
+        this.projectSecurity = projectSecurity;
+        this.jsonWriter = objectMapper.writerFor(TicketResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Checks that a project exists and that the current user may read it.
+     * Called before the export starts, so errors are still sent as a normal error response.
+     * @param projectId the ID of the project
+     */
+    public void validateExport(Long projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(ProjectNotFoundException::new);
+
+        projectSecurity.validateUserAccess(project);
+    }
+
+    /**
+     * Writes every ticket of a project to a stream, board by board in board order.
+     * @param projectId the ID of the project
+     * @param format the output format
+     * @param out the stream to write to, left open
+     * @throws IOException if writing fails
+     */
+    @Transactional(readOnly = true)
+    public void exportTickets(Long projectId, TicketExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        try (Stream<TicketView> tickets = ticketRepository.streamByProjectId(projectId)) {
+            if (format == TicketExportFormat.CSV) {
+                writeCsv(tickets.iterator(), writer);
+            } else {
+                writeNdjson(tickets.iterator(), writer);
+            }
+        }
+
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<TicketView> tickets, Writer writer) throws IOException {
+        JsonGenerator generator = jsonWriter.createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        while (tickets.hasNext()) {
+            jsonWriter.writeValue(generator, TicketDTOMapper.toDTO(tickets.next()));
+            generator.writeRaw('\n');
+        }
+
+        generator.flush();
+    }
+
+    private static void writeCsv(Iterator<TicketView> tickets, Writer writer) throws IOException {
+        writer.write(String.join(",", CSV_HEADER));
+        writer.write("\r\n");
+
+        while (tickets.hasNext()) {
+            TicketView ticket = tickets.next();
+            writeCsvRow(writer, ticket.getId(), ticket.getTitle(), ticket.getDescription(), ticket.getStatus(),
+                    ticket.getPosition(), ticket.getRank(), ticket.getStoryPoints(), ticket.getBoardId(),
+                    ticket.getBoardName(), ticket.getProjectId(), ticket.getAssignedUserId(), ticket.getAssignedUsername());
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] instanceof String text) {
+                writer.write(csvField(text));
+            } else if (values[i] != null) {
+                writer.write(values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quotes a text field when needed, and keeps spreadsheets from evaluating text that starts like a formula.
+     */
+    private static String csvField(String value) {
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,196 @@
+package com.andreea.ticket_tracker.services;
+
+import com.andreea.ticket_tracker.entity.Board;
+import com.andreea.ticket_tracker.entity.Ticket;
+import com.andreea.ticket_tracker.events.TicketChanged;
+import com.andreea.ticket_tracker.events.TicketEventType;
+import com.andreea.ticket_tracker.exceptions.InvalidTicketMoveException;
+import com.andreea.ticket_tracker.repository.BoardRepository;
+import com.andreea.ticket_tracker.repository.TicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns the ranks that order tickets within a board.
+ * Ranks are handed out {@link #GAP} apart, so a moved ticket takes the midpoint between its new neighbours
+ * and no other row is written. Boards where a gap has become small are renumbered in the background;
+ * a move that finds no gap at all renumbers its board on the spot. Moves and renumberings lock the board,
+ * so a move never computes a midpoint from ranks that a renumbering is replacing.
+ */
+@Component
+@Slf4j
+public class TicketRanker {
+
+    /**
+     * Distance between the ranks of neighbouring tickets after a renumbering.
+     */
+    public static final long GAP = 1L << 32;
+
+    /**
+     * Gap below which a board is queued for renumbering.
+     */
+    private static final long MIN_GAP = 1L << 10;
+
+    private final TicketRepository ticketRepository;
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Set<Long> crowdedBoards = ConcurrentHashMap.newKeySet();
+
+    public TicketRanker(TicketRepository ticketRepository, BoardRepository boardRepository, PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher) {
+        this.ticketRepository = ticketRepository;
+        this.boardRepository = boardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Returns the rank placing a ticket after every ticket of a board.
+     * @param boardId the ID of the board
+     * @return the new rank
+     */
+    public long rankAtEnd(Long boardId) {
+        return ticketRepository.findMaxRank(boardId)
+                .map(rank -> rank + GAP)
+                .orElse(GAP);
+    }
+
+    /**
+     * Returns the rank placing a ticket between two neighbours in a board.
+     * When only one neighbour is given, the other is the next ticket on that side;
+     * when neither is given, the ticket goes to the end of the board.
+     * Locks the board until the surrounding transaction ends, so it must be called within one.
+     * @param ticket the moved ticket
+     * @param board the target board
+     * @param after the ticket to place it after, or null
+     * @param before the ticket to place it before, or null
+     * @return the new rank
+     * @throws InvalidTicketMoveException if the neighbours are out of order
+     */
+    public long rankBetween(Ticket ticket, Board board, Ticket after, Ticket before) {
+        boardRepository.lockById(board.getId());
+
+        if (isUnranked(after) || isUnranked(before)) {
+            rebalance(board.getId());
+        }
+
+        Bounds bounds = bounds(ticket, board, after, before);
+
+        if (bounds.upper() - bounds.lower() < 2) {
+            rebalance(board.getId());
+            bounds = bounds(ticket, board, after, before);
+        }
+
+        if (bounds.upper() - bounds.lower() < 2 * MIN_GAP) {
+            crowdedBoards.add(board.getId());
+        }
+
+        return bounds.lower() + (bounds.upper() - bounds.lower()) / 2;
+    }
+
+    /**
+     * Renumbers every ticket of a board {@link #GAP} apart, keeping their order.
+     * Once the renumbering commits, the board moves to a new version and its subscribers are told to reload it.
+     * Joins the current transaction if there is one, so a move that finds no gap renumbers the board
+     * under the lock it already holds; otherwise runs in a transaction of its own.
+     * @param boardId the ID of the board
+     */
+    public void rebalance(Long boardId) {
+        crowdedBoards.remove(boardId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            boardRepository.lockById(boardId);
+
+            long rank = GAP;
+            for (Ticket ticket : ticketRepository.findForRanking(boardId)) {
+                ticket.setRank(rank);
+                rank += GAP;
+            }
+
+            eventPublisher.publishEvent(new TicketChanged(TicketEventType.RERANKED, boardId, null, null));
+        });
+    }
+
+    /**
+     * Periodically renumbers the boards whose gaps have become small.
+     */
+    @Scheduled(fixedDelayString = "${app.tickets.rank.rebalance-interval-ms:60000}")
+    public void rebalanceCrowdedBoards() {
+        for (Long boardId : List.copyOf(crowdedBoards)) {
+            try {
+                rebalance(boardId);
+            } catch (RuntimeException e) {
+                log.warn("Could not renumber the tickets of board {}: {}", boardId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Ranks the tickets created before ranks existed, keeping their position order.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rankUnrankedTickets() {
+        List<Long> boardIds = ticketRepository.findBoardIdsWithUnrankedTickets();
+        boardIds.forEach(this::rebalance);
+
+        if (!boardIds.isEmpty()) {
+            log.info("Ranked the tickets of {} boards", boardIds.size());
+        }
+    }
+
+    /**
+     * Checks whether a board is queued for renumbering.
+     * @param boardId the ID of the board
+     * @return true if the board is queued
+     */
+    public boolean isCrowded(Long boardId) {
+        return crowdedBoards.contains(boardId);
+    }
+
+    /**
+     * Checks whether a move neighbour was created before ranks existed and has not been ranked yet.
+     */
+    private static boolean isUnranked(Ticket neighbour) {
+        return neighbour != null && neighbour.getRank() == null;
+    }
+
+    /**
+     * Finds the ranks a moved ticket must fall between.
+     */
+    private Bounds bounds(Ticket ticket, Board board, Ticket after, Ticket before) {
+        long lower;
+        long upper;
+
+        if (after != null) {
+            lower = after.getRank();
+            upper = before != null
+                    ? before.getRank()
+                    : ticketRepository.findNextRank(board.getId(), lower, ticket.getId()).orElse(lower + 2 * GAP);
+        } else if (before != null) {
+            upper = before.getRank();
+            lower = ticketRepository.findPreviousRank(board.getId(), upper, ticket.getId()).orElse(upper - 2 * GAP);
+        } else {
+            lower = ticketRepository.findMaxRank(board.getId()).orElse(0L);
+            upper = lower + 2 * GAP;
+        }
+
+        if (lower > upper) {
+            throw new InvalidTicketMoveException();
+        }
+
+        return new Bounds(lower, upper);
+    }
+
+    private record Bounds(long lower, long upper) {
+    }
+}
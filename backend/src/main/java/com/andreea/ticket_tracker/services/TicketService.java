@@ -1,47 +1,98 @@
 package com.andreea.ticket_tracker.services;
 
+import com.andreea.ticket_tracker.dto.request.TicketBulkOperationDTO;
+import com.andreea.ticket_tracker.dto.request.TicketBulkOperationType;
+import com.andreea.ticket_tracker.dto.request.TicketBulkRequestDTO;
+import com.andreea.ticket_tracker.dto.request.TicketMoveRequestDTO;
 import com.andreea.ticket_tracker.dto.request.TicketRequestDTO;
+import com.andreea.ticket_tracker.dto.response.PageResponseDTO;
+import com.andreea.ticket_tracker.dto.response.TicketDeltaDTO;
 import com.andreea.ticket_tracker.dto.response.TicketResponseDTO;
+import com.andreea.ticket_tracker.dto.response.TicketSuggestionDTO;
 import com.andreea.ticket_tracker.entity.Board;
 import com.andreea.ticket_tracker.entity.Project;
 import com.andreea.ticket_tracker.entity.Ticket;
+import com.andreea.ticket_tracker.entity.TicketStatus;
 import com.andreea.ticket_tracker.entity.User;
+import com.andreea.ticket_tracker.events.TicketChanged;
+import com.andreea.ticket_tracker.events.TicketEventType;
 import com.andreea.ticket_tracker.exceptions.BoardNotFoundException;
+import com.andreea.ticket_tracker.exceptions.InvalidBulkOperationException;
+import com.andreea.ticket_tracker.exceptions.InvalidTicketMoveException;
 import com.andreea.ticket_tracker.exceptions.TicketNotFoundException;
 import com.andreea.ticket_tracker.exceptions.UserNotFoundException;
 import com.andreea.ticket_tracker.exceptions.UserNotInProjectException;
 import com.andreea.ticket_tracker.mapper.TicketDTOMapper;
+import com.andreea.ticket_tracker.pagination.KeysetCursor;
+import com.andreea.ticket_tracker.pagination.PageBuilder;
 import com.andreea.ticket_tracker.repository.BoardRepository;
 import com.andreea.ticket_tracker.repository.TicketRepository;
 import com.andreea.ticket_tracker.repository.UserRepository;
+import com.andreea.ticket_tracker.repository.projection.TicketView;
+import com.andreea.ticket_tracker.search.TicketSearchIndex;
+import com.andreea.ticket_tracker.search.TicketSuggestion;
+import com.andreea.ticket_tracker.search.TicketSuggestionCache;
+import com.andreea.ticket_tracker.search.TicketSuggestionIndex;
 import com.andreea.ticket_tracker.security.config.ProjectSecurityEvaluator;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class that handles all business logic for Tickets.
+ * Read methods run in read-only transactions, which Hibernate runs with flush mode MANUAL,
+ * and list tickets as {@link TicketView} projections rather than managed entities.
  */
 @Service
+@Timed("app.service")
 @Slf4j
 public class TicketService {
 
+    private static final Map<TicketBulkOperationType, TicketEventType> BULK_EVENT_TYPES = Map.of(
+            TicketBulkOperationType.CREATE, TicketEventType.CREATED,
+            TicketBulkOperationType.UPDATE, TicketEventType.UPDATED,
+            TicketBulkOperationType.MOVE, TicketEventType.MOVED);
+
     private final TicketRepository ticketRepository;
     private final BoardRepository boardRepository;
     private final ProjectSecurityEvaluator projectSecurity;
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final TicketSearchIndex ticketSearchIndex;
+    private final TicketSuggestionIndex ticketSuggestionIndex;
+    private final TicketSuggestionCache ticketSuggestionCache;
+    private final TicketRanker ticketRanker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoardVersions boardVersions;
 
     @Autowired
-    public TicketService(TicketRepository ticketRepository, BoardRepository boardRepository, ProjectSecurityEvaluator projectSecurity, UserRepository userRepository, EmailService emailService) {
+    public TicketService(TicketRepository ticketRepository, BoardRepository boardRepository, ProjectSecurityEvaluator projectSecurity, UserRepository userRepository, EmailService emailService, TicketSearchIndex ticketSearchIndex, TicketSuggestionIndex ticketSuggestionIndex, TicketSuggestionCache ticketSuggestionCache, TicketRanker ticketRanker, ApplicationEventPublisher eventPublisher, BoardVersions boardVersions) {
         this.ticketRepository = ticketRepository;
         this.boardRepository = boardRepository;
         this.projectSecurity = projectSecurity;
         this.userRepository = userRepository;
         this.emailService = emailService;
+        this.ticketSearchIndex = ticketSearchIndex;
+        this.ticketSuggestionIndex = ticketSuggestionIndex;
+        this.ticketSuggestionCache = ticketSuggestionCache;
+        this.ticketRanker = ticketRanker;
+        this.eventPublisher = eventPublisher;
+        this.boardVersions = boardVersions;
     }
 
     /**
@@ -55,30 +106,54 @@ public class TicketService {
 
         projectSecurity.validateUserAccess(board.getProject());
         Ticket ticket = TicketDTOMapper.toEntity(dto, board);
-        assignUserToTicketIfValid(ticket, dto.getAssignedUserId(), board.getProject());
+        ticket.setRank(ticketRanker.rankAtEnd(board.getId()));
+        assignUserToTicketIfValid(ticket, dto.getAssignedUserId(), board.getProject(), userRepository::findById);
         Ticket savedTicket = ticketRepository.save(ticket);
-        return TicketDTOMapper.toDTO(savedTicket);
+
+        TicketResponseDTO result = TicketDTOMapper.toDTO(savedTicket);
+        publishChange(TicketEventType.CREATED, null, result);
+        return result;
     }
 
     /**
      * Retrieves all tickets.
      * @return a list of tickets accessible to the user
      */
+    @Transactional(readOnly = true)
     public List<TicketResponseDTO> getAllTickets(){
         String username = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication().getName();
 
-        List<Ticket> tickets = projectSecurity.isUserAdmin()
-                ? ticketRepository.findAll()
+        List<TicketView> tickets = projectSecurity.isUserAdmin()
+                ? ticketRepository.findAllViews()
                 : ticketRepository.findAllByUser(username);
 
         return tickets.stream().map(TicketDTOMapper::toDTO).toList();
     }
 
+    /**
+     * Retrieves one page of the tickets accessible to the user, ordered by ID.
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the maximum number of tickets to return
+     * @return the page of tickets and the cursor of the next page
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDTO<TicketResponseDTO> getTicketsPage(String cursor, int size){
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        List<TicketView> tickets = projectSecurity.isUserAdmin()
+                ? ticketRepository.findViewPageAfter(after.id(), KeysetCursor.limit(size))
+                : ticketRepository.findPageByUserAfter(username, after.id(), KeysetCursor.limit(size));
+
+        return PageBuilder.build(tickets, size, TicketDTOMapper::toDTO, t -> new KeysetCursor(null, t.getId()));
+    }
+
     /**
      * Finds a specific ticket by ID
      * @param id the ID of the ticket
      * @return the ticket details as a DTO
      */
+    @Transactional(readOnly = true)
     public TicketResponseDTO getTicket(Long id){
         Ticket ticket = ticketRepository.findById(id)
                 .orElseThrow(TicketNotFoundException::new);
@@ -98,35 +173,285 @@ public class TicketService {
                 .orElseThrow(TicketNotFoundException::new);
 
         projectSecurity.validateUserAccess(ticket.getBoard().getProject());
+        applyChanges(ticket, dto);
 
-        ticket.setTitle(dto.getTitle());
-        ticket.setDescription(dto.getDescription());
-        ticket.setPosition(dto.getPosition());
+        Board board = ticket.getBoard();
+        Long previousBoardId = board.getId();
+        if(dto.getBoardId() != null && !dto.getBoardId().equals(board.getId())){
+            board = boardRepository.findById(dto.getBoardId())
+                    .orElseThrow(BoardNotFoundException::new);
 
-        if (dto.getStoryPoints() != null) {
-            ticket.setStoryPoints(dto.getStoryPoints());
+            projectSecurity.validateUserAccess(board.getProject());
+            ticket.setBoard(board);
+            ticket.setRank(ticketRanker.rankAtEnd(board.getId()));
         }
 
-        if (dto.getStatus() != null) {
-            ticket.setStatus(dto.getStatus());
-        }
+        assignUserToTicketIfValid(ticket, dto.getAssignedUserId(), board.getProject(), userRepository::findById);
+        Ticket savedTicket = ticketRepository.save(ticket);
+
+        TicketResponseDTO result = TicketDTOMapper.toDTO(savedTicket);
+        publishChange(TicketEventType.UPDATED, previousBoardId, result);
+        return result;
+    }
+
+    /**
+     * Moves a ticket between two others, possibly on another board, by changing only its own rank.
+     * @param id the ID of the ticket to move
+     * @param dto the target board, neighbours and status
+     * @return the moved ticket details
+     */
+    @Transactional
+    public TicketResponseDTO moveTicket(Long id, TicketMoveRequestDTO dto){
+        Ticket ticket = ticketRepository.findById(id)
+                .orElseThrow(TicketNotFoundException::new);
+
+        projectSecurity.validateUserAccess(ticket.getBoard().getProject());
 
         Board board = ticket.getBoard();
-        if(dto.getBoardId() != null){
+        Long previousBoardId = board.getId();
+        if (dto.getBoardId() != null && !dto.getBoardId().equals(board.getId())) {
             board = boardRepository.findById(dto.getBoardId())
                     .orElseThrow(BoardNotFoundException::new);
 
             projectSecurity.validateUserAccess(board.getProject());
-            ticket.setBoard(board);
         }
 
-        assignUserToTicketIfValid(ticket, dto.getAssignedUserId(), board.getProject());
-        Ticket savedTicket = ticketRepository.save(ticket);
-        return TicketDTOMapper.toDTO(savedTicket);
+        Ticket after = findNeighbour(dto.getAfterId(), ticketId -> ticketRepository.findById(ticketId).orElse(null));
+        Ticket before = findNeighbour(dto.getBeforeId(), ticketId -> ticketRepository.findById(ticketId).orElse(null));
+
+        moveTo(ticket, board, after, before, dto.getStatus());
+
+        TicketResponseDTO result = TicketDTOMapper.toDTO(ticket);
+        publishChange(TicketEventType.MOVED, previousBoardId, result);
+        return result;
     }
 
     /**
-     * Deletes a ticket from the database.
+     * Creates, updates and moves many tickets in one transaction.
+     * Tickets, boards and assignees are loaded with one query each, access is checked once per project,
+     * and the writes are sent to the database in JDBC batches when the transaction commits.
+     * Any failing operation rolls back the whole request.
+     * @param dto the operations to apply, in order
+     * @return the resulting tickets, in the order of the operations
+     */
+    @Transactional
+    public List<TicketResponseDTO> applyBulk(TicketBulkRequestDTO dto){
+        List<TicketBulkOperationDTO> operations = dto.getOperations();
+        operations.forEach(TicketService::validateBulkOperation);
+
+        Set<Long> ticketIds = new HashSet<>();
+        Set<Long> boardIds = new HashSet<>();
+        Set<Long> assigneeIds = new HashSet<>();
+
+        for (TicketBulkOperationDTO operation : operations) {
+            if (operation.getId() != null) {
+                ticketIds.add(operation.getId());
+            }
+            if (operation.getTicket() != null) {
+                boardIds.add(operation.getTicket().getBoardId());
+                if (operation.getTicket().getAssignedUserId() != null) {
+                    assigneeIds.add(operation.getTicket().getAssignedUserId());
+                }
+            }
+            if (operation.getMove() != null) {
+                TicketMoveRequestDTO move = operation.getMove();
+                if (move.getBoardId() != null) {
+                    boardIds.add(move.getBoardId());
+                }
+                if (move.getAfterId() != null) {
+                    ticketIds.add(move.getAfterId());
+                }
+                if (move.getBeforeId() != null) {
+                    ticketIds.add(move.getBeforeId());
+                }
+            }
+        }
+
+        Map<Long, Ticket> tickets = ticketRepository.findAllById(ticketIds).stream()
+                .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+        if (tickets.size() != ticketIds.size()) {
+            throw new TicketNotFoundException();
+        }
+
+        Map<Long, Board> boards = boardRepository.findAllById(boardIds).stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
+        if (boards.size() != boardIds.size()) {
+            throw new BoardNotFoundException();
+        }
+
+        Map<Long, Project> projects = new HashMap<>();
+        tickets.values().forEach(ticket -> projects.putIfAbsent(ticket.getBoard().getProject().getId(), ticket.getBoard().getProject()));
+        boards.values().forEach(board -> projects.putIfAbsent(board.getProject().getId(), board.getProject()));
+        projects.values().forEach(projectSecurity::validateUserAccess);
+
+        Map<Long, User> assignees = userRepository.findAllById(assigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Function<Long, Optional<User>> assigneeLookup = id -> Optional.ofNullable(assignees.get(id));
+
+        List<Ticket> results = new ArrayList<>(operations.size());
+        List<Long> previousBoardIds = new ArrayList<>(operations.size());
+        List<Ticket> created = new ArrayList<>();
+        Map<Long, Long> nextRanks = new HashMap<>();
+
+        for (TicketBulkOperationDTO operation : operations) {
+            Ticket ticket;
+            Long previousBoardId = operation.getId() != null ? tickets.get(operation.getId()).getBoard().getId() : null;
+
+            switch (operation.getType()) {
+                case CREATE -> {
+                    Board board = boards.get(operation.getTicket().getBoardId());
+                    ticket = TicketDTOMapper.toEntity(operation.getTicket(), board);
+                    ticket.setRank(nextRank(nextRanks, board.getId()));
+                    assignUserToTicketIfValid(ticket, operation.getTicket().getAssignedUserId(), board.getProject(), assigneeLookup);
+                    created.add(ticket);
+                }
+                case UPDATE -> {
+                    Board board = boards.get(operation.getTicket().getBoardId());
+                    ticket = tickets.get(operation.getId());
+                    applyChanges(ticket, operation.getTicket());
+                    if (!board.getId().equals(ticket.getBoard().getId())) {
+                        ticket.setBoard(board);
+                        ticket.setRank(nextRank(nextRanks, board.getId()));
+                    }
+                    assignUserToTicketIfValid(ticket, operation.getTicket().getAssignedUserId(), board.getProject(), assigneeLookup);
+                }
+                default -> {
+                    TicketMoveRequestDTO move = operation.getMove();
+                    ticket = tickets.get(operation.getId());
+                    Board board = move.getBoardId() != null ? boards.get(move.getBoardId()) : ticket.getBoard();
+
+                    moveTo(ticket, board, findNeighbour(move.getAfterId(), tickets::get), findNeighbour(move.getBeforeId(), tickets::get), move.getStatus());
+                    nextRanks.remove(board.getId());
+                }
+            }
+
+            results.add(ticket);
+            previousBoardIds.add(previousBoardId);
+        }
+
+        ticketRepository.saveAll(created);
+
+        List<TicketResponseDTO> dtos = results.stream().map(TicketDTOMapper::toDTO).toList();
+        for (int i = 0; i < dtos.size(); i++) {
+            publishChange(BULK_EVENT_TYPES.get(operations.get(i).getType()), previousBoardIds.get(i), dtos.get(i));
+        }
+
+        return dtos;
+    }
+
+    /**
+     * Publishes a ticket change to the ticket's board and, when it changed board, to the board it left.
+     * Subscribers receive it once the surrounding transaction commits.
+     * @param type the kind of change
+     * @param previousBoardId the board of the ticket before the change, or null for a new ticket
+     * @param ticket the ticket after the change
+     */
+    private void publishChange(TicketEventType type, Long previousBoardId, TicketResponseDTO ticket) {
+        eventPublisher.publishEvent(new TicketChanged(type, ticket.getBoardId(), ticket.getId(), ticket));
+
+        if (previousBoardId != null && !previousBoardId.equals(ticket.getBoardId())) {
+            eventPublisher.publishEvent(new TicketChanged(TicketEventType.MOVED, previousBoardId, ticket.getId(), ticket));
+        }
+    }
+
+    /**
+     * Hands out ranks at the end of a board, querying the board's highest rank only once per bulk request.
+     * @param nextRanks the next free rank of each board seen so far
+     * @param boardId the ID of the board
+     * @return the rank placing a ticket after every other ticket of the board
+     */
+    private long nextRank(Map<Long, Long> nextRanks, Long boardId) {
+        long rank = nextRanks.computeIfAbsent(boardId, ticketRanker::rankAtEnd);
+        nextRanks.put(boardId, rank + TicketRanker.GAP);
+        return rank;
+    }
+
+    /**
+     * Checks that a bulk operation carries the data its type requires.
+     * @param operation the operation to check
+     */
+    private static void validateBulkOperation(TicketBulkOperationDTO operation) {
+        boolean valid = switch (operation.getType()) {
+            case CREATE -> operation.getTicket() != null;
+            case UPDATE -> operation.getId() != null && operation.getTicket() != null;
+            case MOVE -> operation.getId() != null && operation.getMove() != null;
+        };
+
+        if (!valid) {
+            throw new InvalidBulkOperationException();
+        }
+    }
+
+    /**
+     * Places a ticket between two neighbours of a board and updates its status.
+     * @param ticket the ticket to move
+     * @param board the target board
+     * @param after the ticket to place it after, or null
+     * @param before the ticket to place it before, or null
+     * @param status the new status, or null to keep the current one
+     */
+    private void moveTo(Ticket ticket, Board board, Ticket after, Ticket before, TicketStatus status) {
+        for (Ticket neighbour : new Ticket[]{after, before}) {
+            if (neighbour != null && (neighbour.getId().equals(ticket.getId()) || !neighbour.getBoard().getId().equals(board.getId()))) {
+                throw new InvalidTicketMoveException();
+            }
+        }
+
+        boolean boardChanged = !board.getId().equals(ticket.getBoard().getId());
+        if (boardChanged && ticket.getAssignedUser() != null && !projectSecurity.isMember(board.getProject(), ticket.getAssignedUser().getId())) {
+            throw new UserNotInProjectException();
+        }
+
+        ticket.setRank(ticketRanker.rankBetween(ticket, board, after, before));
+        ticket.setBoard(board);
+
+        if (status != null) {
+            ticket.setStatus(status);
+        }
+    }
+
+    /**
+     * Resolves the ID of a move neighbour.
+     * @param id the ID of the neighbour, or null
+     * @param tickets the function used to find the ticket by ID, returning null if missing
+     * @return the neighbour, or null if no ID was given
+     */
+    private static Ticket findNeighbour(Long id, Function<Long, Ticket> tickets) {
+        if (id == null) {
+            return null;
+        }
+
+        Ticket neighbour = tickets.apply(id);
+        if (neighbour == null) {
+            throw new TicketNotFoundException();
+        }
+
+        return neighbour;
+    }
+
+    /**
+     * Copies the editable fields of a request onto a ticket.
+     * The position no longer orders tickets, which the rank does; it is still stored for clients that send and
+     * read it, and orders the tickets that have no rank yet when they are first ranked.
+     * @param ticket the ticket to update
+     * @param dto the new ticket data
+     */
+    private void applyChanges(Ticket ticket, TicketRequestDTO dto) {
+        ticket.setTitle(dto.getTitle());
+        ticket.setDescription(dto.getDescription());
+        ticket.setPosition(dto.getPosition());
+
+        if (dto.getStoryPoints() != null) {
+            ticket.setStoryPoints(dto.getStoryPoints());
+        }
+
+        if (dto.getStatus() != null) {
+            ticket.setStatus(dto.getStatus());
+        }
+    }
+
+    /**
+     * Soft deletes a ticket; it is hard deleted later by the purger.
      * @param id the ID of the ticket to remove
      */
     public void deleteTicket(Long id){
@@ -134,7 +459,9 @@ public class TicketService {
                 .orElseThrow(TicketNotFoundException::new);
 
         projectSecurity.validateUserAccess(ticket.getBoard().getProject());
-        ticketRepository.deleteById(id);
+        ticket.markDeleted();
+        ticketRepository.save(ticket);
+        eventPublisher.publishEvent(new TicketChanged(TicketEventType.DELETED, ticket.getBoard().getId(), id, null));
     }
 
     /**
@@ -142,12 +469,13 @@ public class TicketService {
      * @param boardId the ID of the board
      * @return a list of boards associated with the board
      */
+    @Transactional(readOnly = true)
     public List<TicketResponseDTO> getTicketsByBoardId(Long boardId){
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
         boardRepository.findById(boardId)
                 .orElseThrow(BoardNotFoundException::new);
 
-        List<Ticket> tickets;
+        List<TicketView> tickets;
         if (projectSecurity.isUserAdmin()) {
             tickets = ticketRepository.findByBoardId(boardId);
         } else {
@@ -157,26 +485,103 @@ public class TicketService {
         return tickets.stream().map(TicketDTOMapper::toDTO).toList();
     }
 
+    /**
+     * Returns the entity tag of the current ticket list of a board, without reading the database once the board is known.
+     * The tag must be taken before the list is loaded, so it is never newer than the list it is sent with.
+     * @param boardId the ID of the board
+     * @return the entity tag, or null if the user cannot see the board
+     */
+    public String getTicketsETag(Long boardId){
+        if (!projectSecurity.canAccess(boardProjectId(boardId))) {
+            return null;
+        }
+        return BoardVersions.etag(boardId, boardVersions.version(boardId));
+    }
+
+    /**
+     * Lists the tickets of a board changed or removed since a version the client already has.
+     * Falls back to the full list when the version is older than the removals still remembered.
+     * @param boardId the ID of the board
+     * @param since the version of the client copy
+     * @return the changed tickets, the removed ticket IDs and the version they bring the client to
+     */
+    @Transactional(readOnly = true)
+    public TicketDeltaDTO getTicketsChangedSince(Long boardId, long since){
+        Long projectId = boardProjectId(boardId);
+        long version = boardVersions.version(boardId);
+
+        if (!projectSecurity.canAccess(projectId)) {
+            return new TicketDeltaDTO(version, true, List.of(), List.of());
+        }
+
+        Optional<List<Long>> removed = boardVersions.removedSince(boardId, since);
+        if (removed.isEmpty()) {
+            List<TicketResponseDTO> tickets = ticketRepository.findByBoardId(boardId).stream()
+                    .map(TicketDTOMapper::toDTO)
+                    .toList();
+            return new TicketDeltaDTO(version, true, tickets, List.of());
+        }
+
+        List<TicketResponseDTO> changed = ticketRepository.findChangedSince(boardId, boardVersions.changedAfter(since)).stream()
+                .map(TicketDTOMapper::toDTO)
+                .toList();
+        Set<Long> changedIds = changed.stream().map(TicketResponseDTO::getId).collect(Collectors.toSet());
+        List<Long> deletedIds = removed.get().stream()
+                .filter(id -> !changedIds.contains(id))
+                .distinct()
+                .toList();
+
+        return new TicketDeltaDTO(version, false, changed, deletedIds);
+    }
+
+    private Long boardProjectId(Long boardId){
+        return boardVersions.projectId(boardId, () -> boardRepository.findProjectIdById(boardId)
+                .orElseThrow(BoardNotFoundException::new));
+    }
+
+    /**
+     * Retrieves one page of the tickets of a board, ordered by rank and ID.
+     * @param boardId the ID of the board
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the maximum number of tickets to return
+     * @return the page of tickets and the cursor of the next page
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDTO<TicketResponseDTO> getTicketsPageByBoardId(Long boardId, String cursor, int size){
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        boardRepository.findById(boardId)
+                .orElseThrow(BoardNotFoundException::new);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        List<TicketView> tickets;
+        if (projectSecurity.isUserAdmin()) {
+            tickets = ticketRepository.findPageByBoardAfter(boardId, after.rankOrStart(), after.id(), KeysetCursor.limit(size));
+        } else {
+            tickets = ticketRepository.findPageByBoardAndUserAfter(boardId, username, after.rankOrStart(), after.id(), KeysetCursor.limit(size));
+        }
+
+        return PageBuilder.build(tickets, size, TicketDTOMapper::toDTO, t -> new KeysetCursor(t.getRank(), t.getId()));
+    }
+
     /**
      * Validates and assigns a user to a ticket, ensuring they belong to the project.
      * Sends an email notification if a new user is assigned.
      * @param ticket the ticket to update
      * @param assignedUserId the ID of the user to assign
      * @param project the project context for validation
+     * @param users the function used to find the user by ID
      */
-    private void assignUserToTicketIfValid(Ticket ticket, Long assignedUserId, Project project) {
+    private void assignUserToTicketIfValid(Ticket ticket, Long assignedUserId, Project project, Function<Long, Optional<User>> users) {
         if (assignedUserId != null) {
 
             Long currentAssigneeId = ticket.getAssignedUser() != null ? ticket.getAssignedUser().getId() : null;
             boolean isNewAssignment = !assignedUserId.equals(currentAssigneeId);
 
-            User assignee = userRepository.findById(assignedUserId)
+            User assignee = users.apply(assignedUserId)
                     .orElseThrow(UserNotFoundException::new);
 
-            boolean isUserInProject = project.getUsers().stream()
-                    .anyMatch(u -> u.getId().equals(assignedUserId));
-
-            if (!isUserInProject) {
+            if (!projectSecurity.isMember(project, assignedUserId)) {
                 throw new UserNotInProjectException();
             }
 
@@ -190,9 +595,9 @@ public class TicketService {
                     "Enter the Kanban Board app to see the details and tasks.\n\n";
 
                 try {
-                    emailService.sendSimpleEmail(assignee.getEmail(), subject, body);
+                    emailService.enqueue(assignee.getEmail(), subject, body);
                 } catch (Exception e) {
-                    log.error("Error sending email to {}: {}", assignee.getEmail(), e.getMessage());
+                    log.error("Error queueing email to {}: {}", assignee.getEmail(), e.getMessage());
                 }
             }
         } else {
@@ -201,23 +606,61 @@ public class TicketService {
     }
 
     /**
-     * Searches for tickets by title across all accessible projects.
-     * @param query the search keyword
-     * @return a list of matching tickets the user is allowed to see
+     * Searches for tickets by title and description across all accessible projects.
+     * @param query the search keywords
+     * @return a list of matching tickets the user is allowed to see, most relevant first
      */
+    @Transactional(readOnly = true)
     public List<TicketResponseDTO> searchTickets(String query) {
         String username = SecurityContextHolder
                 .getContext().getAuthentication().getName();
 
-        List<Ticket> tickets;
-        if (projectSecurity.isUserAdmin()) {
-            tickets = ticketRepository.findByTitleContainingIgnoreCase(query);
-        } else {
-            tickets = ticketRepository.searchByTitleAndUser(query, username);
+        List<Long> projectIds = projectSecurity.isUserAdmin()
+                ? null
+                : projectSecurity.getMemberProjectIds(username);
+
+        List<Long> ids = ticketSearchIndex.search(query, projectIds);
+        if (ids.isEmpty()) {
+            return List.of();
         }
 
-        return tickets.stream()
+        Map<Long, TicketView> tickets = ticketRepository.findViewsById(ids).stream()
+                .collect(Collectors.toMap(TicketView::getId, Function.identity()));
+
+        return ids.stream()
+                .map(tickets::get)
+                .filter(Objects::nonNull)
                 .map(TicketDTOMapper::toDTO)
                 .toList();
     }
+
+    /**
+     * Suggests tickets whose title, or any word onwards of it, starts with the typed prefix.
+     * Results are cached per user until the next ticket write.
+     * @param prefix the typed text
+     * @param limit the maximum number of suggestions
+     * @return the matching tickets the user is allowed to see, whole-title matches first
+     */
+    @Transactional(readOnly = true)
+    public List<TicketSuggestionDTO> suggestTickets(String prefix, int limit) {
+        String text = TicketSuggestionIndex.normalize(prefix);
+        if (text.isEmpty()) {
+            return List.of();
+        }
+
+        String username = SecurityContextHolder
+                .getContext().getAuthentication().getName();
+
+        List<TicketSuggestion> suggestions = ticketSuggestionCache.get(username, text, limit, ticketSuggestionIndex.version(), () -> {
+            List<Long> projectIds = projectSecurity.isUserAdmin()
+                    ? null
+                    : projectSecurity.getMemberProjectIds(username);
+
+            return ticketSuggestionIndex.suggest(text, projectIds, limit);
+        });
+
+        return suggestions.stream()
+                .map(TicketDTOMapper::toSuggestionDTO)
+                .toList();
+    }
 }
@@ -0,0 +1,98 @@
+package com.andreea.ticket_tracker.storage;
+
+import com.andreea.ticket_tracker.repository.EntityCacheEvictor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves profile pictures still stored as Base64 data URLs in the users table into the picture store.
+ * Runs once at startup and does nothing when the legacy column is absent or empty.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LegacyProfilePictureMigration implements ApplicationRunner {
+
+    private static final String DATA_URL_PREFIX = "data:";
+    private static final String BASE64_MARKER = ";base64,";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProfilePictureStore profilePictureStore;
+    private final ProfilePictureProcessor profilePictureProcessor;
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    /**
+     * Migrates every legacy picture, one user at a time.
+     * @param args the application arguments
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Long> ids;
+        try {
+            ids = jdbcTemplate.queryForList("SELECT id FROM users WHERE profile_picture IS NOT NULL", Long.class);
+        } catch (DataAccessException e) {
+            log.debug("No legacy profile pictures to migrate: {}", e.getMessage());
+            return;
+        }
+
+        ids.forEach(this::migrate);
+
+        if (!ids.isEmpty()) {
+            log.info("Migrated {} legacy profile pictures", ids.size());
+        }
+    }
+
+    /**
+     * Moves the picture of one user and clears the legacy column.
+     * @param id user ID
+     */
+    private void migrate(Long id) {
+        String dataUrl = jdbcTemplate.queryForObject("SELECT profile_picture FROM users WHERE id = ?", String.class, id);
+        Map.Entry<String, byte[]> decoded = decode(dataUrl);
+
+        if (decoded == null) {
+            log.warn("Dropping unreadable legacy profile picture of user {}", id);
+            jdbcTemplate.update("UPDATE users SET profile_picture = NULL WHERE id = ?", id);
+            entityCacheEvictor.evictUser(id);
+            return;
+        }
+
+        String etag = profilePictureStore.save(id, new ByteArrayInputStream(decoded.getValue()));
+        jdbcTemplate.update(
+                "UPDATE users SET profile_picture = NULL, profile_picture_etag = ?, profile_picture_content_type = ? WHERE id = ?",
+                etag, decoded.getKey(), id);
+        entityCacheEvictor.evictUser(id);
+        profilePictureProcessor.scheduleThumbnails(id, etag);
+    }
+
+    /**
+     * Splits a Base64 data URL into its media type and bytes.
+     * @param dataUrl the legacy picture value
+     * @return the media type and bytes, or null if the value is not an image data URL
+     */
+    private Map.Entry<String, byte[]> decode(String dataUrl) {
+        if (dataUrl == null || !dataUrl.startsWith(DATA_URL_PREFIX)) return null;
+
+        int marker = dataUrl.indexOf(BASE64_MARKER);
+        if (marker < 0) return null;
+
+        String contentType = dataUrl.substring(DATA_URL_PREFIX.length(), marker);
+        if (!contentType.startsWith("image/")) return null;
+
+        try {
+            return Map.entry(contentType, Base64.getDecoder().decode(dataUrl.substring(marker + BASE64_MARKER.length())));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.andreea.ticket_tracker.storage;
+
+import com.andreea.ticket_tracker.exceptions.InvalidProfilePictureException;
+import com.andreea.ticket_tracker.exceptions.ProfilePictureTooLargeException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Validates uploaded profile pictures and generates their thumbnails in the background.
+ * Validation only reads the image header; thumbnails come from a single, subsampled decode of the original.
+ */
+@Component
+@Slf4j
+public class ProfilePictureProcessor {
+
+    private final ProfilePictureStore profilePictureStore;
+    private final ExecutorService thumbnailers;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final long maxBytes;
+    private final long maxPixels;
+
+    public ProfilePictureProcessor(ProfilePictureStore profilePictureStore,
+                                   @Value("${app.storage.profile-pictures.max-bytes:5242880}") long maxBytes,
+                                   @Value("${app.storage.profile-pictures.max-pixels:16777216}") long maxPixels,
+                                   @Value("${app.storage.profile-pictures.thumbnail-workers:1}") int workers) {
+        this.profilePictureStore = profilePictureStore;
+        this.maxBytes = maxBytes;
+        this.maxPixels = maxPixels;
+        this.thumbnailers = Executors.newFixedThreadPool(workers);
+    }
+
+    /**
+     * Checks the size and format of an upload by reading only its header.
+     * @param file the uploaded image
+     * @return the media type detected from the image content
+     */
+    public String validate(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new InvalidProfilePictureException();
+        }
+        if (file.getSize() > maxBytes) {
+            throw new ProfilePictureTooLargeException();
+        }
+
+        try (InputStream content = file.getInputStream();
+             ImageInputStream image = ImageIO.createImageInputStream(content)) {
+            ImageReader reader = readerFor(image);
+
+            try {
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new ProfilePictureTooLargeException();
+                }
+
+                String[] mimeTypes = reader.getOriginatingProvider().getMIMETypes();
+                if (mimeTypes == null || mimeTypes.length == 0) {
+                    throw new InvalidProfilePictureException();
+                }
+
+                return mimeTypes[0];
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new InvalidProfilePictureException();
+        }
+    }
+
+    /**
+     * Queues thumbnail generation for a stored original, unless it is already queued.
+     * @param userId the ID of the owner
+     * @param etag the ETag of the original
+     */
+    public void scheduleThumbnails(Long userId, String etag) {
+        String key = userId + "-" + etag;
+
+        if (pending.add(key)) {
+            thumbnailers.execute(() -> {
+                try {
+                    generateThumbnails(userId, etag);
+                } catch (Exception e) {
+                    log.warn("Could not generate thumbnails for user {}: {}", userId, e.getMessage());
+                } finally {
+                    pending.remove(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Decodes the original once and writes every thumbnail size, largest first.
+     * Large originals are subsampled while decoding so only about the largest thumbnail size is held in memory.
+     * @param userId the ID of the owner
+     * @param etag the ETag of the original
+     * @throws IOException if the original cannot be read
+     */
+    void generateThumbnails(Long userId, String etag) throws IOException {
+        BufferedImage source;
+
+        try (ImageInputStream image = ImageIO.createImageInputStream(profilePictureStore.locate(userId).toFile())) {
+            ImageReader reader = readerFor(image);
+
+            try {
+                int edge = Math.min(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, edge / ProfilePictureSize.LARGE.pixels());
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                source = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        BufferedImage current = cropToSquare(source);
+        ProfilePictureSize[] sizes = ProfilePictureSize.values();
+
+        for (int i = sizes.length - 1; i >= 0; i--) {
+            current = scale(current, sizes[i].pixels());
+            profilePictureStore.saveThumbnail(userId, etag, sizes[i], current);
+        }
+    }
+
+    /**
+     * Stops the thumbnail pool on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        thumbnailers.shutdown();
+    }
+
+    /**
+     * Finds a reader able to decode the image and attaches it to the stream.
+     * @param image the image stream
+     * @return the reader positioned on the image
+     */
+    private ImageReader readerFor(ImageInputStream image) {
+        if (image == null) {
+            throw new InvalidProfilePictureException();
+        }
+
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(image);
+        if (!readers.hasNext()) {
+            throw new InvalidProfilePictureException();
+        }
+
+        ImageReader reader = readers.next();
+        reader.setInput(image, true, true);
+        return reader;
+    }
+
+    /**
+     * Crops the centre square out of an image.
+     * @param image the image to crop
+     * @return the square crop
+     */
+    private BufferedImage cropToSquare(BufferedImage image) {
+        int edge = Math.min(image.getWidth(), image.getHeight());
+
+        return image.getSubimage((image.getWidth() - edge) / 2, (image.getHeight() - edge) / 2, edge, edge);
+    }
+
+    /**
+     * Scales a square image down to the target edge, halving at most once per step to avoid aliasing.
+     * @param image the square image
+     * @param target the target edge length
+     * @return the scaled image
+     */
+    private BufferedImage scale(BufferedImage image, int target) {
+        BufferedImage current = image;
+        int edge = current.getWidth();
+
+        do {
+            edge = Math.max(target, edge / 2);
+
+            BufferedImage scaled = new BufferedImage(edge, edge, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = scaled.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(current, 0, 0, edge, edge, null);
+            graphics.dispose();
+
+            current = scaled;
+        } while (edge > target);
+
+        return current;
+    }
+}
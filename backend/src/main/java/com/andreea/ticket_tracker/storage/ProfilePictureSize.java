@@ -0,0 +1,51 @@
+package com.andreea.ticket_tracker.storage;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Square thumbnail sizes generated for every profile picture.
+ */
+public enum ProfilePictureSize {
+
+    /**
+     * Inline avatars, e.g. ticket assignees.
+     */
+    SMALL(32),
+
+    /**
+     * Avatars in user and member lists.
+     */
+    MEDIUM(64),
+
+    /**
+     * The profile page.
+     */
+    LARGE(256);
+
+    private final int pixels;
+
+    ProfilePictureSize(int pixels) {
+        this.pixels = pixels;
+    }
+
+    /**
+     * Returns the edge length of the thumbnail.
+     * @return the size in pixels
+     */
+    public int pixels() {
+        return pixels;
+    }
+
+    /**
+     * Picks the smallest thumbnail at least as large as the requested size, or the largest one.
+     * @param pixels the requested edge length
+     * @return the best fitting thumbnail size
+     */
+    public static ProfilePictureSize fitting(int pixels) {
+        return Arrays.stream(values())
+                .filter(size -> size.pixels >= pixels)
+                .min(Comparator.comparingInt(ProfilePictureSize::pixels))
+                .orElse(LARGE);
+    }
+}
@@ -0,0 +1,144 @@
+package com.andreea.ticket_tracker.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Stores profile pictures as binary files on the local filesystem, one directory per user.
+ * Pictures are written and read as streams so they are never held in memory as a whole.
+ * Thumbnails are stored next to the original and named after the ETag of the original they were made from.
+ */
+@Component
+@Slf4j
+public class ProfilePictureStore {
+
+    static final String ORIGINAL = "original";
+    static final String THUMBNAIL_FORMAT = "png";
+
+    private final Path root;
+
+    public ProfilePictureStore(@Value("${app.storage.profile-pictures.dir:uploads/profile-pictures}") String root) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Writes a picture for a user, replacing any previous one.
+     * The content is streamed to a temporary file and moved into place once complete.
+     * @param userId the ID of the owner
+     * @param content the picture bytes
+     * @return the ETag of the stored content
+     */
+    public String save(Long userId, InputStream content) {
+        try {
+            Path directory = Files.createDirectories(directoryOf(userId));
+            Path temp = Files.createTempFile(directory, ORIGINAL, ".tmp");
+
+            try (DigestInputStream digesting = new DigestInputStream(content, MessageDigest.getInstance("SHA-256"))) {
+                Files.copy(digesting, temp, StandardCopyOption.REPLACE_EXISTING);
+                deleteThumbnails(directory);
+                Files.move(temp, directory.resolve(ORIGINAL), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+                return HexFormat.of().formatHex(digesting.getMessageDigest().digest(), 0, 16);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Resolves the stored picture of a user.
+     * @param userId the ID of the owner
+     * @return the path of the picture file
+     */
+    public Path locate(Long userId) {
+        return directoryOf(userId).resolve(ORIGINAL);
+    }
+
+    /**
+     * Resolves a thumbnail of the stored picture of a user.
+     * @param userId the ID of the owner
+     * @param etag the ETag of the original the thumbnail was made from
+     * @param size the thumbnail size
+     * @return the path of the thumbnail file
+     */
+    public Path locate(Long userId, String etag, ProfilePictureSize size) {
+        return directoryOf(userId).resolve(size.pixels() + "-" + etag + "." + THUMBNAIL_FORMAT);
+    }
+
+    /**
+     * Writes a thumbnail of the stored picture of a user.
+     * @param userId the ID of the owner
+     * @param etag the ETag of the original the thumbnail was made from
+     * @param size the thumbnail size
+     * @param image the scaled image
+     */
+    public void saveThumbnail(Long userId, String etag, ProfilePictureSize size, BufferedImage image) {
+        try {
+            Path directory = Files.createDirectories(directoryOf(userId));
+            Path temp = Files.createTempFile(directory, String.valueOf(size.pixels()), ".tmp");
+
+            try {
+                ImageIO.write(image, THUMBNAIL_FORMAT, temp.toFile());
+                Files.move(temp, locate(userId, etag, size), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Removes every stored file of a user.
+     * @param userId the ID of the owner
+     */
+    public void delete(Long userId) {
+        try {
+            FileSystemUtils.deleteRecursively(directoryOf(userId));
+        } catch (IOException e) {
+            log.warn("Could not delete profile picture of user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * Removes the thumbnails of a previous original.
+     * @param directory the user's directory
+     * @throws IOException if the directory cannot be listed
+     */
+    private void deleteThumbnails(Path directory) throws IOException {
+        try (DirectoryStream<Path> thumbnails = Files.newDirectoryStream(directory, "*." + THUMBNAIL_FORMAT)) {
+            for (Path thumbnail : thumbnails) {
+                Files.deleteIfExists(thumbnail);
+            }
+        }
+    }
+
+    /**
+     * Resolves the directory holding the files of a user.
+     * @param userId the ID of the owner
+     * @return the user's directory
+     */
+    private Path directoryOf(Long userId) {
+        return root.resolve(String.valueOf(userId));
+    }
+}
@@ -0,0 +1,38 @@
+package com.andreea.ticket_tracker.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A stored profile picture ready to be streamed to a client.
+ * @param etag the ETag of the picture content
+ * @param version the upload version this is the final representation of, or null if it is a stand-in
+ * @param contentType the media type of the picture
+ * @param path the file holding the picture
+ */
+public record StoredPicture(String etag, String version, String contentType, Path path) {
+
+    /**
+     * Returns the size of the picture file.
+     * @return the size in bytes
+     */
+    public long size() {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Streams the picture to the given output.
+     * @param out the stream to write to
+     * @throws IOException if the file cannot be read
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        Files.copy(path, out);
+    }
+}
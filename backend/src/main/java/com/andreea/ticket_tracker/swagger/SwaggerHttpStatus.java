@@ -11,10 +11,16 @@ public class SwaggerHttpStatus {
 
     public static final String OK = "200";
 
+    public static final String ACCEPTED = "202";
+
     public static final String NO_CONTENT = "204";
 
+    public static final String NOT_MODIFIED = "304";
+
     public static final String BAD_REQUEST = "400";
 
+    public static final String NOT_FOUND = "404";
+
     public static final String INTERNAL_SERVER_ERROR = "500";
 
 }
@@ -24,15 +24,20 @@ public class SwaggerMessages {
      */
     public static final String RETURN_PROJECTS = "Returns all the projects.";
 
+    /**
+     * Message when a page of projects was returned.
+     */
+    public static final String RETURN_PROJECTS_PAGE = "Returns a page of projects and the cursor of the next page.";
+
     /**
      * Message when project was successfully updated.
      */
     public static final String PROJECT_SUCCESSFULLY_UPDATED = "Project updated successfully.";
 
     /**
-     * Message when project was successfully deleted.
+     * Message when project was hidden and queued for deletion.
      */
-    public static final String PROJECT_SUCCESSFULLY_DELETED = "Project deleted successfully.";
+    public static final String PROJECT_SUCCESSFULLY_DELETED = "Project deleted; returns the job removing its boards and tickets.";
 
     /**
      * Message when board was successfully created.
@@ -49,15 +54,20 @@ public class SwaggerMessages {
      */
     public static final String RETURN_BOARDS = "Returns all the boards.";
 
+    /**
+     * Message when a page of boards was returned.
+     */
+    public static final String RETURN_BOARDS_PAGE = "Returns a page of boards and the cursor of the next page.";
+
     /**
      * Message when board was successfully updated.
      */
     public static final String BOARD_SUCCESSFULLY_UPDATED = "Board updated successfully.";
 
     /**
-     * Message when board was successfully deleted.
+     * Message when board was hidden and queued for deletion.
      */
-    public static final String BOARD_SUCCESSFULLY_DELETED = "Board deleted successfully.";
+    public static final String BOARD_SUCCESSFULLY_DELETED = "Board deleted; returns the job removing its tickets.";
 
     /**
      * Message when ticket was successfully created.
@@ -74,6 +84,21 @@ public class SwaggerMessages {
      */
     public static final String RETURN_TICKETS = "Returns all the tickets.";
 
+    /**
+     * Message when a page of tickets was returned.
+     */
+    public static final String RETURN_TICKETS_PAGE = "Returns a page of tickets and the cursor of the next page.";
+
+    /**
+     * Message when the ticket list of a board has not changed since the client cached it.
+     */
+    public static final String TICKETS_NOT_MODIFIED = "Tickets not modified.";
+
+    /**
+     * Message when the changes to the tickets of a board were returned.
+     */
+    public static final String RETURN_TICKETS_DELTA = "Returns the tickets changed or removed since the given version.";
+
     /**
      * Message when ticket was successfully updated.
      */
@@ -89,6 +114,11 @@ public class SwaggerMessages {
      */
     public static final String BAD_REQUEST = "Bad Request.";
 
+    /**
+     * Message when the requested resource does not exist.
+     */
+    public static final String NOT_FOUND = "Not Found.";
+
     /**
      * Message when a problem occurred on the server.
      */
@@ -129,6 +159,11 @@ public class SwaggerMessages {
      */
     public static final String RETURN_USERS_BY_PROJECT = "Returns all users by project Id";
 
+    /**
+     * Message when the tickets of a project are exported.
+     */
+    public static final String EXPORT_PROJECT_TICKETS = "Streams every ticket of the project as NDJSON or CSV.";
+
     /**
      * Message when user was removed from project.
      */
@@ -149,8 +184,43 @@ public class SwaggerMessages {
      */
     public static final String PROFILE_PICTURE_SUCCESSFULLY_DELETED = "Profile picture deleted successfully.";
 
+    /**
+     * Message when returning a profile picture.
+     */
+    public static final String RETURN_PROFILE_PICTURE = "Returns the profile picture.";
+
+    /**
+     * Message when a profile picture has not changed since the client cached it.
+     */
+    public static final String PROFILE_PICTURE_NOT_MODIFIED = "Profile picture not modified.";
+
     /**
      * Message when tickets are returned based on a search query.
      */
     public static final String SEARCH_TICKETS = "Returns tickets matching the search query.";
+
+    /**
+     * Message when ticket suggestions are returned for a typed prefix.
+     */
+    public static final String SUGGEST_TICKETS = "Returns tickets whose title matches the typed prefix.";
+
+    /**
+     * Message when a batch of ticket operations is applied.
+     */
+    public static final String TICKETS_BULK_APPLIED = "Ticket operations applied successfully.";
+
+    /**
+     * Message when a ticket is moved.
+     */
+    public static final String TICKET_SUCCESSFULLY_MOVED = "Ticket moved successfully.";
+
+    /**
+     * Message when the ticket changes of a board are streamed.
+     */
+    public static final String STREAM_BOARD_EVENTS = "Streams the ticket changes of the board.";
+
+    /**
+     * Message when the progress of a deletion job is returned.
+     */
+    public static final String RETURN_DELETION_JOB = "Returns the progress of the deletion job.";
 }
@@ -0,0 +1,98 @@
+package com.andreea.ticket_tracker.threading;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor starting a new virtual thread for every task, with a semaphore limiting how many tasks run at once.
+ * Virtual threads are cheap to create and not meant to be pooled; a task over the limit parks its own thread
+ * until a permit frees up, where a fixed pool would have queued it.
+ */
+class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+    private final ThreadFactory threadFactory;
+    private final Semaphore permits;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private volatile boolean shutdown;
+
+    BoundedVirtualThreadExecutor(ThreadFactory threadFactory, int maxConcurrent) {
+        this.threadFactory = threadFactory;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    @Override
+    public synchronized void execute(Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+
+        Thread thread = threadFactory.newThread(() -> run(task));
+        threads.add(thread);
+        thread.start();
+    }
+
+    /**
+     * Runs a task once a permit is free, and forgets its thread when done.
+     */
+    private void run(Runnable task) {
+        try {
+            permits.acquire();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            threads.remove(Thread.currentThread());
+        }
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+    }
+
+    /**
+     * Shuts down and interrupts every task, including those still waiting for a permit.
+     * @return an empty list, as waiting tasks are held by their threads rather than queued
+     */
+    @Override
+    public synchronized List<Runnable> shutdownNow() {
+        shutdown = true;
+        threads.forEach(Thread::interrupt);
+        return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && threads.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        for (Thread thread : threads) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            TimeUnit.NANOSECONDS.timedJoin(thread, remaining);
+        }
+
+        return isTerminated();
+    }
+}
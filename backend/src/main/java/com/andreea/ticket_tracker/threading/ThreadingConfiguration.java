@@ -0,0 +1,50 @@
+package com.andreea.ticket_tracker.threading;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configures the virtual thread mode, switched on with {@code spring.threads.virtual.enabled} on Java 21 or later.
+ * Spring Boot then runs Tomcat, the MVC async executor and the scheduler on virtual threads;
+ * this configuration moves the blocking background workers over too and adapts the connection pool.
+ */
+@Configuration
+public class ThreadingConfiguration {
+
+    /**
+     * Creates the factory of the background worker pools.
+     * @param environment the application environment
+     * @return the worker pool factory, in virtual thread mode when it is active
+     */
+    @Bean
+    public WorkerThreads workerThreads(Environment environment) {
+        return new WorkerThreads(Threading.VIRTUAL.isActive(environment));
+    }
+
+    /**
+     * Turns the connection pool into a fixed-size pool with a short wait in virtual thread mode.
+     * Tomcat's thread limit no longer caps how many requests reach the database at once, so the pool becomes that cap:
+     * it stays at {@code spring.datasource.hikari.maximum-pool-size}, which should match what the database serves
+     * in parallel, never shrinks under bursts, and lets a request wait for a connection only briefly before failing.
+     * @param environment the application environment
+     * @return the post-processor adjusting the Hikari data source
+     */
+    @Bean
+    public static BeanPostProcessor virtualThreadPoolSizing(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && Threading.VIRTUAL.isActive(environment)) {
+                    dataSource.setMinimumIdle(dataSource.getMaximumPoolSize());
+                    dataSource.setConnectionTimeout(environment.getProperty(
+                            "app.datasource.virtual-threads.connection-timeout-ms", Long.class, 5000L));
+                }
+                return bean;
+            }
+        };
+    }
+}
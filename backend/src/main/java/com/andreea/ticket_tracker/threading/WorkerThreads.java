@@ -0,0 +1,43 @@
+package com.andreea.ticket_tracker.threading;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the thread pools of the background workers that block on SMTP or JDBC.
+ * The pool size still bounds how many tasks run at once, but in virtual thread mode every task gets a new virtual thread,
+ * so a task waiting on the network releases its carrier thread instead of holding a platform thread.
+ */
+public class WorkerThreads {
+
+    private final boolean virtual;
+
+    public WorkerThreads(boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    /**
+     * Tells whether the application runs in virtual thread mode.
+     * @return true if workers run on virtual threads
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Creates a pool running at most the given number of tasks at once, on threads named after the pool.
+     * In virtual thread mode the bound is a semaphore rather than a fixed set of reused threads.
+     * @param name the name prefix of the pool's threads
+     * @param size the maximum number of concurrent tasks
+     * @return the new pool
+     */
+    public ExecutorService newPool(String name, int size) {
+        if (virtual) {
+            return new BoundedVirtualThreadExecutor(new VirtualThreadTaskExecutor(name + "-").getVirtualThreadFactory(), size);
+        }
+        return Executors.newFixedThreadPool(size, new CustomizableThreadFactory(name + "-"));
+    }
+}
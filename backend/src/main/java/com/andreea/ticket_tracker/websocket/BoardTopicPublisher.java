@@ -0,0 +1,34 @@
+package com.andreea.ticket_tracker.websocket;
+
+import com.andreea.ticket_tracker.dto.response.TicketEventDTO;
+import com.andreea.ticket_tracker.events.TicketChanged;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Broadcasts ticket changes to the STOMP topic of their board once the write commits.
+ * The in-memory broker only fans a message out to the sessions subscribed to that topic.
+ */
+@Component
+public class BoardTopicPublisher {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public BoardTopicPublisher(SimpMessageSendingOperations messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    /**
+     * Sends a ticket change to the subscribers of its board.
+     * @param change the ticket change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChanged change) {
+        TicketEventDTO event = new TicketEventDTO(sequence.incrementAndGet(), change.type(), change.ticketId(), change.ticket());
+        messagingTemplate.convertAndSend(WebSocketConfiguration.BOARD_TOPIC_PREFIX + change.boardId(), event);
+    }
+}
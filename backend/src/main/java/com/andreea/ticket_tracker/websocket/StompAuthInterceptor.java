@@ -0,0 +1,185 @@
+package com.andreea.ticket_tracker.websocket;
+
+import com.andreea.ticket_tracker.exceptions.BoardNotFoundException;
+import com.andreea.ticket_tracker.repository.BoardRepository;
+import com.andreea.ticket_tracker.security.config.CustomUserDetailsService;
+import com.andreea.ticket_tracker.security.config.JwtProvider;
+import com.andreea.ticket_tracker.security.config.PrincipalCache;
+import com.andreea.ticket_tracker.security.config.ProjectMembershipIndex;
+import io.jsonwebtoken.Claims;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Principal;
+
+/**
+ * Authenticates STOMP sessions and authorises their subscriptions.
+ * The JWT is parsed once, from the CONNECT frame; later frames reuse the principal stored on the session,
+ * so the token and the user are not looked up again per message. Subscribing to a board topic requires
+ * membership of the board's project, frames may only be sent to the application's handlers,
+ * and ticket commands run with the session's principal in the security context.
+ */
+@Component
+public class StompAuthInterceptor implements ExecutorChannelInterceptor {
+
+    private final JwtProvider jwtProvider;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final PrincipalCache principalCache;
+    private final ProjectMembershipIndex membershipIndex;
+    private final BoardRepository boardRepository;
+
+    public StompAuthInterceptor(JwtProvider jwtProvider, CustomUserDetailsService customUserDetailsService, PrincipalCache principalCache, ProjectMembershipIndex membershipIndex, BoardRepository boardRepository) {
+        this.jwtProvider = jwtProvider;
+        this.customUserDetailsService = customUserDetailsService;
+        this.principalCache = principalCache;
+        this.membershipIndex = membershipIndex;
+        this.boardRepository = boardRepository;
+    }
+
+    /**
+     * Authenticates CONNECT frames and checks SUBSCRIBE and SEND frames before they reach the broker or a handler.
+     * @param message the inbound frame
+     * @param channel the inbound channel
+     * @return the frame, with the principal attached on CONNECT
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+        } else if (command == StompCommand.SUBSCRIBE) {
+            authorizeSubscription(authentication(accessor.getUser()), accessor.getDestination());
+        } else if (command == StompCommand.SEND) {
+            authentication(accessor.getUser());
+            authorizeSend(accessor.getDestination());
+        }
+
+        return message;
+    }
+
+    /**
+     * Exposes the session's principal to the handler of a frame, so services can check access as they do for HTTP.
+     * @param message the frame about to be handled
+     * @param channel the inbound channel
+     * @param handler the handler of the frame
+     * @return the frame
+     */
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (SimpMessageHeaderAccessor.getUser(message.getHeaders()) instanceof Authentication authentication) {
+            SecurityContextHolder.setContext(new SecurityContextImpl(authentication));
+        }
+        return message;
+    }
+
+    /**
+     * Clears the security context once a frame has been handled.
+     * @param message the handled frame
+     * @param channel the inbound channel
+     * @param handler the handler of the frame
+     * @param ex the exception raised by the handler, if any
+     */
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Verifies the bearer token of a CONNECT frame and builds the session's principal.
+     * @param header the Authorization header of the frame
+     * @return the authenticated principal
+     */
+    private Authentication authenticate(String header) {
+        if (!StringUtils.hasText(header) || !header.startsWith("Bearer ")) {
+            throw new AuthenticationCredentialsNotFoundException("JWT Token is missing.");
+        }
+
+        Claims claims = jwtProvider.validateAndGetClaims(header.substring(7));
+        String username = claims.getSubject();
+
+        UserDetails userDetails = principalCache.isClaimsMode()
+                ? principalCache.fromClaims(username, claims.get("roles", String.class))
+                : principalCache.get(username, customUserDetailsService::loadUserByUsername);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    /**
+     * Allows subscriptions to the reply queue and to the topics of boards whose project the user is a member of.
+     * @param authentication the session's principal
+     * @param destination the subscribed destination
+     */
+    private void authorizeSubscription(Authentication authentication, String destination) {
+        if (destination == null) {
+            throw new AccessDeniedException("Subscription destination is missing.");
+        }
+        if (destination.equals(WebSocketConfiguration.USER_PREFIX + WebSocketConfiguration.REPLY_QUEUE)) {
+            return;
+        }
+        if (!destination.startsWith(WebSocketConfiguration.BOARD_TOPIC_PREFIX)) {
+            throw new AccessDeniedException("You do not have permission to subscribe to " + destination);
+        }
+
+        Long boardId;
+        try {
+            boardId = Long.valueOf(destination.substring(WebSocketConfiguration.BOARD_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new BoardNotFoundException();
+        }
+
+        boolean isAdmin = authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ADMIN") ||
+                        a.getAuthority().equals("ROLE_ADMIN"));
+        if (isAdmin) {
+            return;
+        }
+
+        Long projectId = boardRepository.findProjectIdById(boardId)
+                .orElseThrow(BoardNotFoundException::new);
+        if (!membershipIndex.isMember(projectId, authentication.getName())) {
+            throw new AccessDeniedException("You do not have permission to access this project.");
+        }
+    }
+
+    /**
+     * Allows frames sent to the application's handlers only, so clients cannot publish to the broker's
+     * topics and queues directly.
+     * @param destination the destination of the frame
+     */
+    private void authorizeSend(String destination) {
+        if (destination == null || !destination.startsWith(WebSocketConfiguration.APPLICATION_PREFIX + "/")) {
+            throw new AccessDeniedException("You do not have permission to send to " + destination);
+        }
+    }
+
+    /**
+     * Returns the principal of an authenticated session.
+     * @param user the principal stored on the session
+     * @return the principal as an authentication
+     */
+    private Authentication authentication(Principal user) {
+        if (user instanceof Authentication authentication) {
+            return authentication;
+        }
+        throw new AccessDeniedException("User is not authenticated");
+    }
+}
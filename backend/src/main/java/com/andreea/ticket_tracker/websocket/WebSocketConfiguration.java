@@ -0,0 +1,132 @@
+package com.andreea.ticket_tracker.websocket;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * STOMP over WebSocket configuration.
+ * Clients authenticate once in the CONNECT frame, subscribe to the topic of each board they watch,
+ * and send ticket commands to the application destinations over the same connection.
+ * Board topics are served by the in-memory simple broker; a session that cannot keep up
+ * with its send buffer or time limit is closed rather than holding messages for it indefinitely.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer {
+
+    /**
+     * Path of the WebSocket handshake.
+     */
+    public static final String ENDPOINT = "/ws";
+
+    /**
+     * Prefix of the topic each board's ticket changes are broadcast to, followed by the board ID.
+     */
+    public static final String BOARD_TOPIC_PREFIX = "/topic/boards/";
+
+    /**
+     * Destination, relative to the user prefix, that command replies are sent to.
+     */
+    public static final String REPLY_QUEUE = "/queue/replies";
+
+    public static final String APPLICATION_PREFIX = "/app";
+    public static final String USER_PREFIX = "/user";
+
+    private final StompAuthInterceptor stompAuthInterceptor;
+    private final TaskScheduler messageBrokerTaskScheduler;
+    private final String allowedOrigins;
+    private final long heartbeatMillis;
+    private final int inboundThreads;
+    private final int outboundThreads;
+    private final int sendTimeLimitMillis;
+    private final int sendBufferSizeLimit;
+    private final int messageSizeLimit;
+
+    public WebSocketConfiguration(StompAuthInterceptor stompAuthInterceptor,
+                                  @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler,
+                                  @Value("${frontend.url}") String allowedOrigins,
+                                  @Value("${app.websocket.heartbeat-ms:10000}") long heartbeatMillis,
+                                  @Value("${app.websocket.inbound-threads:8}") int inboundThreads,
+                                  @Value("${app.websocket.outbound-threads:16}") int outboundThreads,
+                                  @Value("${app.websocket.send-time-limit-ms:10000}") int sendTimeLimitMillis,
+                                  @Value("${app.websocket.send-buffer-size-kb:256}") int sendBufferSizeKb,
+                                  @Value("${app.websocket.message-size-kb:64}") int messageSizeKb) {
+        this.stompAuthInterceptor = stompAuthInterceptor;
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+        this.allowedOrigins = allowedOrigins;
+        this.heartbeatMillis = heartbeatMillis;
+        this.inboundThreads = inboundThreads;
+        this.outboundThreads = outboundThreads;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferSizeLimit = sendBufferSizeKb * 1024;
+        this.messageSizeLimit = messageSizeKb * 1024;
+    }
+
+    /**
+     * Registers the handshake endpoint for the frontend origin.
+     * Frames of a session are handled in the order they arrive, so consecutive moves of a ticket cannot swap.
+     * @param registry the endpoint registry
+     */
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint(ENDPOINT).setAllowedOriginPatterns(allowedOrigins);
+        registry.setPreserveReceiveOrder(true);
+    }
+
+    /**
+     * Enables the in-memory broker for board topics and reply queues, with heartbeats so dead sockets are noticed.
+     * @param registry the broker registry
+     */
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{heartbeatMillis, heartbeatMillis})
+                .setTaskScheduler(messageBrokerTaskScheduler);
+        registry.setApplicationDestinationPrefixes(APPLICATION_PREFIX);
+        registry.setUserDestinationPrefix(USER_PREFIX);
+        registry.setPreservePublishOrder(true);
+    }
+
+    /**
+     * Authenticates and authorises every inbound frame, on a bounded pool of threads.
+     * @param registration the inbound channel registration
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(inboundThreads)
+                .maxPoolSize(inboundThreads);
+    }
+
+    /**
+     * Writes outbound frames on a bounded pool of threads; ordering per session is kept by the broker.
+     * @param registration the outbound channel registration
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundThreads)
+                .maxPoolSize(outboundThreads);
+    }
+
+    /**
+     * Limits what a single session may buffer, so thousands of sockets fit in memory and slow ones are dropped.
+     * @param registration the transport registration
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+}
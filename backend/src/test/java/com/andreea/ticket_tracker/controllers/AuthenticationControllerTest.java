@@ -12,12 +12,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Base64;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -42,6 +49,9 @@ public class AuthenticationControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    private static final byte[] PNG = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mP8z8BQDwAEhQGAhKmMIQAAAABJRU5ErkJggg==");
+
     @BeforeEach
     void cleanDatabase() {
         userRepository.deleteAll();
@@ -190,15 +200,91 @@ public class AuthenticationControllerTest {
         user.setRole(Role.USER);
         userRepository.save(user);
 
-        String base64Image = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mP8z8BQDwAEhQGAhKmMIQAAAABJRU5ErkJggg==";
+        MockMultipartFile file = new MockMultipartFile("file", "avatar.png", MediaType.IMAGE_PNG_VALUE, PNG);
 
-        mockMvc.perform(put("/api/v1/auth/users/profile-picture")
-                        .contentType(MediaType.TEXT_PLAIN)
-                        .content(base64Image))
+        mockMvc.perform(multipart(HttpMethod.PUT, "/api/v1/auth/users/profile-picture")
+                        .file(file))
                 .andExpect(status().isOk());
 
         User updatedUser = userRepository.findByUsername("username").orElseThrow();
-        assertEquals(base64Image, updatedUser.getProfilePicture());
+        assertNotNull(updatedUser.getProfilePictureEtag());
+        assertEquals(MediaType.IMAGE_PNG_VALUE, updatedUser.getProfilePictureContentType());
+
+        mockMvc.perform(get("/api/v1/auth/me"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.profilePictureUrl", is("/api/v1/auth/users/" + updatedUser.getId()
+                        + "/profile-picture?v=" + updatedUser.getProfilePictureEtag() + "&size=256")));
+    }
+
+    @Test
+    @WithMockUser(username = "username", authorities = {"USER"})
+    void testUpdateProfilePictureRejectsNonImage() throws Exception {
+        User user = new User();
+        user.setFirstname("User");
+        user.setLastname("User");
+        user.setUsername("username");
+        user.setPassword("password");
+        user.setEmail("user@test.com");
+        user.setRole(Role.USER);
+        userRepository.save(user);
+
+        MockMultipartFile file = new MockMultipartFile("file", "notes.txt", MediaType.TEXT_PLAIN_VALUE, "text".getBytes());
+
+        mockMvc.perform(multipart(HttpMethod.PUT, "/api/v1/auth/users/profile-picture")
+                        .file(file))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("profile_picture_invalid")));
+    }
+
+    @Test
+    @WithMockUser(username = "username", authorities = {"USER"})
+    void testGetProfilePicture() throws Exception {
+        User user = new User();
+        user.setFirstname("User");
+        user.setLastname("User");
+        user.setUsername("username");
+        user.setPassword("password");
+        user.setEmail("user@test.com");
+        user.setRole(Role.USER);
+        user = userRepository.save(user);
+
+        mockMvc.perform(multipart(HttpMethod.PUT, "/api/v1/auth/users/profile-picture")
+                        .file(new MockMultipartFile("file", "avatar.png", MediaType.IMAGE_PNG_VALUE, PNG)))
+                .andExpect(status().isOk());
+
+        String etag = userRepository.findById(user.getId()).orElseThrow().getProfilePictureEtag();
+        String url = "/api/v1/auth/users/" + user.getId() + "/profile-picture";
+
+        MvcResult result = mockMvc.perform(get(url).param("v", etag))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + etag + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(content().bytes(PNG));
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "\"" + etag + "\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @WithMockUser(username = "username", authorities = {"USER"})
+    void testGetMissingProfilePicture() throws Exception {
+        User user = new User();
+        user.setFirstname("User");
+        user.setLastname("User");
+        user.setUsername("username");
+        user.setPassword("password");
+        user.setEmail("user@test.com");
+        user.setRole(Role.USER);
+        user = userRepository.save(user);
+
+        mockMvc.perform(get("/api/v1/auth/users/" + user.getId() + "/profile-picture"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", is("profile_picture_not_found")));
     }
 
     @Test
@@ -211,7 +297,8 @@ public class AuthenticationControllerTest {
         user.setPassword("password");
         user.setEmail("user@test.com");
         user.setRole(Role.USER);
-        user.setProfilePicture("existent-image-data");
+        user.setProfilePictureEtag("existent-etag");
+        user.setProfilePictureContentType(MediaType.IMAGE_PNG_VALUE);
         userRepository.save(user);
 
         mockMvc.perform(delete("/api/v1/auth/users/profile-picture")
@@ -219,6 +306,7 @@ public class AuthenticationControllerTest {
                 .andExpect(status().isOk());
 
         User updatedUser = userRepository.findByUsername("username").orElseThrow();
-        assertNull(updatedUser.getProfilePicture());
+        assertNull(updatedUser.getProfilePictureEtag());
+        assertNull(updatedUser.getProfilePictureContentType());
     }
 }
@@ -1,10 +1,12 @@
 package com.andreea.ticket_tracker.controllers;
 
 import com.andreea.ticket_tracker.dto.request.BoardRequestDTO;
+import com.andreea.ticket_tracker.dto.request.TicketRequestDTO;
 import com.andreea.ticket_tracker.entity.Board;
 import com.andreea.ticket_tracker.entity.Project;
 import com.andreea.ticket_tracker.repository.BoardRepository;
 import com.andreea.ticket_tracker.repository.ProjectRepository;
+import com.andreea.ticket_tracker.services.SoftDeletePurger;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,9 +16,16 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Instant;
+
+import static com.andreea.ticket_tracker.entity.TicketStatus.TODO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -38,8 +47,12 @@ public class BoardControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private SoftDeletePurger softDeletePurger;
+
     @BeforeEach
     void cleanDatabase() {
+        softDeletePurger.purge(Instant.now());
         boardRepository.deleteAll();
         projectRepository.deleteAll();
     }
@@ -176,9 +189,27 @@ public class BoardControllerTest {
 
         Long id = board.getId();
 
-        mockMvc.perform(delete("/api/v1/boards/" + id))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.message").value("Board deleted successfully"));
+        MvcResult accepted = mockMvc.perform(delete("/api/v1/boards/" + id))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.type").value("BOARD"))
+                .andExpect(jsonPath("$.targetId").value(id))
+                .andReturn();
+        String location = accepted.getResponse().getHeader("Location");
+        assertEquals("/api/v1/deletion-jobs/" + objectMapper.readTree(accepted.getResponse().getContentAsString()).get("id").asText(), location);
+
+        mockMvc.perform(get("/api/v1/boards/" + id))
+                .andExpect(status().isNotFound());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        String status;
+        do {
+            assertTrue(System.currentTimeMillis() < deadline, "Deletion job did not finish in time");
+            Thread.sleep(10);
+            status = objectMapper.readTree(mockMvc.perform(get(location))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString()).get("status").asText();
+        } while (!status.equals("COMPLETED") && !status.equals("FAILED"));
+        assertEquals("COMPLETED", status);
     }
 
     @Test
@@ -253,4 +284,48 @@ public class BoardControllerTest {
                 .andExpect(jsonPath("$[0].projectId").value(id))
                 .andExpect(jsonPath("$[1].projectId").value(id));
     }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testStreamBoardEvents() throws Exception {
+
+        Project project = new Project();
+        project.setName("Project");
+        project.setDescription("Desc");
+        project = projectRepository.save(project);
+
+        Board board = new Board();
+        board.setName("Board");
+        board.setDescription("Desc");
+        board.setProject(project);
+        board = boardRepository.save(board);
+
+        MvcResult stream = mockMvc.perform(get("/api/v1/boards/" + board.getId() + "/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        TicketRequestDTO dto = new TicketRequestDTO();
+        dto.setTitle("Streamed");
+        dto.setDescription("Desc");
+        dto.setPosition(1);
+        dto.setStatus(TODO);
+        dto.setBoardId(board.getId());
+
+        mockMvc.perform(post("/api/v1/tickets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = stream.getResponse().getContentAsString();
+        while (!content.contains("\"title\":\"Streamed\"") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = stream.getResponse().getContentAsString();
+        }
+
+        assertTrue(content.contains("event:ready"));
+        assertTrue(content.contains("event:ticket"));
+        assertTrue(content.contains("\"type\":\"CREATED\""));
+        assertTrue(content.contains("\"title\":\"Streamed\""));
+    }
 }
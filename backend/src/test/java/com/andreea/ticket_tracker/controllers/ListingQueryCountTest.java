@@ -0,0 +1,161 @@
+package com.andreea.ticket_tracker.controllers;
+
+import com.andreea.ticket_tracker.entity.*;
+import com.andreea.ticket_tracker.repository.BoardRepository;
+import com.andreea.ticket_tracker.repository.ProjectRepository;
+import com.andreea.ticket_tracker.repository.TicketRepository;
+import com.andreea.ticket_tracker.repository.UserRepository;
+import com.andreea.ticket_tracker.services.SoftDeletePurger;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests verifying that list endpoints run a constant number of SQL statements.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ListingQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SoftDeletePurger softDeletePurger;
+
+    private final List<User> users = new ArrayList<>();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        softDeletePurger.purge(Instant.now());
+        ticketRepository.deleteAll();
+        boardRepository.deleteAll();
+        projectRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUsers() {
+        softDeletePurger.purge(Instant.now());
+        ticketRepository.deleteAll();
+        userRepository.deleteAll(users);
+        users.clear();
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testTicketListingIsConstant() throws Exception {
+        seed(1, 2, 2);
+        long small = statementsFor("/api/v1/tickets");
+
+        seed(2, 4, 5);
+        long large = statementsFor("/api/v1/tickets");
+
+        assertEquals(small, large);
+        assertTrue(large <= 1, "Ticket listing ran " + large + " statements");
+        assertEquals(0, statistics.getEntityLoadCount(), "Ticket listing loaded entities instead of projections");
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testBoardListingIsConstant() throws Exception {
+        seed(1, 2, 2);
+        long small = statementsFor("/api/v1/boards");
+
+        seed(2, 4, 5);
+        long large = statementsFor("/api/v1/boards");
+
+        assertEquals(small, large);
+        assertTrue(large <= 2, "Board listing ran " + large + " statements");
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testProjectListingIsConstant() throws Exception {
+        seed(1, 2, 2);
+        long small = statementsFor("/api/v1/projects");
+
+        seed(2, 4, 5);
+        long large = statementsFor("/api/v1/projects");
+
+        assertEquals(small, large);
+        assertTrue(large <= 2, "Project listing ran " + large + " statements");
+    }
+
+    private long statementsFor(String url) throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seed(int projects, int boardsPerProject, int ticketsPerBoard) {
+        for (int p = 0; p < projects; p++) {
+            Project project = new Project();
+            project.setName("Project " + p);
+            project = projectRepository.save(project);
+
+            for (int b = 0; b < boardsPerProject; b++) {
+                Board board = new Board();
+                board.setName("Board " + b);
+                board.setProject(project);
+                board = boardRepository.save(board);
+
+                for (int t = 0; t < ticketsPerBoard; t++) {
+                    User user = new User();
+                    user.setFirstname("First");
+                    user.setLastname("Last");
+                    user.setUsername("qc" + users.size());
+                    user.setEmail("qc" + users.size() + "@test.com");
+                    user.setPassword("password");
+                    user.setRole(Role.USER);
+                    users.add(userRepository.save(user));
+
+                    Ticket ticket = new Ticket();
+                    ticket.setTitle("Ticket " + t);
+                    ticket.setPosition(t);
+                    ticket.setStatus(TicketStatus.TODO);
+                    ticket.setBoard(board);
+                    ticket.setAssignedUser(user);
+                    ticketRepository.save(ticket);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.andreea.ticket_tracker.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the Prometheus scrape endpoint and the application meters it exposes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+public class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testScrapeExposesApplicationMeters() throws Exception {
+        mockMvc.perform(get("/api/v1/projects").with(user("admin").authorities(new SimpleGrantedAuthority("ADMIN"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus").with(user("admin").authorities(new SimpleGrantedAuthority("ADMIN"))))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("app_service_seconds_count{class=\"com.andreea.ticket_tracker.services.ProjectService\",exception=\"none\",method=\"getAllProjects\"}")))
+                .andExpect(content().string(containsString("app_http_sql_statements_count{method=\"GET\",uri=\"/api/v1/projects\"}")))
+                .andExpect(content().string(containsString("app_cache_requests_total{cache=\"principals\",result=\"hit\"}")))
+                .andExpect(content().string(containsString("app_email_outbox{status=\"PENDING\"}")))
+                .andExpect(content().string(containsString("hibernate_second_level_cache_requests_total")));
+    }
+
+    @Test
+    void testScrapeRequiresAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(user("user").authorities(new SimpleGrantedAuthority("USER"))))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
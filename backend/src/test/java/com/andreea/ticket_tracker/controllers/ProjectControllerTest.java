@@ -1,24 +1,46 @@
 package com.andreea.ticket_tracker.controllers;
 
 import com.andreea.ticket_tracker.dto.request.ProjectRequestDTO;
+import com.andreea.ticket_tracker.entity.Board;
 import com.andreea.ticket_tracker.entity.Project;
 import com.andreea.ticket_tracker.entity.Role;
+import com.andreea.ticket_tracker.entity.Ticket;
+import com.andreea.ticket_tracker.entity.TicketStatus;
 import com.andreea.ticket_tracker.entity.User;
+import com.andreea.ticket_tracker.repository.BoardRepository;
 import com.andreea.ticket_tracker.repository.ProjectRepository;
+import com.andreea.ticket_tracker.repository.TicketRepository;
 import com.andreea.ticket_tracker.repository.UserRepository;
+import com.andreea.ticket_tracker.services.SoftDeletePurger;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -39,8 +61,21 @@ public class ProjectControllerTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private SoftDeletePurger softDeletePurger;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void cleanDatabase() {
+        softDeletePurger.purge(Instant.now());
         projectRepository.deleteAll();
     }
 
@@ -131,9 +166,96 @@ public class ProjectControllerTest {
         projectRepository.save(p);
         Long id = p.getId();
 
-        mockMvc.perform(delete("/api/v1/projects/" + id))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.message").value("Project deleted successfully"));
+        String accepted = mockMvc.perform(delete("/api/v1/projects/" + id))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.type").value("PROJECT"))
+                .andExpect(jsonPath("$.targetId").value(id))
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(accepted).get("id").asText();
+
+        assertEquals("COMPLETED", awaitJob(jobId).get("status").asText());
+        mockMvc.perform(get("/api/v1/deletion-jobs/" + jobId).with(user("someone").authorities(new SimpleGrantedAuthority("USER"))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("deletion_job_not_found"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testDeleteProjectHidesBoardsAndTicketsThenRemovesThemInBackground() throws Exception {
+        ProjectRequestDTO dto = new ProjectRequestDTO();
+        dto.setName("Doomed");
+        dto.setDescription("Desc");
+
+        String created = mockMvc.perform(post("/api/v1/projects")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andReturn().getResponse().getContentAsString();
+        Project project = projectRepository.findById(objectMapper.readTree(created).get("id").asLong()).orElseThrow();
+        assertEquals("admin", project.getCreatedBy());
+        assertNotNull(project.getCreatedAt());
+
+        Board board = new Board();
+        board.setName("Board");
+        board.setDescription("Desc");
+        board.setProject(project);
+        board = boardRepository.save(board);
+
+        Ticket ticket = new Ticket();
+        ticket.setTitle("Ticket");
+        ticket.setDescription("Desc");
+        ticket.setPosition(0);
+        ticket.setStatus(TicketStatus.TODO);
+        ticket.setBoard(board);
+        ticket = ticketRepository.save(ticket);
+
+        mockMvc.perform(get("/api/v1/projects/" + project.getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/boards/" + board.getId()))
+                .andExpect(status().isOk());
+
+        String accepted = mockMvc.perform(delete("/api/v1/projects/" + project.getId()))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/v1/projects/" + project.getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/boards/" + board.getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/tickets/" + ticket.getId()))
+                .andExpect(status().isNotFound());
+
+        JsonNode job = awaitJob(objectMapper.readTree(accepted).get("id").asText());
+        assertEquals("COMPLETED", job.get("status").asText());
+        assertEquals(1, job.get("totalTickets").asInt());
+        assertEquals(1, job.get("deletedTickets").asInt());
+        assertEquals(1, job.get("deletedBoards").asInt());
+
+        assertEquals(0, count("tickets", ticket.getId()));
+        assertEquals(0, count("boards", board.getId()));
+        assertEquals(0, count("projects", project.getId()));
+    }
+
+    /**
+     * Polls a deletion job until it finishes and returns its final state.
+     */
+    private JsonNode awaitJob(String jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while (true) {
+            JsonNode job = objectMapper.readTree(mockMvc.perform(get("/api/v1/deletion-jobs/" + jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            if (job.get("finishedAt") != null && !job.get("finishedAt").isNull()) {
+                return job;
+            }
+            assertTrue(System.currentTimeMillis() < deadline, "Deletion job did not finish in time");
+            Thread.sleep(10);
+        }
+    }
+
+    private int count(String table, Long id) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE id = ?", Integer.class, id);
     }
 
     @Test
@@ -249,4 +371,96 @@ public class ProjectControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("User removed from project successfully"));
     }
+
+    @Test
+    @WithMockUser(username = "member1", authorities = {"USER"})
+    void testMemberAccessFollowsMembershipChanges() throws Exception{
+        Project project = new Project();
+        project.setName("Member Project");
+        project.setDescription("Work project");
+        project = projectRepository.save(project);
+
+        User member = new User();
+        member.setFirstname("Member");
+        member.setLastname("Member");
+        member.setUsername("member1");
+        member.setPassword("password123");
+        member.setEmail("member@gmail.com");
+        member.setRole(Role.USER);
+        member = userRepository.save(member);
+
+        mockMvc.perform(get("/api/v1/projects/" + project.getId()))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/v1/projects/" + project.getId() + "/users/" + member.getId())
+                        .with(user("admin").authorities(new SimpleGrantedAuthority("ADMIN"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/projects/" + project.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Member Project"));
+
+        mockMvc.perform(delete("/api/v1/projects/" + project.getId() + "/users/" + member.getId())
+                        .with(user("admin").authorities(new SimpleGrantedAuthority("ADMIN"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/projects/" + project.getId()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testExportTickets() throws Exception {
+        Project project = new Project();
+        project.setName("Exported");
+        project = projectRepository.save(project);
+
+        Board board = new Board();
+        board.setName("Board");
+        board.setProject(project);
+        board = boardRepository.save(board);
+
+        for (String title : List.of("Login, page", "=1+1")) {
+            Ticket ticket = new Ticket();
+            ticket.setTitle(title);
+            ticket.setDescription("Say \"hi\"");
+            ticket.setPosition(0);
+            ticket.setRank((long) title.length());
+            ticket.setStatus(TicketStatus.TODO);
+            ticket.setBoard(board);
+            ticketRepository.save(ticket);
+        }
+
+        String url = "/api/v1/projects/" + project.getId() + "/tickets/export";
+
+        MvcResult ndjson = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String[] lines = mockMvc.perform(asyncDispatch(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("project-" + project.getId() + "-tickets.ndjson")))
+                .andReturn().getResponse().getContentAsString().split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals("=1+1", objectMapper.readTree(lines[0]).get("title").asText());
+        assertEquals("Board", objectMapper.readTree(lines[1]).get("boardName").asText());
+        assertEquals(project.getId(), objectMapper.readTree(lines[1]).get("projectId").asLong());
+
+        MvcResult csv = mockMvc.perform(get(url).param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String[] rows = mockMvc.perform(asyncDispatch(csv))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn().getResponse().getContentAsString().split("\r\n");
+
+        assertEquals(3, rows.length);
+        assertTrue(rows[0].startsWith("id,title,description,status"));
+        assertTrue(rows[1].contains(",'=1+1,\"Say \"\"hi\"\"\",TODO,"));
+        assertTrue(rows[2].contains(",\"Login, page\","));
+
+        mockMvc.perform(get(url).with(user("outsider").authorities(new SimpleGrantedAuthority("USER"))))
+                .andExpect(status().isForbidden());
+    }
 }
@@ -0,0 +1,128 @@
+package com.andreea.ticket_tracker.controllers;
+
+import com.andreea.ticket_tracker.entity.Board;
+import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.repository.BoardRepository;
+import com.andreea.ticket_tracker.repository.ProjectRepository;
+import com.andreea.ticket_tracker.repository.TicketRepository;
+import com.andreea.ticket_tracker.services.SoftDeletePurger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests verifying that projects and boards are served from the second-level cache
+ * and that soft deletes evict them.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SoftDeletePurger softDeletePurger;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        softDeletePurger.purge(Instant.now());
+        ticketRepository.deleteAll();
+        boardRepository.deleteAll();
+        projectRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Project project = new Project();
+        project.setName("Cached");
+        project = projectRepository.save(project);
+
+        board = new Board();
+        board.setName("Cached");
+        board.setProject(project);
+        board = boardRepository.save(board);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testRepeatedReadsHitTheCache() throws Exception {
+        String boards = "/api/v1/boards/by-project/" + board.getProject().getId();
+        mockMvc.perform(get(boards)).andExpect(status().isOk());
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/boards/" + board.getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(boards))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(board.getId()));
+
+        assertTrue(statistics.getDomainDataRegionStatistics("boards").getHitCount() > 0);
+        assertTrue(statistics.getDomainDataRegionStatistics("projects").getHitCount() > 0);
+        assertEquals(1, statistics.getQueryRegionStatistics("boards-by-project").getHitCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testSoftDeleteEvictsBoard() throws Exception {
+        mockMvc.perform(get("/api/v1/boards/" + board.getId()))
+                .andExpect(status().isOk());
+
+        String job = mockMvc.perform(delete("/api/v1/boards/" + board.getId()))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/v1/boards/" + board.getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/boards/by-project/" + board.getProject().getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        awaitJob(objectMapper.readTree(job).get("id").asText());
+    }
+
+    private void awaitJob(String jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while (objectMapper.readTree(mockMvc.perform(get("/api/v1/deletion-jobs/" + jobId))
+                .andReturn().getResponse().getContentAsString()).get("finishedAt").isNull()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Deletion job did not finish in time");
+            Thread.sleep(10);
+        }
+    }
+}
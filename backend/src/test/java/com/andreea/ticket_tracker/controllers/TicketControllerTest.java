@@ -1,25 +1,49 @@
 package com.andreea.ticket_tracker.controllers;
 
+import com.andreea.ticket_tracker.dto.request.BoardRequestDTO;
+import com.andreea.ticket_tracker.dto.request.TicketBulkOperationDTO;
+import com.andreea.ticket_tracker.dto.request.TicketBulkOperationType;
+import com.andreea.ticket_tracker.dto.request.TicketBulkRequestDTO;
+import com.andreea.ticket_tracker.dto.request.TicketMoveRequestDTO;
 import com.andreea.ticket_tracker.dto.request.TicketRequestDTO;
 import com.andreea.ticket_tracker.entity.Board;
 import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.entity.Role;
 import com.andreea.ticket_tracker.entity.Ticket;
+import com.andreea.ticket_tracker.entity.User;
+import com.andreea.ticket_tracker.metrics.SqlRequestFilter;
 import com.andreea.ticket_tracker.repository.BoardRepository;
 import com.andreea.ticket_tracker.repository.ProjectRepository;
 import com.andreea.ticket_tracker.repository.TicketRepository;
+import com.andreea.ticket_tracker.repository.UserRepository;
+import com.andreea.ticket_tracker.services.BoardVersions;
+import com.andreea.ticket_tracker.services.SoftDeletePurger;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.andreea.ticket_tracker.entity.TicketStatus.DONE;
 import static com.andreea.ticket_tracker.entity.TicketStatus.TODO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -42,14 +66,31 @@ public class TicketControllerTest {
     @Autowired
     private TicketRepository ticketRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BoardVersions boardVersions;
+
+    @Autowired
+    private SoftDeletePurger softDeletePurger;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeEach
     void cleanDatabase() {
+        softDeletePurger.purge(Instant.now());
         ticketRepository.deleteAll();
         boardRepository.deleteAll();
         projectRepository.deleteAll();
+        userRepository.deleteAll();
     }
 
     @Test
@@ -364,4 +405,482 @@ public class TicketControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", org.hamcrest.Matchers.empty()));
     }
+
+    @Test
+    void testSearchFollowsBoardMovedToAnotherProject() throws Exception {
+        Project oldProject = projectWithMember("Old project", member("old-member"));
+        Project newProject = projectWithMember("New project", member("new-member"));
+        Board board = movedBoard(oldProject, newProject, "Fix the login bug");
+
+        mockMvc.perform(get("/api/v1/tickets/search").param("query", "login")
+                        .with(user("old-member").authorities(new SimpleGrantedAuthority("USER"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", org.hamcrest.Matchers.empty()));
+
+        mockMvc.perform(get("/api/v1/tickets/search").param("query", "login")
+                        .with(user("new-member").authorities(new SimpleGrantedAuthority("USER"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", org.hamcrest.Matchers.hasSize(1)))
+                .andExpect(jsonPath("$[0].boardId").value(board.getId()));
+    }
+
+    @Test
+    void testSuggestionsFollowBoardMovedToAnotherProject() throws Exception {
+        Project oldProject = projectWithMember("Old project", member("old-suggester"));
+        Project newProject = projectWithMember("New project", member("new-suggester"));
+        Board board = movedBoard(oldProject, newProject, "Login page crash");
+
+        mockMvc.perform(get("/api/v1/tickets/suggest").param("prefix", "log")
+                        .with(user("old-suggester").authorities(new SimpleGrantedAuthority("USER"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", org.hamcrest.Matchers.empty()));
+
+        mockMvc.perform(get("/api/v1/tickets/suggest").param("prefix", "log")
+                        .with(user("new-suggester").authorities(new SimpleGrantedAuthority("USER"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", org.hamcrest.Matchers.hasSize(1)))
+                .andExpect(jsonPath("$[0].boardId").value(board.getId()));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testSuggestTickets() throws Exception {
+        Project project = new Project();
+        project.setName("Project");
+        project.setDescription("Project Desc");
+        project = projectRepository.save(project);
+
+        Board board = new Board();
+        board.setName("Board");
+        board.setDescription("Board Desc");
+        board.setProject(project);
+        board = boardRepository.save(board);
+
+        Ticket ticket1 = new Ticket();
+        ticket1.setTitle("Login page crash");
+        ticket1.setPosition(1);
+        ticket1.setStatus(TODO);
+        ticket1.setBoard(board);
+        ticketRepository.save(ticket1);
+
+        Ticket ticket2 = new Ticket();
+        ticket2.setTitle("Fix the login bug");
+        ticket2.setPosition(2);
+        ticket2.setStatus(DONE);
+        ticket2.setBoard(board);
+        ticketRepository.save(ticket2);
+
+        mockMvc.perform(get("/api/v1/tickets/suggest")
+                        .param("prefix", "LOG")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", org.hamcrest.Matchers.hasSize(2)))
+                .andExpect(jsonPath("$[0].title").value("Login page crash"))
+                .andExpect(jsonPath("$[1].status").value("DONE"));
+
+        ticketRepository.delete(ticket1);
+
+        mockMvc.perform(get("/api/v1/tickets/suggest")
+                        .param("prefix", "log")
+                        .param("limit", "5")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", org.hamcrest.Matchers.hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("Fix the login bug"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testGetTicketsPageByBoardId() throws Exception {
+        Project project = new Project();
+        project.setName("Project");
+        project.setDescription("Desc");
+        project = projectRepository.save(project);
+
+        Board board = new Board();
+        board.setName("Board");
+        board.setDescription("Desc");
+        board.setProject(project);
+        board = boardRepository.save(board);
+
+        for (int i = 3; i >= 1; i--) {
+            Ticket ticket = new Ticket();
+            ticket.setTitle("Ticket " + i);
+            ticket.setDescription("Desc");
+            ticket.setPosition(i);
+            ticket.setRank((long) i);
+            ticket.setStatus(TODO);
+            ticket.setBoard(board);
+            ticketRepository.save(ticket);
+        }
+
+        String firstPage = mockMvc.perform(get("/api/v1/tickets/by-board/" + board.getId())
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", org.hamcrest.Matchers.hasSize(2)))
+                .andExpect(jsonPath("$.items[0].title").value("Ticket 1"))
+                .andExpect(jsonPath("$.items[1].title").value("Ticket 2"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/tickets/by-board/" + board.getId())
+                        .param("size", "2")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", org.hamcrest.Matchers.hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title").value("Ticket 3"))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testGetTicketsPageWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/tickets")
+                        .param("size", "2")
+                        .param("cursor", "not a cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("cursor_invalid"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testGetTicketsByBoardIdNotModified() throws Exception {
+        Board board = board();
+        Ticket ticket = ticket(board, "Ticket");
+
+        String etag = mockMvc.perform(get("/api/v1/tickets/by-board/" + board.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(jsonPath("$", org.hamcrest.Matchers.hasSize(1)))
+                .andReturn().getResponse().getHeader("ETag");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long connections = meterRegistry.get("hikaricp.connections.acquire").timer().count();
+
+        mockMvc.perform(get("/api/v1/tickets/by-board/" + board.getId())
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(header().string(SqlRequestFilter.SERVER_TIMING_HEADER, org.hamcrest.Matchers.endsWith("desc=\"0 statements\"")));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(connections, meterRegistry.get("hikaricp.connections.acquire").timer().count());
+
+        mockMvc.perform(put("/api/v1/tickets/" + ticket.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ticketRequest("Renamed", 1, board.getId()))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/tickets/by-board/" + board.getId())
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", org.hamcrest.Matchers.not(etag)))
+                .andExpect(jsonPath("$[0].title").value("Renamed"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testGetTicketsChangedSince() throws Exception {
+        Board board = board();
+        Ticket changed = ticket(board, "Changed");
+        Ticket deleted = ticket(board, "Deleted");
+        ticket(board, "Unchanged");
+        Thread.sleep(5);
+        boardVersions.bump(board.getId());
+        Thread.sleep(5);
+
+        String full = mockMvc.perform(get("/api/v1/tickets/by-board/" + board.getId())
+                        .param("since", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.full").value(true))
+                .andExpect(jsonPath("$.tickets", org.hamcrest.Matchers.hasSize(3)))
+                .andReturn().getResponse().getContentAsString();
+        long version = objectMapper.readTree(full).get("version").asLong();
+
+        mockMvc.perform(put("/api/v1/tickets/" + changed.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ticketRequest("Renamed", 1, board.getId()))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/tickets/" + deleted.getId()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/tickets/by-board/" + board.getId())
+                        .param("since", String.valueOf(version)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.full").value(false))
+                .andExpect(jsonPath("$.version", org.hamcrest.Matchers.greaterThan(version)))
+                .andExpect(jsonPath("$.tickets", org.hamcrest.Matchers.hasSize(1)))
+                .andExpect(jsonPath("$.tickets[0].title").value("Renamed"))
+                .andExpect(jsonPath("$.deletedIds", org.hamcrest.Matchers.contains(deleted.getId().intValue())));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testApplyBulk() throws Exception {
+        Project project = new Project();
+        project.setName("Project");
+        project.setDescription("Desc");
+        project = projectRepository.save(project);
+
+        Board board = new Board();
+        board.setName("Board");
+        board.setDescription("Description");
+        board.setProject(project);
+        board = boardRepository.save(board);
+
+        Board doneBoard = new Board();
+        doneBoard.setName("Done");
+        doneBoard.setDescription("Description");
+        doneBoard.setProject(project);
+        doneBoard = boardRepository.save(doneBoard);
+
+        Ticket existing = new Ticket();
+        existing.setTitle("Existing");
+        existing.setPosition(0);
+        existing.setStatus(TODO);
+        existing.setBoard(board);
+        existing = ticketRepository.save(existing);
+
+        List<TicketBulkOperationDTO> operations = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            TicketBulkOperationDTO create = new TicketBulkOperationDTO();
+            create.setType(TicketBulkOperationType.CREATE);
+            create.setTicket(ticketRequest("Bulk " + i, i, board.getId()));
+            operations.add(create);
+        }
+
+        TicketBulkOperationDTO update = new TicketBulkOperationDTO();
+        update.setType(TicketBulkOperationType.UPDATE);
+        update.setId(existing.getId());
+        update.setTicket(ticketRequest("Renamed", 0, board.getId()));
+        operations.add(update);
+
+        TicketMoveRequestDTO target = new TicketMoveRequestDTO();
+        target.setBoardId(doneBoard.getId());
+        target.setStatus(DONE);
+
+        TicketBulkOperationDTO move = new TicketBulkOperationDTO();
+        move.setType(TicketBulkOperationType.MOVE);
+        move.setId(existing.getId());
+        move.setMove(target);
+        operations.add(move);
+
+        TicketBulkRequestDTO dto = new TicketBulkRequestDTO();
+        dto.setOperations(operations);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/api/v1/tickets/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", org.hamcrest.Matchers.hasSize(102)))
+                .andExpect(jsonPath("$[0].title").value("Bulk 0"))
+                .andExpect(jsonPath("$[99].position").value(99))
+                .andExpect(jsonPath("$[101].title").value("Renamed"))
+                .andExpect(jsonPath("$[101].status").value("DONE"))
+                .andExpect(jsonPath("$[101].boardId").value(doneBoard.getId()));
+
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= 10, "Bulk request ran " + statements + " statements");
+        assertEquals(101, ticketRepository.count());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testApplyBulkWithIncompleteOperation() throws Exception {
+        TicketBulkOperationDTO update = new TicketBulkOperationDTO();
+        update.setType(TicketBulkOperationType.UPDATE);
+
+        TicketBulkRequestDTO dto = new TicketBulkRequestDTO();
+        dto.setOperations(List.of(update));
+
+        mockMvc.perform(post("/api/v1/tickets/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("bulk_operation_invalid"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testMoveTicket() throws Exception {
+        Project project = new Project();
+        project.setName("Project");
+        project.setDescription("Desc");
+        project = projectRepository.save(project);
+
+        Board board = new Board();
+        board.setName("Board");
+        board.setDescription("Description");
+        board.setProject(project);
+        board = boardRepository.save(board);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            String created = mockMvc.perform(post("/api/v1/tickets")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(ticketRequest("Ticket " + i, 0, board.getId()))))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            ids.add(objectMapper.readTree(created).get("id").asLong());
+        }
+
+        TicketMoveRequestDTO dto = new TicketMoveRequestDTO();
+        dto.setAfterId(ids.get(0));
+        dto.setBeforeId(ids.get(1));
+        dto.setStatus(DONE);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/api/v1/tickets/" + ids.get(2) + "/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"));
+
+        assertEquals(1, statistics.getEntityUpdateCount());
+
+        mockMvc.perform(get("/api/v1/tickets/by-board/" + board.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Ticket 1"))
+                .andExpect(jsonPath("$[1].title").value("Ticket 3"))
+                .andExpect(jsonPath("$[2].title").value("Ticket 2"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void testMoveTicketWithNeighbourOnOtherBoard() throws Exception {
+        Project project = new Project();
+        project.setName("Project");
+        project.setDescription("Desc");
+        project = projectRepository.save(project);
+
+        Board board = new Board();
+        board.setName("Board");
+        board.setDescription("Description");
+        board.setProject(project);
+        board = boardRepository.save(board);
+
+        Board otherBoard = new Board();
+        otherBoard.setName("Other");
+        otherBoard.setDescription("Description");
+        otherBoard.setProject(project);
+        otherBoard = boardRepository.save(otherBoard);
+
+        Ticket ticket = new Ticket();
+        ticket.setTitle("Ticket");
+        ticket.setPosition(0);
+        ticket.setRank(1L);
+        ticket.setStatus(TODO);
+        ticket.setBoard(board);
+        ticket = ticketRepository.save(ticket);
+
+        Ticket neighbour = new Ticket();
+        neighbour.setTitle("Neighbour");
+        neighbour.setPosition(0);
+        neighbour.setRank(1L);
+        neighbour.setStatus(TODO);
+        neighbour.setBoard(otherBoard);
+        neighbour = ticketRepository.save(neighbour);
+
+        TicketMoveRequestDTO dto = new TicketMoveRequestDTO();
+        dto.setAfterId(neighbour.getId());
+
+        mockMvc.perform(post("/api/v1/tickets/" + ticket.getId() + "/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("ticket_move_invalid"));
+    }
+
+    private Board board() {
+        Project project = new Project();
+        project.setName("Project");
+        project.setDescription("Desc");
+        project = projectRepository.save(project);
+
+        Board board = new Board();
+        board.setName("Board");
+        board.setDescription("Desc");
+        board.setProject(project);
+        return boardRepository.save(board);
+    }
+
+    private Ticket ticket(Board board, String title) {
+        Ticket ticket = new Ticket();
+        ticket.setTitle(title);
+        ticket.setDescription("Desc");
+        ticket.setPosition(1);
+        ticket.setStatus(TODO);
+        ticket.setBoard(board);
+        return ticketRepository.save(ticket);
+    }
+
+    private TicketRequestDTO ticketRequest(String title, int position, Long boardId) {
+        TicketRequestDTO dto = new TicketRequestDTO();
+        dto.setTitle(title);
+        dto.setPosition(position);
+        dto.setStatus(TODO);
+        dto.setBoardId(boardId);
+        return dto;
+    }
+
+    private User member(String username) {
+        User user = new User();
+        user.setFirstname(username);
+        user.setLastname(username);
+        user.setUsername(username);
+        user.setPassword("password123");
+        user.setEmail(username + "@gmail.com");
+        user.setRole(Role.USER);
+        return userRepository.save(user);
+    }
+
+    private Project projectWithMember(String name, User member) {
+        Project project = new Project();
+        project.setName(name);
+        project.setDescription("Desc");
+        project = projectRepository.save(project);
+        project.addUser(member);
+        return projectRepository.save(project);
+    }
+
+    /**
+     * Creates a board with one ticket in the first project, then moves the board to the second project through the API.
+     */
+    private Board movedBoard(Project from, Project to, String ticketTitle) throws Exception {
+        Board board = new Board();
+        board.setName("Board");
+        board.setDescription("Board Desc");
+        board.setProject(from);
+        board = boardRepository.save(board);
+
+        Ticket ticket = new Ticket();
+        ticket.setTitle(ticketTitle);
+        ticket.setDescription("Desc");
+        ticket.setPosition(1);
+        ticket.setStatus(TODO);
+        ticket.setBoard(board);
+        ticketRepository.save(ticket);
+
+        BoardRequestDTO dto = new BoardRequestDTO();
+        dto.setName("Board");
+        dto.setDescription("Board Desc");
+        dto.setProjectId(to.getId());
+
+        mockMvc.perform(put("/api/v1/boards/" + board.getId())
+                        .with(user("admin").authorities(new SimpleGrantedAuthority("ADMIN")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+
+        return board;
+    }
 }
@@ -0,0 +1,268 @@
+package com.andreea.ticket_tracker.controllers;
+
+import com.andreea.ticket_tracker.entity.Board;
+import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.entity.Role;
+import com.andreea.ticket_tracker.entity.Ticket;
+import com.andreea.ticket_tracker.entity.User;
+import com.andreea.ticket_tracker.repository.BoardRepository;
+import com.andreea.ticket_tracker.repository.ProjectRepository;
+import com.andreea.ticket_tracker.repository.TicketRepository;
+import com.andreea.ticket_tracker.repository.UserRepository;
+import com.andreea.ticket_tracker.repository.projection.TicketView;
+import com.andreea.ticket_tracker.security.config.JwtProvider;
+import com.andreea.ticket_tracker.services.SoftDeletePurger;
+import com.andreea.ticket_tracker.services.TicketRanker;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static com.andreea.ticket_tracker.entity.TicketStatus.TODO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for TicketSocketController, driving the STOMP channels the way a WebSocket session does.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class TicketSocketControllerTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final String REPLY_QUEUE = "/queue/replies-user" + SESSION_ID;
+
+    @Autowired
+    @Qualifier("clientInboundChannel")
+    private AbstractSubscribableChannel clientInboundChannel;
+
+    @Autowired
+    @Qualifier("clientOutboundChannel")
+    private AbstractSubscribableChannel clientOutboundChannel;
+
+    @Autowired
+    private SimpleBrokerMessageHandler simpleBrokerMessageHandler;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SoftDeletePurger softDeletePurger;
+
+    private final BlockingQueue<Message<?>> outbound = new LinkedBlockingQueue<>();
+    private final MessageHandler recorder = outbound::add;
+    private final List<Message<?>> received = new ArrayList<>();
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        softDeletePurger.purge(Instant.now());
+        ticketRepository.deleteAll();
+        boardRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+        clientOutboundChannel.subscribe(recorder);
+
+        Project project = new Project();
+        project.setName("Project");
+        project.setDescription("Desc");
+        project = projectRepository.save(project);
+
+        board = new Board();
+        board.setName("Board");
+        board.setDescription("Desc");
+        board.setProject(project);
+        board = boardRepository.save(board);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientOutboundChannel.unsubscribe(recorder);
+    }
+
+    @Test
+    void testMoveTicketRepliesAndBroadcasts() throws Exception {
+        Ticket first = ticket("First", TicketRanker.GAP);
+        Ticket second = ticket("Second", 2 * TicketRanker.GAP);
+        Authentication admin = connect(user("socket-admin", Role.ADMIN));
+
+        subscribe(admin, "/topic/boards/" + board.getId(), "/topic/boards/" + board.getId());
+        subscribe(admin, "/user/queue/replies", REPLY_QUEUE);
+
+        send(admin, "/app/tickets/" + second.getId() + "/move", "{\"beforeId\":" + first.getId() + "}");
+
+        JsonNode reply = receive(REPLY_QUEUE);
+        assertEquals("move-1", reply.get("requestId").asText());
+        assertEquals(second.getId(), reply.get("ticket").get("id").asLong());
+        assertTrue(reply.get("error").isNull());
+
+        JsonNode event = receive("/topic/boards/" + board.getId());
+        assertEquals("MOVED", event.get("type").asText());
+        assertEquals(second.getId(), event.get("ticketId").asLong());
+
+        List<Long> order = ticketRepository.findByBoardId(board.getId()).stream().map(TicketView::getId).toList();
+        assertEquals(List.of(second.getId(), first.getId()), order);
+    }
+
+    @Test
+    void testMoveTicketOfOtherProjectRepliesWithError() throws Exception {
+        Ticket ticket = ticket("Ticket", TicketRanker.GAP);
+        Authentication outsider = connect(user("socket-outsider", Role.USER));
+
+        subscribe(outsider, "/user/queue/replies", REPLY_QUEUE);
+
+        send(outsider, "/app/tickets/" + ticket.getId() + "/move", "{}");
+
+        JsonNode reply = receive(REPLY_QUEUE);
+        assertEquals("move-1", reply.get("requestId").asText());
+        assertTrue(reply.get("ticket").isNull());
+        assertEquals(403, reply.get("error").get("status").asInt());
+    }
+
+    private Ticket ticket(String title, long rank) {
+        Ticket ticket = new Ticket();
+        ticket.setTitle(title);
+        ticket.setDescription("Desc");
+        ticket.setPosition(0);
+        ticket.setRank(rank);
+        ticket.setStatus(TODO);
+        ticket.setBoard(board);
+        return ticketRepository.save(ticket);
+    }
+
+    private User user(String username, Role role) {
+        User user = new User();
+        user.setFirstname(username);
+        user.setLastname(username);
+        user.setUsername(username);
+        user.setPassword("password123");
+        user.setEmail(username + "@gmail.com");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private static StompHeaderAccessor headers(StompCommand command, Authentication user, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setSessionAttributes(new HashMap<>());
+        accessor.setUser(user);
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+
+    /**
+     * Opens the session with the user's token and returns the principal the server attached to it.
+     */
+    private Authentication connect(User user) {
+        StompHeaderAccessor accessor = headers(StompCommand.CONNECT, null, null);
+        accessor.setNativeHeader("Authorization", "Bearer " + jwtProvider.generateToken(user));
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        clientInboundChannel.send(message);
+
+        Authentication principal = (Authentication) accessor.getUser();
+        assertEquals(user.getUsername(), principal.getName());
+        eventPublisher.publishEvent(new SessionConnectedEvent(this, message, principal));
+        return principal;
+    }
+
+    /**
+     * Subscribes the session and waits until the broker has registered it.
+     */
+    private void subscribe(Authentication user, String destination, String brokerDestination) throws InterruptedException {
+        StompHeaderAccessor accessor = headers(StompCommand.SUBSCRIBE, user, destination);
+        accessor.setSubscriptionId(destination);
+        clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+
+        SimpMessageHeaderAccessor probe = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        probe.setDestination(brokerDestination);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], probe.getMessageHeaders());
+        await(() -> simpleBrokerMessageHandler.getSubscriptionRegistry().findSubscriptions(message).containsKey(SESSION_ID));
+    }
+
+    private void send(Authentication user, String destination, String json) {
+        StompHeaderAccessor accessor = headers(StompCommand.SEND, user, destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setNativeHeader("request-id", "move-1");
+        clientInboundChannel.send(MessageBuilder.createMessage(json.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+    }
+
+    /**
+     * Waits for the next outbound frame sent to a destination and parses its body.
+     * Frames sent to other destinations meanwhile are kept for later calls.
+     */
+    private JsonNode receive(String destination) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while (System.currentTimeMillis() < deadline) {
+            for (Message<?> message : received) {
+                if (destination.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))) {
+                    received.remove(message);
+                    return objectMapper.readTree((byte[]) message.getPayload());
+                }
+            }
+
+            Message<?> message = outbound.poll(100, TimeUnit.MILLISECONDS);
+            if (message != null) {
+                received.add(message);
+            }
+        }
+
+        throw new AssertionError("No frame sent to " + destination);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition not met in time");
+            Thread.sleep(10);
+        }
+    }
+}
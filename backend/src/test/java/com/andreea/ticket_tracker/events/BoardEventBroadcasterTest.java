@@ -0,0 +1,173 @@
+package com.andreea.ticket_tracker.events;
+
+import com.andreea.ticket_tracker.dto.response.TicketEventDTO;
+import com.andreea.ticket_tracker.threading.WorkerThreads;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for BoardEventBroadcaster.
+ */
+public class BoardEventBroadcasterTest {
+
+    private BoardEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new BoardEventBroadcaster(new WorkerThreads(false), 4, 3, 60_000, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void testNewSubscriberReceivesReadyThenChanges() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(1L, null, emitter);
+
+        broadcaster.publish(1L, TicketEventType.CREATED, 10L, null);
+        broadcaster.publish(2L, TicketEventType.CREATED, 20L, null);
+        broadcaster.publish(1L, TicketEventType.DELETED, 10L, null);
+
+        await(() -> emitter.names.size() == 3);
+        assertEquals(List.of("ready", "ticket", "ticket"), emitter.names);
+        assertEquals(List.of(TicketEventType.CREATED, TicketEventType.DELETED),
+                emitter.events.stream().map(TicketEventDTO::getType).toList());
+    }
+
+    @Test
+    void testResumeReplaysMissedEvents() throws Exception {
+        RecordingEmitter first = new RecordingEmitter();
+        broadcaster.subscribe(1L, null, first);
+
+        broadcaster.publish(1L, TicketEventType.CREATED, 10L, null);
+        broadcaster.publish(1L, TicketEventType.CREATED, 11L, null);
+        broadcaster.publish(1L, TicketEventType.CREATED, 12L, null);
+        await(() -> first.events.size() == 3);
+
+        RecordingEmitter resumed = new RecordingEmitter();
+        broadcaster.subscribe(1L, first.events.get(0).getId(), resumed);
+
+        await(() -> resumed.events.size() == 2);
+        assertEquals(List.of(11L, 12L), resumed.events.stream().map(TicketEventDTO::getTicketId).toList());
+    }
+
+    @Test
+    void testResumeAfterEvictedEventsResets() throws Exception {
+        RecordingEmitter first = new RecordingEmitter();
+        broadcaster.subscribe(1L, null, first);
+
+        for (long ticketId = 10; ticketId < 14; ticketId++) {
+            broadcaster.publish(1L, TicketEventType.UPDATED, ticketId, null);
+        }
+        await(() -> first.events.size() == 4);
+
+        RecordingEmitter resumed = new RecordingEmitter();
+        broadcaster.subscribe(1L, first.events.get(0).getId() - 1, resumed);
+
+        await(() -> !resumed.names.isEmpty());
+        assertEquals(List.of("reset"), resumed.names);
+    }
+
+    @Test
+    void testResumeFromBeforeRestartResets() throws Exception {
+        RecordingEmitter resumed = new RecordingEmitter();
+        broadcaster.subscribe(1L, 500L, resumed);
+
+        await(() -> !resumed.names.isEmpty());
+        assertEquals(List.of("reset"), resumed.names);
+    }
+
+    @Test
+    void testRenumberingResetsSubscribers() throws Exception {
+        RecordingEmitter first = new RecordingEmitter();
+        broadcaster.subscribe(1L, null, first);
+
+        broadcaster.publish(1L, TicketEventType.CREATED, 10L, null);
+        broadcaster.publish(1L, TicketEventType.RERANKED, null, null);
+
+        await(() -> first.names.size() == 3);
+        assertEquals(List.of("ready", "ticket", "reset"), first.names);
+
+        RecordingEmitter resumed = new RecordingEmitter();
+        broadcaster.subscribe(1L, first.events.get(0).getId(), resumed);
+
+        await(() -> !resumed.names.isEmpty());
+        assertEquals(List.of("reset"), resumed.names);
+    }
+
+    @Test
+    void testSlowSubscriberIsDisconnected() throws Exception {
+        RecordingEmitter fast = new RecordingEmitter();
+        RecordingEmitter slow = new RecordingEmitter();
+        slow.blocked = new CountDownLatch(1);
+
+        broadcaster.subscribe(1L, null, slow);
+        broadcaster.subscribe(1L, null, fast);
+
+        for (int i = 1; i <= 20; i++) {
+            int published = i;
+            broadcaster.publish(1L, TicketEventType.UPDATED, (long) i, null);
+            await(() -> fast.events.size() == published);
+        }
+
+        assertTrue(slow.completed);
+        assertEquals(1, broadcaster.subscriberCount(1L));
+        slow.blocked.countDown();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> names = new CopyOnWriteArrayList<>();
+        private final List<TicketEventDTO> events = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch blocked;
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                if (blocked != null) {
+                    blocked.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof TicketEventDTO event) {
+                    events.add(event);
+                } else if (part.getData() instanceof String text && text.contains("event:")) {
+                    names.add(text.substring(text.indexOf("event:") + 6, text.indexOf('\n', text.indexOf("event:"))));
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
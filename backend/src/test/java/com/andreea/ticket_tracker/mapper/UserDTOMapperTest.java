@@ -3,6 +3,7 @@ package com.andreea.ticket_tracker.mapper;
 import com.andreea.ticket_tracker.dto.response.UserResponseDTO;
 import com.andreea.ticket_tracker.entity.Role;
 import com.andreea.ticket_tracker.entity.User;
+import com.andreea.ticket_tracker.storage.ProfilePictureSize;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,7 +22,7 @@ public class UserDTOMapperTest {
         user.setUsername("ana");
         user.setEmail("ana@gmail.com");
         user.setRole(Role.MANAGER);
-        user.setProfilePicture("image");
+        user.setProfilePictureEtag("etag");
 
         UserResponseDTO dto = new UserDTOMapper().toDTO(user);
 
@@ -32,5 +33,27 @@ public class UserDTOMapperTest {
         assertThat(dto.getUsername()).isEqualTo(user.getUsername());
         assertThat(dto.getEmail()).isEqualTo(user.getEmail());
         assertThat(dto.getRole()).isEqualTo(user.getRole());
+        assertThat(dto.getProfilePictureUrl()).isEqualTo("/api/v1/auth/users/1/profile-picture?v=etag&size=64");
+    }
+
+    @Test
+    void testToDTOWithPictureSize(){
+        User user = new User();
+        user.setId(1L);
+        user.setProfilePictureEtag("etag");
+
+        UserResponseDTO dto = new UserDTOMapper().toDTO(user, ProfilePictureSize.LARGE);
+
+        assertThat(dto.getProfilePictureUrl()).isEqualTo("/api/v1/auth/users/1/profile-picture?v=etag&size=256");
+    }
+
+    @Test
+    void testToDTOWithoutProfilePicture(){
+        User user = new User();
+        user.setId(1L);
+
+        UserResponseDTO dto = new UserDTOMapper().toDTO(user);
+
+        assertThat(dto.getProfilePictureUrl()).isNull();
     }
 }
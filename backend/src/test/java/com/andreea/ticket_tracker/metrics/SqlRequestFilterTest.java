@@ -0,0 +1,115 @@
+package com.andreea.ticket_tracker.metrics;
+
+import com.andreea.ticket_tracker.exceptions.QueryBudgetExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponseWrapper;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for SqlRequestFilter, simulating statements through the tracker.
+ */
+class SqlRequestFilterTest {
+
+    private final SqlRequestTracker tracker = new SqlRequestTracker(3);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testAddsServerTimingAndRecordsMetrics() throws Exception {
+        SqlRequestFilter filter = new SqlRequestFilter(tracker, meterRegistry, 50, 500, true);
+        MockHttpServletRequest request = request("budgeted");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, statements(2));
+
+        String header = response.getHeader(SqlRequestFilter.SERVER_TIMING_HEADER);
+        assertTrue(header.startsWith("db;dur="));
+        assertTrue(header.endsWith("desc=\"2 statements\""));
+        assertEquals(2.0, meterRegistry.get(SqlRequestFilter.STATEMENTS_METRIC).tag("uri", "/test").summary().totalAmount());
+    }
+
+    @Test
+    void testDeclaredBudgetIsEnforced() throws Exception {
+        SqlRequestFilter filter = new SqlRequestFilter(tracker, meterRegistry, 50, 500, true);
+
+        assertThrows(QueryBudgetExceededException.class,
+                () -> filter.doFilter(request("budgeted"), new MockHttpServletResponse(), statements(3)));
+        assertDoesNotThrow(() -> filter.doFilter(request("unbudgeted"), new MockHttpServletResponse(), statements(3)));
+    }
+
+    @Test
+    void testBudgetIsEnforcedBeforeCommit() {
+        SqlRequestFilter filter = new SqlRequestFilter(tracker, meterRegistry, 50, 500, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = statements(3);
+
+        assertThrows(QueryBudgetExceededException.class, () -> filter.doFilter(request("budgeted"), response, (req, res) -> {
+            chain.doFilter(req, res);
+            res.getWriter().write("[]");
+            res.flushBuffer();
+        }));
+        assertFalse(response.isCommitted());
+        assertNull(response.getHeader(SqlRequestFilter.SERVER_TIMING_HEADER));
+    }
+
+    @Test
+    void testResponseCommittedByContainerIsOnlyLogged() {
+        SqlRequestFilter filter = new SqlRequestFilter(tracker, meterRegistry, 50, 500, true);
+        FilterChain chain = statements(3);
+
+        assertDoesNotThrow(() -> filter.doFilter(request("budgeted"), new MockHttpServletResponse(), (req, res) -> {
+            chain.doFilter(req, res);
+            ((ServletResponseWrapper) res).getResponse().flushBuffer();
+        }));
+    }
+
+    @Test
+    void testBudgetIsOnlyLoggedWhenNotEnforced() {
+        SqlRequestFilter filter = new SqlRequestFilter(tracker, meterRegistry, 50, 500, false);
+
+        assertDoesNotThrow(() -> filter.doFilter(request("budgeted"), new MockHttpServletResponse(), statements(3)));
+    }
+
+    @QueryBudget(statements = 2)
+    void budgeted() {
+    }
+
+    void unbudgeted() {
+    }
+
+    private MockHttpServletRequest request(String handlerMethod) throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/test");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(this, getClass().getDeclaredMethod(handlerMethod)));
+        return request;
+    }
+
+    /**
+     * Returns a chain that runs the given number of statements through the tracker, as the proxied data source would.
+     */
+    private FilterChain statements(int count) {
+        return (request, response) -> {
+            for (int i = 0; i < count; i++) {
+                List<QueryInfo> queries = List.of(new QueryInfo("SELECT " + i));
+                tracker.beforeQuery(null, queries);
+                tracker.afterQuery(null, queries);
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.andreea.ticket_tracker.search;
+
+import com.andreea.ticket_tracker.entity.Board;
+import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.entity.Ticket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for TicketSearchIndex.
+ */
+public class TicketSearchIndexTest {
+
+    private TicketSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new TicketSearchIndex("", 50);
+
+        index.index(ticket(1L, 10L, "Fix the login bug", "Users cannot sign in"));
+        index.index(ticket(2L, 10L, "Update user profile", "Mention the login page"));
+        index.index(ticket(3L, 20L, "Login redirect loop", null));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @Test
+    void testSearchRanksTitleMatchesFirst() {
+        List<Long> ids = index.search("login", null);
+
+        assertEquals(3, ids.size());
+        assertEquals(2L, ids.get(2));
+    }
+
+    @Test
+    void testSearchMatchesPrefix() {
+        assertEquals(List.of(2L), index.search("prof", null));
+    }
+
+    @Test
+    void testSearchMatchesTypos() {
+        assertEquals(List.of(2L), index.search("profiel", null));
+    }
+
+    @Test
+    void testSearchRequiresEveryTerm() {
+        assertEquals(List.of(3L), index.search("login redirect", null));
+    }
+
+    @Test
+    void testSearchFiltersByProject() {
+        assertEquals(List.of(3L), index.search("login", List.of(20L)));
+        assertTrue(index.search("login", List.of()).isEmpty());
+    }
+
+    @Test
+    void testUpdateAndRemove() {
+        index.index(ticket(3L, 20L, "Logout button", null));
+        assertEquals(List.of(3L), index.search("logout", null));
+        assertEquals(2, index.search("login", null).size());
+
+        index.remove(3L);
+        assertTrue(index.search("logout", null).isEmpty());
+    }
+
+    @Test
+    void testRemoveBoardAndProject() {
+        index.removeBoard(200L);
+        assertEquals(List.of(1L, 2L), index.search("login", null).stream().sorted().toList());
+
+        index.removeProject(10L);
+        assertTrue(index.search("login", null).isEmpty());
+    }
+
+    @Test
+    void testBlankQuery() {
+        assertTrue(index.search("  ", null).isEmpty());
+    }
+
+    private Ticket ticket(Long id, Long projectId, String title, String description) {
+        Project project = new Project();
+        project.setId(projectId);
+
+        Board board = new Board();
+        board.setId(projectId * 10);
+        board.setProject(project);
+
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setTitle(title);
+        ticket.setDescription(description);
+        ticket.setBoard(board);
+        return ticket;
+    }
+}
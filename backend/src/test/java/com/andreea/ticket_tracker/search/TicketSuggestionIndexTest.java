@@ -0,0 +1,161 @@
+package com.andreea.ticket_tracker.search;
+
+import com.andreea.ticket_tracker.entity.Board;
+import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.entity.Ticket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.andreea.ticket_tracker.entity.TicketStatus.DONE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for TicketSuggestionIndex.
+ */
+public class TicketSuggestionIndexTest {
+
+    private TicketSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TicketSuggestionIndex(10);
+
+        index.index(ticket(1L, 10L, "Login page crash"));
+        index.index(ticket(2L, 10L, "Fix the login bug"));
+        index.index(ticket(3L, 20L, "Logout button"));
+    }
+
+    @Test
+    void testSuggestRanksWholeTitleMatchesFirst() {
+        assertEquals(List.of(3L, 1L, 2L), ids(index.suggest("LOG", null, 10)));
+        assertEquals(List.of(1L, 2L), ids(index.suggest("login", null, 10)));
+    }
+
+    @Test
+    void testSuggestMatchesAcrossWords() {
+        assertEquals(List.of(2L), ids(index.suggest("login b", null, 10)));
+        assertEquals(List.of(1L), ids(index.suggest("page, cr", null, 10)));
+    }
+
+    @Test
+    void testSuggestFiltersByProject() {
+        assertEquals(List.of(1L, 2L), ids(index.suggest("lo", List.of(10L), 10)));
+        assertTrue(index.suggest("lo", List.of(), 10).isEmpty());
+        assertTrue(index.suggest("lo", List.of(30L), 10).isEmpty());
+    }
+
+    @Test
+    void testSuggestAppliesLimit() {
+        assertEquals(List.of(3L), ids(index.suggest("lo", null, 1)));
+    }
+
+    @Test
+    void testUpdateAndRemove() {
+        Ticket ticket = ticket(3L, 20L, "Signup button");
+        ticket.setStatus(DONE);
+        index.index(ticket);
+
+        assertEquals(List.of(1L, 2L), ids(index.suggest("lo", null, 10)));
+        assertEquals(DONE, index.suggest("sign", null, 10).get(0).status());
+
+        index.remove(1L);
+        assertEquals(List.of(2L), ids(index.suggest("lo", null, 10)));
+    }
+
+    @Test
+    void testRemoveBoardAndProject() {
+        long version = index.version();
+
+        index.removeBoard(200L);
+        assertEquals(List.of(1L, 2L), ids(index.suggest("lo", null, 10)));
+
+        index.removeProject(10L);
+        assertTrue(index.suggest("lo", null, 10).isEmpty());
+        assertEquals(version + 2, index.version());
+    }
+
+    @Test
+    void testIndexAllMovesTicketsToNewProject() {
+        Ticket moved = ticket(1L, 30L, "Login page crash");
+        long version = index.version();
+
+        index.indexAll(List.of(moved));
+
+        assertEquals(List.of(2L), ids(index.suggest("lo", List.of(10L), 10)));
+        assertEquals(List.of(1L), ids(index.suggest("lo", List.of(30L), 10)));
+        assertEquals(30L, index.suggest("login p", null, 10).get(0).projectId());
+        assertNotEquals(version, index.version());
+    }
+
+    @Test
+    void testVersionChangesOnlyOnWrites() {
+        long version = index.version();
+
+        index.index(ticket(1L, 10L, "Login page crash"));
+        assertEquals(version, index.version());
+
+        index.index(ticket(1L, 10L, "Login page freeze"));
+        assertNotEquals(version, index.version());
+    }
+
+    @Test
+    void testLargeBucketsAreSplit() {
+        List<Ticket> tickets = new ArrayList<>();
+        for (long id = 100; id < 400; id++) {
+            tickets.add(ticket(id, 10L, "Report " + id + " export"));
+        }
+        index.indexAll(tickets);
+
+        assertEquals(List.of(399L, 398L, 397L), ids(index.suggest("report", null, 3)));
+        assertEquals(List.of(250L), ids(index.suggest("report 250", null, 10)));
+        assertEquals(List.of(399L), ids(index.suggest("export", null, 1)));
+
+        for (long id = 300; id < 400; id++) {
+            index.remove(id);
+        }
+
+        assertEquals(List.of(299L, 298L), ids(index.suggest("rep", null, 2)));
+        assertTrue(index.suggest("report 35", null, 10).isEmpty());
+    }
+
+    @Test
+    void testSuggestBeyondMaximumDepth() {
+        List<Ticket> tickets = new ArrayList<>();
+        for (long id = 100; id < 150; id++) {
+            tickets.add(ticket(id, 10L, "Internationalization of dates " + id));
+        }
+        tickets.add(ticket(4L, 10L, "Internationalization of emails"));
+        index.indexAll(tickets);
+
+        assertEquals(List.of(4L), ids(index.suggest("internationalization of e", null, 10)));
+    }
+
+    @Test
+    void testBlankPrefix() {
+        assertTrue(index.suggest(" ", null, 10).isEmpty());
+    }
+
+    private List<Long> ids(List<TicketSuggestion> suggestions) {
+        return suggestions.stream().map(TicketSuggestion::id).toList();
+    }
+
+    private Ticket ticket(Long id, Long projectId, String title) {
+        Project project = new Project();
+        project.setId(projectId);
+
+        Board board = new Board();
+        board.setId(projectId * 10);
+        board.setProject(project);
+
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setTitle(title);
+        ticket.setBoard(board);
+        return ticket;
+    }
+}
@@ -0,0 +1,47 @@
+package com.andreea.ticket_tracker.security.config;
+
+import com.andreea.ticket_tracker.entity.Role;
+import com.andreea.ticket_tracker.entity.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JwtProvider.
+ */
+public class JwtProviderTest {
+
+    private static final String SECRET = "500b51dcb5b1e4dee13a1975fd2135af586a00cf888da8bca411d35da5252ab50d997091f2f69058be2718e00be6948a3fe6efe48e7c31efea66ba71eeefecca";
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider(SECRET);
+    }
+
+    @Test
+    void testValidateAndGetClaims() {
+        User user = User.builder()
+                .username("ana")
+                .role(Role.MANAGER)
+                .build();
+
+        String token = jwtProvider.generateToken(user);
+        Claims claims = jwtProvider.validateAndGetClaims(token);
+
+        assertEquals("ana", claims.getSubject());
+        assertEquals("MANAGER", claims.get("roles", String.class));
+        assertEquals("ana", jwtProvider.getUsernameFromJWT(token));
+        assertTrue(jwtProvider.validateToken(token));
+    }
+
+    @Test
+    void testInvalidTokenIsRejected() {
+        assertThrows(AuthenticationCredentialsNotFoundException.class,
+                () -> jwtProvider.validateAndGetClaims("not-a-token"));
+    }
+}
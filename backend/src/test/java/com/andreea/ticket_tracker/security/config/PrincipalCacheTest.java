@@ -0,0 +1,106 @@
+package com.andreea.ticket_tracker.security.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PrincipalCache.
+ */
+public class PrincipalCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private UserDetails load(String username) {
+        loads.incrementAndGet();
+        return new User(username, "password", Collections.singleton(new SimpleGrantedAuthority("USER")));
+    }
+
+    @Test
+    void testGetLoadsOnlyOnce() {
+        PrincipalCache cache = new PrincipalCache(PrincipalCache.MODE_DATABASE, 60, 10);
+
+        cache.get("ana", this::load);
+        UserDetails cached = cache.get("ana", this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals("ana", cached.getUsername());
+    }
+
+    @Test
+    void testInvalidateForcesReload() {
+        PrincipalCache cache = new PrincipalCache(PrincipalCache.MODE_DATABASE, 60, 10);
+
+        cache.get("ana", this::load);
+        cache.invalidate("ana");
+        cache.get("ana", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testInvalidateDuringLoadIsNotOverwritten() {
+        PrincipalCache cache = new PrincipalCache(PrincipalCache.MODE_DATABASE, 60, 10);
+
+        UserDetails stale = cache.get("ana", username -> {
+            UserDetails userDetails = load(username);
+            cache.invalidate(username);
+            return userDetails;
+        });
+        cache.get("ana", this::load);
+
+        assertEquals("ana", stale.getUsername());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testInvalidateAllDuringLoadIsNotOverwritten() {
+        PrincipalCache cache = new PrincipalCache(PrincipalCache.MODE_DATABASE, 60, 10);
+
+        cache.get("ana", username -> {
+            UserDetails userDetails = load(username);
+            cache.invalidateAll();
+            return userDetails;
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testExpiredEntryIsReloaded() {
+        PrincipalCache cache = new PrincipalCache(PrincipalCache.MODE_DATABASE, 0, 10);
+
+        cache.get("ana", this::load);
+        cache.get("ana", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        PrincipalCache cache = new PrincipalCache(PrincipalCache.MODE_DATABASE, 60, 2);
+
+        cache.get("ana", this::load);
+        cache.get("bob", this::load);
+        cache.get("carl", this::load);
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testFromClaims() {
+        PrincipalCache cache = new PrincipalCache(PrincipalCache.MODE_CLAIMS, 60, 10);
+
+        UserDetails userDetails = cache.fromClaims("ana", "MANAGER");
+
+        assertTrue(cache.isClaimsMode());
+        assertEquals("ana", userDetails.getUsername());
+        assertTrue(userDetails.getAuthorities().contains(new SimpleGrantedAuthority("MANAGER")));
+    }
+}
@@ -0,0 +1,126 @@
+package com.andreea.ticket_tracker.security.config;
+
+import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.entity.ProjectMembershipChanged;
+import com.andreea.ticket_tracker.entity.User;
+import com.andreea.ticket_tracker.repository.ProjectRepository;
+import com.andreea.ticket_tracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProjectMembershipIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+public class ProjectMembershipIndexTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ProjectMembershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProjectMembershipIndex(projectRepository, userRepository, true, 60, 10000);
+    }
+
+    @Test
+    void testIsMemberLoadsEachProjectOnce() {
+        when(userRepository.findIdByUsername("ana")).thenReturn(Optional.of(2L));
+        when(projectRepository.findMemberIds(1L)).thenReturn(List.of(5L, 2L));
+
+        assertTrue(index.isMember(1L, "ana"));
+        assertTrue(index.isMember(1L, "ana"));
+        assertFalse(index.isMember(1L, 3L));
+
+        verify(userRepository, times(1)).findIdByUsername("ana");
+        verify(projectRepository, times(1)).findMemberIds(1L);
+    }
+
+    @Test
+    void testUnknownUserIsNotMember() {
+        when(userRepository.findIdByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertFalse(index.isMember(1L, "ghost"));
+        assertTrue(index.projectIdsOf("ghost").isEmpty());
+        verify(projectRepository, never()).findMemberIds(anyLong());
+    }
+
+    @Test
+    void testMembershipChangeReloads() {
+        Project project = new Project();
+        project.setId(1L);
+        User user = new User();
+        user.setId(2L);
+
+        when(projectRepository.findMemberIds(1L)).thenReturn(List.of()).thenReturn(List.of(2L));
+        when(userRepository.findIdByUsername("ana")).thenReturn(Optional.of(2L));
+        when(projectRepository.findIdsByMemberId(2L)).thenReturn(List.of()).thenReturn(List.of(1L));
+
+        assertFalse(index.isMember(1L, 2L));
+        assertEquals(List.of(), index.projectIdsOf("ana"));
+
+        index.onMembershipChanged(new ProjectMembershipChanged(project, user));
+
+        assertTrue(index.isMember(1L, 2L));
+        assertEquals(List.of(1L), index.projectIdsOf("ana"));
+    }
+
+    @Test
+    void testEvictUserResolvesUsernameAgain() {
+        when(userRepository.findIdByUsername("ana")).thenReturn(Optional.of(2L)).thenReturn(Optional.of(7L));
+        when(projectRepository.findMemberIds(1L)).thenReturn(List.of(7L));
+
+        assertFalse(index.isMember(1L, "ana"));
+        index.evictUser("ana");
+
+        assertTrue(index.isMember(1L, "ana"));
+    }
+
+    @Test
+    void testEvictProjectWaitsForCommit() {
+        when(userRepository.findIdByUsername("ana")).thenReturn(Optional.of(2L));
+        when(projectRepository.findMemberIds(1L)).thenReturn(List.of(2L)).thenReturn(List.of());
+
+        assertTrue(index.isMember(1L, "ana"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.evictProject(1L);
+            assertTrue(index.isMember(1L, "ana"));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(index.isMember(1L, "ana"));
+    }
+
+    @Test
+    void testDisabledIndexQueriesEveryTime() {
+        index = new ProjectMembershipIndex(projectRepository, userRepository, false, 60, 10000);
+        when(projectRepository.existsByProjectIdAndUsername(1L, "ana")).thenReturn(true);
+
+        assertTrue(index.isMember(1L, "ana"));
+        assertTrue(index.isMember(1L, "ana"));
+
+        verify(projectRepository, times(2)).existsByProjectIdAndUsername(1L, "ana");
+        verifyNoInteractions(userRepository);
+    }
+}
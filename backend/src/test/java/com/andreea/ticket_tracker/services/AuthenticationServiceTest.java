@@ -6,11 +6,19 @@ import com.andreea.ticket_tracker.auth.AuthenticationService;
 import com.andreea.ticket_tracker.auth.RegisterRequest;
 import com.andreea.ticket_tracker.dto.request.UserRequestDTO;
 import com.andreea.ticket_tracker.dto.response.UserResponseDTO;
+import com.andreea.ticket_tracker.exceptions.InvalidProfilePictureException;
+import com.andreea.ticket_tracker.exceptions.ProfilePictureNotFoundException;
 import com.andreea.ticket_tracker.exceptions.UserNotFoundException;
 import com.andreea.ticket_tracker.mapper.UserDTOMapper;
 import com.andreea.ticket_tracker.security.config.JwtProvider;
+import com.andreea.ticket_tracker.security.config.PrincipalCache;
+import com.andreea.ticket_tracker.security.config.ProjectMembershipIndex;
 import com.andreea.ticket_tracker.entity.User;
 import com.andreea.ticket_tracker.repository.UserRepository;
+import com.andreea.ticket_tracker.storage.ProfilePictureProcessor;
+import com.andreea.ticket_tracker.storage.ProfilePictureSize;
+import com.andreea.ticket_tracker.storage.ProfilePictureStore;
+import com.andreea.ticket_tracker.storage.StoredPicture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,8 +28,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,6 +66,18 @@ public class AuthenticationServiceTest {
     @Mock
     private UserResponseDTO userResponseDTO;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private ProfilePictureStore profilePictureStore;
+
+    @Mock
+    private ProfilePictureProcessor profilePictureProcessor;
+
+    @Mock
+    private ProjectMembershipIndex membershipIndex;
+
     @InjectMocks
     private AuthenticationService authenticationService;
 
@@ -69,7 +92,8 @@ public class AuthenticationServiceTest {
                 .username("username")
                 .email("test@example.com")
                 .role(MANAGER)
-                .profilePicture("old-image")
+                .profilePictureEtag("old-etag")
+                .profilePictureContentType("image/png")
                 .build();
 
         userResponseDTO = new UserResponseDTO();
@@ -123,6 +147,9 @@ public class AuthenticationServiceTest {
 
      verify(repository, times(1)).findById(1L);
      verify(repository).deleteById(1L);
+     verify(principalCache).invalidate("username");
+     verify(membershipIndex).evictUser("username");
+     verify(profilePictureStore).delete(1L);
     }
 
     @Test
@@ -140,6 +167,8 @@ public class AuthenticationServiceTest {
         authenticationService.updateUser(1L, dto);
 
         verify(repository).save(user);
+        verify(principalCache).invalidate("username");
+        verify(principalCache).invalidate("ana");
         assertEquals("Huang", user.getFirstname());
         assertEquals("Ana", user.getLastname());
         assertEquals("ana", user.getUsername());
@@ -158,7 +187,7 @@ public class AuthenticationServiceTest {
     @Test
     void testGetUserByUsername() {
         when(repository.findByUsername("username")).thenReturn(Optional.of(user));
-        when(userDTOMapper.toDTO(user)).thenReturn(userResponseDTO);
+        when(userDTOMapper.toDTO(user, ProfilePictureSize.LARGE)).thenReturn(userResponseDTO);
 
         UserResponseDTO result = authenticationService.getUserByUsername("username");
 
@@ -169,13 +198,63 @@ public class AuthenticationServiceTest {
 
     @Test
     void testUpdateProfilePicture() {
-        String newImage = "base64-new-image";
+        MockMultipartFile file = new MockMultipartFile("file", "avatar.jpg", "image/jpeg", new byte[]{1, 2, 3});
+        when(profilePictureProcessor.validate(file)).thenReturn("image/jpeg");
         when(repository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(profilePictureStore.save(eq(1L), any(InputStream.class))).thenReturn("new-etag");
 
-        authenticationService.updateProfilePicture("username", newImage);
+        authenticationService.updateProfilePicture("username", file);
 
-        assertEquals(newImage, user.getProfilePicture());
+        assertEquals("new-etag", user.getProfilePictureEtag());
+        assertEquals("image/jpeg", user.getProfilePictureContentType());
         verify(repository).save(user);
+        verify(profilePictureProcessor).scheduleThumbnails(1L, "new-etag");
+    }
+
+    @Test
+    void testUpdateProfilePictureRejectsNonImage() {
+        MockMultipartFile file = new MockMultipartFile("file", "notes.txt", "text/plain", new byte[]{1, 2, 3});
+        when(profilePictureProcessor.validate(file)).thenThrow(new InvalidProfilePictureException());
+
+        assertThrows(InvalidProfilePictureException.class,
+                () -> authenticationService.updateProfilePicture("username", file));
+
+        verifyNoInteractions(profilePictureStore);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void testGetProfilePicture() {
+        when(repository.findById(1L)).thenReturn(Optional.of(user));
+        when(profilePictureStore.locate(1L)).thenReturn(Path.of("pictures", "1", "original"));
+
+        StoredPicture picture = authenticationService.getProfilePicture(1L, null);
+
+        assertEquals("old-etag", picture.etag());
+        assertEquals("old-etag", picture.version());
+        assertEquals("image/png", picture.contentType());
+    }
+
+    @Test
+    void testGetProfilePictureThumbnailFallsBackToOriginal() {
+        when(repository.findById(1L)).thenReturn(Optional.of(user));
+        when(profilePictureStore.locate(1L)).thenReturn(Path.of("pictures", "1", "original"));
+        when(profilePictureStore.locate(1L, "old-etag", ProfilePictureSize.MEDIUM)).thenReturn(Path.of("pictures", "1", "64-old-etag.png"));
+
+        StoredPicture picture = authenticationService.getProfilePicture(1L, 50);
+
+        assertEquals("old-etag", picture.etag());
+        assertNull(picture.version());
+        assertEquals(Path.of("pictures", "1", "original"), picture.path());
+        verify(profilePictureProcessor).scheduleThumbnails(1L, "old-etag");
+    }
+
+    @Test
+    void testGetProfilePictureWhenMissing() {
+        user.setProfilePictureEtag(null);
+        when(repository.findById(1L)).thenReturn(Optional.of(user));
+
+        assertThrows(ProfilePictureNotFoundException.class, () -> authenticationService.getProfilePicture(1L, null));
     }
 
     @Test
@@ -184,7 +263,9 @@ public class AuthenticationServiceTest {
 
         authenticationService.deleteProfilePicture("username");
 
-        assertNull(user.getProfilePicture());
+        assertNull(user.getProfilePictureEtag());
+        assertNull(user.getProfilePictureContentType());
+        verify(profilePictureStore).delete(1L);
         verify(repository).save(user);
     }
 }
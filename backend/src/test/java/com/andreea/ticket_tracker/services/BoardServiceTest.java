@@ -2,10 +2,16 @@ package com.andreea.ticket_tracker.services;
 
 import com.andreea.ticket_tracker.dto.request.BoardRequestDTO;
 import com.andreea.ticket_tracker.dto.response.BoardResponseDTO;
+import com.andreea.ticket_tracker.dto.response.DeletionJobDTO;
 import com.andreea.ticket_tracker.entity.Board;
 import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.events.BoardEventBroadcaster;
 import com.andreea.ticket_tracker.repository.BoardRepository;
+import com.andreea.ticket_tracker.repository.EntityCacheEvictor;
 import com.andreea.ticket_tracker.repository.ProjectRepository;
+import com.andreea.ticket_tracker.repository.TicketRepository;
+import com.andreea.ticket_tracker.repository.projection.EntityCount;
+import com.andreea.ticket_tracker.search.TicketIndexListener;
 import com.andreea.ticket_tracker.security.config.ProjectSecurityEvaluator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,11 +21,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.*;
 
 /**
@@ -37,6 +47,24 @@ public class BoardServiceTest {
     @Mock
     private ProjectSecurityEvaluator projectSecurity;
 
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private BoardEventBroadcaster boardEventBroadcaster;
+
+    @Mock
+    private BoardVersions boardVersions;
+
+    @Mock
+    private TicketIndexListener ticketIndexListener;
+
+    @Mock
+    private DeletionJobService deletionJobService;
+
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
     @InjectMocks
     private BoardService boardService;
 
@@ -81,6 +109,25 @@ public class BoardServiceTest {
         verify(boardRepository).findAll();
     }
 
+    @Test
+    void testGetAllBoardsCountsTicketsInChunks(){
+        mockSecurityContext("adminUser", true);
+
+        List<Board> boards = new ArrayList<>();
+        for (long id = 1; id <= EntityCount.MAX_IDS_PER_QUERY + 1; id++) {
+            Board board = new Board();
+            board.setId(id);
+            boards.add(board);
+        }
+        when(boardRepository.findAll()).thenReturn(boards);
+
+        var result = boardService.getAllBoards();
+
+        assertEquals(boards.size(), result.size());
+        verify(ticketRepository).countByBoardIds(argThat(ids -> ids.size() == EntityCount.MAX_IDS_PER_QUERY));
+        verify(ticketRepository).countByBoardIds(List.of(EntityCount.MAX_IDS_PER_QUERY + 1L));
+    }
+
     @Test
     void testGetBoardById(){
         Project project = new Project();
@@ -111,6 +158,30 @@ public class BoardServiceTest {
 
         verify(projectSecurity).validateUserAccess(project1);
         verify(boardRepository).save(board);
+        verifyNoInteractions(ticketIndexListener);
+    }
+
+    @Test
+    void testDeleteBoard() {
+        Project project = new Project();
+        Board board = new Board();
+        board.setProject(project);
+
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+
+        DeletionJobDTO job = new DeletionJobDTO();
+        when(deletionJobService.submitBoard(1L)).thenReturn(job);
+
+        assertSame(job, boardService.deleteBoard(1L));
+
+        verify(projectSecurity).validateUserAccess(project);
+        verify(boardRepository).save(board);
+        verify(boardRepository, never()).deleteById(1L);
+        verify(ticketIndexListener).onRemoveBoard(1L);
+        verify(boardEventBroadcaster).closeBoard(1L);
+        verify(boardVersions).evict(1L);
+        verify(entityCacheEvictor).evictBoard(1L);
+        assertNotNull(board.getDeleted());
     }
 
     @Test
@@ -130,4 +201,20 @@ public class BoardServiceTest {
         assertEquals(1, result.size());
         verify(boardRepository).findByProjectId(projectId);
     }
+
+    @Test
+    void testSubscribeToEvents(){
+        Project project = new Project();
+        Board board = new Board();
+        board.setProject(project);
+        SseEmitter emitter = new SseEmitter();
+
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(boardEventBroadcaster.subscribe(1L, 5L)).thenReturn(emitter);
+
+        SseEmitter result = boardService.subscribeToEvents(1L, 5L);
+
+        assertEquals(emitter, result);
+        verify(projectSecurity).validateUserAccess(project);
+    }
 }
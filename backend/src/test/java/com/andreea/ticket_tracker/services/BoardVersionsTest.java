@@ -0,0 +1,80 @@
+package com.andreea.ticket_tracker.services;
+
+import com.andreea.ticket_tracker.dto.response.TicketResponseDTO;
+import com.andreea.ticket_tracker.events.TicketChanged;
+import com.andreea.ticket_tracker.events.TicketEventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for BoardVersions.
+ */
+public class BoardVersionsTest {
+
+    private final BoardVersions boardVersions = new BoardVersions(2, 0);
+
+    @Test
+    void testChangesMoveBoardToNewVersion() {
+        long start = boardVersions.version(1L);
+
+        boardVersions.onTicketChanged(new TicketChanged(TicketEventType.UPDATED, 1L, 10L, ticket(10L, 1L)));
+        long updated = boardVersions.version(1L);
+        long bumped = boardVersions.bump(1L);
+
+        assertTrue(updated > start);
+        assertTrue(bumped > updated);
+        assertEquals(start, boardVersions.version(2L));
+        assertNotEquals(BoardVersions.etag(1L, start), BoardVersions.etag(1L, bumped));
+    }
+
+    @Test
+    void testRemovedSinceListsDeletedAndMovedTickets() {
+        long start = boardVersions.version(1L);
+
+        boardVersions.onTicketChanged(new TicketChanged(TicketEventType.DELETED, 1L, 10L, null));
+        long afterDelete = boardVersions.version(1L);
+        boardVersions.onTicketChanged(new TicketChanged(TicketEventType.MOVED, 1L, 11L, ticket(11L, 2L)));
+        boardVersions.onTicketChanged(new TicketChanged(TicketEventType.UPDATED, 1L, 12L, ticket(12L, 1L)));
+
+        assertEquals(Optional.of(List.of(10L, 11L)), boardVersions.removedSince(1L, start));
+        assertEquals(Optional.of(List.of(11L)), boardVersions.removedSince(1L, afterDelete));
+        assertEquals(Optional.of(List.of()), boardVersions.removedSince(2L, start));
+    }
+
+    @Test
+    void testRemovedSinceForgottenVersionNeedsFullList() {
+        long start = boardVersions.version(1L);
+
+        for (long id = 10; id < 13; id++) {
+            boardVersions.onTicketChanged(new TicketChanged(TicketEventType.DELETED, 1L, id, null));
+        }
+
+        assertTrue(boardVersions.removedSince(1L, start).isEmpty());
+        assertTrue(boardVersions.removedSince(1L, 0).isEmpty());
+        assertTrue(boardVersions.removedSince(1L, boardVersions.version(1L) + 1000).isEmpty());
+    }
+
+    @Test
+    void testProjectIdIsLoadedOnce() {
+        int[] loads = {0};
+
+        boardVersions.projectId(1L, () -> ++loads[0] * 7L);
+        assertEquals(7L, boardVersions.projectId(1L, () -> ++loads[0] * 7L));
+
+        boardVersions.evictProject(1L);
+        assertEquals(14L, boardVersions.projectId(1L, () -> ++loads[0] * 7L));
+    }
+
+    private static TicketResponseDTO ticket(Long id, Long boardId) {
+        TicketResponseDTO ticket = new TicketResponseDTO();
+        ticket.setId(id);
+        ticket.setBoardId(boardId);
+        return ticket;
+    }
+}
@@ -0,0 +1,96 @@
+package com.andreea.ticket_tracker.services;
+
+import com.andreea.ticket_tracker.entity.EmailNotification;
+import com.andreea.ticket_tracker.entity.EmailStatus;
+import com.andreea.ticket_tracker.repository.EmailNotificationRepository;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for the email outbox against an in-process SMTP server.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025"
+})
+public class EmailOutboxTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser("test", "test"));
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private EmailOutboxWorker emailOutboxWorker;
+
+    @Autowired
+    private EmailNotificationRepository emailNotificationRepository;
+
+    @BeforeEach
+    void cleanOutbox() {
+        emailNotificationRepository.deleteAll();
+    }
+
+    @Test
+    void testDrainSendsCoalescedNotifications() throws Exception {
+        emailService.enqueue("ana@test.com", "New ticket assigned: A", "Body A");
+        emailService.enqueue("ana@test.com", "New ticket assigned: B", "Body B");
+        emailService.enqueue("bob@test.com", "New ticket assigned: C", "Body C");
+
+        int sent = emailOutboxWorker.drain(Instant.now().plusSeconds(61));
+
+        assertEquals(2, sent);
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+
+        MimeMessage digest = Arrays.stream(received)
+                .filter(m -> {
+                    try {
+                        return m.getAllRecipients()[0].toString().equals("ana@test.com");
+                    } catch (Exception e) {
+                        return false;
+                    }
+                })
+                .findFirst()
+                .orElseThrow();
+        assertEquals("You have 2 new notifications", digest.getSubject());
+
+        List<EmailNotification> outbox = emailNotificationRepository.findAll();
+        assertEquals(2, outbox.size());
+        assertTrue(outbox.stream().allMatch(n -> n.getStatus() == EmailStatus.SENT));
+    }
+
+    @Test
+    void testNewNotificationIsHeldForCoalescingWindow() {
+        emailService.enqueue("ana@test.com", "New ticket assigned: A", "Body A");
+
+        assertEquals(0, emailOutboxWorker.drain());
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        assertEquals(EmailStatus.PENDING, emailNotificationRepository.findAll().get(0).getStatus());
+    }
+
+    @Test
+    void testDrainWithEmptyOutbox() {
+        assertEquals(0, emailOutboxWorker.drain());
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+}
@@ -0,0 +1,137 @@
+package com.andreea.ticket_tracker.services;
+
+import com.andreea.ticket_tracker.entity.EmailNotification;
+import com.andreea.ticket_tracker.entity.EmailStatus;
+import com.andreea.ticket_tracker.repository.EmailNotificationRepository;
+import com.andreea.ticket_tracker.threading.WorkerThreads;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmailOutboxWorker.
+ */
+@ExtendWith(MockitoExtension.class)
+public class EmailOutboxWorkerTest {
+
+    @Mock
+    private EmailNotificationRepository emailNotificationRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmailOutboxWorker worker;
+
+    private EmailNotification notification;
+
+    @BeforeEach
+    void setUp() {
+        worker = new EmailOutboxWorker(emailNotificationRepository, emailService, new WorkerThreads(false), transactionManager, true, 10, 2, 3, 30, 300);
+
+        notification = new EmailNotification();
+        notification.setRecipient("ana@test.com");
+        notification.setStatus(EmailStatus.PENDING);
+        notification.setNextAttemptAt(Instant.now());
+
+        when(emailNotificationRepository.findDue(any(), any())).thenReturn(List.of(notification));
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void testSuccessfulSendIsMarkedSent() {
+        when(emailService.sendBatch(any())).thenReturn(Map.of());
+
+        assertEquals(1, worker.drain());
+        assertEquals(EmailStatus.SENT, notification.getStatus());
+        verify(emailNotificationRepository, times(2)).saveAll(List.of(notification));
+    }
+
+    @Test
+    void testNotificationIsClaimedBeforeSending() {
+        Instant before = Instant.now();
+        when(emailService.sendBatch(any())).thenAnswer(invocation -> {
+            assertEquals(EmailStatus.SENDING, notification.getStatus());
+            assertTrue(notification.getNextAttemptAt().isAfter(before.plusSeconds(299)));
+            return Map.of();
+        });
+
+        assertEquals(1, worker.drain());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testFailedSendIsRetriedWithBackoff() {
+        Instant before = Instant.now();
+        when(emailService.sendBatch(any())).thenReturn(Map.of(notification, new MailSendException("down")));
+
+        assertEquals(0, worker.drain());
+        assertEquals(EmailStatus.PENDING, notification.getStatus());
+        assertEquals(1, notification.getAttempts());
+        assertTrue(notification.getNextAttemptAt().isAfter(before.plusSeconds(29)));
+    }
+
+    @Test
+    void testLongFailureMessageIsTruncated() {
+        when(emailService.sendBatch(any())).thenReturn(Map.of(notification, new MailSendException("x".repeat(1000))));
+
+        worker.drain();
+
+        assertEquals(EmailNotification.LAST_ERROR_LENGTH, notification.getLastError().length());
+        verify(emailNotificationRepository, times(2)).saveAll(List.of(notification));
+    }
+
+    @Test
+    void testFailedBatchSaveFallsBackToSingleSaves() {
+        EmailNotification other = new EmailNotification();
+        other.setRecipient("ion@test.com");
+        other.setStatus(EmailStatus.PENDING);
+        when(emailNotificationRepository.findDue(any(), any())).thenReturn(List.of(notification, other));
+        when(emailService.sendBatch(any())).thenReturn(Map.of());
+        when(emailNotificationRepository.saveAll(any()))
+                .thenReturn(List.of())
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+        when(emailNotificationRepository.save(any())).thenAnswer(invocation -> {
+            if (invocation.getArgument(0) == other) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            return invocation.getArgument(0);
+        });
+
+        assertEquals(2, worker.drain());
+        verify(emailNotificationRepository).save(notification);
+        verify(emailNotificationRepository).save(other);
+    }
+
+    @Test
+    void testNotificationFailsAfterMaxAttempts() {
+        notification.setAttempts(2);
+        when(emailService.sendBatch(any())).thenReturn(Map.of(notification, new MailSendException("down")));
+
+        worker.drain();
+
+        assertEquals(EmailStatus.FAILED, notification.getStatus());
+        assertEquals(3, notification.getAttempts());
+    }
+}
@@ -1,13 +1,18 @@
 package com.andreea.ticket_tracker.services;
 
 import com.andreea.ticket_tracker.dto.request.ProjectRequestDTO;
+import com.andreea.ticket_tracker.dto.response.DeletionJobDTO;
 import com.andreea.ticket_tracker.dto.response.UserResponseDTO;
 import com.andreea.ticket_tracker.entity.Project;
 import com.andreea.ticket_tracker.entity.Role;
 import com.andreea.ticket_tracker.entity.User;
+import com.andreea.ticket_tracker.repository.BoardRepository;
+import com.andreea.ticket_tracker.repository.EntityCacheEvictor;
 import com.andreea.ticket_tracker.repository.ProjectRepository;
 import com.andreea.ticket_tracker.repository.UserRepository;
 import com.andreea.ticket_tracker.mapper.UserDTOMapper;
+import com.andreea.ticket_tracker.search.TicketIndexListener;
+import com.andreea.ticket_tracker.security.config.ProjectMembershipIndex;
 import com.andreea.ticket_tracker.security.config.ProjectSecurityEvaluator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +24,8 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.List;
 import java.util.Optional;
@@ -45,6 +52,24 @@ public class ProjectServiceTest {
     @Mock
     private ProjectSecurityEvaluator projectSecurity;
 
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private ProjectMembershipIndex membershipIndex;
+
+    @Mock
+    private BoardVersions boardVersions;
+
+    @Mock
+    private TicketIndexListener ticketIndexListener;
+
+    @Mock
+    private DeletionJobService deletionJobService;
+
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -124,11 +149,21 @@ public class ProjectServiceTest {
         Project p1 = new Project();
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(p1));
+        when(boardRepository.findAllIdsByProjectId(1L)).thenReturn(List.of(3L));
+
+        DeletionJobDTO job = new DeletionJobDTO();
+        when(deletionJobService.submitProject(1L)).thenReturn(job);
 
-        projectService.deleteProject(1L);
+        assertSame(job, projectService.deleteProject(1L));
 
         verify(projectSecurity).validateUserAccess(p1);
-        verify(projectRepository).deleteById(1L);
+        verify(projectRepository).save(p1);
+        verify(projectRepository, never()).deleteById(1L);
+        verify(ticketIndexListener).onRemoveProject(1L);
+        assertNotNull(p1.getDeleted());
+        verify(membershipIndex).evictProject(1L);
+        verify(boardVersions).evictBoardsOfProject(1L);
+        verify(entityCacheEvictor).evictProject(1L, List.of(3L));
     }
 
     @Test
@@ -147,7 +182,7 @@ public class ProjectServiceTest {
         verify(projectSecurity).validateUserAccess(project);
         verify(projectRepository).save(project);
 
-        verify(emailService, times(1)).sendSimpleEmail(
+        verify(emailService, times(1)).enqueue(
                 eq("test@user.com"),
                 anyString(),
                 anyString()
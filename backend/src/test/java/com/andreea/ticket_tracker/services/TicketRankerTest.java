@@ -0,0 +1,132 @@
+package com.andreea.ticket_tracker.services;
+
+import com.andreea.ticket_tracker.entity.Board;
+import com.andreea.ticket_tracker.entity.Ticket;
+import com.andreea.ticket_tracker.events.TicketChanged;
+import com.andreea.ticket_tracker.events.TicketEventType;
+import com.andreea.ticket_tracker.exceptions.InvalidTicketMoveException;
+import com.andreea.ticket_tracker.repository.BoardRepository;
+import com.andreea.ticket_tracker.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TicketRanker.
+ */
+@ExtendWith(MockitoExtension.class)
+public class TicketRankerTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TicketRanker ticketRanker;
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        ticketRanker = new TicketRanker(ticketRepository, boardRepository, transactionManager, eventPublisher);
+
+        board = new Board();
+        board.setId(1L);
+    }
+
+    @Test
+    void testRankAtEnd() {
+        when(ticketRepository.findMaxRank(1L)).thenReturn(Optional.of(5L));
+        when(ticketRepository.findMaxRank(2L)).thenReturn(Optional.empty());
+
+        assertEquals(5L + TicketRanker.GAP, ticketRanker.rankAtEnd(1L));
+        assertEquals(TicketRanker.GAP, ticketRanker.rankAtEnd(2L));
+    }
+
+    @Test
+    void testRankBetweenTakesMidpoint() {
+        Ticket moved = ticket(3L, 30L);
+
+        long rank = ticketRanker.rankBetween(moved, board, ticket(1L, TicketRanker.GAP), ticket(2L, 2 * TicketRanker.GAP));
+
+        assertEquals(TicketRanker.GAP + TicketRanker.GAP / 2, rank);
+        assertFalse(ticketRanker.isCrowded(1L));
+    }
+
+    @Test
+    void testRankBetweenLooksUpMissingNeighbour() {
+        Ticket moved = ticket(3L, 30L);
+        when(ticketRepository.findNextRank(1L, 100L, 3L)).thenReturn(Optional.of(200L));
+        when(ticketRepository.findPreviousRank(1L, 100L, 3L)).thenReturn(Optional.empty());
+
+        assertEquals(150L, ticketRanker.rankBetween(moved, board, ticket(1L, 100L), null));
+        assertEquals(100L - TicketRanker.GAP, ticketRanker.rankBetween(moved, board, null, ticket(1L, 100L)));
+        assertTrue(ticketRanker.isCrowded(1L));
+    }
+
+    @Test
+    void testRankBetweenRenumbersBoardWithoutGap() {
+        Ticket after = ticket(1L, 10L);
+        Ticket before = ticket(2L, 11L);
+        Ticket moved = ticket(3L, 12L);
+        when(ticketRepository.findForRanking(1L)).thenReturn(List.of(after, before, moved));
+
+        long rank = ticketRanker.rankBetween(moved, board, after, before);
+
+        assertEquals(TicketRanker.GAP, after.getRank());
+        assertEquals(2 * TicketRanker.GAP, before.getRank());
+        assertEquals(TicketRanker.GAP + TicketRanker.GAP / 2, rank);
+        assertFalse(ticketRanker.isCrowded(1L));
+        verify(boardRepository, times(2)).lockById(1L);
+        verify(eventPublisher).publishEvent(new TicketChanged(TicketEventType.RERANKED, 1L, null, null));
+    }
+
+    @Test
+    void testRankBetweenRanksUnrankedNeighbours() {
+        Ticket after = ticket(1L, null);
+        Ticket moved = ticket(3L, null);
+        when(ticketRepository.findForRanking(1L)).thenReturn(List.of(after, moved));
+        when(ticketRepository.findNextRank(1L, TicketRanker.GAP, 3L)).thenReturn(Optional.empty());
+
+        long rank = ticketRanker.rankBetween(moved, board, after, null);
+
+        assertEquals(TicketRanker.GAP, after.getRank());
+        assertEquals(2 * TicketRanker.GAP, rank);
+    }
+
+    @Test
+    void testRankBetweenRejectsNeighboursOutOfOrder() {
+        Ticket moved = ticket(3L, 30L);
+
+        assertThrows(InvalidTicketMoveException.class,
+                () -> ticketRanker.rankBetween(moved, board, ticket(1L, 20L), ticket(2L, 10L)));
+    }
+
+    private Ticket ticket(Long id, Long rank) {
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setRank(rank);
+        ticket.setBoard(board);
+        return ticket;
+    }
+}
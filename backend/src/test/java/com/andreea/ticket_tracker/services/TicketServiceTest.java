@@ -1,19 +1,35 @@
 package com.andreea.ticket_tracker.services;
 
+import com.andreea.ticket_tracker.dto.request.TicketBulkOperationDTO;
+import com.andreea.ticket_tracker.dto.request.TicketBulkOperationType;
+import com.andreea.ticket_tracker.dto.request.TicketBulkRequestDTO;
+import com.andreea.ticket_tracker.dto.request.TicketMoveRequestDTO;
 import com.andreea.ticket_tracker.dto.request.TicketRequestDTO;
 import com.andreea.ticket_tracker.entity.Board;
 import com.andreea.ticket_tracker.entity.Project;
 import com.andreea.ticket_tracker.entity.Ticket;
 import com.andreea.ticket_tracker.entity.User;
+import com.andreea.ticket_tracker.events.TicketChanged;
+import com.andreea.ticket_tracker.events.TicketEventType;
+import com.andreea.ticket_tracker.exceptions.InvalidBulkOperationException;
+import com.andreea.ticket_tracker.exceptions.InvalidTicketMoveException;
+import com.andreea.ticket_tracker.exceptions.TicketNotFoundException;
 import com.andreea.ticket_tracker.repository.BoardRepository;
 import com.andreea.ticket_tracker.repository.TicketRepository;
 import com.andreea.ticket_tracker.repository.UserRepository;
+import com.andreea.ticket_tracker.repository.projection.TicketView;
+import com.andreea.ticket_tracker.search.TicketSearchIndex;
+import com.andreea.ticket_tracker.search.TicketSuggestion;
+import com.andreea.ticket_tracker.search.TicketSuggestionCache;
+import com.andreea.ticket_tracker.search.TicketSuggestionIndex;
 import com.andreea.ticket_tracker.security.config.ProjectSecurityEvaluator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,8 +37,14 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.util.List;
 import java.util.Optional;
 
+import static com.andreea.ticket_tracker.entity.TicketStatus.TODO;
+import static com.andreea.ticket_tracker.entity.TicketStatus.DONE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 /**
@@ -50,6 +72,24 @@ public class TicketServiceTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private TicketSearchIndex ticketSearchIndex;
+
+    @Mock
+    private TicketSuggestionIndex ticketSuggestionIndex;
+
+    @Spy
+    private TicketSuggestionCache ticketSuggestionCache = new TicketSuggestionCache(30, 100);
+
+    @Mock
+    private TicketRanker ticketRanker;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BoardVersions boardVersions;
+
     private void mockSecurityContext(String username, boolean isAdmin) {
         Authentication auth = mock(Authentication.class);
         SecurityContext securityContext = mock(SecurityContext.class);
@@ -59,6 +99,13 @@ public class TicketServiceTest {
         when(projectSecurity.isUserAdmin()).thenReturn(isAdmin);
     }
 
+    private static TicketView view(Long id, String title) {
+        TicketView view = mock(TicketView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getTitle()).thenReturn(title);
+        return view;
+    }
+
     @Test
     void testCreateTicket(){
         Project project = new Project();
@@ -84,7 +131,7 @@ public class TicketServiceTest {
     void testGetAllTickets(){
         mockSecurityContext("user1", false);
 
-        Ticket ticket = new Ticket();
+        TicketView ticket = mock(TicketView.class);
         when(ticketRepository.findAllByUser("user1")).thenReturn(List.of(ticket));
 
         var result = ticketService.getAllTickets();
@@ -136,6 +183,7 @@ public class TicketServiceTest {
         Board board = new Board();
         board.setProject(project);
         Ticket ticket = new Ticket();
+        board.setId(2L);
         ticket.setBoard(board);
 
         when(ticketRepository.findById(1L)).thenReturn(Optional.of(ticket));
@@ -143,7 +191,10 @@ public class TicketServiceTest {
         ticketService.deleteTicket(1L);
 
         verify(projectSecurity).validateUserAccess(project);
-        verify(ticketRepository).deleteById(1L);
+        verify(ticketRepository).save(ticket);
+        verify(ticketRepository, never()).deleteById(1L);
+        assertNotNull(ticket.getDeleted());
+        verify(eventPublisher).publishEvent(new TicketChanged(TicketEventType.DELETED, 2L, 1L, null));
     }
 
     @Test
@@ -155,7 +206,7 @@ public class TicketServiceTest {
 
         when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
         when(ticketRepository.findAllByBoardAndUser(1L, "user1"))
-                .thenReturn(List.of(new Ticket()));
+                .thenReturn(List.of(mock(TicketView.class)));
 
         var result = ticketService.getTicketsByBoardId(1L);
 
@@ -171,7 +222,6 @@ public class TicketServiceTest {
         User user = new User();
         user.setId(99L);
         user.setEmail("assignee@test.com");
-        project.setUsers(java.util.Set.of(user));
 
         Board board = new Board();
         board.setId(1L);
@@ -184,6 +234,7 @@ public class TicketServiceTest {
 
         when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
         when(userRepository.findById(99L)).thenReturn(Optional.of(user));
+        when(projectSecurity.isMember(project, 99L)).thenReturn(true);
         when(ticketRepository.save(any(Ticket.class))).thenAnswer(i -> i.getArguments()[0]);
 
         var result = ticketService.createTicket(dto);
@@ -191,7 +242,7 @@ public class TicketServiceTest {
         verify(projectSecurity).validateUserAccess(project);
         verify(userRepository).findById(99L);
 
-        verify(emailService, times(1)).sendSimpleEmail(
+        verify(emailService, times(1)).enqueue(
                 eq("assignee@test.com"),
                 contains("New ticket assigned"),
                 anyString()
@@ -204,7 +255,6 @@ public class TicketServiceTest {
     @Test
     void testCreateTicketThrowsUserNotInProjectException() {
         Project project = new Project();
-        project.setUsers(java.util.Set.of());
 
         Board board = new Board();
         board.setId(1L);
@@ -232,36 +282,194 @@ public class TicketServiceTest {
     @Test
     void testSearchTickets_AsAdmin() {
         mockSecurityContext("admin", true);
-        Ticket ticket = new Ticket();
-        ticket.setTitle("Bug: Login failing");
+        TicketView ticket = view(7L, "Bug: Login failing");
 
-        when(ticketRepository.findByTitleContainingIgnoreCase("Bug"))
-                .thenReturn(List.of(ticket));
+        when(ticketSearchIndex.search("Bug", null)).thenReturn(List.of(7L));
+        when(ticketRepository.findViewsById(List.of(7L))).thenReturn(List.of(ticket));
 
         var result = ticketService.searchTickets("Bug");
 
         assertEquals(1, result.size());
         assertEquals("Bug: Login failing", result.get(0).getTitle());
 
-        verify(ticketRepository).findByTitleContainingIgnoreCase("Bug");
-        verify(ticketRepository, never()).searchByTitleAndUser(anyString(), anyString());
+        verify(projectSecurity, never()).getMemberProjectIds(anyString());
     }
 
     @Test
     void testSearchTickets_AsUser() {
         mockSecurityContext("user1", false);
-        Ticket ticket = new Ticket();
-        ticket.setTitle("Fix UI header");
+        TicketView first = view(1L, "Fix UI header");
+        TicketView second = view(2L, "UI polish");
 
-        when(ticketRepository.searchByTitleAndUser("UI", "user1"))
-                .thenReturn(List.of(ticket));
+        when(projectSecurity.getMemberProjectIds("user1")).thenReturn(List.of(10L));
+        when(ticketSearchIndex.search("UI", List.of(10L))).thenReturn(List.of(2L, 1L, 3L));
+        when(ticketRepository.findViewsById(List.of(2L, 1L, 3L))).thenReturn(List.of(first, second));
 
         var result = ticketService.searchTickets("UI");
 
+        assertEquals(2, result.size());
+        assertEquals("UI polish", result.get(0).getTitle());
+        assertEquals("Fix UI header", result.get(1).getTitle());
+    }
+
+    @Test
+    void testSuggestTickets_CachedUntilIndexChanges() {
+        mockSecurityContext("user1", false);
+        TicketSuggestion suggestion = new TicketSuggestion(5L, 1L, 10L, "Login page", TODO);
+
+        when(projectSecurity.getMemberProjectIds("user1")).thenReturn(List.of(10L));
+        when(ticketSuggestionIndex.version()).thenReturn(1L, 1L, 2L);
+        when(ticketSuggestionIndex.suggest("log", List.of(10L), 10)).thenReturn(List.of(suggestion));
+
+        var result = ticketService.suggestTickets(" LOG", 10);
+        ticketService.suggestTickets("log", 10);
+        ticketService.suggestTickets("log", 10);
+
         assertEquals(1, result.size());
-        assertEquals("Fix UI header", result.get(0).getTitle());
+        assertEquals("Login page", result.get(0).getTitle());
+        assertEquals(10L, result.get(0).getProjectId());
+        verify(ticketSuggestionIndex, times(2)).suggest("log", List.of(10L), 10);
+    }
+
+    @Test
+    void testSuggestTickets_BlankPrefix() {
+        var result = ticketService.suggestTickets(" - ", 10);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(ticketSuggestionIndex);
+    }
+
+    @Test
+    void testApplyBulkChecksAccessOncePerProject(){
+        Project project = new Project();
+        project.setId(1L);
+        Board board = new Board();
+        board.setId(1L);
+        board.setProject(project);
+
+        Ticket existing = new Ticket();
+        existing.setId(5L);
+        existing.setBoard(board);
+
+        TicketRequestDTO ticket = new TicketRequestDTO();
+        ticket.setTitle("Bulk");
+        ticket.setPosition(0);
+        ticket.setBoardId(1L);
+
+        TicketBulkOperationDTO first = new TicketBulkOperationDTO();
+        first.setType(TicketBulkOperationType.CREATE);
+        first.setTicket(ticket);
+
+        TicketBulkOperationDTO second = new TicketBulkOperationDTO();
+        second.setType(TicketBulkOperationType.CREATE);
+        second.setTicket(ticket);
+
+        TicketMoveRequestDTO target = new TicketMoveRequestDTO();
+        target.setStatus(DONE);
+
+        TicketBulkOperationDTO move = new TicketBulkOperationDTO();
+        move.setType(TicketBulkOperationType.MOVE);
+        move.setId(5L);
+        move.setMove(target);
+
+        TicketBulkRequestDTO dto = new TicketBulkRequestDTO();
+        dto.setOperations(List.of(first, second, move));
 
-        verify(ticketRepository).searchByTitleAndUser("UI", "user1");
-        verify(ticketRepository, never()).findByTitleContainingIgnoreCase(anyString());
+        when(ticketRepository.findAllById(any())).thenReturn(List.of(existing));
+        when(boardRepository.findAllById(any())).thenReturn(List.of(board));
+        when(ticketRanker.rankAtEnd(1L)).thenReturn(TicketRanker.GAP);
+        when(ticketRanker.rankBetween(existing, board, null, null)).thenReturn(3 * TicketRanker.GAP);
+
+        var result = ticketService.applyBulk(dto);
+
+        assertEquals(3, result.size());
+        assertEquals(DONE, result.get(2).getStatus());
+        assertEquals(3 * TicketRanker.GAP, existing.getRank());
+        verify(ticketRanker, times(1)).rankAtEnd(1L);
+        verify(projectSecurity, times(1)).validateUserAccess(project);
+        verify(ticketRepository).saveAll(anyList());
+    }
+
+    @Test
+    void testApplyBulkWithMissingTicket(){
+        TicketMoveRequestDTO target = new TicketMoveRequestDTO();
+
+        TicketBulkOperationDTO move = new TicketBulkOperationDTO();
+        move.setType(TicketBulkOperationType.MOVE);
+        move.setId(5L);
+        move.setMove(target);
+
+        TicketBulkRequestDTO dto = new TicketBulkRequestDTO();
+        dto.setOperations(List.of(move));
+
+        when(ticketRepository.findAllById(any())).thenReturn(List.of());
+
+        assertThrows(TicketNotFoundException.class, () -> ticketService.applyBulk(dto));
+        verify(ticketRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testApplyBulkWithIncompleteOperation(){
+        TicketBulkOperationDTO create = new TicketBulkOperationDTO();
+        create.setType(TicketBulkOperationType.CREATE);
+
+        TicketBulkRequestDTO dto = new TicketBulkRequestDTO();
+        dto.setOperations(List.of(create));
+
+        assertThrows(InvalidBulkOperationException.class, () -> ticketService.applyBulk(dto));
+        verifyNoInteractions(ticketRepository);
+    }
+
+    @Test
+    void testMoveTicket(){
+        Project project = new Project();
+        Board board = new Board();
+        board.setId(1L);
+        board.setProject(project);
+
+        Ticket ticket = ticket(1L, board);
+        Ticket after = ticket(2L, board);
+
+        TicketMoveRequestDTO dto = new TicketMoveRequestDTO();
+        dto.setAfterId(2L);
+        dto.setStatus(DONE);
+
+        when(ticketRepository.findById(1L)).thenReturn(Optional.of(ticket));
+        when(ticketRepository.findById(2L)).thenReturn(Optional.of(after));
+        when(ticketRanker.rankBetween(ticket, board, after, null)).thenReturn(42L);
+
+        var result = ticketService.moveTicket(1L, dto);
+
+        assertEquals(DONE, result.getStatus());
+        assertEquals(42L, ticket.getRank());
+        verify(projectSecurity).validateUserAccess(project);
+        verify(ticketRepository, never()).save(any(Ticket.class));
+    }
+
+    @Test
+    void testMoveTicketWithNeighbourOnOtherBoard(){
+        Board board = new Board();
+        board.setId(1L);
+        board.setProject(new Project());
+        Board otherBoard = new Board();
+        otherBoard.setId(2L);
+        otherBoard.setProject(new Project());
+
+        TicketMoveRequestDTO dto = new TicketMoveRequestDTO();
+        dto.setBeforeId(2L);
+
+        when(ticketRepository.findById(1L)).thenReturn(Optional.of(ticket(1L, board)));
+        when(ticketRepository.findById(2L)).thenReturn(Optional.of(ticket(2L, otherBoard)));
+
+        assertThrows(InvalidTicketMoveException.class, () -> ticketService.moveTicket(1L, dto));
+        verifyNoInteractions(ticketRanker);
+    }
+
+    private Ticket ticket(Long id, Board board) {
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setTitle("Ticket " + id);
+        ticket.setBoard(board);
+        return ticket;
     }
 }
@@ -0,0 +1,100 @@
+package com.andreea.ticket_tracker.storage;
+
+import com.andreea.ticket_tracker.exceptions.InvalidProfilePictureException;
+import com.andreea.ticket_tracker.exceptions.ProfilePictureTooLargeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ProfilePictureProcessor.
+ */
+public class ProfilePictureProcessorTest {
+
+    @TempDir
+    Path root;
+
+    private ProfilePictureStore store;
+
+    private ProfilePictureProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        store = new ProfilePictureStore(root.toString());
+        processor = new ProfilePictureProcessor(store, 1_000_000, 1_000_000, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    void testValidateDetectsFormatFromContent() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "avatar.bin", "application/octet-stream", png(40, 20));
+
+        assertEquals("image/png", processor.validate(file));
+    }
+
+    @Test
+    void testValidateRejectsNonImage() {
+        MockMultipartFile file = new MockMultipartFile("file", "notes.txt", "image/png", "not an image".getBytes());
+
+        assertThrows(InvalidProfilePictureException.class, () -> processor.validate(file));
+    }
+
+    @Test
+    void testValidateRejectsEmptyFile() {
+        MockMultipartFile file = new MockMultipartFile("file", "avatar.png", "image/png", new byte[0]);
+
+        assertThrows(InvalidProfilePictureException.class, () -> processor.validate(file));
+    }
+
+    @Test
+    void testValidateRejectsOversizedFile() throws Exception {
+        ProfilePictureProcessor strict = new ProfilePictureProcessor(store, 10, 1_000_000, 1);
+        MockMultipartFile file = new MockMultipartFile("file", "avatar.png", "image/png", png(40, 20));
+
+        assertThrows(ProfilePictureTooLargeException.class, () -> strict.validate(file));
+        strict.shutdown();
+    }
+
+    @Test
+    void testValidateRejectsTooManyPixels() throws Exception {
+        ProfilePictureProcessor strict = new ProfilePictureProcessor(store, 1_000_000, 100, 1);
+        MockMultipartFile file = new MockMultipartFile("file", "avatar.png", "image/png", png(40, 20));
+
+        assertThrows(ProfilePictureTooLargeException.class, () -> strict.validate(file));
+        strict.shutdown();
+    }
+
+    @Test
+    void testGenerateThumbnails() throws Exception {
+        String etag = store.save(1L, new ByteArrayInputStream(png(900, 600)));
+
+        processor.generateThumbnails(1L, etag);
+
+        for (ProfilePictureSize size : ProfilePictureSize.values()) {
+            BufferedImage thumbnail = ImageIO.read(store.locate(1L, etag, size).toFile());
+
+            assertEquals(size.pixels(), thumbnail.getWidth());
+            assertEquals(size.pixels(), thumbnail.getHeight());
+        }
+    }
+
+    private byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,73 @@
+package com.andreea.ticket_tracker.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ProfilePictureStore.
+ */
+public class ProfilePictureStoreTest {
+
+    @TempDir
+    Path root;
+
+    private ProfilePictureStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ProfilePictureStore(root.toString());
+    }
+
+    @Test
+    void testSaveAndStream() throws Exception {
+        byte[] content = {1, 2, 3, 4};
+
+        String etag = store.save(1L, new ByteArrayInputStream(content));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StoredPicture picture = new StoredPicture(etag, etag, "image/png", store.locate(1L));
+        picture.writeTo(out);
+
+        assertArrayEquals(content, out.toByteArray());
+        assertEquals(content.length, picture.size());
+        assertEquals(32, etag.length());
+    }
+
+    @Test
+    void testSaveReplacesPreviousPicture() {
+        String first = store.save(1L, new ByteArrayInputStream(new byte[]{1}));
+        String second = store.save(1L, new ByteArrayInputStream(new byte[]{2}));
+
+        assertNotEquals(first, second);
+        assertEquals(first, store.save(2L, new ByteArrayInputStream(new byte[]{1})));
+    }
+
+    @Test
+    void testSaveDropsThumbnailsOfPreviousPicture() {
+        String etag = store.save(1L, new ByteArrayInputStream(new byte[]{1}));
+        store.saveThumbnail(1L, etag, ProfilePictureSize.SMALL, new BufferedImage(32, 32, BufferedImage.TYPE_INT_ARGB));
+        assertTrue(Files.exists(store.locate(1L, etag, ProfilePictureSize.SMALL)));
+
+        store.save(1L, new ByteArrayInputStream(new byte[]{2}));
+
+        assertFalse(Files.exists(store.locate(1L, etag, ProfilePictureSize.SMALL)));
+    }
+
+    @Test
+    void testDelete() {
+        store.save(1L, new ByteArrayInputStream(new byte[]{1}));
+
+        store.delete(1L);
+
+        assertFalse(Files.exists(store.locate(1L)));
+    }
+}
@@ -0,0 +1,84 @@
+package com.andreea.ticket_tracker.threading;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for WorkerThreads.
+ */
+class WorkerThreadsTest {
+
+    @Test
+    void testPlatformPoolRunsOnNamedPlatformThreads() throws Exception {
+        ExecutorService pool = new WorkerThreads(false).newPool("worker", 1);
+
+        try {
+            Thread thread = pool.submit(Thread::currentThread).get();
+
+            assertTrue(thread.getName().startsWith("worker-"));
+            assertEquals(Thread.class, thread.getClass());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testVirtualPoolRunsOnVirtualThreads() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads need Java 21");
+        ExecutorService pool = new WorkerThreads(true).newPool("worker", 1);
+
+        try {
+            Thread thread = pool.submit(Thread::currentThread).get();
+
+            assertTrue(thread.getName().startsWith("worker-"));
+            assertEquals("java.lang.VirtualThread", thread.getClass().getName());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testVirtualPoolStartsThreadPerTaskWithinBound() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads need Java 21");
+        ExecutorService pool = new WorkerThreads(true).newPool("worker", 2);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        try {
+            Thread first = pool.submit(Thread::currentThread).get();
+            Thread second = pool.submit(Thread::currentThread).get();
+            assertNotSame(first, second);
+
+            Future<?>[] tasks = new Future<?>[5];
+            for (int i = 0; i < tasks.length; i++) {
+                tasks[i] = pool.submit(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    release.await();
+                    running.decrementAndGet();
+                    return null;
+                });
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+
+            assertEquals(2, maxRunning.get());
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(pool.awaitTermination(1, TimeUnit.SECONDS));
+    }
+}
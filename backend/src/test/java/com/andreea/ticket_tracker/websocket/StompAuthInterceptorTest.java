@@ -0,0 +1,146 @@
+package com.andreea.ticket_tracker.websocket;
+
+import com.andreea.ticket_tracker.repository.BoardRepository;
+import com.andreea.ticket_tracker.security.config.CustomUserDetailsService;
+import com.andreea.ticket_tracker.security.config.JwtProvider;
+import com.andreea.ticket_tracker.security.config.PrincipalCache;
+import com.andreea.ticket_tracker.security.config.ProjectMembershipIndex;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.impl.DefaultClaims;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StompAuthInterceptor.
+ */
+@ExtendWith(MockitoExtension.class)
+public class StompAuthInterceptorTest {
+
+    @Mock
+    private JwtProvider jwtProvider;
+
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Spy
+    private PrincipalCache principalCache = new PrincipalCache(PrincipalCache.MODE_DATABASE, 60, 100);
+
+    @Mock
+    private ProjectMembershipIndex membershipIndex;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private MessageChannel channel;
+
+    @InjectMocks
+    private StompAuthInterceptor interceptor;
+
+    private static Message<byte[]> frame(StompCommand command, Authentication user, String destination, String token) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setUser(user);
+        accessor.setDestination(destination);
+        if (token != null) {
+            accessor.setNativeHeader("Authorization", "Bearer " + token);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Authentication user(String username, String role) {
+        return new UsernamePasswordAuthenticationToken(username, null, List.of(new SimpleGrantedAuthority(role)));
+    }
+
+    @Test
+    void testConnectParsesTokenOnce() {
+        Claims claims = new DefaultClaims();
+        claims.setSubject("user1");
+        when(jwtProvider.validateAndGetClaims("token")).thenReturn(claims);
+        when(customUserDetailsService.loadUserByUsername("user1"))
+                .thenReturn(new User("user1", "", List.of(new SimpleGrantedAuthority("USER"))));
+
+        Message<?> connect = interceptor.preSend(frame(StompCommand.CONNECT, null, null, "token"), channel);
+        interceptor.preSend(frame(StompCommand.CONNECT, null, null, "token"), channel);
+
+        assertEquals("user1", StompHeaderAccessor.wrap(connect).getUser().getName());
+        verify(jwtProvider, times(2)).validateAndGetClaims("token");
+        verify(customUserDetailsService, times(1)).loadUserByUsername("user1");
+    }
+
+    @Test
+    void testConnectWithoutTokenIsRejected() {
+        assertThrows(AuthenticationCredentialsNotFoundException.class,
+                () -> interceptor.preSend(frame(StompCommand.CONNECT, null, null, null), channel));
+        verifyNoInteractions(jwtProvider);
+    }
+
+    @Test
+    void testSubscribeToBoardOfMemberProject() {
+        when(boardRepository.findProjectIdById(3L)).thenReturn(Optional.of(7L));
+        when(membershipIndex.isMember(7L, "user1")).thenReturn(true);
+
+        assertDoesNotThrow(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, user("user1", "USER"), "/topic/boards/3", null), channel));
+    }
+
+    @Test
+    void testSubscribeToBoardOfOtherProjectIsRejected() {
+        when(boardRepository.findProjectIdById(3L)).thenReturn(Optional.of(7L));
+        when(membershipIndex.isMember(7L, "user1")).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, user("user1", "USER"), "/topic/boards/3", null), channel));
+    }
+
+    @Test
+    void testSubscribeAsAdminSkipsMembership() {
+        assertDoesNotThrow(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, user("admin", "ADMIN"), "/topic/boards/3", null), channel));
+        verifyNoInteractions(boardRepository, membershipIndex);
+    }
+
+    @Test
+    void testSubscribeToOtherDestinationsIsRejected() {
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, user("admin", "ADMIN"), "/topic/other", null), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, null, "/topic/boards/3", null), channel));
+    }
+
+    @Test
+    void testSendToApplicationDestination() {
+        assertDoesNotThrow(() -> interceptor.preSend(frame(StompCommand.SEND, user("user1", "USER"), "/app/tickets/5/move", null), channel));
+    }
+
+    @Test
+    void testSendToBrokerDestinationsIsRejected() {
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(frame(StompCommand.SEND, user("admin", "ADMIN"), "/topic/boards/3", null), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(frame(StompCommand.SEND, user("user1", "USER"), "/user/user2/queue/replies", null), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(frame(StompCommand.SEND, null, "/app/tickets/5/move", null), channel));
+    }
+}
@@ -0,0 +1,25 @@
+package com.andreea.ticket_tracker.benchmark;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the usual JMH command line,
+ * but writes the results to {@code jmh-result.json} unless another result format is given,
+ * so runs on different commits can be compared with any JMH result viewer.
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        List<String> options = new ArrayList<>(Arrays.asList(args));
+
+        if (!options.contains("-rf")) {
+            options.addAll(List.of("-rf", "json"));
+        }
+
+        Main.main(options.toArray(String[]::new));
+    }
+}
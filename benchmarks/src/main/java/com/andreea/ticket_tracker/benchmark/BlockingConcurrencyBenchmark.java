@@ -0,0 +1,129 @@
+package com.andreea.ticket_tracker.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * JMH benchmark comparing platform and virtual threads on requests that block on a database pool and on SMTP.
+ * Each request waits for one of a fixed number of connections, holds it for the query time and then sends
+ * an email, the way the ticket and outbox paths do. Platform threads run on a pool as large as Tomcat's default,
+ * virtual threads get one per request. With {@code pinned} the SMTP wait runs inside a monitor, like the
+ * synchronized transport of Jakarta Mail, which keeps the carrier thread blocked on Java 21.
+ * Pinned runs take seconds per operation on few cores, so they are left out unless {@code -p pinned=true} is passed.
+ * The virtual runs need Java 21 or later.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockingConcurrencyBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"false"})
+    public boolean pinned;
+
+    @Param({"1000"})
+    public int requests;
+
+    @Param({"10"})
+    public int poolSize;
+
+    @Param({"1"})
+    public int dbMillis;
+
+    @Param({"50"})
+    public int smtpMillis;
+
+    private Consumer<Runnable> executor;
+
+    private ExecutorService platformPool;
+
+    private Semaphore connections;
+
+    @Setup
+    public void setUp() {
+        if ("virtual".equals(threads)) {
+            if (Runtime.version().feature() < 21) {
+                throw new IllegalStateException("Virtual threads need Java 21 or later");
+            }
+            VirtualThreadTaskExecutor virtualExecutor = new VirtualThreadTaskExecutor("bench-");
+            executor = virtualExecutor::execute;
+        } else {
+            platformPool = Executors.newFixedThreadPool(PLATFORM_THREADS);
+            executor = platformPool::execute;
+        }
+        connections = new Semaphore(poolSize, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (platformPool != null) {
+            platformPool.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public void handleRequests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(requests);
+
+        for (int i = 0; i < requests; i++) {
+            executor.accept(() -> {
+                try {
+                    query();
+                    sendEmail();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+    }
+
+    private void query() throws InterruptedException {
+        connections.acquire();
+        try {
+            Thread.sleep(dbMillis);
+        } finally {
+            connections.release();
+        }
+    }
+
+    private void sendEmail() throws InterruptedException {
+        if (pinned) {
+            Object transport = new Object();
+            synchronized (transport) {
+                Thread.sleep(smtpMillis);
+            }
+        } else {
+            Thread.sleep(smtpMillis);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(BlockingConcurrencyBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
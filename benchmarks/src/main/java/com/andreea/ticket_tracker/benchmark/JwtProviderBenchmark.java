@@ -0,0 +1,107 @@
+package com.andreea.ticket_tracker.benchmark;
+
+import com.andreea.ticket_tracker.entity.Role;
+import com.andreea.ticket_tracker.entity.User;
+import com.andreea.ticket_tracker.security.config.JwtProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the per-request JWT handling before and after
+ * the signing key and parser were precomputed in JwtProvider.
+ * Run with the main method to get throughput and allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtProviderBenchmark {
+
+    private static final String SECRET = "500b51dcb5b1e4dee13a1975fd2135af586a00cf888da8bca411d35da5252ab50d997091f2f69058be2718e00be6948a3fe6efe48e7c31efea66ba71eeefecca";
+
+    private JwtProvider jwtProvider;
+
+    private String token;
+
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(SECRET);
+
+        User user = User.builder()
+                .username("benchmark")
+                .role(Role.USER)
+                .build();
+        token = jwtProvider.generateToken(user);
+        tamperedToken = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+    }
+
+    /**
+     * Previous request path: the key is decoded and a parser is built twice,
+     * once for validation and once for reading the subject.
+     */
+    @Benchmark
+    public void legacyValidateThenParse(Blackhole blackhole) {
+        Jwts.parserBuilder().setSigningKey(legacySigningKey()).build().parseClaimsJws(token);
+
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(legacySigningKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+
+        blackhole.consume(claims.getSubject());
+    }
+
+    /**
+     * Current request path: a single parse with the precomputed key and parser.
+     */
+    @Benchmark
+    public void singleParse(Blackhole blackhole) {
+        Claims claims = jwtProvider.validateAndGetClaims(token);
+
+        blackhole.consume(claims.getSubject());
+    }
+
+    /**
+     * Rejecting a token whose signature does not match, the path taken by forged or corrupted tokens.
+     */
+    @Benchmark
+    public void rejectTampered(Blackhole blackhole) {
+        try {
+            blackhole.consume(jwtProvider.validateAndGetClaims(tamperedToken));
+        } catch (AuthenticationCredentialsNotFoundException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    private Key legacySigningKey() {
+        byte[] keyBytes = Decoders.BASE64.decode(SECRET);
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtProviderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
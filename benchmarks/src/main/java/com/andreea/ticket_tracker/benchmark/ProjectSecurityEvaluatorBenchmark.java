@@ -0,0 +1,93 @@
+package com.andreea.ticket_tracker.benchmark;
+
+import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.repository.ProjectRepository;
+import com.andreea.ticket_tracker.repository.UserRepository;
+import com.andreea.ticket_tracker.security.config.ProjectMembershipIndex;
+import com.andreea.ticket_tracker.security.config.ProjectSecurityEvaluator;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * JMH benchmark measuring the project access check for members of large projects.
+ * The membership index is warmed up in the setup, so this measures the steady state,
+ * where a check should cost the same whatever the number of members.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectSecurityEvaluatorBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int members;
+
+    private ProjectSecurityEvaluator evaluator;
+
+    private Project project;
+
+    private Authentication member;
+
+    private Authentication admin;
+
+    @Setup
+    public void setUp() {
+        ProjectRepository projectRepository = Mockito.mock(ProjectRepository.class);
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+
+        List<Long> memberIds = LongStream.rangeClosed(1, members).boxed().toList();
+        Mockito.when(projectRepository.findMemberIds(1L)).thenReturn(memberIds);
+        Mockito.when(userRepository.findIdByUsername("member")).thenReturn(Optional.of((long) members / 2));
+
+        evaluator = new ProjectSecurityEvaluator(new ProjectMembershipIndex(projectRepository, userRepository, true, 60, 10000));
+
+        project = new Project();
+        project.setId(1L);
+
+        member = new UsernamePasswordAuthenticationToken("member", null, List.of(new SimpleGrantedAuthority("USER")));
+        admin = new UsernamePasswordAuthenticationToken("admin", null, List.of(new SimpleGrantedAuthority("ADMIN")));
+
+        SecurityContextHolder.getContext().setAuthentication(member);
+        evaluator.validateUserAccess(project);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void memberAccess() {
+        SecurityContextHolder.getContext().setAuthentication(member);
+        evaluator.validateUserAccess(project);
+    }
+
+    @Benchmark
+    public void adminAccess() {
+        SecurityContextHolder.getContext().setAuthentication(admin);
+        evaluator.validateUserAccess(project);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ProjectSecurityEvaluatorBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,110 @@
+package com.andreea.ticket_tracker.benchmark;
+
+import com.andreea.ticket_tracker.dto.response.TicketResponseDTO;
+import com.andreea.ticket_tracker.entity.Board;
+import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.entity.Ticket;
+import com.andreea.ticket_tracker.entity.TicketStatus;
+import com.andreea.ticket_tracker.entity.User;
+import com.andreea.ticket_tracker.mapper.TicketDTOMapper;
+import com.andreea.ticket_tracker.repository.projection.TicketView;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * JMH benchmark measuring how long mapping a whole ticket list to response DTOs takes,
+ * from managed entities and from the projections the list endpoints read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TicketDTOMapperBenchmark {
+
+    @Param({"1000", "100000"})
+    public int tickets;
+
+    private List<Ticket> entities;
+
+    private List<TicketView> views;
+
+    @Setup
+    public void setUp() {
+        Project project = new Project();
+        project.setId(1L);
+
+        Board board = new Board();
+        board.setId(1L);
+        board.setName("Board");
+        board.setProject(project);
+
+        User assignee = new User();
+        assignee.setId(1L);
+        assignee.setUsername("assignee");
+
+        entities = LongStream.rangeClosed(1, tickets)
+                .mapToObj(id -> ticket(id, board, id % 2 == 0 ? assignee : null))
+                .toList();
+        views = entities.stream()
+                .<TicketView>map(TicketViewRecord::of)
+                .toList();
+    }
+
+    @Benchmark
+    public List<TicketResponseDTO> fromEntities() {
+        return entities.stream().map(TicketDTOMapper::toDTO).toList();
+    }
+
+    @Benchmark
+    public List<TicketResponseDTO> fromViews() {
+        return views.stream().map(TicketDTOMapper::toDTO).toList();
+    }
+
+    private static Ticket ticket(long id, Board board, User assignee) {
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setTitle("Ticket " + id);
+        ticket.setDescription("Description of ticket " + id);
+        ticket.setStatus(TicketStatus.TODO);
+        ticket.setPosition((int) id);
+        ticket.setRank(id * 1024);
+        ticket.setStoryPoints((int) (id % 13));
+        ticket.setBoard(board);
+        ticket.setAssignedUser(assignee);
+        return ticket;
+    }
+
+    /**
+     * Plain implementation of the projection, standing in for the proxies Spring Data returns.
+     */
+    record TicketViewRecord(Long getId, String getTitle, String getDescription, TicketStatus getStatus,
+                            Integer getPosition, Long getRank, Integer getStoryPoints, Long getBoardId,
+                            String getBoardName, Long getProjectId, Long getAssignedUserId,
+                            String getAssignedUsername) implements TicketView {
+
+        static TicketViewRecord of(Ticket ticket) {
+            User assignee = ticket.getAssignedUser();
+            return new TicketViewRecord(ticket.getId(), ticket.getTitle(), ticket.getDescription(), ticket.getStatus(),
+                    ticket.getPosition(), ticket.getRank(), ticket.getStoryPoints(), ticket.getBoard().getId(),
+                    ticket.getBoard().getName(), ticket.getBoard().getProject().getId(),
+                    assignee != null ? assignee.getId() : null, assignee != null ? assignee.getUsername() : null);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(TicketDTOMapperBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
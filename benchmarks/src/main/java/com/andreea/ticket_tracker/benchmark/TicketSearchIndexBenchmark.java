@@ -0,0 +1,166 @@
+package com.andreea.ticket_tracker.benchmark;
+
+import com.andreea.ticket_tracker.entity.Board;
+import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.entity.Ticket;
+import com.andreea.ticket_tracker.repository.TicketRepository;
+import com.andreea.ticket_tracker.search.TicketIndexLoader;
+import com.andreea.ticket_tracker.search.TicketSearchIndex;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * JMH benchmark measuring ticket search latency against a large in-memory index.
+ * Run with the main method; each query should stay well under 10 ms at a million tickets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class TicketSearchIndexBenchmark {
+
+    private static final String[] COMMON_WORDS = {
+            "login", "logout", "profile", "board", "ticket", "dashboard", "export", "import",
+            "email", "notification", "search", "filter", "sort", "payment", "invoice", "report",
+            "crash", "timeout", "layout", "button", "avatar", "upload", "permission", "sprint"
+    };
+
+    private static final int VOCABULARY_SIZE = 20_000;
+
+    @Param({"1000000"})
+    public int tickets;
+
+    private TicketSearchIndex index;
+
+    private List<Long> memberProjects;
+
+    private String[] vocabulary;
+
+    private double[] cumulativeFrequency;
+
+    @Setup
+    public void setUp() throws IOException {
+        TicketRepository ticketRepository = Mockito.mock(TicketRepository.class);
+        Random random = new Random(42);
+        buildVocabulary(random);
+
+        Mockito.when(ticketRepository.findPageAfter(Mockito.anyLong(), Mockito.any(Pageable.class))).thenAnswer(call -> {
+            long afterId = call.getArgument(0);
+            int size = call.<Pageable>getArgument(1).getPageSize();
+
+            return LongStream.rangeClosed(afterId + 1, Math.min(afterId + size, tickets))
+                    .mapToObj(id -> ticket(id, id % 1000, random))
+                    .toList();
+        });
+
+        index = new TicketSearchIndex("", 50);
+        new TicketIndexLoader(ticketRepository, List.of(index)).load();
+
+        memberProjects = LongStream.range(0, 20).boxed().toList();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Benchmark
+    public void exactTerm(Blackhole blackhole) {
+        blackhole.consume(index.search("timeout", memberProjects));
+    }
+
+    @Benchmark
+    public void prefix(Blackhole blackhole) {
+        blackhole.consume(index.search("notif", memberProjects));
+    }
+
+    @Benchmark
+    public void typo(Blackhole blackhole) {
+        blackhole.consume(index.search("dashbaord", memberProjects));
+    }
+
+    @Benchmark
+    public void twoTermsAsAdmin(Blackhole blackhole) {
+        blackhole.consume(index.search("export report", null));
+    }
+
+    private Ticket ticket(long id, long projectId, Random random) {
+        Project project = new Project();
+        project.setId(projectId);
+
+        Board board = new Board();
+        board.setProject(project);
+
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setTitle(words(random, 3));
+        ticket.setDescription(words(random, 8));
+        ticket.setBoard(board);
+        return ticket;
+    }
+
+    /**
+     * Builds a vocabulary whose word frequencies follow Zipf's law, like natural ticket titles.
+     * The common domain words are spread over the ranks so queries hit terms of varying frequency.
+     */
+    private void buildVocabulary(Random random) {
+        vocabulary = new String[VOCABULARY_SIZE];
+        cumulativeFrequency = new double[VOCABULARY_SIZE];
+
+        for (int rank = 0; rank < VOCABULARY_SIZE; rank++) {
+            vocabulary[rank] = randomWord(random);
+        }
+        for (int i = 0; i < COMMON_WORDS.length; i++) {
+            vocabulary[10 + i * 40] = COMMON_WORDS[i];
+        }
+
+        double total = 0;
+        for (int rank = 0; rank < VOCABULARY_SIZE; rank++) {
+            total += 1.0 / (rank + 1);
+            cumulativeFrequency[rank] = total;
+        }
+        for (int rank = 0; rank < VOCABULARY_SIZE; rank++) {
+            cumulativeFrequency[rank] /= total;
+        }
+    }
+
+    private String randomWord(Random random) {
+        char[] letters = new char[4 + random.nextInt(6)];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+
+    private String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int rank = Arrays.binarySearch(cumulativeFrequency, random.nextDouble());
+            text.append(vocabulary[rank < 0 ? -rank - 1 : rank]).append(' ');
+        }
+        return text.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(TicketSearchIndexBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
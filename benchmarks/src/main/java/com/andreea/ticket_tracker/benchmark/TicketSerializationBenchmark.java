@@ -0,0 +1,91 @@
+package com.andreea.ticket_tracker.benchmark;
+
+import com.andreea.ticket_tracker.dto.response.TicketResponseDTO;
+import com.andreea.ticket_tracker.entity.TicketStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * JMH benchmark measuring the Jackson serialization of ticket lists as the list endpoints write them.
+ * Output goes to a discarding stream, so only the serialization itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TicketSerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    public int tickets;
+
+    private List<TicketResponseDTO> dtos;
+
+    private ObjectWriter listWriter;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TicketResponseDTO.class));
+
+        dtos = LongStream.rangeClosed(1, tickets)
+                .mapToObj(TicketSerializationBenchmark::dto)
+                .toList();
+    }
+
+    /**
+     * Serializes to a byte array, as a buffered response body does.
+     */
+    @Benchmark
+    public byte[] toBytes() throws IOException {
+        return listWriter.writeValueAsBytes(dtos);
+    }
+
+    /**
+     * Serializes straight to the output, as a streamed response body does.
+     */
+    @Benchmark
+    public void toStream() throws IOException {
+        listWriter.writeValue(OutputStream.nullOutputStream(), dtos);
+    }
+
+    private static TicketResponseDTO dto(long id) {
+        TicketResponseDTO dto = new TicketResponseDTO();
+        dto.setId(id);
+        dto.setTitle("Ticket " + id);
+        dto.setDescription("Description of ticket " + id);
+        dto.setStatus(TicketStatus.TODO);
+        dto.setPosition((int) id);
+        dto.setRank(id * 1024);
+        dto.setStoryPoints((int) (id % 13));
+        dto.setBoardId(1L);
+        dto.setBoardName("Board");
+        dto.setProjectId(1L);
+        if (id % 2 == 0) {
+            dto.setAssignedUserId(1L);
+            dto.setAssignedUsername("assignee");
+        }
+        return dto;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(TicketSerializationBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
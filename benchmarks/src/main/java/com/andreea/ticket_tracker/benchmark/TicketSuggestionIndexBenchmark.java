@@ -0,0 +1,103 @@
+package com.andreea.ticket_tracker.benchmark;
+
+import com.andreea.ticket_tracker.entity.Board;
+import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.entity.Ticket;
+import com.andreea.ticket_tracker.search.TicketSuggestionIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * JMH benchmark measuring ticket suggestion latency for prefixes of decreasing length.
+ * Run with the main method; the time per lookup should not grow as the prefix gets shorter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class TicketSuggestionIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "login", "logout", "profile", "board", "ticket", "dashboard", "export", "import",
+            "email", "notification", "search", "filter", "sort", "payment", "invoice", "report",
+            "crash", "timeout", "layout", "button", "avatar", "upload", "permission", "sprint"
+    };
+
+    @Param({"200000"})
+    public int tickets;
+
+    @Param({"notificat", "noti", "no", "n"})
+    public String prefix;
+
+    private TicketSuggestionIndex index;
+
+    private List<Long> memberProjects;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new TicketSuggestionIndex(10);
+
+        List<Ticket> batch = new ArrayList<>();
+        for (long id = 1; id <= tickets; id++) {
+            batch.add(ticket(id, id % 1000, random));
+
+            if (batch.size() == 1000) {
+                index.indexAll(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        index.indexAll(batch);
+
+        memberProjects = LongStream.range(0, 20).boxed().toList();
+    }
+
+    @Benchmark
+    public void member(Blackhole blackhole) {
+        blackhole.consume(index.suggest(prefix, memberProjects, 10));
+    }
+
+    @Benchmark
+    public void admin(Blackhole blackhole) {
+        blackhole.consume(index.suggest(prefix, null, 10));
+    }
+
+    private Ticket ticket(long id, long projectId, Random random) {
+        Project project = new Project();
+        project.setId(projectId);
+
+        Board board = new Board();
+        board.setProject(project);
+
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            title.append(WORDS[random.nextInt(WORDS.length)]).append(' ').append(random.nextInt(10_000)).append(' ');
+        }
+
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setTitle(title.toString());
+        ticket.setBoard(board);
+        return ticket;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(TicketSuggestionIndexBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
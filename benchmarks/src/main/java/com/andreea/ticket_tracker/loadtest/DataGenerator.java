@@ -0,0 +1,184 @@
+package com.andreea.ticket_tracker.loadtest;
+
+import com.andreea.ticket_tracker.entity.Board;
+import com.andreea.ticket_tracker.entity.Project;
+import com.andreea.ticket_tracker.entity.Role;
+import com.andreea.ticket_tracker.entity.Ticket;
+import com.andreea.ticket_tracker.entity.TicketStatus;
+import com.andreea.ticket_tracker.entity.User;
+import com.andreea.ticket_tracker.repository.BoardRepository;
+import com.andreea.ticket_tracker.repository.ProjectRepository;
+import com.andreea.ticket_tracker.repository.TicketRepository;
+import com.andreea.ticket_tracker.repository.UserRepository;
+import com.andreea.ticket_tracker.services.TicketRanker;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Seeds the database with a synthetic data set through the application's own repositories.
+ * The data set only depends on the sizes and the seed, so runs with the same settings are comparable.
+ * Rows are flushed and detached in chunks, so the persistence context stays small however large the data set is.
+ */
+class DataGenerator {
+
+    static final String PASSWORD = "loadtest";
+
+    static final String[] WORDS = {
+            "login", "logout", "profile", "board", "ticket", "dashboard", "export", "import",
+            "email", "notification", "search", "filter", "sort", "payment", "invoice", "report",
+            "crash", "timeout", "layout", "button", "avatar", "upload", "permission", "sprint"
+    };
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final BoardRepository boardRepository;
+    private final TicketRepository ticketRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    DataGenerator(ApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.projectRepository = context.getBean(ProjectRepository.class);
+        this.boardRepository = context.getBean(BoardRepository.class);
+        this.ticketRepository = context.getBean(TicketRepository.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+    }
+
+    /**
+     * Creates the users, then each project with its members, boards and tickets.
+     * @param options the sizes of the data set and the seed
+     * @return the generated IDs the clients pick their requests from
+     */
+    Dataset generate(LoadTestOptions options) {
+        Random random = new Random(options.seed());
+        List<Long> userIds = createUsers(options.users());
+
+        Map<String, List<Long>> boardsByUser = new HashMap<>();
+        Map<String, List<Long>> projectsByUser = new HashMap<>();
+
+        for (int p = 0; p < options.projects(); p++) {
+            List<Long> memberIds = pick(userIds, options.membersPerProject(), random);
+            int projectNumber = p;
+
+            transactionTemplate.executeWithoutResult(status -> {
+                Project project = new Project();
+                project.setName("Project " + projectNumber);
+                project.setDescription(words(random, 6));
+                List<User> members = userRepository.findAllById(memberIds);
+                members.forEach(project::addUser);
+                project = projectRepository.save(project);
+
+                List<Long> boardIds = new ArrayList<>();
+                for (int b = 0; b < options.boardsPerProject(); b++) {
+                    Board board = new Board();
+                    board.setName("Board " + projectNumber + "-" + b);
+                    board.setDescription(words(random, 6));
+                    board.setProject(project);
+                    board = boardRepository.save(board);
+                    boardIds.add(board.getId());
+
+                    createTickets(board, members, options.ticketsPerBoard(), random);
+                }
+
+                for (User member : members) {
+                    projectsByUser.computeIfAbsent(member.getUsername(), username -> new ArrayList<>()).add(project.getId());
+                    boardsByUser.computeIfAbsent(member.getUsername(), username -> new ArrayList<>()).addAll(boardIds);
+                }
+            });
+        }
+
+        return new Dataset(projectsByUser, boardsByUser);
+    }
+
+    /**
+     * Creates the users, all sharing one password hash so seeding does not spend its time in BCrypt.
+     */
+    private List<Long> createUsers(int count) {
+        String password = passwordEncoder.encode(PASSWORD);
+        List<Long> ids = new ArrayList<>();
+        List<User> chunk = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setFirstname("Load");
+            user.setLastname("User " + i);
+            user.setUsername("load-user-" + i);
+            user.setEmail("load-user-" + i + "@loadtest.local");
+            user.setPassword(password);
+            user.setRole(Role.USER);
+            chunk.add(user);
+
+            if (chunk.size() == CHUNK_SIZE || i == count - 1) {
+                userRepository.saveAll(chunk).forEach(saved -> ids.add(saved.getId()));
+                chunk.clear();
+            }
+        }
+
+        return ids;
+    }
+
+    private void createTickets(Board board, List<User> members, int count, Random random) {
+        List<Ticket> chunk = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setTitle(words(random, 3).trim());
+            ticket.setDescription(words(random, 12));
+            ticket.setStatus(TicketStatus.values()[random.nextInt(TicketStatus.values().length)]);
+            ticket.setPosition(i);
+            ticket.setRank((i + 1) * TicketRanker.GAP);
+            ticket.setStoryPoints(random.nextInt(13));
+            ticket.setBoard(board);
+            if (!members.isEmpty() && random.nextBoolean()) {
+                ticket.setAssignedUser(members.get(random.nextInt(members.size())));
+            }
+            chunk.add(ticket);
+
+            if (chunk.size() == CHUNK_SIZE || i == count - 1) {
+                ticketRepository.saveAll(chunk);
+                entityManager.flush();
+                entityManager.clear();
+                chunk.clear();
+            }
+        }
+    }
+
+    private static List<Long> pick(List<Long> ids, int count, Random random) {
+        List<Long> shuffled = new ArrayList<>(ids);
+        Collections.shuffle(shuffled, random);
+        return shuffled.subList(0, Math.min(count, shuffled.size()));
+    }
+
+    static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return text.toString();
+    }
+
+    /**
+     * The generated projects and boards each user is a member of.
+     * @param projectsByUser the project IDs by username
+     * @param boardsByUser the board IDs by username
+     */
+    record Dataset(Map<String, List<Long>> projectsByUser, Map<String, List<Long>> boardsByUser) {
+    }
+}
@@ -0,0 +1,194 @@
+package com.andreea.ticket_tracker.loadtest;
+
+import com.andreea.ticket_tracker.loadtest.DataGenerator.Dataset;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+/**
+ * Drives the REST API with a weighted mix of requests from concurrent clients, each logged in as a project member.
+ * Every client runs a closed loop, sending its next request as soon as the previous one completed.
+ */
+class LoadDriver {
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<Endpoint> endpoints = List.of(
+            new Endpoint("GET /api/v1/tickets", 15, (client, random) -> client.get("/api/v1/tickets")),
+            new Endpoint("GET /api/v1/tickets?size", 10, (client, random) -> client.get("/api/v1/tickets?size=50")),
+            new Endpoint("GET /api/v1/tickets/by-board/{boardId}", 20,
+                    (client, random) -> client.get("/api/v1/tickets/by-board/" + client.board(random))),
+            new Endpoint("GET /api/v1/tickets/search", 5, (client, random) -> client.get("/api/v1/tickets/search?query="
+                    + DataGenerator.WORDS[random.nextInt(DataGenerator.WORDS.length)])),
+            new Endpoint("POST /api/v1/tickets", 5, (client, random) -> client.post("/api/v1/tickets", Map.of(
+                    "title", DataGenerator.words(random, 3).trim(),
+                    "description", DataGenerator.words(random, 12),
+                    "position", 0,
+                    "status", "TODO",
+                    "boardId", client.board(random)))),
+            new Endpoint("GET /api/v1/boards/{id}", 10, (client, random) -> client.get("/api/v1/boards/" + client.board(random))),
+            new Endpoint("GET /api/v1/boards/by-project/{projectId}", 15,
+                    (client, random) -> client.get("/api/v1/boards/by-project/" + client.project(random))),
+            new Endpoint("GET /api/v1/projects", 10, (client, random) -> client.get("/api/v1/projects")),
+            new Endpoint("GET /api/v1/projects/{id}", 10, (client, random) -> client.get("/api/v1/projects/" + client.project(random)))
+    );
+    private final int totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+
+    LoadDriver(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Logs the clients in, runs them through the warm-up and the measurement, and merges what they recorded.
+     * @param dataset the generated data the requests are picked from
+     * @param options the number of clients and the timings
+     * @return the stats of each endpoint, by endpoint name
+     */
+    Map<String, EndpointStats> run(Dataset dataset, LoadTestOptions options) throws Exception {
+        List<String> members = new ArrayList<>(new TreeMap<>(dataset.projectsByUser()).keySet());
+        if (members.isEmpty()) {
+            throw new IllegalStateException("The data set has no project members to log in as");
+        }
+
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < options.clients(); i++) {
+            String username = members.get(i % members.size());
+            clients.add(new Client(login(username), dataset.projectsByUser().get(username), dataset.boardsByUser().get(username)));
+        }
+
+        long measureFrom = System.nanoTime() + options.warmup().toNanos();
+        long measureUntil = measureFrom + options.duration().toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(options.clients());
+        List<Future<Map<String, EndpointStats>>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < clients.size(); i++) {
+                Client client = clients.get(i);
+                Random random = new Random(options.seed() + i);
+                results.add(executor.submit(() -> client.run(random, measureFrom, measureUntil)));
+            }
+
+            Map<String, EndpointStats> merged = new TreeMap<>();
+            for (Future<Map<String, EndpointStats>> result : results) {
+                result.get().forEach((name, stats) -> merged.computeIfAbsent(name, key -> new EndpointStats()).merge(stats));
+            }
+            return merged;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String login(String username) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/authenticate"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(
+                        Map.of("username", username, "password", DataGenerator.PASSWORD))))
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Could not log in as " + username + ": HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    private Endpoint pick(Random random) {
+        int weight = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            weight -= endpoint.weight();
+            if (weight < 0) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException("Weights do not add up");
+    }
+
+    /**
+     * One endpoint of the mix.
+     * @param name the name the endpoint is reported under
+     * @param weight the relative share of the requests sent to it
+     * @param request builds a request for a client
+     */
+    private record Endpoint(String name, int weight, BiFunction<Client, Random, HttpRequest> request) {
+    }
+
+    private final class Client {
+
+        private final String token;
+        private final List<Long> projectIds;
+        private final List<Long> boardIds;
+
+        private Client(String token, List<Long> projectIds, List<Long> boardIds) {
+            this.token = token;
+            this.projectIds = projectIds;
+            this.boardIds = boardIds;
+        }
+
+        private Map<String, EndpointStats> run(Random random, long measureFrom, long measureUntil) {
+            Map<String, EndpointStats> stats = new TreeMap<>();
+
+            for (long start = System.nanoTime(); start < measureUntil; start = System.nanoTime()) {
+                Endpoint endpoint = pick(random);
+                boolean success;
+                try {
+                    HttpResponse<Void> response = httpClient.send(endpoint.request().apply(this, random), HttpResponse.BodyHandlers.discarding());
+                    success = response.statusCode() / 100 == 2;
+                } catch (IOException e) {
+                    success = false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                if (start >= measureFrom) {
+                    stats.computeIfAbsent(endpoint.name(), name -> new EndpointStats()).record(System.nanoTime() - start, success);
+                }
+            }
+
+            return stats;
+        }
+
+        private long project(Random random) {
+            return projectIds.get(random.nextInt(projectIds.size()));
+        }
+
+        private long board(Random random) {
+            return boardIds.get(random.nextInt(boardIds.size()));
+        }
+
+        private HttpRequest get(String path) {
+            return request(path).GET().build();
+        }
+
+        private HttpRequest post(String path, Object body) {
+            try {
+                return request(path)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                        .build();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + token);
+        }
+    }
+}
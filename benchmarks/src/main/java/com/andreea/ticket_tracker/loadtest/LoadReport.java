@@ -0,0 +1,56 @@
+package com.andreea.ticket_tracker.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Summary of a load test run: latency percentiles and throughput of each endpoint.
+ * @param options the settings of the run
+ * @param endpoints the results of each endpoint, in name order
+ */
+record LoadReport(LoadTestOptions options, List<EndpointResult> endpoints) {
+
+    static LoadReport of(LoadTestOptions options, Map<String, EndpointStats> stats) {
+        double seconds = options.duration().toNanos() / 1e9;
+        List<EndpointResult> endpoints = new ArrayList<>();
+
+        stats.forEach((name, endpoint) -> endpoints.add(new EndpointResult(name, endpoint.count(), endpoint.errors(),
+                endpoint.count() / seconds, endpoint.percentileMillis(50), endpoint.percentileMillis(99),
+                endpoint.percentileMillis(100))));
+
+        return new LoadReport(options, endpoints);
+    }
+
+    void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%-45s %10s %8s %10s %10s %10s %10s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "Max ms");
+        for (EndpointResult endpoint : endpoints) {
+            out.printf(Locale.ROOT, "%-45s %10d %8d %10.1f %10.2f %10.2f %10.2f%n", endpoint.name(), endpoint.requests(),
+                    endpoint.errors(), endpoint.throughput(), endpoint.p50Millis(), endpoint.p99Millis(), endpoint.maxMillis());
+        }
+    }
+
+    void write(ObjectMapper objectMapper) throws IOException {
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(options.output().toFile(), this);
+    }
+
+    /**
+     * Results of one endpoint over the measurement.
+     * @param name the method and path template of the endpoint
+     * @param requests the number of completed requests
+     * @param errors the number of requests that failed or did not return a 2xx status
+     * @param throughput the completed requests per second
+     * @param p50Millis the median latency
+     * @param p99Millis the 99th percentile latency
+     * @param maxMillis the highest latency
+     */
+    record EndpointResult(String name, int requests, int errors, double throughput,
+                          double p50Millis, double p99Millis, double maxMillis) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.andreea.ticket_tracker.loadtest;
+
+import com.andreea.ticket_tracker.TicketTrackerApplication;
+import com.andreea.ticket_tracker.loadtest.DataGenerator.Dataset;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * End-to-end load test running entirely on the local machine.
+ * Starts the backend on a random port against an in-memory H2 database, seeds it with a synthetic data set,
+ * drives the ticket, board and project endpoints with concurrent clients and reports latency and throughput per endpoint.
+ * Takes {@code --loadtest.*} options (see {@link LoadTestOptions}); any other {@code --name=value} argument
+ * is passed on to the application, overriding the settings below.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = SpringApplication.run(TicketTrackerApplication.class, arguments(args));
+
+        try {
+            LoadTestOptions options = LoadTestOptions.from(context.getEnvironment());
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            System.out.printf("Seeding %d projects with %d boards of %d tickets each...%n",
+                    options.projects(), options.boardsPerProject(), options.ticketsPerBoard());
+            Dataset dataset = new DataGenerator(context).generate(options);
+
+            System.out.printf("Running %d clients for %s after a %s warm-up...%n", options.clients(), options.duration(), options.warmup());
+            LoadReport report = LoadReport.of(options, new LoadDriver(baseUrl, objectMapper).run(dataset, options));
+
+            report.print(System.out);
+            report.write(objectMapper);
+            System.out.println("Report written to " + options.output().toAbsolutePath());
+        } finally {
+            SpringApplication.exit(context);
+        }
+    }
+
+    /**
+     * Returns the application arguments: an in-memory database, a random port and throwaway secrets,
+     * overridden by the arguments given on the command line.
+     */
+    private static String[] arguments(String[] args) {
+        SecureRandom random = new SecureRandom();
+        byte[] jwtSecret = new byte[64];
+        byte[] adminPassword = new byte[32];
+        random.nextBytes(jwtSecret);
+        random.nextBytes(adminPassword);
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("jwt.secret", Base64.getEncoder().encodeToString(jwtSecret));
+        properties.put("app.admin.email", "admin@loadtest.local");
+        properties.put("app.admin.password", Base64.getEncoder().encodeToString(adminPassword));
+        properties.put("app.mail.outbox.enabled", "false");
+        properties.put("app.purge.enabled", "false");
+        properties.put("app.storage.profile-pictures.dir", System.getProperty("java.io.tmpdir") + "/ticket-tracker-loadtest");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("logging.level.com.andreea.ticket_tracker.metrics.SqlRequestFilter", "ERROR");
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            properties.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+}
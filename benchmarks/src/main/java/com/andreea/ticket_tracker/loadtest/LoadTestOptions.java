@@ -0,0 +1,60 @@
+package com.andreea.ticket_tracker.loadtest;
+
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of a load test run, read from the {@code loadtest.*} properties.
+ * @param users the number of users
+ * @param projects the number of projects
+ * @param membersPerProject the number of users who are members of each project
+ * @param boardsPerProject the number of boards of each project
+ * @param ticketsPerBoard the number of tickets of each board
+ * @param clients the number of concurrent clients, each logged in as a different member
+ * @param warmup how long the clients run before latencies are recorded
+ * @param duration how long latencies are recorded
+ * @param seed the seed of the data set and of the request mix
+ * @param output the file the JSON report is written to
+ */
+record LoadTestOptions(int users, int projects, int membersPerProject, int boardsPerProject, int ticketsPerBoard,
+                       int clients, Duration warmup, Duration duration, long seed, Path output) {
+
+    /**
+     * Rejects sizes the request mix cannot run with, such as members without any board to send board requests to.
+     */
+    LoadTestOptions {
+        requirePositive("loadtest.users", users);
+        requirePositive("loadtest.projects", projects);
+        requirePositive("loadtest.members-per-project", membersPerProject);
+        requirePositive("loadtest.boards-per-project", boardsPerProject);
+        requirePositive("loadtest.clients", clients);
+        if (ticketsPerBoard < 0) {
+            throw new IllegalArgumentException("loadtest.tickets-per-board must not be negative");
+        }
+        if (warmup.isNegative() || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("loadtest.warmup-seconds must not be negative and loadtest.duration-seconds must be positive");
+        }
+    }
+
+    static LoadTestOptions from(Environment environment) {
+        return new LoadTestOptions(
+                environment.getProperty("loadtest.users", Integer.class, 200),
+                environment.getProperty("loadtest.projects", Integer.class, 20),
+                environment.getProperty("loadtest.members-per-project", Integer.class, 25),
+                environment.getProperty("loadtest.boards-per-project", Integer.class, 5),
+                environment.getProperty("loadtest.tickets-per-board", Integer.class, 200),
+                environment.getProperty("loadtest.clients", Integer.class, 16),
+                Duration.ofSeconds(environment.getProperty("loadtest.warmup-seconds", Long.class, 10L)),
+                Duration.ofSeconds(environment.getProperty("loadtest.duration-seconds", Long.class, 30L)),
+                environment.getProperty("loadtest.seed", Long.class, 42L),
+                Path.of(environment.getProperty("loadtest.output", "loadtest-result.json")));
+    }
+
+    private static void requirePositive(String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+    }
+}
@@ -81,3 +81,78 @@ export const getBoardsByProjectId = async (projectId) => {
     throw err.response?.data || { message: "Error loading project boards." };
   }
 };
+
+const RECONNECT_DELAY_MS = 2000;
+
+const parseEvent = (block) => {
+  const event = { name: "message", id: null, data: "" };
+
+  block.split("\n").forEach((line) => {
+    if (line.startsWith(":")) return;
+    const separator = line.indexOf(":");
+    const field = separator === -1 ? line : line.slice(0, separator);
+    const value =
+      separator === -1 ? "" : line.slice(separator + 1).replace(/^ /, "");
+
+    if (field === "event") event.name = value;
+    else if (field === "id") event.id = value;
+    else if (field === "data") event.data += event.data ? `\n${value}` : value;
+  });
+
+  return event;
+};
+
+// EventSource cannot send the Authorization header, so the stream is read with fetch.
+export const subscribeToBoardEvents = (boardId, { onTicket, onReset }) => {
+  const controller = new AbortController();
+  let lastEventId = null;
+
+  const connect = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        const token = localStorage.getItem("token");
+        const headers = { Accept: "text/event-stream" };
+        if (token) headers.Authorization = `Bearer ${token}`;
+        if (lastEventId) headers["Last-Event-ID"] = lastEventId;
+
+        const response = await fetch(`${API_URL}${BOARDS_URL}/${boardId}/events`, {
+          headers,
+          signal: controller.signal,
+        });
+        if (!response.ok) {
+          if (response.status === 401 || response.status === 403) return;
+          throw new Error(`Stream failed with status ${response.status}`);
+        }
+
+        const reader = response.body
+          .pipeThrough(new TextDecoderStream())
+          .getReader();
+        let buffer = "";
+
+        while (true) {
+          const { value, done } = await reader.read();
+          if (done) break;
+
+          buffer += value.replace(/\r\n?/g, "\n");
+          let end;
+          while ((end = buffer.indexOf("\n\n")) !== -1) {
+            const event = parseEvent(buffer.slice(0, end));
+            buffer = buffer.slice(end + 2);
+
+            if (event.id) lastEventId = event.id;
+            if (event.name === "ticket") onTicket(JSON.parse(event.data));
+            else if (event.name === "reset") onReset();
+          }
+        }
+      } catch (err) {
+        if (controller.signal.aborted) return;
+        console.error("Board event stream interrupted:", err);
+      }
+
+      await new Promise((resolve) => setTimeout(resolve, RECONNECT_DELAY_MS));
+    }
+  };
+
+  connect();
+  return () => controller.abort();
+};
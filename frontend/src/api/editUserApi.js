@@ -53,15 +53,18 @@ export const getMyProfile = async () => {
   }
 };
 
-export const updateProfilePicture = async (base64Image) => {
+export const updateProfilePicture = async (file) => {
   try {
+    const formData = new FormData();
+    formData.append("file", file);
+
     const response = await axios.put(
       `${API_URL}/auth/users/profile-picture`,
-      base64Image,
+      formData,
       {
         headers: {
           ...getAuthHeaders(),
-          "Content-Type": "text/plain",
+          "Content-Type": "multipart/form-data",
         },
       },
     );
@@ -73,6 +76,21 @@ export const updateProfilePicture = async (base64Image) => {
   }
 };
 
+export const getProfilePicture = async (profilePictureUrl) => {
+  try {
+    const response = await axios.get(
+      `${API_URL}${profilePictureUrl.replace(/^\/api\/v1/, "")}`,
+      {
+        headers: getAuthHeaders(),
+        responseType: "blob",
+      },
+    );
+    return URL.createObjectURL(response.data);
+  } catch (err) {
+    throw err.response?.data || { message: "Failed to fetch profile picture." };
+  }
+};
+
 export const deleteProfilePicture = async () => {
   try {
     const response = await axios.delete(
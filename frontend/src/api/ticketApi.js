@@ -66,6 +66,18 @@ export const updateTicket = async (id, ticketData) => {
   }
 };
 
+export const moveTicket = async (id, moveData) => {
+  try {
+    const response = await axiosInstance.post(
+      `${TICKETS_URL}/${id}/move`,
+      moveData
+    );
+    return response.data;
+  } catch (err) {
+    throw err.response?.data || { message: "Error moving ticket." };
+  }
+};
+
 export const deleteTicket = async (id) => {
   try {
     await axiosInstance.delete(`${TICKETS_URL}/${id}`);
@@ -89,4 +101,11 @@ export const searchTickets = async (query) => {
 
   const response = await axiosInstance.get(`${TICKETS_URL}/search?query=${query}`);
   return response.data;
-};
\ No newline at end of file
+};
+
+export const suggestTickets = async (prefix, limit = 10) => {
+  const response = await axiosInstance.get(`${TICKETS_URL}/suggest`, {
+    params: { prefix, limit },
+  });
+  return response.data;
+};
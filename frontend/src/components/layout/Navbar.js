@@ -15,7 +15,7 @@ import MenuIcon from "@mui/icons-material/Menu";
 import SearchIcon from "@mui/icons-material/Search";
 import { useLanguage } from "../../i18n/LanguageContext";
 import { useNavigate } from "react-router-dom";
-import { searchTickets } from "../../api/ticketApi";
+import { suggestTickets } from "../../api/ticketApi";
 import HistoryIcon from "@mui/icons-material/History";
 
 const Navbar = ({ onMenuClick, onProfileClick }) => {
@@ -35,7 +35,7 @@ const Navbar = ({ onMenuClick, onProfileClick }) => {
   useEffect(() => {
     const delayDebounceFn = setTimeout(async () => {
       if (searchTerm.length > 0) {
-        const data = await searchTickets(searchTerm);
+        const data = await suggestTickets(searchTerm);
         setResults(data);
         setShowDropdown(true);
       } else if (searchTerm.length === 0) {
@@ -43,7 +43,7 @@ const Navbar = ({ onMenuClick, onProfileClick }) => {
       } else {
         setShowDropdown(false);
       }
-    }, 300);
+    }, 150);
     return () => clearTimeout(delayDebounceFn);
   }, [searchTerm]);
 
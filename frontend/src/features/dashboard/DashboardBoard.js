@@ -12,9 +12,10 @@ import CheckIcon from "@mui/icons-material/Check";
 import AddIcon from "@mui/icons-material/Add";
 import {
   getTicketsByBoardId,
-  updateTicket,
+  moveTicket,
   createTicket,
 } from "../../api/ticketApi";
+import { subscribeToBoardEvents } from "../../api/boardApi";
 import { useLanguage } from "../../i18n/LanguageContext";
 import ConfirmationNotification from "../../components/common/ConfirmationNotification";
 
@@ -45,6 +46,7 @@ const BoardCard = ({ selectedBoardId }) => {
     text: "",
   });
   const [notificationOpen, setNotificationOpen] = useState(false);
+  const [reloadCount, setReloadCount] = useState(0);
 
   const triggerNotification = (type, text) => {
     setServerMessage({ type, text });
@@ -83,7 +85,49 @@ const BoardCard = ({ selectedBoardId }) => {
       }
     };
     fetchTickets();
-  }, [selectedBoardId, translate]);
+  }, [selectedBoardId, translate, reloadCount]);
+
+  useEffect(() => {
+    if (!selectedBoardId) return undefined;
+
+    const byRank = (a, b) => {
+      if (a.rank == null || b.rank == null) {
+        return (a.rank == null) - (b.rank == null) || a.id - b.id;
+      }
+      return a.rank - b.rank || a.id - b.id;
+    };
+
+    const applyTicketEvent = (event) => {
+      setTickets((prevTickets) => {
+        const nextTickets = {};
+        Object.keys(prevTickets).forEach((col) => {
+          nextTickets[col] = prevTickets[col].filter(
+            (t) => t.id !== event.ticketId,
+          );
+        });
+
+        const ticket = event.ticket;
+        if (
+          event.type !== "DELETED" &&
+          ticket &&
+          String(ticket.boardId) === String(selectedBoardId) &&
+          nextTickets[ticket.status]
+        ) {
+          nextTickets[ticket.status] = [
+            ...nextTickets[ticket.status],
+            ticket,
+          ].sort(byRank);
+        }
+
+        return nextTickets;
+      });
+    };
+
+    return subscribeToBoardEvents(selectedBoardId, {
+      onTicket: applyTicketEvent,
+      onReset: () => setReloadCount((count) => count + 1),
+    });
+  }, [selectedBoardId]);
 
   const [editingText, setEditingText] = useState("");
 
@@ -126,7 +170,10 @@ const BoardCard = ({ selectedBoardId }) => {
           };
           setTickets((prevTickets) => ({
             ...prevTickets,
-            [col]: [...prevTickets[col], completeTicket],
+            [col]: [
+              ...prevTickets[col].filter((t) => t.id !== ticketId),
+              completeTicket,
+            ],
           }));
           setServerMessage({
             type: "success",
@@ -160,12 +207,14 @@ const BoardCard = ({ selectedBoardId }) => {
     const newStatusJava = statusMap[col];
     const destTickets = [...tickets[col]];
     const newPosition = destTickets.length;
+    const lastDestTicket = destTickets[destTickets.length - 1];
 
     const ticketToUpdate = {
       ...draggedTicket,
       boardId: selectedBoardId,
       status: newStatusJava,
       position: newPosition,
+      rank: null,
     };
 
     const sourceTickets = tickets[draggedFromCol].filter(
@@ -180,7 +229,11 @@ const BoardCard = ({ selectedBoardId }) => {
       [col]: updatedDestTickets,
     }));
 
-    updateTicket(draggedTicket.id, ticketToUpdate)
+    moveTicket(draggedTicket.id, {
+      boardId: selectedBoardId,
+      afterId: lastDestTicket ? lastDestTicket.id : null,
+      status: newStatusJava,
+    })
       .then((response) => {
         console.log(
           `Ticket ${draggedTicket.id} updated successfully with status ${newStatusJava}`,
@@ -4,6 +4,7 @@ import Navbar from "../../components/layout/Navbar";
 import ProfileSidebar from "../../components/layout/ProfileSidebar";
 import {
   getMyProfile,
+  getProfilePicture,
   updateProfilePicture,
   deleteProfilePicture,
 } from "../../api/editUserApi";
@@ -36,6 +37,7 @@ const ProfilePage = () => {
   const handleSidebarToggle = () => setSidebarOpen(!isSidebarOpen);
   const handleProfileClick = () => setProfileSidebarOpen(!isProfileSidebarOpen);
   const [userData, setUserData] = useState(null);
+  const [pictureSrc, setPictureSrc] = useState(null);
   const [loading, setLoading] = useState(true);
   const { translate } = useLanguage();
   const fileInputRef = useRef(null);
@@ -60,37 +62,50 @@ const ProfilePage = () => {
     fetchProfile();
   }, []);
 
+  useEffect(() => {
+    const profilePictureUrl = userData?.profilePictureUrl;
+    if (!profilePictureUrl) {
+      setPictureSrc(null);
+      return;
+    }
+
+    let objectUrl;
+    getProfilePicture(profilePictureUrl)
+      .then((url) => {
+        objectUrl = url;
+        setPictureSrc(url);
+      })
+      .catch((error) => console.error("Error fetching picture:", error));
+
+    return () => objectUrl && URL.revokeObjectURL(objectUrl);
+  }, [userData?.profilePictureUrl]);
+
   const handleImageChange = async (event) => {
     const file = event.target.files[0];
     if (file) {
-      const reader = new FileReader();
-      reader.onloadend = async () => {
-        const base64String = reader.result;
-        try {
-          await updateProfilePicture(base64String);
-          setUserData({ ...userData, profilePicture: base64String });
-          setServerMessage({
-            type: "success",
-            text: translate("profile_picture_updated_successfully"),
-          });
-          setNotificationOpen(true);
-        } catch (err) {
-          setServerMessage({
-            type: "error",
-            text: translate("error_updating_picture"),
-          });
-          setNotificationOpen(true);
-        }
-      };
-      reader.readAsDataURL(file);
       event.target.value = "";
+      try {
+        await updateProfilePicture(file);
+        setUserData(await getMyProfile());
+        setServerMessage({
+          type: "success",
+          text: translate("profile_picture_updated_successfully"),
+        });
+        setNotificationOpen(true);
+      } catch (err) {
+        setServerMessage({
+          type: "error",
+          text: translate("error_updating_picture"),
+        });
+        setNotificationOpen(true);
+      }
     }
   };
 
   const handleDeleteImage = async () => {
     try {
       await deleteProfilePicture();
-      setUserData({ ...userData, profilePicture: null });
+      setUserData({ ...userData, profilePictureUrl: null });
       setServerMessage({
         type: "success",
         text: translate("profile_picture_deleted_successfully"),
@@ -147,7 +162,7 @@ const ProfilePage = () => {
               onChange={handleImageChange}
             />
             <Avatar
-              src={userData?.profilePicture}
+              src={pictureSrc}
               sx={{
                 width: 120,
                 height: 120,
@@ -157,7 +172,7 @@ const ProfilePage = () => {
                 color: "primary.contrastText",
               }}
             >
-              {!userData?.profilePicture &&
+              {!pictureSrc &&
                 `${userData?.firstname?.[0]}${userData?.lastname?.[0]}`}
             </Avatar>
             <IconButton
@@ -175,7 +190,7 @@ const ProfilePage = () => {
               <PhotoCameraIcon fontSize="small" />
             </IconButton>
 
-            {userData?.profilePicture && (
+            {userData?.profilePictureUrl && (
               <IconButton
                 color="error"
                 sx={{